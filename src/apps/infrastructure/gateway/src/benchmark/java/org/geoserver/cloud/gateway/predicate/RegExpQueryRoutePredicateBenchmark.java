@@ -0,0 +1,134 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.predicate;
+
+import org.geoserver.cloud.gateway.predicate.RegExpQueryRoutePredicateFactory.Config;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Routing throughput of {@link RegExpQueryRoutePredicateFactory} predicates compared to the former
+ * {@link String#matches(String)} based implementation. Each operation routes a set of typical OWS
+ * request URLs, evaluating the routes in order until the first match, as the gateway does.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class RegExpQueryRoutePredicateBenchmark {
+
+    private static final String[][] ROUTES = {
+        {"(?i:service)", "(?i:wms)"},
+        {"(?i:service)", "(?i:wfs)"},
+        {"(?i:service)", "(?i:wcs)"},
+        {"(?i:service)", "(?i:wps)"},
+        {"(?i:service)", "(?i:gwc|wmts|tms)"},
+        {"(?i:service)", "(?i:csw)"},
+        {"(?i:request)", "(?i:getcapabilities)"},
+        {"(?i:request)", "(?i:getmap)"},
+        {"(?i:request)", "(?i:getfeature)"},
+        {"(?i:request)", "(?i:getcoverage)"},
+        {"(?i:request)", "(?i:execute)"},
+        {"(?i:request)", "(?i:gettile)"},
+        {"(?i:request)", "(?i:getlegendgraphic)"},
+        {"(?i:request)", "(?i:describelayer)"},
+        {"(?i:format_options)", null}
+    };
+
+    private static final String[] URLS = {
+        "/ows?SERVICE=WMS&VERSION=1.3.0&REQUEST=GetMap&LAYERS=topp:states&STYLES=&CRS=EPSG:4326"
+                + "&BBOX=-90,-180,90,180&WIDTH=768&HEIGHT=384&FORMAT=image/png&TRANSPARENT=true",
+        "/ows?service=wfs&version=2.0.0&request=GetFeature&typeNames=topp:states&count=50"
+                + "&outputFormat=application/json",
+        "/ows?SERVICE=WMTS&REQUEST=GetTile&VERSION=1.0.0&LAYER=topp:states&STYLE=&TILEMATRIX="
+            + "EPSG:900913:10&TILEMATRIXSET=EPSG:900913&FORMAT=image/png&TILECOL=300&TILEROW=380",
+        "/ows?service=WCS&version=2.0.1&request=GetCoverage&coverageId=nurc__Arc_Sample",
+        "/ows?request=GetCapabilities&service=WPS",
+        "/wms?bbox=-130,24,-66,50&styles=population&Format=image/png&request=GetMap"
+                + "&layers=topp:states&width=550&height=250&srs=EPSG:4326"
+    };
+
+    private List<ServerWebExchange> exchanges;
+    private List<Predicate<ServerWebExchange>> compiled;
+    private List<Predicate<ServerWebExchange>> uncompiled;
+
+    @Setup
+    public void setUp() {
+        exchanges = new ArrayList<>();
+        for (String url : URLS) {
+            exchanges.add(MockServerWebExchange.from(MockServerHttpRequest.get(url).build()));
+        }
+        RegExpQueryRoutePredicateFactory factory = new RegExpQueryRoutePredicateFactory();
+        compiled = new ArrayList<>();
+        uncompiled = new ArrayList<>();
+        for (String[] route : ROUTES) {
+            Config config = new Config().setParamRegexp(route[0]).setValueRegexp(route[1]);
+            compiled.add(factory.apply(config));
+            uncompiled.add(exchange -> stringMatches(config, exchange));
+        }
+    }
+
+    @Benchmark
+    public int compiledPatterns() {
+        return route(compiled);
+    }
+
+    @Benchmark
+    public int stringMatches() {
+        return route(uncompiled);
+    }
+
+    /**
+     * @return the number of requests matched by any route
+     */
+    private int route(List<Predicate<ServerWebExchange>> routes) {
+        int matched = 0;
+        for (ServerWebExchange exchange : exchanges) {
+            for (Predicate<ServerWebExchange> route : routes) {
+                if (route.test(exchange)) {
+                    matched++;
+                    break;
+                }
+            }
+        }
+        return matched;
+    }
+
+    /** The former implementation, recompiling the regular expressions on each evaluation */
+    private static boolean stringMatches(Config config, ServerWebExchange exchange) {
+        Optional<String> paramName =
+                exchange.getRequest().getQueryParams().keySet().stream()
+                        .filter(name -> name.matches(config.getParamRegexp()))
+                        .findFirst();
+        if (config.getValueRegexp() == null) {
+            return paramName.isPresent();
+        }
+        return paramName
+                .map(exchange.getRequest().getQueryParams()::get)
+                .map(values -> values.stream().anyMatch(v -> v.matches(config.getValueRegexp())))
+                .orElse(false);
+    }
+}
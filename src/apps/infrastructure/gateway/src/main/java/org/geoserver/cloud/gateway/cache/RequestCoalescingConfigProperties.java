@@ -0,0 +1,50 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.cache;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Configuration properties for the gateway's {@link RequestCoalescingGatewayFilter request
+ * coalescing}.
+ *
+ * @since 1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "geoserver.gateway.request-coalescing")
+public class RequestCoalescingConfigProperties {
+
+    /** Whether identical concurrent requests are coalesced */
+    private boolean enabled = false;
+
+    /** OWS request names (case insensitive) to coalesce */
+    private Set<String> requests = new LinkedHashSet<>(List.of("GetMap", "GetTile"));
+
+    /**
+     * Maximum size of a response to be shared with coalesced requests. Larger responses are not
+     * shared, and the waiting requests are forwarded on their own.
+     */
+    private DataSize maxResponseSize = DataSize.ofMegabytes(4);
+
+    /**
+     * Maximum time to wait for an identical in-flight request, before forwarding the request on its
+     * own
+     */
+    private Duration timeout = Duration.ofSeconds(60);
+
+    /**
+     * Whether to coalesce requests with credentials (Authorization header or cookies). Disabled by
+     * default since responses may differ per user.
+     */
+    private boolean coalesceAuthenticated = false;
+}
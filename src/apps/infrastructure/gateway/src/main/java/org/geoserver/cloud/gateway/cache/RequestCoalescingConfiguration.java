@@ -0,0 +1,42 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the gateway {@link RequestCoalescingGatewayFilter request coalescing} if {@code
+ * geoserver.gateway.request-coalescing.enabled=true}.
+ *
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(
+        name = "geoserver.gateway.request-coalescing.enabled",
+        havingValue = "true",
+        matchIfMissing = false)
+@EnableConfigurationProperties(RequestCoalescingConfigProperties.class)
+public class RequestCoalescingConfiguration {
+
+    @Bean
+    RequestCoalescingGatewayFilter requestCoalescingGatewayFilter(
+            RequestCoalescingConfigProperties config) {
+        return new RequestCoalescingGatewayFilter(config);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class RequestCoalescingMetricsConfiguration {
+
+        @Bean
+        RequestCoalescingMetrics requestCoalescingMetrics(RequestCoalescingGatewayFilter filter) {
+            return new RequestCoalescingMetrics(filter);
+        }
+    }
+}
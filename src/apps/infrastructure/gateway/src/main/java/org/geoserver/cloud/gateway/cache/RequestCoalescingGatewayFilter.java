@@ -0,0 +1,215 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.cache;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import org.geoserver.cloud.gateway.cache.ResponseCache.CachedResponse;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * {@link GlobalFilter} that collapses identical concurrent requests (e.g. {@code GetMap} or {@code
+ * GetTile} requests fired by many clients loading the same map) into a single upstream request,
+ * whose response is served to all of them.
+ *
+ * <p>Requests are identified by their {@link RequestKey canonical} form, so they're considered
+ * identical regardless of the order and case of the query parameter names. The first request for a
+ * given key is forwarded to the backend, and its response captured as it's written to its client.
+ * Identical requests arriving while it's in-flight wait for it to finish and get a copy of its
+ * response. If the response can't be shared (e.g. it's not a {@literal 200} response, or it's
+ * larger than {@code maxResponseSize}), the upstream request fails, or it takes longer than {@code
+ * timeout}, the waiting requests are forwarded to the backend on their own.
+ *
+ * @since 1.0
+ */
+@Slf4j(topic = "org.geoserver.cloud.gateway.cache")
+public class RequestCoalescingGatewayFilter implements GlobalFilter, Ordered {
+
+    /** Runs before {@link NettyWriteResponseFilter} so that it sees the decorated response */
+    static final int ORDER = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+
+    private final ConcurrentMap<String, Flight> inFlight = new ConcurrentHashMap<>();
+
+    private final Set<String> requests;
+    private final long maxResponseSize;
+    private final Duration timeout;
+    private final boolean coalesceAuthenticated;
+
+    private final AtomicLong forwarded = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong fallbacks = new AtomicLong();
+
+    public RequestCoalescingGatewayFilter(@NonNull RequestCoalescingConfigProperties config) {
+        this.requests =
+                config.getRequests().stream()
+                        .map(r -> r.toLowerCase(Locale.ROOT))
+                        .collect(Collectors.toUnmodifiableSet());
+        this.maxResponseSize = config.getMaxResponseSize().toBytes();
+        this.timeout = config.getTimeout();
+        this.coalesceAuthenticated = config.isCoalesceAuthenticated();
+    }
+
+    public @Override int getOrder() {
+        return ORDER;
+    }
+
+    /**
+     * @return number of coalescable requests forwarded to the backend on behalf of themselves and
+     *     the identical requests that arrived while in-flight
+     */
+    public long getForwardedCount() {
+        return forwarded.get();
+    }
+
+    /**
+     * @return number of requests served with the response of an identical in-flight request
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    /**
+     * @return number of requests that waited for an identical in-flight request, but had to be
+     *     forwarded on their own because its response could not be shared
+     */
+    public long getFallbackCount() {
+        return fallbacks.get();
+    }
+
+    /**
+     * @return number of distinct requests currently in-flight
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    public @Override Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        final ServerHttpRequest request = exchange.getRequest();
+        if (!isCoalescable(request)) {
+            return chain.filter(exchange);
+        }
+        return Mono.defer(() -> coalesce(exchange, chain));
+    }
+
+    private Mono<Void> coalesce(ServerWebExchange exchange, GatewayFilterChain chain) {
+        final ServerHttpRequest request = exchange.getRequest();
+        final String key = RequestKey.of(request);
+        final Flight flight = new Flight();
+        final Flight existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            log.trace("Coalescing with in-flight request {}", key);
+            return follow(existing, exchange, chain);
+        }
+        forwarded.incrementAndGet();
+        ServerHttpResponse capturing = new CapturingResponse(exchange.getResponse(), flight);
+        return chain.filter(exchange.mutate().response(capturing).build())
+                .doFinally(
+                        signal -> {
+                            inFlight.remove(key, flight);
+                            flight.complete();
+                        });
+    }
+
+    private Mono<Void> follow(Flight flight, ServerWebExchange exchange, GatewayFilterChain chain) {
+        return flight.response()
+                .timeout(timeout, Mono.empty())
+                .flatMap(
+                        shared -> {
+                            coalesced.incrementAndGet();
+                            return ResponseCapture.write(shared, exchange.getResponse())
+                                    .thenReturn(Boolean.TRUE);
+                        })
+                .switchIfEmpty(
+                        Mono.defer(
+                                () -> {
+                                    fallbacks.incrementAndGet();
+                                    return chain.filter(exchange).thenReturn(Boolean.TRUE);
+                                }))
+                .then();
+    }
+
+    boolean isCoalescable(ServerHttpRequest request) {
+        if (HttpMethod.GET != request.getMethod()
+                || request.getHeaders().containsKey(HttpHeaders.RANGE)) {
+            return false;
+        }
+        if (!coalesceAuthenticated && RequestKey.hasCredentials(request)) {
+            return false;
+        }
+        String owsRequest = RequestKey.queryParam(request.getQueryParams(), "request");
+        return owsRequest != null && requests.contains(owsRequest.toLowerCase(Locale.ROOT));
+    }
+
+    /** An in-flight request, whose response is published once complete, if shareable */
+    private static class Flight {
+        private final Sinks.One<CachedResponse> sink = Sinks.one();
+        private volatile CachedResponse response;
+
+        Mono<CachedResponse> response() {
+            return sink.asMono();
+        }
+
+        void captured(CachedResponse response) {
+            this.response = response;
+        }
+
+        void complete() {
+            CachedResponse captured = this.response;
+            if (captured == null) {
+                sink.tryEmitEmpty();
+            } else {
+                sink.tryEmitValue(captured);
+            }
+        }
+    }
+
+    /** Captures the response of the forwarded request, if shareable */
+    private class CapturingResponse extends ServerHttpResponseDecorator {
+        private final Flight flight;
+
+        CapturingResponse(ServerHttpResponse delegate, Flight flight) {
+            super(delegate);
+            this.flight = flight;
+        }
+
+        public @Override Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (!ResponseCapture.isShareable(this, maxResponseSize)) {
+                return super.writeWith(body);
+            }
+            final ResponseCapture capture = new ResponseCapture(this, maxResponseSize);
+            return super.writeWith(
+                    capture.capture(body)
+                            .doOnComplete(
+                                    () -> {
+                                        if (!capture.isOverflown()) {
+                                            flight.captured(capture.toResponse());
+                                        }
+                                    }));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Exports {@link RequestCoalescingGatewayFilter} metrics to micrometer's {@link MeterRegistry}:
+ *
+ * <ul>
+ *   <li>{@literal gateway.coalescing.forwarded}: number of coalescable requests forwarded to a
+ *       backend
+ *   <li>{@literal gateway.coalescing.coalesced}: number of requests served with the response of an
+ *       identical in-flight request
+ *   <li>{@literal gateway.coalescing.fallbacks}: number of requests that waited for an identical
+ *       in-flight request but had to be forwarded on their own
+ *   <li>{@literal gateway.coalescing.inflight}: number of distinct coalescable requests in-flight
+ * </ul>
+ *
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+public class RequestCoalescingMetrics implements MeterBinder {
+
+    private final @NonNull RequestCoalescingGatewayFilter filter;
+
+    public @Override void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder(
+                        "gateway.coalescing.forwarded",
+                        filter,
+                        RequestCoalescingGatewayFilter::getForwardedCount)
+                .description("Number of coalescable requests forwarded to a backend service")
+                .baseUnit(BaseUnits.OPERATIONS)
+                .register(registry);
+
+        FunctionCounter.builder(
+                        "gateway.coalescing.coalesced",
+                        filter,
+                        RequestCoalescingGatewayFilter::getCoalescedCount)
+                .description(
+                        "Number of requests served with the response of an identical in-flight"
+                                + " request")
+                .baseUnit(BaseUnits.OPERATIONS)
+                .register(registry);
+
+        FunctionCounter.builder(
+                        "gateway.coalescing.fallbacks",
+                        filter,
+                        RequestCoalescingGatewayFilter::getFallbackCount)
+                .description(
+                        "Number of requests that waited for an identical in-flight request but"
+                                + " were forwarded on their own")
+                .baseUnit(BaseUnits.OPERATIONS)
+                .register(registry);
+
+        Gauge.builder(
+                        "gateway.coalescing.inflight",
+                        filter,
+                        RequestCoalescingGatewayFilter::getInFlightCount)
+                .description("Number of distinct coalescable requests in-flight")
+                .register(registry);
+    }
+}
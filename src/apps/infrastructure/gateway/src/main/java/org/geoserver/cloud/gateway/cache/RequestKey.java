@@ -0,0 +1,94 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.util.MultiValueMap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Canonical representation of a request, such that requests that differ only in the order or the
+ * case of the query parameter names get the same key.
+ *
+ * @since 1.0
+ */
+final class RequestKey {
+
+    /** Request headers that may affect the contents of a response, included in the key */
+    private static final List<String> KEY_HEADERS =
+            List.of(
+                    HttpHeaders.HOST,
+                    "Forwarded",
+                    "X-Forwarded-Host",
+                    "X-Forwarded-Proto",
+                    "X-Forwarded-Port",
+                    "X-Forwarded-Prefix",
+                    HttpHeaders.ACCEPT_LANGUAGE);
+
+    private RequestKey() {
+        // private constructor, utility class
+    }
+
+    /**
+     * Builds a key out of the request path, its query parameters sorted by lower-case name, and the
+     * request headers that may affect the response (e.g. {@literal Host}, {@literal X-Forwarded-*},
+     * or whether it accepts gzip encoding).
+     */
+    static String of(ServerHttpRequest request) {
+        StringBuilder key = new StringBuilder(request.getPath().value()).append('?');
+        Map<String, List<String>> params = new TreeMap<>();
+        request.getQueryParams()
+                .forEach(
+                        (name, values) ->
+                                params.computeIfAbsent(
+                                                name.toLowerCase(Locale.ROOT),
+                                                n -> new ArrayList<>())
+                                        .addAll(values));
+        params.forEach(
+                (name, values) -> {
+                    Collections.sort(values, (v1, v2) -> String.valueOf(v1).compareTo(v2));
+                    key.append(name).append('=').append(values).append('&');
+                });
+        HttpHeaders headers = request.getHeaders();
+        for (String header : KEY_HEADERS) {
+            List<String> values = headers.get(header);
+            if (values != null) {
+                key.append('|').append(header).append(':').append(values);
+            }
+        }
+        String acceptEncoding = headers.getFirst(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            key.append("|gzip");
+        }
+        return key.toString();
+    }
+
+    /**
+     * @return the first value of the query parameter, matching its name case-insensitively
+     */
+    static String queryParam(MultiValueMap<String, String> params, String name) {
+        for (Map.Entry<String, List<String>> e : params.entrySet()) {
+            if (name.equalsIgnoreCase(e.getKey()) && !e.getValue().isEmpty()) {
+                return e.getValue().get(0);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return whether the request carries credentials, and hence its response may be user specific
+     */
+    static boolean hasCredentials(ServerHttpRequest request) {
+        return request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)
+                || !request.getCookies().isEmpty();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded in-memory cache of gateway responses, keyed by the normalized request and the
+ * configuration {@link UpdateSequenceTracker#getVersion() version} they were produced for.
+ *
+ * <p>Entries are weighted by their body size in bytes. All entries are discarded when the
+ * configuration version changes, since they can't be served anymore; including the version in the
+ * key still prevents a response that started before the change, and finished after it, from being
+ * served for the new version.
+ *
+ * @since 1.0
+ */
+@Slf4j(topic = "org.geoserver.cloud.gateway.cache")
+public class ResponseCache {
+
+    private final Cache<String, CachedResponse> cache;
+    private final long maxSize;
+    private final long maxEntrySize;
+
+    private final AtomicLong notModified = new AtomicLong();
+    private final AtomicLong bypassed = new AtomicLong();
+
+    public ResponseCache(long maxSize, long maxEntrySize, @NonNull Duration timeToLive) {
+        this.maxSize = maxSize;
+        this.maxEntrySize = maxEntrySize;
+        this.cache =
+                Caffeine.newBuilder()
+                        .maximumWeight(maxSize)
+                        .weigher((String key, CachedResponse r) -> r.size())
+                        .expireAfterWrite(timeToLive)
+                        .recordStats()
+                        .build();
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public long getMaxEntrySize() {
+        return maxEntrySize;
+    }
+
+    /**
+     * @return the accumulated size in bytes of the cached responses
+     */
+    public long getSize() {
+        return cache.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L);
+    }
+
+    public long getCount() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * @return number of conditional requests answered with {@literal 304 Not Modified}
+     */
+    public long getNotModifiedCount() {
+        return notModified.get();
+    }
+
+    /**
+     * @return number of cacheable requests that were not cached due to the response (e.g. non 200
+     *     status, too large, or not to be stored as per its cache-control header)
+     */
+    public long getBypassedCount() {
+        return bypassed.get();
+    }
+
+    /** Exposed for metrics, see {@link ResponseCacheMetrics} */
+    Cache<String, CachedResponse> cache() {
+        return cache;
+    }
+
+    public Optional<CachedResponse> get(@NonNull String key) {
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    public void put(@NonNull String key, @NonNull CachedResponse response) {
+        if (response.size() > maxEntrySize) {
+            bypassed();
+            return;
+        }
+        cache.put(key, response);
+    }
+
+    void notModified() {
+        notModified.incrementAndGet();
+    }
+
+    void bypassed() {
+        bypassed.incrementAndGet();
+    }
+
+    /** Called when the configuration version changed, discards all the cached responses */
+    public void versionChanged(String version) {
+        log.debug("Configuration version changed to {}, clearing response cache", version);
+        cache.invalidateAll();
+    }
+
+    /** A cached response status, headers and body */
+    @Value
+    public static class CachedResponse {
+        private HttpStatus status;
+        private HttpHeaders headers;
+        private byte[] body;
+
+        public int size() {
+            return body.length;
+        }
+    }
+}
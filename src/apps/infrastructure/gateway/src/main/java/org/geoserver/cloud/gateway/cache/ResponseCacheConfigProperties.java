@@ -0,0 +1,64 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.cache;
+
+import lombok.Data;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Configuration properties for the gateway's OWS {@link ResponseCache response cache}.
+ *
+ * @since 1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "geoserver.gateway.response-cache")
+public class ResponseCacheConfigProperties {
+
+    /**
+     * Whether the response cache is enabled. Also enables the event bus to track configuration
+     * changes, unless {@code spring.cloud.bus.enabled=false}, in which case cached responses are
+     * only evicted after their {@link #timeToLive time to live}.
+     */
+    private boolean enabled = false;
+
+    /** Maximum accumulated size of the cached responses */
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+
+    /** Maximum size of a single response to be cached */
+    private DataSize maxEntrySize = DataSize.ofMegabytes(2);
+
+    /**
+     * Maximum time a response is kept in the cache, safety net for configuration changes the
+     * gateway might not be notified of, like the ones happening while disconnected from the bus
+     */
+    private Duration timeToLive = Duration.ofMinutes(30);
+
+    /** OWS request names (case insensitive) whose responses are cached */
+    private Set<String> requests =
+            new LinkedHashSet<>(
+                    List.of(
+                            "GetCapabilities",
+                            "DescribeFeatureType",
+                            "DescribeCoverage",
+                            "DescribeProcess"));
+
+    /** Ant-style path patterns of static resources whose responses are cached */
+    private List<String> paths =
+            new ArrayList<>(List.of("/**/schemas/**", "/**/openlayers/**", "/**/openlayers3/**"));
+
+    /**
+     * Whether to cache responses to requests with credentials (Authorization header or cookies).
+     * Disabled by default since capabilities documents may differ per user.
+     */
+    private boolean cacheAuthenticated = false;
+}
@@ -0,0 +1,93 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables the gateway {@link ResponseCacheGatewayFilter response cache} if {@code
+ * geoserver.gateway.response-cache.enabled=true}.
+ *
+ * <p>Cached responses are evicted when the catalog or configuration changes, as notified through
+ * the event bus. If the bus is disabled ({@code spring.cloud.bus.enabled=false}) a warning is
+ * logged at startup, and cached responses are only evicted after their time to live.
+ *
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(
+        name = "geoserver.gateway.response-cache.enabled",
+        havingValue = "true",
+        matchIfMissing = false)
+@EnableConfigurationProperties(ResponseCacheConfigProperties.class)
+@Slf4j(topic = "org.geoserver.cloud.gateway.cache")
+public class ResponseCacheConfiguration {
+
+    @Bean
+    UpdateSequenceTracker gatewayUpdateSequenceTracker(ObjectProvider<ObjectMapper> mapper) {
+        return new UpdateSequenceTracker(mapper.getIfAvailable(ObjectMapper::new));
+    }
+
+    @Bean
+    ResponseCache gatewayResponseCache(
+            ResponseCacheConfigProperties config,
+            UpdateSequenceTracker updateSequence,
+            ObjectProvider<UpdateSequenceBusListener> busListener) {
+        if (busListener.getIfAvailable() == null) {
+            log.warn(
+                    "The gateway response cache is enabled but the event bus is not. Catalog and"
+                            + " configuration changes won't be tracked, and cached responses may be"
+                            + " stale for up to {}",
+                    config.getTimeToLive());
+        }
+        ResponseCache cache =
+                new ResponseCache(
+                        config.getMaxSize().toBytes(),
+                        config.getMaxEntrySize().toBytes(),
+                        config.getTimeToLive());
+        updateSequence.addListener(cache::versionChanged);
+        return cache;
+    }
+
+    @Bean
+    ResponseCacheGatewayFilter responseCacheGatewayFilter(
+            ResponseCache cache,
+            UpdateSequenceTracker updateSequence,
+            ResponseCacheConfigProperties config) {
+        return new ResponseCacheGatewayFilter(cache, updateSequence, config);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.cloud.bus.event.UnknownRemoteApplicationEvent")
+    @ConditionalOnProperty(name = "spring.cloud.bus.enabled", matchIfMissing = true)
+    static class UpdateSequenceBusConfiguration {
+
+        @Bean
+        UpdateSequenceBusListener gatewayUpdateSequenceBusListener(
+                UpdateSequenceTracker updateSequence) {
+            return new UpdateSequenceBusListener(updateSequence);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class ResponseCacheMetricsConfiguration {
+
+        @Bean
+        ResponseCacheMetrics gatewayResponseCacheMetrics(
+                ResponseCache cache, UpdateSequenceTracker updateSequence) {
+            return new ResponseCacheMetrics(cache, updateSequence);
+        }
+    }
+}
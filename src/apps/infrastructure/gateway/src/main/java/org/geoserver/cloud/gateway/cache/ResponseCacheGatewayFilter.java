@@ -0,0 +1,181 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.cache;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import org.geoserver.cloud.gateway.cache.ResponseCache.CachedResponse;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * {@link GlobalFilter} that serves idempotent OWS requests (e.g. {@code GetCapabilities}, {@code
+ * DescribeFeatureType}) and static resources (e.g. XML schemas) from a {@link ResponseCache},
+ * avoiding a round-trip to a backend service for documents that only change when the configuration
+ * does.
+ *
+ * <p>Responses are keyed by the normalized request (path, query parameters, and the headers that
+ * may affect the response contents, like {@literal Host} and {@literal X-Forwarded-*}), plus the
+ * configuration {@link UpdateSequenceTracker#getVersion() version}. Once the catalog update
+ * sequence is known, cacheable responses get an {@literal ETag} derived from the normalized request
+ * and the update sequence, which is the same for all the gateway instances. Conditional requests
+ * with a matching {@literal If-None-Match} header are answered with {@literal 304 Not Modified}
+ * only if the response is cached, otherwise the request is forwarded to the backend service.
+ *
+ * @since 1.0
+ */
+@Slf4j(topic = "org.geoserver.cloud.gateway.cache")
+public class ResponseCacheGatewayFilter implements GlobalFilter, Ordered {
+
+    private final ResponseCache cache;
+    private final UpdateSequenceTracker updateSequence;
+    private final Set<String> requests;
+    private final List<String> paths;
+    private final boolean cacheAuthenticated;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public ResponseCacheGatewayFilter(
+            @NonNull ResponseCache cache,
+            @NonNull UpdateSequenceTracker updateSequence,
+            @NonNull ResponseCacheConfigProperties config) {
+        this.cache = cache;
+        this.updateSequence = updateSequence;
+        this.requests =
+                config.getRequests().stream()
+                        .map(r -> r.toLowerCase(Locale.ROOT))
+                        .collect(Collectors.toUnmodifiableSet());
+        this.paths = List.copyOf(config.getPaths());
+        this.cacheAuthenticated = config.isCacheAuthenticated();
+    }
+
+    /**
+     * Runs before {@link RequestCoalescingGatewayFilter}, to serve cached responses without
+     * coalescing them, and before {@link NettyWriteResponseFilter} so that it sees the decorated
+     * response
+     */
+    public @Override int getOrder() {
+        return RequestCoalescingGatewayFilter.ORDER - 1;
+    }
+
+    public @Override Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        final ServerHttpRequest request = exchange.getRequest();
+        if (!isCacheable(request)) {
+            return chain.filter(exchange);
+        }
+        final String requestKey = RequestKey.of(request);
+        final String etag = etag(requestKey, updateSequence.getUpdateSequence());
+        final String key = cacheKey(requestKey, updateSequence.getVersion());
+        final ServerHttpResponse response = exchange.getResponse();
+
+        CachedResponse cached = cache.get(key).orElse(null);
+        if (cached != null) {
+            if (etag != null) {
+                response.getHeaders().setETag(etag);
+                if (request.getHeaders().getIfNoneMatch().contains(etag)) {
+                    log.trace("Not modified: {}", key);
+                    cache.notModified();
+                    response.setStatusCode(HttpStatus.NOT_MODIFIED);
+                    return response.setComplete();
+                }
+            }
+            log.trace("Cache hit: {}", key);
+            return ResponseCapture.write(cached, response);
+        }
+
+        log.trace("Cache miss: {}", key);
+        ServerHttpResponse caching = new CachingResponse(response, key, etag);
+        return chain.filter(exchange.mutate().response(caching).build());
+    }
+
+    boolean isCacheable(ServerHttpRequest request) {
+        if (HttpMethod.GET != request.getMethod()) {
+            return false;
+        }
+        if (!cacheAuthenticated && RequestKey.hasCredentials(request)) {
+            return false;
+        }
+        String owsRequest = RequestKey.queryParam(request.getQueryParams(), "request");
+        if (owsRequest != null) {
+            return requests.contains(owsRequest.toLowerCase(Locale.ROOT));
+        }
+        String path = request.getPath().pathWithinApplication().value();
+        return paths.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    /** Builds the cache key out of the configuration version and the canonical request. */
+    static String cacheKey(String requestKey, String version) {
+        return version + "|" + requestKey;
+    }
+
+    /**
+     * @return the entity tag for the {@link RequestKey canonical} request at the given catalog
+     *     update sequence, or {@code null} if the update sequence is not yet known
+     */
+    static String etag(String requestKey, long updateSequence) {
+        if (updateSequence < 0) return null;
+        String value = updateSequence + "|" + requestKey;
+        return "W/\"" + DigestUtils.md5DigestAsHex(value.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Response decorator that copies the body of cacheable responses as it's written, and stores it
+     * in the cache once complete, unless it exceeds the maximum entry size.
+     */
+    private class CachingResponse extends ServerHttpResponseDecorator {
+        private final String key;
+        private final String etag;
+
+        CachingResponse(ServerHttpResponse delegate, String key, String etag) {
+            super(delegate);
+            this.key = key;
+            this.etag = etag;
+        }
+
+        public @Override Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (!ResponseCapture.isShareable(this, cache.getMaxEntrySize())) {
+                cache.bypassed();
+                return super.writeWith(body);
+            }
+            if (etag != null) {
+                getHeaders().setETag(etag);
+            }
+            final ResponseCapture capture = new ResponseCapture(this, cache.getMaxEntrySize());
+            Flux<? extends DataBuffer> copying =
+                    capture.capture(body)
+                            .doOnComplete(
+                                    () -> {
+                                        if (capture.isOverflown()) {
+                                            cache.bypassed();
+                                        } else {
+                                            cache.put(key, capture.toResponse());
+                                        }
+                                    });
+            return super.writeWith(copying);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Exports {@link ResponseCache} metrics to micrometer's {@link MeterRegistry}.
+ *
+ * <p>Besides the standard {@link CaffeineCacheMetrics cache metrics} (e.g. {@literal cache.gets},
+ * {@literal cache.evictions}) tagged with {@literal cache=gateway.responsecache}, the following
+ * metrics are exported:
+ *
+ * <ul>
+ *   <li>{@literal gateway.responsecache.hit_ratio}: ratio of cacheable requests served from the
+ *       cache
+ *   <li>{@literal gateway.responsecache.not_modified}: number of conditional requests answered with
+ *       {@literal 304 Not Modified}
+ *   <li>{@literal gateway.responsecache.bypassed}: number of cacheable requests whose response was
+ *       not cached
+ *   <li>{@literal gateway.responsecache.size}: accumulated size of the cached responses
+ *   <li>{@literal gateway.responsecache.max_size}: configured maximum size of the cache
+ *   <li>{@literal gateway.responsecache.update_sequence}: latest catalog update sequence received
+ * </ul>
+ *
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+public class ResponseCacheMetrics implements MeterBinder {
+
+    static final String CACHE_NAME = "gateway.responsecache";
+
+    private final @NonNull ResponseCache responseCache;
+    private final @NonNull UpdateSequenceTracker updateSequence;
+
+    public @Override void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, responseCache.cache(), CACHE_NAME);
+
+        Gauge.builder("gateway.responsecache.hit_ratio", responseCache, c -> c.stats().hitRate())
+                .description("Ratio of cacheable requests served from the gateway response cache")
+                .register(registry);
+
+        FunctionCounter.builder(
+                        "gateway.responsecache.not_modified",
+                        responseCache,
+                        ResponseCache::getNotModifiedCount)
+                .description("Number of conditional requests answered with 304 Not Modified")
+                .baseUnit(BaseUnits.OPERATIONS)
+                .register(registry);
+
+        FunctionCounter.builder(
+                        "gateway.responsecache.bypassed",
+                        responseCache,
+                        ResponseCache::getBypassedCount)
+                .description("Number of cacheable requests whose response was not cached")
+                .baseUnit(BaseUnits.OPERATIONS)
+                .register(registry);
+
+        Gauge.builder("gateway.responsecache.size", responseCache, ResponseCache::getSize)
+                .description("Accumulated size of the responses in the gateway response cache")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+
+        Gauge.builder("gateway.responsecache.max_size", responseCache, ResponseCache::getMaxSize)
+                .description("Maximum size of the gateway response cache")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+
+        Gauge.builder(
+                        "gateway.responsecache.update_sequence",
+                        updateSequence,
+                        UpdateSequenceTracker::getUpdateSequence)
+                .description("Latest catalog update sequence received from the event bus")
+                .register(registry);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.cache;
+
+import org.geoserver.cloud.gateway.cache.ResponseCache.CachedResponse;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Copies a response status, headers, and body as it's written, up to a maximum body size, so that
+ * it can be served again to other clients.
+ *
+ * @since 1.0
+ */
+final class ResponseCapture {
+
+    /** Response headers not to be served again */
+    private static final Set<String> EXCLUDED_HEADERS =
+            Set.of(
+                    HttpHeaders.SET_COOKIE.toLowerCase(Locale.ROOT),
+                    HttpHeaders.DATE.toLowerCase(Locale.ROOT),
+                    HttpHeaders.CONNECTION.toLowerCase(Locale.ROOT),
+                    HttpHeaders.TRANSFER_ENCODING.toLowerCase(Locale.ROOT),
+                    HttpHeaders.CONTENT_LENGTH.toLowerCase(Locale.ROOT));
+
+    private final HttpStatus status;
+    private final HttpHeaders headers;
+    private final long maxSize;
+    private ByteArrayOutputStream contents = new ByteArrayOutputStream();
+
+    /** Takes a snapshot of the response status and headers, call right before writing the body */
+    ResponseCapture(ServerHttpResponse response, long maxSize) {
+        this.status = response.getStatusCode();
+        this.headers = shareableHeaders(response.getHeaders());
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return whether the response can be served to other clients: a {@literal 200} response, other
+     *     than an OWS exception report, not larger than {@code maxSize}, that sets no cookies and
+     *     is not marked as private or not to be stored
+     */
+    static boolean isShareable(ServerHttpResponse response, long maxSize) {
+        if (HttpStatus.OK != response.getStatusCode()) {
+            return false;
+        }
+        HttpHeaders headers = response.getHeaders();
+        if (headers.containsKey(HttpHeaders.SET_COOKIE) || headers.getContentLength() > maxSize) {
+            return false;
+        }
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl != null
+                && (cacheControl.contains("no-store") || cacheControl.contains("private"))) {
+            return false;
+        }
+        // OWS exception reports may come with a 200 status code
+        MediaType contentType = headers.getContentType();
+        String subtype = contentType == null ? "" : contentType.getSubtype();
+        return !(subtype.contains("se_xml") || subtype.contains("exception"));
+    }
+
+    /** Decorates the body publisher to copy the buffers as they're written */
+    Flux<? extends DataBuffer> capture(Publisher<? extends DataBuffer> body) {
+        return Flux.from(body).doOnNext(this::append);
+    }
+
+    void append(DataBuffer buffer) {
+        if (contents == null) return;
+        final int size = buffer.readableByteCount();
+        if (contents.size() + (long) size > maxSize) {
+            contents = null;
+            return;
+        }
+        // asByteBuffer() shares the contents but not the read position with the data buffer
+        byte[] bytes = new byte[size];
+        buffer.asByteBuffer().get(bytes);
+        contents.write(bytes, 0, size);
+    }
+
+    /**
+     * @return whether the body exceeded the maximum size, and hence was not captured
+     */
+    boolean isOverflown() {
+        return contents == null;
+    }
+
+    CachedResponse toResponse() {
+        return new CachedResponse(status, headers, contents.toByteArray());
+    }
+
+    /** Writes a captured response to {@code response} */
+    static Mono<Void> write(CachedResponse captured, ServerHttpResponse response) {
+        response.setStatusCode(captured.getStatus());
+        response.getHeaders().putAll(captured.getHeaders());
+        response.getHeaders().setContentLength(captured.size());
+        return response.writeWith(
+                Mono.fromSupplier(() -> response.bufferFactory().wrap(captured.getBody())));
+    }
+
+    private static HttpHeaders shareableHeaders(HttpHeaders headers) {
+        HttpHeaders copy = new HttpHeaders();
+        headers.forEach(
+                (name, values) -> {
+                    if (!EXCLUDED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                        copy.put(name, List.copyOf(values));
+                    }
+                });
+        return HttpHeaders.readOnlyHttpHeaders(copy);
+    }
+}
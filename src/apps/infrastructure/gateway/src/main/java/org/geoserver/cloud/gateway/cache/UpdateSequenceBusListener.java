@@ -0,0 +1,34 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.cache;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.cloud.bus.event.UnknownRemoteApplicationEvent;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Relays the remote events received from the event bus to the {@link UpdateSequenceTracker}.
+ *
+ * <p>The event bus is enabled along with the response cache (see {@code bootstrap.yml}). If it's
+ * explicitly disabled, the response cache relies on its time to live alone.
+ *
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+public class UpdateSequenceBusListener {
+
+    private final @NonNull UpdateSequenceTracker tracker;
+
+    /**
+     * The gateway does not depend on GeoServer, so the bus delivers the {@code
+     * RemoteGeoServerEvent}s as {@link UnknownRemoteApplicationEvent}s with the raw JSON payload
+     */
+    @EventListener(UnknownRemoteApplicationEvent.class)
+    public void onRemoteEvent(UnknownRemoteApplicationEvent event) {
+        tracker.onRemoteEvent(event.getTypeInfo(), event.getPayload());
+    }
+}
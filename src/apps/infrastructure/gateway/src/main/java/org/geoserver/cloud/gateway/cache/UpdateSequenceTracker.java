@@ -0,0 +1,117 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Keeps track of the cluster's configuration version out of the events the GeoServer services
+ * broadcast over the event bus, as relayed by {@link UpdateSequenceBusListener}.
+ *
+ * <p>The gateway does not depend on GeoServer, hence it can't deserialize the {@code
+ * RemoteGeoServerEvent}s, and gets them as raw JSON payloads, from which the catalog {@code
+ * updateSequence} is extracted. Other remote events (for example, GeoWebCache tile layer events, or
+ * the seeding nodes heartbeats) are ignored. A GeoServer event without an update sequence
+ * increments a local epoch instead, so that the {@link #getVersion() version} changes with every
+ * configuration change the gateway is told about.
+ *
+ * @since 1.0
+ */
+@Slf4j(topic = "org.geoserver.cloud.gateway.cache")
+public class UpdateSequenceTracker {
+
+    static final String GEOSERVER_EVENT_TYPE = "RemoteGeoServerEvent";
+
+    private final ObjectMapper mapper;
+
+    private final AtomicLong updateSequence = new AtomicLong(-1);
+    private final AtomicLong epoch = new AtomicLong();
+
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    public UpdateSequenceTracker(@NonNull ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * @return the highest update sequence received, or {@code -1} if none yet
+     */
+    public long getUpdateSequence() {
+        return updateSequence.get();
+    }
+
+    /**
+     * @return an opaque value that changes each time the configuration changes, made of the catalog
+     *     update sequence and the local epoch
+     */
+    public String getVersion() {
+        return updateSequence.get() + "." + epoch.get();
+    }
+
+    /** Registers a callback to be notified of the new {@link #getVersion() version} */
+    public void addListener(@NonNull Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @param type the remote event type name
+     * @param payload the remote event JSON payload
+     */
+    public void onRemoteEvent(String type, byte[] payload) {
+        if (!GEOSERVER_EVENT_TYPE.equals(type)) {
+            return;
+        }
+        final String before = getVersion();
+        Long sequence = parseUpdateSequence(payload);
+        if (sequence == null) {
+            epoch.incrementAndGet();
+        } else {
+            updateSequence.accumulateAndGet(sequence, Math::max);
+        }
+        final String after = getVersion();
+        if (!before.equals(after)) {
+            log.debug("Configuration version changed from {} to {}", before, after);
+            new ArrayList<>(listeners).forEach(l -> l.accept(after));
+        }
+    }
+
+    /**
+     * Reads the {@code updateSequence} property of the event, which is serialized as a wrapper
+     * object keyed by the event type name (e.g. {@code {"event":{"CatalogInfoModified":
+     * {"updateSequence":42,...}}}}). Only the event's own property is considered, not any nested
+     * one, like the {@code GeoServerInfo.updateSequence} of a modified global config.
+     */
+    Long parseUpdateSequence(byte[] payload) {
+        if (payload == null) return null;
+        try {
+            JsonNode root = mapper.readTree(payload);
+            JsonNode event = root.get("event");
+            if (event == null || !event.isObject()) return null;
+            JsonNode value = event.get("updateSequence");
+            if (value == null && event.size() == 1) {
+                Iterator<Map.Entry<String, JsonNode>> wrapper = event.fields();
+                JsonNode wrapped = wrapper.next().getValue();
+                value = wrapped.isObject() ? wrapped.get("updateSequence") : null;
+            }
+            return value != null && value.canConvertToLong() ? value.asLong() : null;
+        } catch (IOException e) {
+            log.warn("Unable to parse remote event payload: {}", e.getMessage());
+            return null;
+        }
+    }
+}
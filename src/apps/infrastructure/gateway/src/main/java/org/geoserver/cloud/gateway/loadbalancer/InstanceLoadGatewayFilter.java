@@ -0,0 +1,83 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.loadbalancer;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import org.geoserver.cloud.gateway.loadbalancer.InstanceLoadTracker.InstanceLoad;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link GlobalFilter} that runs after the {@link ReactiveLoadBalancerClientFilter} to report the
+ * start and end of each load balanced request to the {@link InstanceLoadTracker}.
+ *
+ * <p>The measured latency is the time until the response is committed, that is, until the backend
+ * response headers are received and forwarded to the client, which for OWS requests includes the
+ * bulk of the processing time (e.g. rendering a map), but not the time taken to stream the response
+ * body to a possibly slow client. The request is still counted as in-flight until the body has been
+ * streamed though, since the backend is busy producing it. If the response is never committed (e.g.
+ * the backend could not be reached), the latency is the time until the request finished.
+ *
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+public class InstanceLoadGatewayFilter implements GlobalFilter, Ordered {
+
+    private final @NonNull InstanceLoadTracker loadTracker;
+
+    /** Order after {@link ReactiveLoadBalancerClientFilter} and {@code GlobalUriFilter} */
+    public @Override int getOrder() {
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 2;
+    }
+
+    public @Override Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Response<ServiceInstance> lbResponse =
+                exchange.getAttribute(GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return chain.filter(exchange);
+        }
+        final InstanceLoad load = loadTracker.started(lbResponse.getServer());
+        final long start = System.nanoTime();
+        final AtomicLong committed = new AtomicLong(-1);
+        exchange.getResponse()
+                .beforeCommit(
+                        () -> {
+                            committed.compareAndSet(-1, System.nanoTime() - start);
+                            return Mono.empty();
+                        });
+        return chain.filter(exchange)
+                .doFinally(
+                        signal -> {
+                            long latency = committed.get();
+                            if (latency < 0) {
+                                latency = System.nanoTime() - start;
+                            }
+                            loadTracker.finished(load, latency, failed(signal, exchange));
+                        });
+    }
+
+    private boolean failed(SignalType signal, ServerWebExchange exchange) {
+        if (signal == SignalType.ON_ERROR) {
+            return true;
+        }
+        HttpStatus status = exchange.getResponse().getStatusCode();
+        return status != null && status.is5xxServerError();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.loadbalancer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import org.geoserver.cloud.gateway.loadbalancer.InstanceLoadTracker.InstanceLoad;
+
+import java.util.List;
+
+/**
+ * Exports per-instance {@link InstanceLoadTracker} metrics to micrometer's {@link MeterRegistry},
+ * tagged with {@literal service} and {@literal instance}:
+ *
+ * <ul>
+ *   <li>{@literal gateway.loadbalancer.inflight}: number of in-flight requests
+ *   <li>{@literal gateway.loadbalancer.latency}: EWMA response latency
+ *   <li>{@literal gateway.loadbalancer.requests}: number of completed requests
+ *   <li>{@literal gateway.loadbalancer.failures}: number of failed requests
+ * </ul>
+ *
+ * <p>Meters are registered as instances are discovered, and removed when they're no longer tracked.
+ *
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+public class InstanceLoadMetrics implements MeterBinder {
+
+    private final @NonNull InstanceLoadTracker loadTracker;
+
+    public @Override void bindTo(@NonNull MeterRegistry registry) {
+        loadTracker.addListeners(load -> meters(registry, load), load -> remove(registry, load));
+    }
+
+    private List<Meter> meters(MeterRegistry registry, InstanceLoad load) {
+        Tags tags = Tags.of("service", load.getServiceId(), "instance", load.getInstanceId());
+        return List.of(
+                Gauge.builder("gateway.loadbalancer.inflight", load, InstanceLoad::getInFlight)
+                        .description("Number of in-flight requests to the service instance")
+                        .tags(tags)
+                        .register(registry),
+                Gauge.builder("gateway.loadbalancer.latency", load, InstanceLoad::getLatencyMillis)
+                        .description("EWMA response latency of the service instance")
+                        .baseUnit(BaseUnits.MILLISECONDS)
+                        .tags(tags)
+                        .register(registry),
+                FunctionCounter.builder(
+                                "gateway.loadbalancer.requests", load, InstanceLoad::getRequests)
+                        .description("Number of requests completed by the service instance")
+                        .baseUnit(BaseUnits.OPERATIONS)
+                        .tags(tags)
+                        .register(registry),
+                FunctionCounter.builder(
+                                "gateway.loadbalancer.failures", load, InstanceLoad::getFailures)
+                        .description("Number of requests failed by the service instance")
+                        .baseUnit(BaseUnits.OPERATIONS)
+                        .tags(tags)
+                        .register(registry));
+    }
+
+    private void remove(MeterRegistry registry, InstanceLoad load) {
+        // registering again returns the existing meters, identified by name and tags
+        meters(registry, load).forEach(registry::remove);
+    }
+}
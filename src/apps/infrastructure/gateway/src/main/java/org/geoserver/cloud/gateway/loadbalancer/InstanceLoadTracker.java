@@ -0,0 +1,205 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.loadbalancer;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps track of the load of each backend service instance: the number of in-flight requests, and
+ * an exponentially weighted moving average (EWMA) of the response latency.
+ *
+ * <p>The EWMA is time-decayed: the weight of the previous average decreases with the time elapsed
+ * since it was last updated, as {@code exp(-elapsed / decayTime)}, so that an instance that was
+ * slow a while ago recovers even if it received few requests since then.
+ *
+ * @since 1.0
+ */
+@Slf4j(topic = "org.geoserver.cloud.gateway.loadbalancer")
+public class InstanceLoadTracker {
+
+    private static final long PRUNE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final long decayTimeNanos;
+
+    private final ConcurrentMap<String, InstanceLoad> instances = new ConcurrentHashMap<>();
+
+    private final List<Consumer<InstanceLoad>> addListeners = new CopyOnWriteArrayList<>();
+    private final List<Consumer<InstanceLoad>> removeListeners = new CopyOnWriteArrayList<>();
+
+    private final ConcurrentMap<String, AtomicLong> lastPrune = new ConcurrentHashMap<>();
+
+    public InstanceLoadTracker(@NonNull Duration decayTime) {
+        this.decayTimeNanos = Math.max(1, decayTime.toNanos());
+    }
+
+    /** Registers callbacks to be notified when an instance starts and stops being tracked */
+    public void addListeners(
+            @NonNull Consumer<InstanceLoad> onAdded, @NonNull Consumer<InstanceLoad> onRemoved) {
+        addListeners.add(onAdded);
+        removeListeners.add(onRemoved);
+        instances.values().forEach(onAdded);
+    }
+
+    public Collection<InstanceLoad> getInstances() {
+        return instances.values();
+    }
+
+    public InstanceLoad get(@NonNull ServiceInstance instance) {
+        final String key = key(instance);
+        InstanceLoad load = instances.get(key);
+        if (load == null) {
+            InstanceLoad created = new InstanceLoad(instance.getServiceId(), instanceId(instance));
+            load = instances.putIfAbsent(key, created);
+            if (load == null) {
+                load = created;
+                log.debug("Tracking load of {}", key);
+                addListeners.forEach(l -> l.accept(created));
+            }
+        }
+        return load;
+    }
+
+    /** Called when a request is dispatched to the given instance */
+    public InstanceLoad started(@NonNull ServiceInstance instance) {
+        InstanceLoad load = get(instance);
+        load.inFlight.incrementAndGet();
+        return load;
+    }
+
+    /**
+     * Called when a request to the given instance finished
+     *
+     * @param latencyNanos the request latency, in nanoseconds
+     * @param failed whether the request failed
+     */
+    public void finished(@NonNull InstanceLoad load, long latencyNanos, boolean failed) {
+        load.inFlight.decrementAndGet();
+        load.requests.incrementAndGet();
+        if (failed) {
+            load.failures.incrementAndGet();
+        }
+        load.update(latencyNanos, System.nanoTime(), decayTimeNanos);
+    }
+
+    /**
+     * Stops tracking the instances of {@code serviceId} no longer in {@code current} and with no
+     * in-flight requests. Performed at most every 30 seconds per service.
+     */
+    public void retain(@NonNull String serviceId, @NonNull List<ServiceInstance> current) {
+        final long now = System.nanoTime();
+        final AtomicLong servicePrune =
+                lastPrune.computeIfAbsent(serviceId, s -> new AtomicLong(now));
+        final long last = servicePrune.get();
+        if (now - last < PRUNE_INTERVAL_NANOS || !servicePrune.compareAndSet(last, now)) {
+            return;
+        }
+        Set<String> keys = current.stream().map(this::key).collect(Collectors.toSet());
+        instances
+                .entrySet()
+                .removeIf(
+                        e -> {
+                            InstanceLoad load = e.getValue();
+                            boolean remove =
+                                    serviceId.equals(load.getServiceId())
+                                            && !keys.contains(e.getKey())
+                                            && load.getInFlight() == 0;
+                            if (remove) {
+                                log.debug("Stopped tracking load of {}", e.getKey());
+                                removeListeners.forEach(l -> l.accept(load));
+                            }
+                            return remove;
+                        });
+    }
+
+    private String key(ServiceInstance instance) {
+        return instance.getServiceId() + "/" + instanceId(instance);
+    }
+
+    private static String instanceId(ServiceInstance instance) {
+        String id = instance.getInstanceId();
+        return id == null ? instance.getHost() + ":" + instance.getPort() : id;
+    }
+
+    /** Load statistics of a single service instance */
+    public static class InstanceLoad {
+        private final String serviceId;
+        private final String instanceId;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+
+        private double ewmaNanos;
+        private long lastUpdateNanos;
+
+        InstanceLoad(String serviceId, String instanceId) {
+            this.serviceId = serviceId;
+            this.instanceId = instanceId;
+        }
+
+        public String getServiceId() {
+            return serviceId;
+        }
+
+        public String getInstanceId() {
+            return instanceId;
+        }
+
+        public int getInFlight() {
+            return inFlight.get();
+        }
+
+        public long getRequests() {
+            return requests.get();
+        }
+
+        public long getFailures() {
+            return failures.get();
+        }
+
+        /**
+         * @return the EWMA response latency in nanoseconds, or {@code 0} if no request has
+         *     completed yet
+         */
+        public synchronized double getLatencyNanos() {
+            return ewmaNanos;
+        }
+
+        public double getLatencyMillis() {
+            return getLatencyNanos() / 1_000_000d;
+        }
+
+        synchronized void update(long latencyNanos, long now, long decayTimeNanos) {
+            if (lastUpdateNanos == 0 || ewmaNanos == 0) {
+                ewmaNanos = latencyNanos;
+            } else {
+                double weight = Math.exp(-(double) (now - lastUpdateNanos) / decayTimeNanos);
+                ewmaNanos = ewmaNanos * weight + latencyNanos * (1 - weight);
+            }
+            lastUpdateNanos = now;
+        }
+
+        public @Override String toString() {
+            return String.format(
+                    "%s/%s[in-flight: %d, latency: %.1fms]",
+                    serviceId, instanceId, getInFlight(), getLatencyMillis());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.loadbalancer;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import org.geoserver.cloud.gateway.loadbalancer.InstanceLoadTracker.InstanceLoad;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link ReactorServiceInstanceLoadBalancer} that prefers the least loaded instances using the
+ * "power of two choices" strategy: two instances are picked at random, and the request is sent to
+ * the one with the lowest load, as tracked by the {@link InstanceLoadTracker}.
+ *
+ * <p>The load of an instance is its number of in-flight requests, weighted by its EWMA response
+ * latency. Instances with no latency samples yet are compared by in-flight requests only. Picking
+ * two random candidates instead of the global minimum avoids all the gateway threads piling up on
+ * the same instance between load updates, while still steering requests away from instances busy
+ * with heavy requests.
+ *
+ * @since 1.0
+ */
+@Slf4j(topic = "org.geoserver.cloud.gateway.loadbalancer")
+public class LeastLoadedLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private final String serviceId;
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final InstanceLoadTracker loadTracker;
+
+    public LeastLoadedLoadBalancer(
+            @NonNull ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+            @NonNull String serviceId,
+            @NonNull InstanceLoadTracker loadTracker) {
+        this.serviceId = serviceId;
+        this.supplierProvider = supplierProvider;
+        this.loadTracker = loadTracker;
+    }
+
+    @SuppressWarnings("rawtypes")
+    public @Override Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier =
+                supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(this::choose);
+    }
+
+    Response<ServiceInstance> choose(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            log.warn("No servers available for service: {}", serviceId);
+            return new EmptyResponse();
+        }
+        loadTracker.retain(serviceId, instances);
+        final int size = instances.size();
+        if (size == 1) {
+            return new DefaultResponse(instances.get(0));
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int i = random.nextInt(size);
+        int j = random.nextInt(size - 1);
+        if (j >= i) j++;
+        ServiceInstance first = instances.get(i);
+        ServiceInstance second = instances.get(j);
+        InstanceLoad firstLoad = loadTracker.get(first);
+        InstanceLoad secondLoad = loadTracker.get(second);
+        ServiceInstance chosen = compare(firstLoad, secondLoad) <= 0 ? first : second;
+        log.trace("Chose {} between {} and {}", chosen.getInstanceId(), firstLoad, secondLoad);
+        return new DefaultResponse(chosen);
+    }
+
+    static int compare(InstanceLoad l1, InstanceLoad l2) {
+        double latency1 = l1.getLatencyNanos();
+        double latency2 = l2.getLatencyNanos();
+        if (latency1 == 0 || latency2 == 0) {
+            return Integer.compare(l1.getInFlight(), l2.getInFlight());
+        }
+        return Double.compare(cost(l1.getInFlight(), latency1), cost(l2.getInFlight(), latency2));
+    }
+
+    private static double cost(int inFlight, double latency) {
+        return (inFlight + 1) * latency;
+    }
+}
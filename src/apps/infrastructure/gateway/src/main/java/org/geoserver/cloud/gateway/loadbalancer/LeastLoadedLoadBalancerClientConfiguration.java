@@ -0,0 +1,39 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Load balancer client configuration, applied to each load balanced service's child application
+ * context, that replaces the default round-robin load balancer by a {@link
+ * LeastLoadedLoadBalancer}.
+ *
+ * <p>Purposely not annotated with {@code @Configuration}, to avoid it being picked up by component
+ * scanning and applied to the main application context.
+ *
+ * @see LoadBalancerConfiguration
+ * @since 1.0
+ */
+public class LeastLoadedLoadBalancerClientConfiguration {
+
+    @Bean
+    ReactorLoadBalancer<ServiceInstance> reactorServiceInstanceLoadBalancer(
+            Environment environment,
+            LoadBalancerClientFactory loadBalancerClientFactory,
+            InstanceLoadTracker loadTracker) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new LeastLoadedLoadBalancer(
+                loadBalancerClientFactory.getLazyProvider(
+                        serviceId, ServiceInstanceListSupplier.class),
+                serviceId,
+                loadTracker);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.loadbalancer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Replaces the default round-robin load balancing of {@literal lb://} routes by the {@link
+ * LeastLoadedLoadBalancer} if {@code geoserver.gateway.load-balancer.strategy=least-loaded}.
+ *
+ * <p>The {@literal geoserver.gateway.load-balancer.decay-time} property (defaults to {@literal
+ * 10s}) controls how fast the tracked EWMA latency of an instance forgets older samples.
+ *
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(
+        name = "geoserver.gateway.load-balancer.strategy",
+        havingValue = "least-loaded",
+        matchIfMissing = false)
+@LoadBalancerClients(defaultConfiguration = LeastLoadedLoadBalancerClientConfiguration.class)
+public class LoadBalancerConfiguration {
+
+    @Bean
+    InstanceLoadTracker instanceLoadTracker(
+            @Value("${geoserver.gateway.load-balancer.decay-time:10s}") Duration decayTime) {
+        return new InstanceLoadTracker(decayTime);
+    }
+
+    @Bean
+    InstanceLoadGatewayFilter instanceLoadGatewayFilter(InstanceLoadTracker loadTracker) {
+        return new InstanceLoadGatewayFilter(loadTracker);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class InstanceLoadMetricsConfiguration {
+
+        @Bean
+        InstanceLoadMetrics instanceLoadMetrics(InstanceLoadTracker loadTracker) {
+            return new InstanceLoadMetrics(loadTracker);
+        }
+    }
+}
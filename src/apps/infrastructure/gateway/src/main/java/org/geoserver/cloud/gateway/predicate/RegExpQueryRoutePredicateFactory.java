@@ -6,7 +6,6 @@ package org.geoserver.cloud.gateway.predicate;
 
 import lombok.Data;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.experimental.Accessors;
 
 import org.springframework.cloud.gateway.handler.predicate.AbstractRoutePredicateFactory;
@@ -76,21 +75,31 @@ public class RegExpQueryRoutePredicateFactory
         return new RegExpQueryRoutePredicate(config);
     }
 
-    @RequiredArgsConstructor
+    /**
+     * Compiles the config's regular expressions once, instead of on each request as {@link
+     * String#matches(String)} would do.
+     */
     private static class RegExpQueryRoutePredicate implements GatewayPredicate {
-        private final @NonNull Config config;
+        private final Config config;
+        private final StringMatcher paramMatcher;
+        private final StringMatcher valueMatcher;
+
+        RegExpQueryRoutePredicate(@NonNull Config config) {
+            this.config = config;
+            this.paramMatcher = StringMatcher.of(config.getParamRegexp());
+            this.valueMatcher =
+                    StringUtils.hasText(config.getValueRegexp())
+                            ? StringMatcher.of(config.getValueRegexp())
+                            : null;
+        }
 
         public @Override boolean test(ServerWebExchange exchange) {
-            final String paramRegexp = config.getParamRegexp();
-            final String valueRegexp = config.getValueRegexp();
-
-            boolean matchNameOnly = !StringUtils.hasText(config.getValueRegexp());
-            Optional<String> paramName = findParameterName(paramRegexp, exchange);
+            Optional<String> paramName = findParameterName(paramMatcher, exchange);
             boolean paramNameMatches = paramName.isPresent();
-            if (matchNameOnly) {
+            if (valueMatcher == null) {
                 return paramNameMatches;
             }
-            return paramNameMatches && paramValueMatches(paramName.get(), valueRegexp, exchange);
+            return paramNameMatches && paramValueMatches(paramName.get(), valueMatcher, exchange);
         }
 
         public @Override String toString() {
@@ -100,15 +109,23 @@ public class RegExpQueryRoutePredicateFactory
         }
     }
 
-    static Optional<String> findParameterName(@NonNull String regex, ServerWebExchange exchange) {
+    static Optional<String> findParameterName(
+            @NonNull StringMatcher matcher, ServerWebExchange exchange) {
         Set<String> parameterNames = exchange.getRequest().getQueryParams().keySet();
-        return parameterNames.stream().filter(name -> name.matches(regex)).findFirst();
+        for (String name : parameterNames) {
+            if (matcher.matches(name)) return Optional.of(name);
+        }
+        return Optional.empty();
     }
 
     static boolean paramValueMatches(
-            @NonNull String paramName, @NonNull String valueRegEx, ServerWebExchange exchange) {
+            @NonNull String paramName, @NonNull StringMatcher matcher, ServerWebExchange exchange) {
         List<String> values = exchange.getRequest().getQueryParams().get(paramName);
-        return values != null && values.stream().anyMatch(v -> v != null && v.matches(valueRegEx));
+        if (values == null) return false;
+        for (String value : values) {
+            if (value != null && matcher.matches(value)) return true;
+        }
+        return false;
     }
 
     @Data
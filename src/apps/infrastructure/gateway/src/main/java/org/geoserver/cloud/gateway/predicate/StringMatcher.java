@@ -0,0 +1,103 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.predicate;
+
+import lombok.NonNull;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Matches strings against a regular expression, compiled once, avoiding the regex engine altogether
+ * for the most common expressions used in route predicates: plain literals ({@code service}), case
+ * insensitive literals ({@code (?i:service)} or {@code (?i)service}), and case insensitive
+ * alternations of literals ({@code (?i:wms|wfs)}).
+ *
+ * @since 1.0
+ */
+abstract class StringMatcher {
+
+    /** Case insensitive group or flag, with a body made of literal alternatives */
+    private static final Pattern CASE_INSENSITIVE_LITERALS =
+            Pattern.compile("^(?:\\(\\?i:([\\w\\-|]+)\\)|\\(\\?i\\)([\\w\\-|]+))$");
+
+    private static final Pattern LITERAL = Pattern.compile("^[\\w\\-]+$");
+
+    public abstract boolean matches(@NonNull String value);
+
+    public static StringMatcher of(@NonNull String regex) {
+        if (LITERAL.matcher(regex).matches()) {
+            return new Literal(regex);
+        }
+        Matcher ci = CASE_INSENSITIVE_LITERALS.matcher(regex);
+        if (ci.matches()) {
+            String body = ci.group(1) != null ? ci.group(1) : ci.group(2);
+            String[] alternatives = body.split("\\|", -1);
+            if (Arrays.stream(alternatives).noneMatch(String::isEmpty)) {
+                return alternatives.length == 1
+                        ? new CaseInsensitiveLiteral(alternatives[0])
+                        : new CaseInsensitiveLiterals(alternatives);
+            }
+        }
+        return new Regex(Pattern.compile(regex));
+    }
+
+    private static class Literal extends StringMatcher {
+        private final String literal;
+
+        Literal(String literal) {
+            this.literal = literal;
+        }
+
+        public @Override boolean matches(@NonNull String value) {
+            return literal.equals(value);
+        }
+    }
+
+    private static class CaseInsensitiveLiteral extends StringMatcher {
+        private final String literal;
+
+        CaseInsensitiveLiteral(String literal) {
+            this.literal = literal;
+        }
+
+        public @Override boolean matches(@NonNull String value) {
+            return literal.equalsIgnoreCase(value);
+        }
+    }
+
+    private static class CaseInsensitiveLiterals extends StringMatcher {
+        private final Set<String> literals;
+        private final int maxLength;
+
+        CaseInsensitiveLiterals(String[] alternatives) {
+            this.literals =
+                    Arrays.stream(alternatives)
+                            .map(a -> a.toLowerCase(Locale.ROOT))
+                            .collect(Collectors.toUnmodifiableSet());
+            this.maxLength = literals.stream().mapToInt(String::length).max().orElse(0);
+        }
+
+        public @Override boolean matches(@NonNull String value) {
+            return value.length() <= maxLength && literals.contains(value.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private static class Regex extends StringMatcher {
+        private final Pattern pattern;
+
+        Regex(Pattern pattern) {
+            this.pattern = pattern;
+        }
+
+        public @Override boolean matches(@NonNull String value) {
+            return pattern.matcher(value).matches();
+        }
+    }
+}
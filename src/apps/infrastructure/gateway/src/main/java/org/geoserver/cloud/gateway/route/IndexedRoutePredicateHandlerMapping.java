@@ -0,0 +1,183 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.route;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_PREDICATE_ROUTE_ATTR;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.cloud.gateway.config.GlobalCorsProperties;
+import org.springframework.cloud.gateway.event.RefreshRoutesResultEvent;
+import org.springframework.cloud.gateway.handler.FilteringWebHandler;
+import org.springframework.cloud.gateway.handler.RoutePredicateHandlerMapping;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.Environment;
+import org.springframework.web.server.ServerWebExchange;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * {@link RoutePredicateHandlerMapping} that avoids evaluating, in sequence, the predicates of every
+ * route for each request, by pre-filtering the candidate routes with an index keyed by the
+ * normalized OGC {@code SERVICE} query parameter.
+ *
+ * <p>Routes opt-in to the index declaring the services they serve in their {@link
+ * Route#getMetadata() metadata}, under the {@value #SERVICE_METADATA_KEY} key, as a comma separated
+ * list or a yaml list. For example:
+ *
+ * <pre>
+ * <code>
+ * spring:
+ *  cloud:
+ *   gateway:
+ *    routes:
+ *     - id: wfs_ows
+ *       uri: lb://wfs-service
+ *       predicates:
+ *       - RegExpQuery=(?i:service),(?i:wfs)
+ *       metadata:
+ *         ows-service: wfs
+ * </code>
+ * </pre>
+ *
+ * <p>A request is then only matched against the routes declaring its {@code SERVICE} parameter
+ * value, and the routes that declare no service at all, in their original order. The predicates of
+ * the candidate routes are still evaluated, so the metadata is only a hint, but it must be
+ * consistent with the route predicates: a route declaring {@code ows-service: wfs} won't be
+ * considered for a request without a {@code SERVICE=WFS} parameter.
+ *
+ * <p>The index is rebuilt when the routes are refreshed.
+ *
+ * @since 1.0
+ */
+@Slf4j(topic = "org.geoserver.cloud.gateway.route")
+public class IndexedRoutePredicateHandlerMapping extends RoutePredicateHandlerMapping
+        implements ApplicationListener<RefreshRoutesResultEvent> {
+
+    public static final String SERVICE_METADATA_KEY = "ows-service";
+
+    private final RouteLocator routeLocator;
+
+    private volatile Mono<RouteIndex> index;
+
+    public IndexedRoutePredicateHandlerMapping(
+            FilteringWebHandler webHandler,
+            @NonNull RouteLocator routeLocator,
+            GlobalCorsProperties globalCorsProperties,
+            Environment environment) {
+        super(webHandler, routeLocator, globalCorsProperties, environment);
+        this.routeLocator = routeLocator;
+        this.index = buildIndex();
+    }
+
+    public @Override void onApplicationEvent(RefreshRoutesResultEvent event) {
+        if (event.isSuccess()) {
+            log.debug("Routes refreshed, rebuilding route index");
+            this.index = buildIndex();
+        }
+    }
+
+    protected @Override Mono<Route> lookupRoute(ServerWebExchange exchange) {
+        final String service = OwsServiceParameter.get(exchange).orElse(null);
+        return index.flatMapMany(idx -> Flux.fromIterable(idx.candidates(service)))
+                .concatMap(route -> matches(route, exchange))
+                .next()
+                .map(
+                        route -> {
+                            validateRoute(route, exchange);
+                            return route;
+                        });
+    }
+
+    private Mono<Route> matches(Route route, ServerWebExchange exchange) {
+        return Mono.just(route)
+                .filterWhen(
+                        r -> {
+                            exchange.getAttributes().put(GATEWAY_PREDICATE_ROUTE_ATTR, r.getId());
+                            return r.getPredicate().apply(exchange);
+                        })
+                .doOnError(
+                        e -> log.error("Error applying predicate for route: {}", route.getId(), e))
+                .onErrorResume(e -> Mono.empty());
+    }
+
+    private Mono<RouteIndex> buildIndex() {
+        return routeLocator.getRoutes().collectList().map(RouteIndex::new).cache();
+    }
+
+    /** Candidate routes per service, preserving the routes order */
+    static class RouteIndex {
+        private final List<Route> unkeyed;
+        private final Map<String, List<Route>> byService;
+
+        RouteIndex(List<Route> routes) {
+            Map<Route, Set<String>> keys = new IdentityHashMap<>();
+            Set<String> services = new LinkedHashSet<>();
+            for (Route route : routes) {
+                Set<String> routeServices = services(route);
+                keys.put(route, routeServices);
+                services.addAll(routeServices);
+            }
+            this.unkeyed =
+                    routes.stream().filter(r -> keys.get(r).isEmpty()).collect(Collectors.toList());
+            this.byService = new HashMap<>();
+            for (String service : services) {
+                List<Route> candidates = new ArrayList<>();
+                for (Route route : routes) {
+                    Set<String> routeServices = keys.get(route);
+                    if (routeServices.isEmpty() || routeServices.contains(service)) {
+                        candidates.add(route);
+                    }
+                }
+                byService.put(service, List.copyOf(candidates));
+            }
+            log.debug(
+                    "Indexed {} routes, {} by service {}",
+                    routes.size(),
+                    routes.size() - unkeyed.size(),
+                    services);
+        }
+
+        List<Route> candidates(String service) {
+            if (service == null) return unkeyed;
+            return byService.getOrDefault(service, unkeyed);
+        }
+
+        static Set<String> services(Route route) {
+            Object value = route.getMetadata().get(SERVICE_METADATA_KEY);
+            Collection<?> values;
+            if (value instanceof Map) {
+                // yaml lists in metadata are bound as maps with index keys
+                values = ((Map<?, ?>) value).values();
+            } else if (value instanceof Collection) {
+                values = (Collection<?>) value;
+            } else if (value != null) {
+                values = Arrays.asList(String.valueOf(value).split(","));
+            } else {
+                values = List.of();
+            }
+            return values.stream()
+                    .map(String::valueOf)
+                    .map(OwsServiceParameter::normalize)
+                    .filter(s -> !s.isEmpty())
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+    }
+}
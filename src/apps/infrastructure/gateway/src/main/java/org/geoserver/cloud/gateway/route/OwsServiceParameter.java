@@ -0,0 +1,63 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.route;
+
+import lombok.NonNull;
+
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Resolves the OGC {@code SERVICE} query parameter of a request, matched case-insensitively by name
+ * and normalized to lower case, and caches it as an exchange attribute so that it's computed at
+ * most once per request.
+ *
+ * @since 1.0
+ */
+public final class OwsServiceParameter {
+
+    static final String ATTRIBUTE = OwsServiceParameter.class.getName() + ".service";
+
+    /** Marker to cache the absence of the parameter */
+    private static final String NONE = "";
+
+    private OwsServiceParameter() {
+        // private constructor, utility class
+    }
+
+    /**
+     * @return the lower case value of the first {@code SERVICE} query parameter, if present and not
+     *     empty
+     */
+    public static Optional<String> get(@NonNull ServerWebExchange exchange) {
+        Map<String, Object> attributes = exchange.getAttributes();
+        String service = (String) attributes.get(ATTRIBUTE);
+        if (service == null) {
+            service = resolve(exchange.getRequest().getQueryParams());
+            attributes.put(ATTRIBUTE, service);
+        }
+        return NONE.equals(service) ? Optional.empty() : Optional.of(service);
+    }
+
+    private static String resolve(MultiValueMap<String, String> queryParams) {
+        for (Map.Entry<String, List<String>> e : queryParams.entrySet()) {
+            if ("service".equalsIgnoreCase(e.getKey())) {
+                List<String> values = e.getValue();
+                String value = values == null || values.isEmpty() ? null : values.get(0);
+                return value == null ? NONE : normalize(value);
+            }
+        }
+        return NONE;
+    }
+
+    static String normalize(@NonNull String service) {
+        return service.trim().toLowerCase(Locale.ROOT);
+    }
+}
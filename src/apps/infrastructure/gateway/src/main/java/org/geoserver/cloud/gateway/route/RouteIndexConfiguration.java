@@ -0,0 +1,76 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.route;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.gateway.config.GlobalCorsProperties;
+import org.springframework.cloud.gateway.handler.FilteringWebHandler;
+import org.springframework.cloud.gateway.handler.RoutePredicateHandlerMapping;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Replaces the default {@link RoutePredicateHandlerMapping} by an {@link
+ * IndexedRoutePredicateHandlerMapping} if {@code geoserver.gateway.route-index.enabled=true}.
+ *
+ * <p>Both mappings have the same order, so registering the indexed one alongside the default one
+ * would leave it up to their registration order which one handles the requests, and the other one
+ * would evaluate all routes again for unmatched requests. Hence the default mapping bean definition
+ * is removed instead.
+ *
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(
+        name = "geoserver.gateway.route-index.enabled",
+        havingValue = "true",
+        matchIfMissing = false)
+public class RouteIndexConfiguration {
+
+    /** Name of the default {@link RoutePredicateHandlerMapping} bean */
+    static final String DEFAULT_MAPPING_BEAN_NAME = "routePredicateHandlerMapping";
+
+    @Bean
+    static DefaultRoutePredicateHandlerMappingRemover defaultRoutePredicateHandlerMappingRemover() {
+        return new DefaultRoutePredicateHandlerMappingRemover();
+    }
+
+    @Bean
+    IndexedRoutePredicateHandlerMapping indexedRoutePredicateHandlerMapping(
+            FilteringWebHandler webHandler,
+            RouteLocator routeLocator,
+            GlobalCorsProperties globalCorsProperties,
+            Environment environment) {
+        return new IndexedRoutePredicateHandlerMapping(
+                webHandler, routeLocator, globalCorsProperties, environment);
+    }
+
+    /**
+     * Runs after the configuration classes have been processed, hence after the gateway
+     * auto-configuration registered its default mapping
+     */
+    @Slf4j(topic = "org.geoserver.cloud.gateway.route")
+    static class DefaultRoutePredicateHandlerMappingRemover
+            implements BeanDefinitionRegistryPostProcessor {
+
+        public @Override void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) {
+            if (registry.containsBeanDefinition(DEFAULT_MAPPING_BEAN_NAME)) {
+                log.info("Replacing the default RoutePredicateHandlerMapping by the indexed one");
+                registry.removeBeanDefinition(DEFAULT_MAPPING_BEAN_NAME);
+            }
+        }
+
+        public @Override void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+            // no-op
+        }
+    }
+}
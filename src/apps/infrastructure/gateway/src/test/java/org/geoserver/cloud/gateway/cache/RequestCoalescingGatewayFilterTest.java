@@ -0,0 +1,114 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class RequestCoalescingGatewayFilterTest {
+
+    private static final String GETMAP =
+            "/wms?SERVICE=WMS&REQUEST=GetMap&LAYERS=topp:states&BBOX=-180,-90,180,90"
+                    + "&WIDTH=256&HEIGHT=256&FORMAT=image/png";
+
+    private RequestCoalescingGatewayFilter filter;
+    private AtomicInteger backendCalls;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RequestCoalescingGatewayFilter(new RequestCoalescingConfigProperties());
+        backendCalls = new AtomicInteger();
+    }
+
+    private GatewayFilterChain backend(HttpStatus status, String body) {
+        return exchange -> {
+            backendCalls.incrementAndGet();
+            return Mono.delay(Duration.ofMillis(200))
+                    .then(
+                            Mono.defer(
+                                    () -> {
+                                        ServerHttpResponse response = exchange.getResponse();
+                                        response.setStatusCode(status);
+                                        response.getHeaders().setContentType(MediaType.IMAGE_PNG);
+                                        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                                        return response.writeWith(
+                                                Mono.just(response.bufferFactory().wrap(bytes)));
+                                    }));
+        };
+    }
+
+    private MockServerWebExchange get(String uri) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(uri).build());
+    }
+
+    @Test
+    void testCoalescesIdenticalRequests() {
+        GatewayFilterChain chain = backend(HttpStatus.OK, "png");
+        MockServerWebExchange first = get(GETMAP);
+        // same request, different parameter order and case
+        MockServerWebExchange second =
+                get(
+                        "/wms?request=GetMap&service=WMS&layers=topp:states&bbox=-180,-90,180,90"
+                                + "&width=256&height=256&format=image/png");
+
+        Mono.when(filter.filter(first, chain), filter.filter(second, chain)).block();
+
+        assertEquals(1, backendCalls.get());
+        assertEquals("png", first.getResponse().getBodyAsString().block());
+        assertEquals("png", second.getResponse().getBodyAsString().block());
+        assertEquals(HttpStatus.OK, second.getResponse().getStatusCode());
+        assertEquals(MediaType.IMAGE_PNG, second.getResponse().getHeaders().getContentType());
+        assertEquals(1, filter.getForwardedCount());
+        assertEquals(1, filter.getCoalescedCount());
+        assertEquals(0, filter.getInFlightCount());
+    }
+
+    @Test
+    void testFallsBackIfResponseNotShareable() {
+        GatewayFilterChain chain = backend(HttpStatus.INTERNAL_SERVER_ERROR, "error");
+        MockServerWebExchange first = get(GETMAP);
+        MockServerWebExchange second = get(GETMAP);
+
+        Mono.when(filter.filter(first, chain), filter.filter(second, chain)).block();
+
+        assertEquals(2, backendCalls.get());
+        assertEquals(0, filter.getCoalescedCount());
+        assertEquals(1, filter.getFallbackCount());
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, second.getResponse().getStatusCode());
+    }
+
+    @Test
+    void testIsCoalescable() {
+        assertTrue(filter.isCoalescable(MockServerHttpRequest.get(GETMAP).build()));
+        assertTrue(
+                filter.isCoalescable(
+                        MockServerHttpRequest.get("/gwc/service/wmts?REQUEST=GetTile").build()));
+        assertFalse(
+                filter.isCoalescable(
+                        MockServerHttpRequest.get("/wms?REQUEST=GetCapabilities").build()));
+        assertFalse(
+                filter.isCoalescable(
+                        MockServerHttpRequest.get(GETMAP)
+                                .header("Authorization", "Basic x")
+                                .build()));
+        assertFalse(filter.isCoalescable(MockServerHttpRequest.post(GETMAP).build()));
+    }
+}
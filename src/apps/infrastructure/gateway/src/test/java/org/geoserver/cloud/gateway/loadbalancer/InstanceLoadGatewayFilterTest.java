@@ -0,0 +1,123 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.loadbalancer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR;
+
+import org.geoserver.cloud.gateway.loadbalancer.InstanceLoadTracker.InstanceLoad;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+class InstanceLoadGatewayFilterTest {
+
+    private InstanceLoadTracker tracker;
+    private InstanceLoadGatewayFilter filter;
+
+    private ServiceInstance wms1 = new DefaultServiceInstance("wms-1", "wms", "wms-1", 8080, false);
+
+    @BeforeEach
+    void setUp() {
+        tracker = new InstanceLoadTracker(Duration.ofSeconds(10));
+        filter = new InstanceLoadGatewayFilter(tracker);
+    }
+
+    private MockServerWebExchange exchange() {
+        MockServerWebExchange exchange =
+                MockServerWebExchange.from(MockServerHttpRequest.get("/wms").build());
+        exchange.getAttributes().put(GATEWAY_LOADBALANCER_RESPONSE_ATTR, new DefaultResponse(wms1));
+        return exchange;
+    }
+
+    @Test
+    void testLatencyMeasuredUntilResponseCommitted() throws InterruptedException {
+        Sinks.Many<DataBuffer> body = Sinks.many().unicast().onBackpressureBuffer();
+        MockServerWebExchange exchange = exchange();
+        ServerHttpResponse response = exchange.getResponse();
+
+        final long start = System.nanoTime();
+        Disposable request =
+                filter.filter(
+                                exchange,
+                                ex -> {
+                                    response.setStatusCode(HttpStatus.OK);
+                                    return response.writeWith(body.asFlux());
+                                })
+                        .subscribe();
+        body.tryEmitNext(chunk(response, "<WMS_Capabilities>"));
+        final long committed = System.nanoTime() - start;
+        assertTrue(response.isCommitted());
+
+        InstanceLoad load = tracker.get(wms1);
+        assertEquals(1, load.getInFlight(), "still in-flight while streaming the body");
+
+        TimeUnit.MILLISECONDS.sleep(200);
+        body.tryEmitNext(chunk(response, "</WMS_Capabilities>"));
+        body.tryEmitComplete();
+        assertTrue(request.isDisposed());
+
+        assertEquals(0, load.getInFlight());
+        assertEquals(1, load.getRequests());
+        assertEquals(0, load.getFailures());
+        assertTrue(
+                load.getLatencyNanos() <= committed,
+                "latency should not include the time taken to stream the body");
+    }
+
+    @Test
+    void testLatencyOfUncommittedFailedRequest() {
+        MockServerWebExchange exchange = exchange();
+        Mono<Void> request =
+                filter.filter(
+                        exchange,
+                        ex ->
+                                Mono.delay(Duration.ofMillis(50))
+                                        .then(Mono.error(new IllegalStateException("refused"))));
+        assertThrows(IllegalStateException.class, request::block);
+
+        InstanceLoad load = tracker.get(wms1);
+        assertEquals(0, load.getInFlight());
+        assertEquals(1, load.getFailures());
+        assertTrue(load.getLatencyNanos() >= TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    void testServerErrorCountsAsFailure() {
+        MockServerWebExchange exchange = exchange();
+        filter.filter(
+                        exchange,
+                        ex -> {
+                            ex.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+                            return ex.getResponse().setComplete();
+                        })
+                .block();
+
+        InstanceLoad load = tracker.get(wms1);
+        assertEquals(1, load.getRequests());
+        assertEquals(1, load.getFailures());
+    }
+
+    private DataBuffer chunk(ServerHttpResponse response, String content) {
+        return response.bufferFactory().wrap(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.loadbalancer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.geoserver.cloud.gateway.loadbalancer.InstanceLoadTracker.InstanceLoad;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+class LeastLoadedLoadBalancerTest {
+
+    private InstanceLoadTracker tracker;
+    private LeastLoadedLoadBalancer loadBalancer;
+
+    private ServiceInstance wms1 = instance("wms-1");
+    private ServiceInstance wms2 = instance("wms-2");
+
+    @BeforeEach
+    void setUp() {
+        tracker = new InstanceLoadTracker(Duration.ofSeconds(10));
+        ObjectProvider<ServiceInstanceListSupplier> provider =
+                new StaticListableBeanFactory().getBeanProvider(ServiceInstanceListSupplier.class);
+        loadBalancer = new LeastLoadedLoadBalancer(provider, "wms-service", tracker);
+    }
+
+    private static ServiceInstance instance(String id) {
+        return new DefaultServiceInstance(id, "wms-service", id, 8080, false);
+    }
+
+    @Test
+    void testPrefersInstanceWithLessInFlightRequests() {
+        tracker.started(wms1);
+        tracker.started(wms1);
+        for (int i = 0; i < 100; i++) {
+            Response<ServiceInstance> response = loadBalancer.choose(List.of(wms1, wms2));
+            assertSame(wms2, response.getServer());
+        }
+    }
+
+    @Test
+    void testPrefersFasterInstance() {
+        InstanceLoad slow = tracker.started(wms1);
+        tracker.finished(slow, TimeUnit.SECONDS.toNanos(2), false);
+        InstanceLoad fast = tracker.started(wms2);
+        tracker.finished(fast, TimeUnit.MILLISECONDS.toNanos(20), false);
+
+        // one in-flight request to the fast instance still costs less than an idle slow one
+        tracker.started(wms2);
+        for (int i = 0; i < 100; i++) {
+            assertSame(wms2, loadBalancer.choose(List.of(wms1, wms2)).getServer());
+        }
+    }
+
+    @Test
+    void testSingleAndNoInstances() {
+        assertSame(wms1, loadBalancer.choose(List.of(wms1)).getServer());
+        assertFalse(loadBalancer.choose(List.of()).hasServer());
+    }
+
+    @Test
+    void testEwmaLatency() {
+        InstanceLoad load = tracker.started(wms1);
+        assertEquals(1, load.getInFlight());
+        tracker.finished(load, TimeUnit.MILLISECONDS.toNanos(100), false);
+        assertEquals(0, load.getInFlight());
+        assertEquals(100d, load.getLatencyMillis(), 0.001);
+
+        tracker.started(wms1);
+        tracker.finished(load, TimeUnit.MILLISECONDS.toNanos(300), true);
+        double latency = load.getLatencyMillis();
+        assertTrue(latency >= 100 && latency <= 300, "unexpected EWMA " + latency);
+        assertEquals(2, load.getRequests());
+        assertEquals(1, load.getFailures());
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class StringMatcherTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "service, service",
+        "service, SERVICE",
+        "service, servicex",
+        "(?i:service), SeRvIcE",
+        "(?i:service), services",
+        "(?i)service, SERVICE",
+        "(?i:wms|wfs), WFS",
+        "(?i:wms|wfs), wcs",
+        "(?i:wms|wfs), wmsx",
+        "(?i:wms|), wms",
+        "(?i:wms|), ''",
+        "wms|wfs, wfs",
+        "(?i:w[mf]s), WMS",
+        "(?i:.*request.*), getrequest",
+        "(?i:request|.*), anything"
+    })
+    void matchesLikeStringMatches(String regex, String value) {
+        assertEquals(value.matches(regex), StringMatcher.of(regex).matches(value), regex);
+    }
+}
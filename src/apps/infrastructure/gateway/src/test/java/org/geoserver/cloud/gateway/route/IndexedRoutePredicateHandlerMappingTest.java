@@ -0,0 +1,170 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.route;
+
+import static org.geoserver.cloud.gateway.route.IndexedRoutePredicateHandlerMapping.SERVICE_METADATA_KEY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+import org.geoserver.cloud.gateway.route.IndexedRoutePredicateHandlerMapping.RouteIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.config.GlobalCorsProperties;
+import org.springframework.cloud.gateway.event.RefreshRoutesResultEvent;
+import org.springframework.cloud.gateway.handler.FilteringWebHandler;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+class IndexedRoutePredicateHandlerMappingTest {
+
+    private Map<String, AtomicInteger> evaluations;
+    private List<Route> routes;
+    private IndexedRoutePredicateHandlerMapping mapping;
+
+    @BeforeEach
+    void setUp() {
+        evaluations = new LinkedHashMap<>();
+        routes = new ArrayList<>();
+        routes.add(route("wms", "wms", "wms"));
+        routes.add(route("wfs", "wfs", "wfs"));
+        routes.add(route("rest", null, null));
+        routes.add(route("gwc", "gwc,wmts", "wmts"));
+        mapping =
+                new IndexedRoutePredicateHandlerMapping(
+                        new FilteringWebHandler(List.of()),
+                        () -> Flux.fromIterable(routes),
+                        new GlobalCorsProperties(),
+                        new MockEnvironment());
+    }
+
+    /**
+     * @param services the {@code ows-service} route metadata, or {@code null}
+     * @param matchedService the {@code SERVICE} parameter value the route predicate matches, or
+     *     {@code null} to match requests with a {@code /rest} path
+     */
+    private Route route(String id, String services, String matchedService) {
+        AtomicInteger counter = new AtomicInteger();
+        evaluations.put(id, counter);
+        Route.AsyncBuilder builder =
+                Route.async()
+                        .id(id)
+                        .uri("http://" + id)
+                        .predicate(
+                                exchange -> {
+                                    counter.incrementAndGet();
+                                    if (matchedService == null) {
+                                        return exchange.getRequest()
+                                                .getPath()
+                                                .value()
+                                                .startsWith("/rest");
+                                    }
+                                    return OwsServiceParameter.get(exchange)
+                                            .filter(matchedService::equals)
+                                            .isPresent();
+                                });
+        if (services != null) {
+            builder.metadata(SERVICE_METADATA_KEY, services);
+        }
+        return builder.build();
+    }
+
+    private Route lookup(String uri) {
+        MockServerWebExchange exchange =
+                MockServerWebExchange.from(MockServerHttpRequest.get(uri).build());
+        mapping.getHandler(exchange).block();
+        return exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+    }
+
+    private Map<String, Integer> evaluated() {
+        return evaluations.entrySet().stream()
+                .filter(e -> e.getValue().get() > 0)
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().get()));
+    }
+
+    @Test
+    void testOnlyEvaluatesCandidateRoutes() {
+        assertEquals("wfs", lookup("/ows?SERVICE=WFS&REQUEST=GetCapabilities").getId());
+        // the wms and gwc routes declare other services, rest is unkeyed but comes after
+        assertEquals(Map.of("wfs", 1), evaluated());
+    }
+
+    @Test
+    void testNoServiceOnlyEvaluatesUnkeyedRoutes() {
+        assertEquals("rest", lookup("/rest/workspaces").getId());
+        assertEquals(Map.of("rest", 1), evaluated());
+    }
+
+    @Test
+    void testUnknownServiceOnlyEvaluatesUnkeyedRoutes() {
+        assertNull(lookup("/ows?service=csw"));
+        assertEquals(Map.of("rest", 1), evaluated());
+    }
+
+    @Test
+    void testCommaSeparatedServices() {
+        assertEquals("gwc", lookup("/gwc/service/wmts?Service=WMTS").getId());
+        assertEquals(Map.of("rest", 1, "gwc", 1), evaluated());
+    }
+
+    @Test
+    void testIndexRebuiltOnRefresh() {
+        assertNull(lookup("/ows?service=csw"));
+        routes.add(0, route("csw", "csw", "csw"));
+        mapping.onApplicationEvent(new RefreshRoutesResultEvent(this));
+        assertEquals("csw", lookup("/ows?service=csw").getId());
+    }
+
+    @Test
+    void testRouteIndexCandidates() {
+        RouteIndex index = new RouteIndex(routes);
+        assertEquals(List.of("rest"), ids(index.candidates(null)));
+        assertEquals(List.of("rest"), ids(index.candidates("csw")));
+        assertEquals(List.of("wms", "rest"), ids(index.candidates("wms")));
+        assertEquals(List.of("rest", "gwc"), ids(index.candidates("wmts")));
+        assertEquals(List.of("rest", "gwc"), ids(index.candidates("gwc")));
+    }
+
+    @Test
+    void testRouteIndexServicesMetadata() {
+        assertEquals(Set.of(), RouteIndex.services(routes.get(2)));
+        assertEquals(Set.of("gwc", "wmts"), RouteIndex.services(routes.get(3)));
+
+        // yaml lists are bound as maps with index keys
+        Route yamlList =
+                Route.async()
+                        .id("yaml")
+                        .uri("http://yaml")
+                        .predicate(exchange -> true)
+                        .metadata(SERVICE_METADATA_KEY, Map.of("0", "WMS", "1", " wfs "))
+                        .build();
+        assertEquals(Set.of("wms", "wfs"), RouteIndex.services(yamlList));
+
+        Route list =
+                Route.async()
+                        .id("list")
+                        .uri("http://list")
+                        .predicate(exchange -> true)
+                        .metadata(SERVICE_METADATA_KEY, List.of("WCS", ""))
+                        .build();
+        assertEquals(Set.of("wcs"), RouteIndex.services(list));
+    }
+
+    private static List<String> ids(List<Route> routes) {
+        return routes.stream().map(Route::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gateway.route;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.web.reactive.WebFluxAutoConfiguration;
+import org.springframework.boot.context.annotation.UserConfigurations;
+import org.springframework.boot.test.context.runner.ReactiveWebApplicationContextRunner;
+import org.springframework.cloud.gateway.config.GatewayAutoConfiguration;
+import org.springframework.cloud.gateway.handler.RoutePredicateHandlerMapping;
+
+class RouteIndexConfigurationTest {
+
+    private final ReactiveWebApplicationContextRunner contextRunner =
+            new ReactiveWebApplicationContextRunner()
+                    .withConfiguration(
+                            AutoConfigurations.of(
+                                    GatewayAutoConfiguration.class, WebFluxAutoConfiguration.class))
+                    .withConfiguration(UserConfigurations.of(RouteIndexConfiguration.class));
+
+    @Test
+    void testDisabledByDefault() {
+        contextRunner.run(
+                context -> {
+                    assertThat(context).hasSingleBean(RoutePredicateHandlerMapping.class);
+                    assertThat(context).doesNotHaveBean(IndexedRoutePredicateHandlerMapping.class);
+                });
+    }
+
+    @Test
+    void testEnabledReplacesDefaultMapping() {
+        contextRunner
+                .withPropertyValues("geoserver.gateway.route-index.enabled=true")
+                .run(
+                        context -> {
+                            assertThat(context).hasSingleBean(RoutePredicateHandlerMapping.class);
+                            assertThat(context.getBean(RoutePredicateHandlerMapping.class))
+                                    .isInstanceOf(IndexedRoutePredicateHandlerMapping.class);
+                            assertThat(context)
+                                    .doesNotHaveBean(
+                                            RouteIndexConfiguration.DEFAULT_MAPPING_BEAN_NAME);
+                        });
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.autoconfigure.metrics.catalog;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import org.geoserver.catalog.plugin.AsyncCatalogListener;
+import org.geoserver.catalog.plugin.AsyncCatalogListenerDispatcher;
+import org.geoserver.catalog.plugin.AsyncCatalogListenerDispatcher.ListenerQueue;
+import org.geoserver.catalog.plugin.CatalogPlugin;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exports the event queue metrics of each {@link AsyncCatalogListener} registered to the {@link
+ * CatalogPlugin catalog}, tagged with the {@literal listener} class name:
+ *
+ * <ul>
+ *   <li>{@literal geoserver.catalog.listener.queue.depth}: number of events waiting to be delivered
+ *   <li>{@literal geoserver.catalog.listener.lag}: how long the oldest pending event has been
+ *       waiting to be delivered
+ *   <li>{@literal geoserver.catalog.listener.events}: number of events delivered
+ * </ul>
+ *
+ * Listeners registered after binding to the {@link MeterRegistry} get their metrics registered as
+ * they're added to the catalog.
+ *
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+class AsyncCatalogListenerMetrics implements MeterBinder {
+
+    private final @NonNull GeoSeverMetricsConfigProperties metricsConfig;
+    private final @NonNull CatalogPlugin catalog;
+
+    public @Override void bindTo(@NonNull MeterRegistry registry) {
+        if (metricsConfig.isEnabled()) {
+            AsyncCatalogListenerDispatcher dispatcher = catalog.getAsyncListenerDispatcher();
+            dispatcher.addQueueObserver(queue -> register(queue, registry));
+        }
+    }
+
+    private void register(ListenerQueue queue, MeterRegistry registry) {
+        Tags tags = Tags.of(Tag.of("listener", queue.getListener().getClass().getName()));
+        final String instanceId = metricsConfig.getInstanceId();
+        if (null != instanceId) tags = tags.and("instance-id", instanceId);
+
+        Gauge.builder("geoserver.catalog.listener.queue.depth", queue, ListenerQueue::getDepth)
+                .description("Catalog events waiting to be delivered to an asynchronous listener")
+                .tags(tags)
+                .register(registry);
+
+        TimeGauge.builder(
+                        "geoserver.catalog.listener.lag",
+                        queue,
+                        TimeUnit.MILLISECONDS,
+                        q -> q.getLag().toMillis())
+                .description("Age of the oldest catalog event pending delivery to a listener")
+                .tags(tags)
+                .register(registry);
+
+        FunctionCounter.builder(
+                        "geoserver.catalog.listener.events", queue, ListenerQueue::getProcessed)
+                .description("Catalog events delivered to an asynchronous listener")
+                .tags(tags)
+                .baseUnit(BaseUnits.EVENTS)
+                .register(registry);
+    }
+}
@@ -7,6 +7,7 @@ package org.geoserver.cloud.autoconfigure.metrics.catalog;
 import lombok.NonNull;
 
 import org.geoserver.catalog.Catalog;
+import org.geoserver.catalog.plugin.CatalogPlugin;
 import org.geoserver.config.GeoServer;
 import org.geoserver.platform.config.UpdateSequence;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -23,6 +24,7 @@ import org.springframework.context.annotation.Configuration;
  * metrics; depends on the {@literal geoserver.metrics.enabled=true} configuration property.
  *
  * @see CatalogMetrics
+ * @see AsyncCatalogListenerMetrics
  * @since 1.0
  */
 @Configuration(proxyBeanMethods = false)
@@ -40,4 +42,12 @@ public class CatalogMetricsAutoConfiguration {
 
         return new CatalogMetrics(metricsConfig, catalog, config, updateSequence);
     }
+
+    @Bean
+    AsyncCatalogListenerMetrics geoserverCatalogListenerMetrics( //
+            GeoSeverMetricsConfigProperties metricsConfig, //
+            @Qualifier("rawCatalog") CatalogPlugin rawCatalog) {
+
+        return new AsyncCatalogListenerMetrics(metricsConfig, rawCatalog);
+    }
 }
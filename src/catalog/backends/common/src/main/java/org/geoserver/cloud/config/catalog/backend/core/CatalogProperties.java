@@ -6,6 +6,8 @@ package org.geoserver.cloud.config.catalog.backend.core;
 
 import lombok.Data;
 
+import org.geoserver.catalog.plugin.AsyncCatalogListener;
+import org.geoserver.catalog.plugin.AsyncCatalogListenerDispatcher;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 @ConfigurationProperties(prefix = "geoserver.catalog")
@@ -14,4 +16,17 @@ public @Data class CatalogProperties {
     private boolean secure = true;
     private boolean localWorkspace = true;
     private boolean advertised = true;
+
+    /** Dispatching of catalog events to {@link AsyncCatalogListener}s */
+    private AsyncListeners asyncListeners = new AsyncListeners();
+
+    public static @Data class AsyncListeners {
+        /** Max number of threads delivering events to asynchronous listeners */
+        private int threads = AsyncCatalogListenerDispatcher.DEFAULT_THREADS;
+
+        /**
+         * Max number of pending events per listener before the thread changing the catalog waits
+         */
+        private int queueCapacity = AsyncCatalogListenerDispatcher.DEFAULT_QUEUE_CAPACITY;
+    }
 }
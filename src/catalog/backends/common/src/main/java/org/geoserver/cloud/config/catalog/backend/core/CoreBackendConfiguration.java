@@ -8,6 +8,7 @@ import org.geoserver.catalog.Catalog;
 import org.geoserver.catalog.LayerGroupVisibilityPolicy;
 import org.geoserver.catalog.impl.AdvertisedCatalog;
 import org.geoserver.catalog.impl.LocalWorkspaceCatalog;
+import org.geoserver.catalog.plugin.AsyncCatalogListenerDispatcher;
 import org.geoserver.catalog.plugin.CatalogPlugin;
 import org.geoserver.catalog.plugin.ExtendedCatalogFacade;
 import org.geoserver.cloud.autoconfigure.security.ConditionalOnGeoServerSecurityDisabled;
@@ -58,6 +59,9 @@ public class CoreBackendConfiguration {
         boolean isolated = properties.isIsolated();
         CatalogPlugin rawCatalog = new CatalogPlugin(catalogFacade, isolated);
         rawCatalog.setResourceLoader(resourceLoader);
+        CatalogProperties.AsyncListeners async = properties.getAsyncListeners();
+        rawCatalog.setAsyncListenerDispatcher(
+                new AsyncCatalogListenerDispatcher(async.getThreads(), async.getQueueCapacity()));
         return rawCatalog;
     }
 
@@ -4,10 +4,14 @@
  */
 package org.geoserver.cloud.autoconfigure.catalog.backend.datadir;
 
+import org.geoserver.catalog.Catalog;
 import org.geoserver.catalog.plugin.ExtendedCatalogFacade;
 import org.geoserver.cloud.autoconfigure.catalog.event.ConditionalOnCatalogEvents;
+import org.geoserver.cloud.event.remote.datadir.CatalogInfoReloader;
 import org.geoserver.cloud.event.remote.datadir.RemoteEventDataDirectoryProcessor;
+import org.geoserver.config.GeoServerDataDirectory;
 import org.geoserver.config.plugin.RepositoryGeoServerFacade;
+import org.geoserver.config.util.XStreamPersisterFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,7 +23,16 @@ public class RemoteEventDataDirectoryAutoConfiguration {
 
     public @Bean RemoteEventDataDirectoryProcessor dataDirectoryRemoteEventProcessor(
             @Qualifier("geoserverFacade") RepositoryGeoServerFacade configFacade,
-            @Qualifier("catalogFacade") ExtendedCatalogFacade catalogFacade) {
-        return new RemoteEventDataDirectoryProcessor(configFacade, catalogFacade);
+            @Qualifier("catalogFacade") ExtendedCatalogFacade catalogFacade,
+            CatalogInfoReloader catalogInfoReloader) {
+        return new RemoteEventDataDirectoryProcessor(
+                configFacade, catalogFacade, catalogInfoReloader);
+    }
+
+    public @Bean CatalogInfoReloader dataDirectoryCatalogInfoReloader(
+            GeoServerDataDirectory dataDirectory,
+            XStreamPersisterFactory xstreamPersisterFactory,
+            @Qualifier("rawCatalog") Catalog rawCatalog) {
+        return new CatalogInfoReloader(dataDirectory, xstreamPersisterFactory, rawCatalog);
     }
 }
@@ -9,6 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.geoserver.GeoServerConfigurationLock;
 import org.geoserver.catalog.Catalog;
+import org.geoserver.catalog.plugin.AsyncCatalogListenerDispatcher;
 import org.geoserver.catalog.plugin.CatalogPlugin;
 import org.geoserver.catalog.plugin.DefaultMemoryCatalogFacade;
 import org.geoserver.catalog.plugin.ExtendedCatalogFacade;
@@ -59,6 +60,9 @@ public class DataDirectoryBackendConfiguration implements GeoServerBackendConfig
         GeoServerResourceLoader resourceLoader = resourceLoader();
         CatalogPlugin rawCatalog = new LockingCatalog(configurationLock, catalogFacade, isolated);
         rawCatalog.setResourceLoader(resourceLoader);
+        CatalogProperties.AsyncListeners async = properties.getAsyncListeners();
+        rawCatalog.setAsyncListenerDispatcher(
+                new AsyncCatalogListenerDispatcher(async.getThreads(), async.getQueueCapacity()));
         return rawCatalog;
     }
 
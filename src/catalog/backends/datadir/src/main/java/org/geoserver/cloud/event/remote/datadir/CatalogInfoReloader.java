@@ -0,0 +1,80 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.event.remote.datadir;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.geoserver.catalog.Catalog;
+import org.geoserver.catalog.CatalogInfo;
+import org.geoserver.catalog.LayerGroupInfo;
+import org.geoserver.catalog.LayerInfo;
+import org.geoserver.catalog.NamespaceInfo;
+import org.geoserver.catalog.ResourceInfo;
+import org.geoserver.catalog.StoreInfo;
+import org.geoserver.catalog.StyleInfo;
+import org.geoserver.catalog.WorkspaceInfo;
+import org.geoserver.catalog.impl.ModificationProxy;
+import org.geoserver.catalog.plugin.Patch;
+import org.geoserver.catalog.plugin.resolving.ResolvingProxyResolver;
+import org.geoserver.config.GeoServerDataDirectory;
+import org.geoserver.config.util.XStreamPersister;
+import org.geoserver.config.util.XStreamPersisterFactory;
+import org.geoserver.platform.resource.Resource;
+import org.geoserver.platform.resource.Resources;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Reads the current state of a {@link CatalogInfo} from the shared data directory, for {@link
+ * RemoteEventDataDirectoryProcessor} to get the full value of the properties of a remote {@link
+ * Patch} that can't be applied to the local copy.
+ *
+ * @since 1.0
+ */
+@Slf4j(topic = "org.geoserver.cloud.event.remote.datadir")
+@RequiredArgsConstructor
+public class CatalogInfoReloader {
+
+    private final @NonNull GeoServerDataDirectory dataDirectory;
+    private final @NonNull XStreamPersisterFactory xstreamPersisterFactory;
+    private final @NonNull Catalog catalog;
+
+    /**
+     * @return the object as stored in the data directory, with its references resolved against the
+     *     local catalog, or empty if it's not stored or can't be read
+     */
+    public Optional<CatalogInfo> reload(@NonNull CatalogInfo info) {
+        final Resource resource = resourceOf(info);
+        if (resource == null || !Resources.exists(resource)) {
+            log.warn("Can't reload {}, no data directory file for it", info.getId());
+            return Optional.empty();
+        }
+        XStreamPersister xp = xstreamPersisterFactory.createXMLPersister();
+        xp.setCatalog(catalog);
+        Class<? extends CatalogInfo> type = ModificationProxy.unwrap(info).getClass();
+        try (InputStream in = resource.in()) {
+            CatalogInfo loaded = xp.load(in, type);
+            return Optional.of(ResolvingProxyResolver.<CatalogInfo>of(catalog).apply(loaded));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Error reloading {} from {}", info.getId(), resource.path(), e);
+            return Optional.empty();
+        }
+    }
+
+    private Resource resourceOf(CatalogInfo info) {
+        if (info instanceof WorkspaceInfo ws) return dataDirectory.config(ws);
+        if (info instanceof NamespaceInfo ns) return dataDirectory.config(ns);
+        if (info instanceof StoreInfo store) return dataDirectory.config(store);
+        if (info instanceof ResourceInfo resource) return dataDirectory.config(resource);
+        if (info instanceof LayerInfo layer) return dataDirectory.config(layer);
+        if (info instanceof LayerGroupInfo group) return dataDirectory.config(group);
+        if (info instanceof StyleInfo style) return dataDirectory.config(style);
+        return null;
+    }
+}
@@ -35,17 +35,26 @@ import org.geoserver.config.SettingsInfo;
 import org.geoserver.config.plugin.RepositoryGeoServerFacade;
 import org.springframework.context.event.EventListener;
 
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-/** Listens to {@link RemoteCatalogEvent}s and updates the local catalog */
+/**
+ * Listens to {@link RemoteCatalogEvent}s and updates the local catalog.
+ *
+ * <p>If a remote {@link Patch} has collection deltas that were computed against a different
+ * collection than the local one (e.g. the local copy missed or reordered a concurrent change), the
+ * object is {@link CatalogInfoReloader reloaded} from the data directory and the patched properties
+ * are replaced by their full values instead.
+ */
 @Slf4j(topic = "org.geoserver.cloud.event.remote.datadir")
 @RequiredArgsConstructor
 public class RemoteEventDataDirectoryProcessor {
 
     private final @NonNull RepositoryGeoServerFacade configFacade;
     private final @NonNull ExtendedCatalogFacade catalogFacade;
+    private final @NonNull CatalogInfoReloader reloader;
 
     @SuppressWarnings({"rawtypes"})
     @EventListener(classes = {UpdateSequenceEvent.class})
@@ -211,7 +220,8 @@ public class RemoteEventDataDirectoryProcessor {
         final ConfigInfoType type = event.getObjectType();
         if (type == ConfigInfoType.Catalog) {
             log.trace(
-                    "remote catalog modify events handled by RemoteDefaultWorkspace/Namespace/Store event handlers");
+                    "remote catalog modify events handled by RemoteDefaultWorkspace/Namespace/Store"
+                        + " event handlers");
             return;
         }
         log.debug("Handling remote modify event {}", event);
@@ -269,18 +279,44 @@ public class RemoteEventDataDirectoryProcessor {
         }
         if (info == null) {
             log.warn("Object not found on local Catalog, can't update upon {}", event);
-        } else {
-            patch.applyTo(info);
-            if (info instanceof CatalogInfo) {
-                // going directly through the CatalogFacade does not produce any further event
-                this.catalogFacade.update((CatalogInfo) info, patch);
-            }
-            log.debug(
-                    "Object updated: {}({}). Properties: {}",
+            return;
+        }
+        Patch applicable = patch;
+        if (!patch.isApplicableTo(info)) {
+            log.info(
+                    "Remote patch for {}({}) doesn't apply to the local copy, reloading it",
                     type,
-                    objectId,
-                    patch.getPropertyNames().stream().collect(Collectors.joining(",")));
+                    objectId);
+            applicable = fullValuePatch(info, patch).orElse(null);
+            if (applicable == null) {
+                log.error("Can't update {}({}) upon {}", type, objectId, event);
+                return;
+            }
+        }
+        if (info instanceof CatalogInfo) {
+            // going directly through the CatalogFacade does not produce any further event, and
+            // applies the patch to the stored object
+            this.catalogFacade.update((CatalogInfo) info, applicable);
+        } else {
+            applicable.applyTo(info);
+        }
+        log.debug(
+                "Object updated: {}({}). Properties: {}",
+                type,
+                objectId,
+                patch.getPropertyNames().stream().collect(Collectors.joining(",")));
+    }
+
+    /**
+     * @return a patch with the full values of the {@code patch} properties as stored in the data
+     *     directory, if {@code info} is a {@link CatalogInfo} that could be reloaded. Config object
+     *     patches carry full values and always apply
+     */
+    private Optional<Patch> fullValuePatch(Info info, Patch patch) {
+        if (!(info instanceof CatalogInfo catalogInfo)) {
+            return Optional.empty();
         }
+        return reloader.reload(catalogInfo).map(patch::withValuesFrom);
     }
 
     private <T extends Info> void remove(
@@ -0,0 +1,148 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.event.remote.datadir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.geoserver.catalog.Keyword;
+import org.geoserver.catalog.KeywordInfo;
+import org.geoserver.catalog.MetadataMap;
+import org.geoserver.catalog.WorkspaceInfo;
+import org.geoserver.catalog.impl.WorkspaceInfoImpl;
+import org.geoserver.catalog.plugin.CollectionDelta;
+import org.geoserver.catalog.plugin.DefaultMemoryCatalogFacade;
+import org.geoserver.catalog.plugin.Patch;
+import org.geoserver.catalog.plugin.PropertyDiff;
+import org.geoserver.cloud.event.catalog.CatalogInfoModified;
+import org.geoserver.cloud.event.config.ConfigInfoModified;
+import org.geoserver.config.ServiceInfo;
+import org.geoserver.config.plugin.RepositoryGeoServerFacade;
+import org.geoserver.wms.WMSInfoImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+
+class RemoteEventDataDirectoryProcessorTest {
+
+    private DefaultMemoryCatalogFacade catalogFacade;
+    private RepositoryGeoServerFacade configFacade;
+    private CatalogInfoReloader reloader;
+    private RemoteEventDataDirectoryProcessor processor;
+
+    private WorkspaceInfo local;
+
+    /** The metadata the remote instance computed its delta against */
+    private MetadataMap base;
+
+    /** The metadata after the remote change */
+    private MetadataMap changed;
+
+    @BeforeEach
+    void setUp() {
+        catalogFacade = new DefaultMemoryCatalogFacade();
+        configFacade = Mockito.mock(RepositoryGeoServerFacade.class);
+        reloader = Mockito.mock(CatalogInfoReloader.class);
+        processor = new RemoteEventDataDirectoryProcessor(configFacade, catalogFacade, reloader);
+
+        base = new MetadataMap();
+        for (int i = 0; i < 10; i++) {
+            base.put("key" + i, "value" + i);
+        }
+        changed = new MetadataMap(new HashMap<>(base));
+        changed.put("added", "value");
+
+        WorkspaceInfoImpl ws = new WorkspaceInfoImpl();
+        ws.setId("ws1");
+        ws.setName("ws1");
+        ws.getMetadata().putAll(base);
+        local = catalogFacade.add(ws);
+    }
+
+    private void publishRemoteModify(Object oldValue, Object newValue) {
+        CollectionDelta delta = CollectionDelta.valueOf(oldValue, newValue).orElseThrow();
+        Patch patch = new Patch().with("metadata", delta);
+        CatalogInfoModified event = CatalogInfoModified.createLocal(1L, local, patch);
+        event.setRemote(true);
+        processor.onRemoteModifyEvent(event);
+    }
+
+    @Test
+    void appliesMatchingDelta() {
+        publishRemoteModify(base, changed);
+
+        assertEquals(changed, catalogFacade.getWorkspace("ws1").getMetadata());
+        verify(reloader, never()).reload(any());
+    }
+
+    @Test
+    void reloadsOnBaseMismatch() {
+        // a concurrent change the remote instance didn't know about when computing the delta
+        local.getMetadata().put("key3", "concurrent");
+
+        WorkspaceInfoImpl stored = new WorkspaceInfoImpl();
+        stored.setId("ws1");
+        stored.setName("ws1");
+        stored.getMetadata().putAll(changed);
+        stored.getMetadata().put("key3", "concurrent");
+        when(reloader.reload(any())).thenReturn(Optional.of(stored));
+
+        publishRemoteModify(base, changed);
+
+        assertEquals(stored.getMetadata(), catalogFacade.getWorkspace("ws1").getMetadata());
+        verify(reloader).reload(any());
+    }
+
+    @Test
+    void leavesObjectUntouchedIfReloadFails() {
+        local.getMetadata().put("key3", "concurrent");
+        MetadataMap expected = new MetadataMap(new HashMap<>(local.getMetadata()));
+        when(reloader.reload(any())).thenReturn(Optional.empty());
+
+        publishRemoteModify(base, changed);
+
+        assertEquals(expected, catalogFacade.getWorkspace("ws1").getMetadata());
+    }
+
+    @Test
+    void appliesFullValuesToDivergedServiceInfo() {
+        List<KeywordInfo> baseKeywords = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            baseKeywords.add(new Keyword("keyword" + i));
+        }
+        List<KeywordInfo> changedKeywords = new ArrayList<>(baseKeywords.subList(1, 10));
+
+        WMSInfoImpl service = new WMSInfoImpl();
+        service.setId("wms1");
+        service.getKeywords().addAll(baseKeywords);
+        // a concurrent change the remote instance didn't know about
+        service.getKeywords().add(new Keyword("concurrent"));
+        when(configFacade.getService("wms1", ServiceInfo.class)).thenReturn(service);
+
+        // as LocalConfigEventPublisher builds it
+        Patch patch =
+                PropertyDiff.valueOf(
+                                List.of("keywords"),
+                                List.<Object>of(baseKeywords),
+                                List.<Object>of(changedKeywords))
+                        .clean()
+                        .toPatch();
+        ConfigInfoModified<?, ServiceInfo> event =
+                ConfigInfoModified.createLocal(1L, service, patch);
+        event.setRemote(true);
+        processor.onRemoteModifyEvent(event);
+
+        assertEquals(changedKeywords, service.getKeywords());
+        verify(reloader, never()).reload(any());
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.autoconfigure.catalog.backend.jdbcconfig;
+
+import org.geoserver.catalog.Catalog;
+import org.geoserver.catalog.CatalogFacade;
+import org.geoserver.catalog.CatalogFactory;
+import org.geoserver.catalog.CatalogInfo;
+import org.geoserver.catalog.NamespaceInfo;
+import org.geoserver.catalog.WorkspaceInfo;
+import org.geoserver.catalog.plugin.CatalogFacadeExtensionAdapter;
+import org.geoserver.cloud.config.catalog.backend.jdbcconfig.CloudJdbcCatalogFacade;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adds workspaces and namespaces one by one through the catalog compared to {@link
+ * CloudJdbcCatalogFacade#bulkLoad bulk loading} them, on the embedded H2 database of the test
+ * configuration. Each invocation adds a fresh set of objects to the same database.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class JdbcConfigBulkLoadBenchmark {
+
+    private static final int WORKSPACES = 2_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    private ConfigurableApplicationContext context;
+    private Catalog catalog;
+    private CloudJdbcCatalogFacade facade;
+
+    private int invocation;
+    private List<CatalogInfo> infos;
+
+    @Setup
+    public void setUp() {
+        context =
+                new SpringApplicationBuilder(AutoConfigurationTestConfiguration.class)
+                        .web(WebApplicationType.NONE)
+                        .profiles("test")
+                        .properties("geoserver.backend.jdbcconfig.enabled=true")
+                        .run();
+        catalog = context.getBean("catalog", Catalog.class);
+        CatalogFacade rawCatalogFacade = context.getBean("catalogFacade", CatalogFacade.class);
+        facade =
+                (CloudJdbcCatalogFacade)
+                        ((CatalogFacadeExtensionAdapter) rawCatalogFacade).getSubject();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void createWorkspacesAndNamespaces() {
+        CatalogFactory factory = catalog.getFactory();
+        String prefix = "ws" + (++invocation) + "_";
+        infos = new ArrayList<>();
+        for (int i = 0; i < WORKSPACES; i++) {
+            String name = prefix + i;
+            WorkspaceInfo ws = factory.createWorkspace();
+            ws.setName(name);
+            NamespaceInfo ns = factory.createNamespace();
+            ns.setPrefix(name);
+            ns.setURI("http://example.com/" + name);
+            infos.add(ws);
+            infos.add(ns);
+        }
+    }
+
+    @Benchmark
+    public int catalogAdd() {
+        for (CatalogInfo info : infos) {
+            if (info instanceof WorkspaceInfo) catalog.add((WorkspaceInfo) info);
+            else catalog.add((NamespaceInfo) info);
+        }
+        return infos.size();
+    }
+
+    @Benchmark
+    public int bulkLoad() {
+        return facade.bulkLoad(infos, BATCH_SIZE);
+    }
+}
@@ -6,7 +6,13 @@ package org.geoserver.cloud.autoconfigure.catalog.backend.jdbcconfig;
 
 import org.geoserver.cloud.autoconfigure.catalog.backend.core.DefaultUpdateSequenceAutoConfiguration;
 import org.geoserver.cloud.config.catalog.backend.jdbcconfig.JDBCConfigBackendConfigurer;
+import org.geoserver.cloud.config.catalog.backend.jdbcconfig.JdbcConfigReadReplicaMetrics;
+import org.geoserver.cloud.config.catalog.backend.jdbcconfig.JdbcConfigUpdateSequence;
+import org.geoserver.cloud.config.catalog.backend.jdbcconfig.JdbcConfigUpdateSequenceMetrics;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
@@ -14,4 +20,25 @@ import org.springframework.context.annotation.Import;
 @ConditionalOnJdbcConfigEnabled
 @Import(JDBCConfigBackendConfigurer.class)
 @AutoConfigureBefore(DefaultUpdateSequenceAutoConfiguration.class)
-public class JDBCConfigAutoConfiguration {}
+public class JDBCConfigAutoConfiguration {
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class JdbcConfigMetricsConfiguration {
+
+        @Bean
+        JdbcConfigUpdateSequenceMetrics jdbcConfigUpdateSequenceMetrics(
+                JdbcConfigUpdateSequence updateSequence) {
+            return new JdbcConfigUpdateSequenceMetrics(updateSequence);
+        }
+
+        /** The routing data source is not an autowire candidate, get it from its configurer */
+        @Bean
+        @ConditionalOnProperty(name = "geoserver.backend.jdbcconfig.read-replica.datasource.url")
+        JdbcConfigReadReplicaMetrics jdbcConfigReadReplicaMetrics(
+                JDBCConfigBackendConfigurer configurer) {
+            return new JdbcConfigReadReplicaMetrics(
+                    configurer.jdbcConfigReadReplicaRoutingDataSource());
+        }
+    }
+}
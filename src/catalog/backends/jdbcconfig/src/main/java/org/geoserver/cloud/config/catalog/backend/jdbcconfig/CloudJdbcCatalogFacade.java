@@ -4,19 +4,39 @@
  */
 package org.geoserver.cloud.config.catalog.backend.jdbcconfig;
 
+import com.google.common.collect.Iterables;
+
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
 import org.geoserver.catalog.Catalog;
+import org.geoserver.catalog.CatalogInfo;
 import org.geoserver.catalog.impl.CatalogImpl;
 import org.geoserver.catalog.plugin.CatalogFacadeExtensionAdapter;
 import org.geoserver.catalog.plugin.CatalogFacadeExtensionAdapter.SilentCatalog;
+import org.geoserver.cloud.event.UpdateSequenceEvent;
 import org.geoserver.jdbcconfig.catalog.JDBCCatalogFacade;
 import org.geoserver.jdbcconfig.internal.ConfigDatabase;
+import org.geoserver.ows.util.OwsUtils;
+import org.geoserver.platform.config.UpdateSequence;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.rmi.server.UID;
 
 /** */
+@Slf4j(topic = "org.geoserver.cloud.config.jdbcconfig")
 public class CloudJdbcCatalogFacade extends JDBCCatalogFacade {
 
     private Catalog catalog;
     private ConfigDatabase db;
 
+    /** Used to notify the end of a {@link #bulkLoad bulk load} */
+    private @Setter UpdateSequence updateSequence;
+
+    /** Used to notify the end of a {@link #bulkLoad bulk load} */
+    private @Setter ApplicationEventPublisher eventPublisher;
+
     public CloudJdbcCatalogFacade(ConfigDatabase db) {
         super(db);
         this.db = db;
@@ -34,4 +54,53 @@ public class CloudJdbcCatalogFacade extends JDBCCatalogFacade {
     public @Override Catalog getCatalog() {
         return this.catalog;
     }
+
+    /**
+     * Looks up a {@link CatalogInfo} of any type by id with a single {@link ConfigDatabase} call,
+     * which resolves ids from its cache or the {@code object} table regardless of the object type
+     */
+    public CatalogInfo getById(@NonNull String id) {
+        return db.getById(id, CatalogInfo.class);
+    }
+
+    /**
+     * Adds all {@code infos} straight to the database, committing once every {@code batchSize}
+     * objects, for the initial import of large catalogs.
+     *
+     * <p>Bypasses the {@link Catalog}: objects are not validated and no per-object catalog events
+     * are published, nor is the update sequence incremented for each of them. Instead, once all
+     * objects are added, the update sequence is incremented once and a single {@link
+     * UpdateSequenceEvent} is published, for other instances to know the catalog changed.
+     *
+     * <p>Objects must be valid and come in dependency order (workspaces and namespaces, stores,
+     * resources, styles, layers, layer groups). Objects with no id get one assigned.
+     *
+     * <p>The objects and their property index rows are still inserted one statement at a time, see
+     * {@link CloudJdbcConfigDatabase#addAll}.
+     *
+     * @return the number of objects added
+     */
+    public int bulkLoad(@NonNull Iterable<? extends CatalogInfo> infos, int batchSize) {
+        if (!(db instanceof CloudJdbcConfigDatabase)) {
+            throw new IllegalStateException(
+                    "Bulk load requires a CloudJdbcConfigDatabase, got " + db.getClass());
+        }
+        Iterable<CatalogInfo> withIds = Iterables.transform(infos, this::setId);
+        final int count = ((CloudJdbcConfigDatabase) db).addAll(withIds, batchSize);
+        log.info("Bulk loaded {} catalog objects", count);
+        if (count > 0 && updateSequence != null && eventPublisher != null) {
+            long value = updateSequence.nextValue();
+            eventPublisher.publishEvent(UpdateSequenceEvent.createLocal(value));
+        }
+        return count;
+    }
+
+    /** Same id format as {@code CatalogImpl} for objects added without one */
+    private CatalogInfo setId(CatalogInfo info) {
+        if (info.getId() == null) {
+            String uid = new UID().toString();
+            OwsUtils.set(info, "id", info.getClass().getSimpleName() + "-" + uid);
+        }
+        return info;
+    }
 }
@@ -4,14 +4,23 @@
  */
 package org.geoserver.cloud.config.catalog.backend.jdbcconfig;
 
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
 import org.geoserver.catalog.Info;
 import org.geoserver.catalog.impl.CatalogImpl;
 import org.geoserver.catalog.impl.ModificationProxy;
 import org.geoserver.jdbcconfig.internal.ConfigDatabase;
 import org.geoserver.jdbcconfig.internal.XStreamInfoSerialBinding;
 import org.geoserver.util.CacheProvider;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 
 import javax.sql.DataSource;
 
@@ -20,14 +29,82 @@ import javax.sql.DataSource;
  * cache} for both the {@link ModificationProxy} wrapped object (as it may contain identity
  * references to other objects) and the provided {@code info} (which can contain new references to
  * other objects like workspace).
+ *
+ * <p>Adds {@link #addAll(Iterable, int)} to bulk-load objects in large transactions, still
+ * inserting them and their property index rows one statement at a time.
  */
+@Slf4j(topic = "org.geoserver.cloud.config.jdbcconfig")
 class CloudJdbcConfigDatabase extends ConfigDatabase {
 
+    private final TransactionTemplate bulkLoadTransaction;
+
     public CloudJdbcConfigDatabase(
             final DataSource dataSource,
             final XStreamInfoSerialBinding binding,
             final CacheProvider cacheProvider) {
+        this(dataSource, dataSource, binding, cacheProvider);
+    }
+
+    /**
+     * @param dataSource the {@code DataSource} to run queries against, may differ from {@code
+     *     transactionDataSource} when it routes reads to a {@link JdbcConfigReadReplicaDataSource
+     *     read replica}
+     * @param transactionDataSource the {@code DataSource} of the {@code
+     *     jdbcConfigTransactionManager}
+     */
+    public CloudJdbcConfigDatabase(
+            final DataSource dataSource,
+            final DataSource transactionDataSource,
+            final XStreamInfoSerialBinding binding,
+            final CacheProvider cacheProvider) {
         super(dataSource, binding, cacheProvider);
+        // same DataSource as jdbcConfigTransactionManager, so the @Transactional add() calls join
+        // the bulk load transaction
+        this.bulkLoadTransaction =
+                new TransactionTemplate(new DataSourceTransactionManager(transactionDataSource));
+    }
+
+    /**
+     * Adds all {@code infos}, committing once every {@code batchSize} objects instead of once per
+     * object.
+     *
+     * <p>Objects are added as they come, so they must be in dependency order (e.g. workspaces
+     * before stores, stores before resources). If an object fails to be added, the objects of its
+     * batch are rolled back and evicted from the cache, but the previously committed batches are
+     * not.
+     *
+     * <p>This only saves the per-object transaction commits. Each object is still inserted through
+     * {@link ConfigDatabase#add}, one {@code INSERT} statement for the {@code object} row and one
+     * per indexed property: the property index rows need the generated key of the object row, and
+     * are computed from {@code ConfigDatabase}'s private property mappings, so neither JDBC
+     * statement batching nor deferring the property index to a single rebuild can be done without
+     * re-implementing {@code ConfigDatabase}'s persistence, which this class doesn't own.
+     *
+     * @return the number of objects added
+     */
+    public int addAll(@NonNull Iterable<? extends Info> infos, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be >= 1: " + batchSize);
+        }
+        int count = 0;
+        final Iterator<? extends Info> it = infos.iterator();
+        final List<Info> batch = new ArrayList<>(batchSize);
+        while (it.hasNext()) {
+            batch.clear();
+            while (it.hasNext() && batch.size() < batchSize) {
+                batch.add(it.next());
+            }
+            try {
+                bulkLoadTransaction.executeWithoutResult(status -> batch.forEach(this::add));
+            } catch (RuntimeException e) {
+                // add() caches the objects before the transaction is committed
+                batch.forEach(this::clearCache);
+                throw e;
+            }
+            count += batch.size();
+            log.debug("Bulk loaded {} objects", count);
+        }
+        return count;
     }
 
     /**
@@ -4,7 +4,17 @@
  */
 package org.geoserver.cloud.config.catalog.backend.jdbcconfig;
 
+import lombok.extern.slf4j.Slf4j;
+
 import org.geoserver.catalog.Catalog;
+import org.geoserver.catalog.CatalogInfo;
+import org.geoserver.catalog.DataStoreInfo;
+import org.geoserver.catalog.NamespaceInfo;
+import org.geoserver.catalog.ResourceInfo;
+import org.geoserver.catalog.StoreInfo;
+import org.geoserver.catalog.WorkspaceInfo;
+import org.geoserver.catalog.impl.CatalogImpl;
+import org.geoserver.catalog.impl.ModificationProxy;
 import org.geoserver.catalog.plugin.CatalogPlugin;
 import org.geoserver.cloud.config.catalog.backend.core.CoreBackendConfiguration;
 import org.geoserver.config.DefaultGeoServerLoader;
@@ -25,6 +35,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.annotation.PostConstruct;
@@ -36,15 +47,23 @@ import javax.annotation.PostConstruct;
  *
  * <p>Overrides {@link #loadGeoServer(GeoServer, XStreamPersister)} to avoid a class cast exception
  * on {@link GeoServerImpl} (we're using {@link org.geoserver.config.plugin.GeoServerImpl}), and
- * because we don't do import, and other methods to avoid coupling on {@link JDBCCatalogFacade} just
- * to get a handle to the {@link ConfigDatabase}
+ * other methods to avoid coupling on {@link JDBCCatalogFacade} just to get a handle to the {@link
+ * ConfigDatabase}
+ *
+ * <p>If {@link JDBCConfigProperties#isImport() import} is enabled, the data directory catalog is
+ * {@link CloudJdbcCatalogFacade#bulkLoad bulk loaded} to the database instead of added one object
+ * at a time.
  *
  * <p>Overrides {@link #initializeDefaultStyles} to run inside a lock on "styles" to avoid multiple
  * instances starting up off an empty database trying to create the same default styles, which
  * results in either a startup error or multiple styles named the same.
  */
+@Slf4j(topic = "org.geoserver.cloud.config.jdbcconfig")
 public class CloudJdbcGeoServerLoader extends DefaultGeoServerLoader {
 
+    /** Number of objects committed at once when importing the data directory catalog */
+    static final int IMPORT_BATCH_SIZE = 1_000;
+
     private @Autowired @Qualifier("rawCatalog") Catalog rawCatalog;
     private @Autowired GeoServer geoserver;
 
@@ -52,14 +71,18 @@ public class CloudJdbcGeoServerLoader extends DefaultGeoServerLoader {
 
     private ConfigDatabase configdb;
 
+    private CloudJdbcCatalogFacade catalogFacade;
+
     public CloudJdbcGeoServerLoader(
             GeoServerResourceLoader resourceLoader,
             JDBCConfigProperties config,
-            ConfigDatabase configdb)
+            ConfigDatabase configdb,
+            CloudJdbcCatalogFacade catalogFacade)
             throws Exception {
         super(resourceLoader);
         this.config = config;
         this.configdb = configdb;
+        this.catalogFacade = catalogFacade;
     }
 
     public @PostConstruct void load() {
@@ -99,7 +122,11 @@ public class CloudJdbcGeoServerLoader extends DefaultGeoServerLoader {
     }
 
     private void loadCatalogInternal(CatalogPlugin catalog, XStreamPersister xp) throws Exception {
-        if (!config.isInitDb() && !config.isImport() && config.isRepopulate()) {
+        if (config.isImport()) {
+            importCatalog(catalog, xp);
+            config.setImport(false);
+            config.save();
+        } else if (!config.isInitDb() && config.isRepopulate()) {
             ConfigDatabase configDatabase = this.configdb;
             configDatabase.repopulateQueryableProperties();
             config.setRepopulate(false);
@@ -107,6 +134,60 @@ public class CloudJdbcGeoServerLoader extends DefaultGeoServerLoader {
         }
     }
 
+    /**
+     * Reads the data directory catalog into a throwaway in-memory catalog and bulk loads its
+     * objects in dependency order, then sets the default workspace, namespace, and stores.
+     *
+     * <p>Skipped if the database already has workspaces, as {@link CloudJdbcConfigProperties} does
+     * not persist the import flag and another instance may have done the import already.
+     */
+    private void importCatalog(CatalogPlugin catalog, XStreamPersister xp) throws Exception {
+        final Lock lock = resourceLoader.getLockProvider().acquire("IMPORT");
+        try {
+            if (!catalog.getWorkspaces().isEmpty()) {
+                log.info("Database catalog is not empty, skipping data directory import");
+                return;
+            }
+            CatalogImpl source = new CatalogImpl();
+            source.setResourceLoader(resourceLoader);
+            readCatalog(source, xp);
+
+            List<CatalogInfo> infos = new ArrayList<>();
+            infos.addAll(source.getWorkspaces());
+            infos.addAll(source.getNamespaces());
+            infos.addAll(source.getStores(StoreInfo.class));
+            infos.addAll(source.getResources(ResourceInfo.class));
+            infos.addAll(source.getStyles());
+            infos.addAll(source.getLayers());
+            infos.addAll(source.getLayerGroups());
+            infos.replaceAll(ModificationProxy::unwrap);
+
+            log.info("Importing {} catalog objects from the data directory", infos.size());
+            catalogFacade.bulkLoad(infos, IMPORT_BATCH_SIZE);
+            importDefaults(source, catalog);
+        } finally {
+            lock.release();
+        }
+    }
+
+    private void importDefaults(Catalog source, Catalog target) {
+        WorkspaceInfo defaultWorkspace = source.getDefaultWorkspace();
+        if (defaultWorkspace != null) {
+            target.setDefaultWorkspace(target.getWorkspace(defaultWorkspace.getId()));
+        }
+        NamespaceInfo defaultNamespace = source.getDefaultNamespace();
+        if (defaultNamespace != null) {
+            target.setDefaultNamespace(target.getNamespace(defaultNamespace.getId()));
+        }
+        for (WorkspaceInfo ws : source.getWorkspaces()) {
+            DataStoreInfo defaultStore = source.getDefaultDataStore(ws);
+            if (defaultStore != null) {
+                target.setDefaultDataStore(
+                        target.getWorkspace(ws.getId()), target.getDataStore(defaultStore.getId()));
+            }
+        }
+    }
+
     /**
      * Overrides to run inside a lock on "styles" to avoid multiple instances starting up off an
      * empty database trying to create the same default styles, which results in either a startup
@@ -20,7 +20,6 @@ import org.geoserver.cloud.config.catalog.backend.core.GeoServerBackendConfigure
 import org.geoserver.config.GeoServerFacade;
 import org.geoserver.config.util.XStreamPersisterFactory;
 import org.geoserver.jdbcconfig.JDBCGeoServerLoader;
-import org.geoserver.jdbcconfig.catalog.JDBCCatalogFacade;
 import org.geoserver.jdbcconfig.internal.ConfigDatabase;
 import org.geoserver.jdbcconfig.internal.JDBCConfigProperties;
 import org.geoserver.jdbcconfig.internal.JDBCConfigXStreamPersisterInitializer;
@@ -31,7 +30,6 @@ import org.geoserver.jdbcstore.cache.SimpleResourceCache;
 import org.geoserver.jdbcstore.internal.JDBCQueryHelper;
 import org.geoserver.jdbcstore.locks.LockRegistryAdapter;
 import org.geoserver.platform.GeoServerResourceLoader;
-import org.geoserver.platform.config.UpdateSequence;
 import org.geoserver.platform.resource.Resource;
 import org.geoserver.platform.resource.ResourceNotificationDispatcher;
 import org.geoserver.platform.resource.ResourceStore;
@@ -44,9 +42,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
@@ -85,6 +85,13 @@ import javax.sql.DataSource;
  *   <li>{@code geoserver.backend.jdbcconfig.datasource.password}:
  *   <li>{@code geoserver.backend.jdbcconfig.datasource.driverClassname}: JDBC {@link Driver} class
  *       name (e.g. {@code org.postgresql.Driver})
+ *   <li>{@code geoserver.backend.jdbcconfig.read-replica.datasource.*}: optional read replica data
+ *       source, same properties as {@code geoserver.backend.jdbcconfig.datasource.*}. If its {@code
+ *       url} is set, catalog and config reads go to the replica, see {@link
+ *       JdbcConfigReadReplicaDataSource}
+ *   <li>{@code geoserver.backend.jdbcconfig.update-sequence.block-size}: number of update sequence
+ *       values to fetch per database round trip. Defaults to {@code 1}, bigger values relax the
+ *       cluster-wide ordering of the update sequence, see {@link JdbcConfigUpdateSequence}
  * </ul>
  *
  * The {@link DataSource} is provided using regular spring-boot data source configuration properties
@@ -119,13 +126,16 @@ public class JDBCConfigBackendConfigurer implements GeoServerBackendConfigurer {
 
     private String instanceId;
     private JdbcConfigConfigurationProperties jdbcconfigConfig;
+    private ApplicationEventPublisher eventPublisher;
 
     @Autowired
     public JDBCConfigBackendConfigurer(
             JdbcConfigConfigurationProperties backendConfig,
-            @Value("${info.instance-id:}") String instanceId) {
+            @Value("${info.instance-id:}") String instanceId,
+            ApplicationEventPublisher eventPublisher) {
         this.jdbcconfigConfig = backendConfig;
         this.instanceId = instanceId;
+        this.eventPublisher = eventPublisher;
         log.info(
                 "Loading geoserver config backend with {}",
                 JDBCConfigBackendConfigurer.class.getSimpleName());
@@ -133,10 +143,14 @@ public class JDBCConfigBackendConfigurer implements GeoServerBackendConfigurer {
 
     @Bean
     @DependsOn("jdbcConfigDataSourceStartupValidator")
-    public @Override UpdateSequence updateSequence() {
+    public @Override JdbcConfigUpdateSequence updateSequence() {
         DataSource dataSource = jdbcConfigDataSource();
         CloudJdbcConfigProperties props = jdbcConfigProperties();
-        return new JdbcConfigUpdateSequence(dataSource, props);
+        JdbcConfigUpdateSequence updateSequence = new JdbcConfigUpdateSequence(dataSource, props);
+        updateSequence.setBlockSize(jdbcconfigConfig.getUpdateSequence().getBlockSize());
+        // the read replica routing needs to know which changes were committed
+        updateSequence.setCommitMarker(isReadReplicaEnabled());
+        return updateSequence;
     }
 
     @Bean
@@ -246,8 +260,12 @@ public class JDBCConfigBackendConfigurer implements GeoServerBackendConfigurer {
                 throw new BeanInitializationException(e.getMessage(), e);
             }
         }
-        JDBCCatalogFacade legacyFacade = new CloudJdbcCatalogFacade(jdbcConfigDB());
-        return new CatalogFacadeExtensionAdapter(legacyFacade);
+        CloudJdbcCatalogFacade legacyFacade = new CloudJdbcCatalogFacade(jdbcConfigDB());
+        legacyFacade.setUpdateSequence(updateSequence());
+        legacyFacade.setEventPublisher(eventPublisher);
+        CatalogFacadeExtensionAdapter facade = new CatalogFacadeExtensionAdapter(legacyFacade);
+        facade.setIdLookup(legacyFacade::getById);
+        return facade;
     }
 
     @DependsOn("jdbcConfigDataSourceStartupValidator")
@@ -274,7 +292,10 @@ public class JDBCConfigBackendConfigurer implements GeoServerBackendConfigurer {
         JDBCConfigProperties config = jdbcConfigProperties();
         ConfigDatabase configdb = jdbcConfigDB();
         try {
-            return new CloudJdbcGeoServerLoader(resourceLoader(), config, configdb);
+            CloudJdbcCatalogFacade catalogFacade =
+                    (CloudJdbcCatalogFacade)
+                            ((CatalogFacadeExtensionAdapter) catalogFacade()).getSubject();
+            return new CloudJdbcGeoServerLoader(resourceLoader(), config, configdb, catalogFacade);
         } catch (Exception e) {
             throw new BeanInstantiationException(JDBCGeoServerLoader.class, e.getMessage(), e);
         }
@@ -300,7 +321,10 @@ public class JDBCConfigBackendConfigurer implements GeoServerBackendConfigurer {
         DataSource dataSource = jdbcConfigDataSource();
         XStreamInfoSerialBinding binding = jdbcPersistenceBinding();
         CacheProvider cacheProvider = jdbcCacheProvider();
-        ConfigDatabase configDb = new CloudJdbcConfigDatabase(dataSource, binding, cacheProvider);
+        DataSource queryDataSource =
+                isReadReplicaEnabled() ? jdbcConfigReadReplicaRoutingDataSource() : dataSource;
+        ConfigDatabase configDb =
+                new CloudJdbcConfigDatabase(queryDataSource, dataSource, binding, cacheProvider);
         return configDb;
     }
 
@@ -464,6 +488,54 @@ public class JDBCConfigBackendConfigurer implements GeoServerBackendConfigurer {
         return dataSource;
     }
 
+    @Bean
+    @ConfigurationProperties("geoserver.backend.jdbcconfig.read-replica.datasource")
+    public ExtendedDataSourceProperties jdbcConfigReadReplicaDataSourceProperties() {
+        return new ExtendedDataSourceProperties();
+    }
+
+    private boolean isReadReplicaEnabled() {
+        return StringUtils.hasText(jdbcConfigReadReplicaDataSourceProperties().getUrl());
+    }
+
+    /**
+     * The read replica {@link DataSource}, not an autowire candidate to keep {@link
+     * #jdbcConfigDataSource()} the only one
+     */
+    @Bean(name = "jdbcConfigReadReplicaDataSource", autowireCandidate = false)
+    @ConditionalOnProperty(name = "geoserver.backend.jdbcconfig.read-replica.datasource.url")
+    public DataSource jdbcConfigReadReplicaDataSource() {
+        ExtendedDataSourceProperties props = jdbcConfigReadReplicaDataSourceProperties();
+        HikariDataSource dataSource =
+                props.initializeDataSourceBuilder() //
+                        .type(HikariDataSource.class)
+                        .build();
+
+        dataSource.setPoolName("jdbcconfig-read-replica");
+        dataSource.setReadOnly(true);
+        dataSource.setMaximumPoolSize(props.getMaximumPoolSize());
+        dataSource.setMinimumIdle(props.getMinimumIdle());
+        dataSource.setConnectionTimeout(props.getConnectionTimeout());
+        dataSource.setIdleTimeout(props.getIdleTimeout());
+
+        log.info(
+                "jdbcconfig read replica datasource: url: {}, user: {}, max size: {}, min size: {}",
+                props.getUrl(),
+                props.getUsername(),
+                props.getMaximumPoolSize(),
+                props.getMinimumIdle());
+        return dataSource;
+    }
+
+    /** Routes the {@link ConfigDatabase} queries to the primary or the read replica */
+    @Bean(name = "jdbcConfigReadReplicaRoutingDataSource", autowireCandidate = false)
+    @ConditionalOnProperty(name = "geoserver.backend.jdbcconfig.read-replica.datasource.url")
+    @DependsOn("jdbcConfigDataSourceStartupValidator")
+    public JdbcConfigReadReplicaDataSource jdbcConfigReadReplicaRoutingDataSource() {
+        return new JdbcConfigReadReplicaDataSource(
+                jdbcConfigDataSource(), jdbcConfigReadReplicaDataSource(), updateSequence());
+    }
+
     @Bean
     @DependsOn("jdbcConfigDataSourceStartupValidator")
     public DataSourceTransactionManager jdbcConfigTransactionManager(
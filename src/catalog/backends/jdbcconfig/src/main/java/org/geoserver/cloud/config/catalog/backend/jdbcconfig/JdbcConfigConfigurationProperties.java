@@ -26,4 +26,14 @@ public @Data class JdbcConfigConfigurationProperties {
     private boolean initdb;
     private Path cacheDirectory;
     private DataSourceProperties datasource;
+    private UpdateSequenceConfig updateSequence = new UpdateSequenceConfig();
+
+    public static @Data class UpdateSequenceConfig {
+        /**
+         * Number of update sequence values to fetch from the database per round trip. Values bigger
+         * than {@code 1} mean the update sequence is no longer strictly increasing across
+         * instances.
+         */
+        private int blockSize = 1;
+    }
 }
@@ -0,0 +1,157 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.config.catalog.backend.jdbcconfig;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+/**
+ * {@link DataSource} for the {@code ConfigDatabase} that sends reads to a read replica and writes
+ * to the primary database.
+ *
+ * <p>Connections are routed to the primary database when:
+ *
+ * <ul>
+ *   <li>a read-write transaction is bound to the primary {@code DataSource} (i.e. a
+ *       {@code @Transactional} write through the {@link DataSourceTransactionManager
+ *       jdbcConfigTransactionManager}), in which case the transaction's own connection is used; or
+ *   <li>the replica hasn't caught up with the latest change known to this instance, as tracked by
+ *       the {@link JdbcConfigUpdateSequence#getLastChangeValue() update sequence}, either made by
+ *       this instance or notified by another one through a remote event, so this instance reads its
+ *       own writes and doesn't go back in time after learning about a change.
+ * </ul>
+ *
+ * Whether the replica caught up is determined by the update sequence {@link
+ * JdbcConfigUpdateSequence#setCommitMarker(boolean) commit marker} replicated to it, which is only
+ * written once the change it stands for is committed, rather than by the replicated sequence value,
+ * which may run ahead of the committed changes. While the replica lags behind, its commit marker is
+ * checked at most once every {@link #setReplicaCheckInterval(Duration) replicaCheckInterval}.
+ *
+ * @since 1.0
+ */
+@Slf4j(topic = "org.geoserver.cloud.config.jdbcconfig")
+public class JdbcConfigReadReplicaDataSource extends AbstractRoutingDataSource {
+
+    private enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final @Getter DataSource primary;
+    private final @Getter DataSource replica;
+    private final JdbcConfigUpdateSequence updateSequence;
+
+    private long replicaCheckIntervalNanos = Duration.ofMillis(100).toNanos();
+
+    /** Latest known committed update sequence of the replica */
+    private final AtomicLong replicaUpdateSequence = new AtomicLong(Long.MIN_VALUE);
+
+    private volatile long nextReplicaCheck;
+
+    private final AtomicLong primaryConnections = new AtomicLong();
+    private final AtomicLong replicaConnections = new AtomicLong();
+    private final AtomicLong replicaChecks = new AtomicLong();
+
+    public JdbcConfigReadReplicaDataSource(
+            @NonNull DataSource primary,
+            @NonNull DataSource replica,
+            @NonNull JdbcConfigUpdateSequence updateSequence) {
+        if (!updateSequence.isCommitMarker()) {
+            throw new IllegalArgumentException("updateSequence must have commitMarker enabled");
+        }
+        this.primary = primary;
+        this.replica = replica;
+        this.updateSequence = updateSequence;
+        this.nextReplicaCheck = System.nanoTime();
+        // the primary's transactional connection when within a transaction bound to it
+        super.setTargetDataSources(
+                Map.of(
+                        Target.PRIMARY,
+                        new TransactionAwareDataSourceProxy(primary),
+                        Target.REPLICA,
+                        replica));
+        super.setLenientFallback(false);
+        super.afterPropertiesSet();
+    }
+
+    /** Minimum time between checks of the replica commit marker while it lags behind */
+    public void setReplicaCheckInterval(@NonNull Duration interval) {
+        this.replicaCheckIntervalNanos = interval.toNanos();
+    }
+
+    /**
+     * @return number of connections routed to the primary database
+     */
+    public long getPrimaryConnections() {
+        return primaryConnections.get();
+    }
+
+    /**
+     * @return number of connections routed to the read replica
+     */
+    public long getReplicaConnections() {
+        return replicaConnections.get();
+    }
+
+    /**
+     * @return number of queries to the replica to check whether it caught up with this instance
+     */
+    public long getReplicaChecks() {
+        return replicaChecks.get();
+    }
+
+    protected @Override Object determineCurrentLookupKey() {
+        Target target = isWrite() || isReplicaBehind() ? Target.PRIMARY : Target.REPLICA;
+        (target == Target.PRIMARY ? primaryConnections : replicaConnections).incrementAndGet();
+        return target;
+    }
+
+    private boolean isWrite() {
+        return TransactionSynchronizationManager.hasResource(primary)
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private boolean isReplicaBehind() {
+        final long required = updateSequence.getLastChangeValue();
+        if (required <= replicaUpdateSequence.get()) {
+            return false;
+        }
+        final long now = System.nanoTime();
+        if (now - nextReplicaCheck < 0) {
+            return true;
+        }
+        nextReplicaCheck = now + replicaCheckIntervalNanos;
+        long current = replicaUpdateSequence.accumulateAndGet(queryReplica(), Math::max);
+        return required > current;
+    }
+
+    private long queryReplica() {
+        replicaChecks.incrementAndGet();
+        try (Connection c = replica.getConnection();
+                Statement st = c.createStatement();
+                ResultSet rs = st.executeQuery(updateSequence.commitMarkerQuery())) {
+            return rs.next() ? rs.getLong(1) : Long.MIN_VALUE;
+        } catch (SQLException e) {
+            log.warn("Error querying the read replica commit marker, using the primary", e);
+            return Long.MIN_VALUE;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.config.catalog.backend.jdbcconfig;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Exports {@link JdbcConfigReadReplicaDataSource} routing metrics to micrometer's {@link
+ * MeterRegistry}:
+ *
+ * <ul>
+ *   <li>{@literal geoserver.backend.jdbcconfig.connections.routed}, tagged with {@literal
+ *       target=primary|replica}: number of connections routed to each database
+ *   <li>{@literal geoserver.backend.jdbcconfig.replica.checks}: number of queries to the replica to
+ *       check whether it caught up with the changes made by this instance
+ * </ul>
+ *
+ * The connection pool metrics of each database are exported by spring-boot as {@literal
+ * hikaricp.connections.*}, tagged with the {@literal jdbcconfig-read-replica} pool name for the
+ * replica.
+ *
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+public class JdbcConfigReadReplicaMetrics implements MeterBinder {
+
+    private final @NonNull JdbcConfigReadReplicaDataSource dataSource;
+
+    public @Override void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder(
+                        "geoserver.backend.jdbcconfig.connections.routed",
+                        dataSource,
+                        JdbcConfigReadReplicaDataSource::getPrimaryConnections)
+                .description("Connections routed to the jdbcconfig database")
+                .tag("target", "primary")
+                .baseUnit(BaseUnits.OPERATIONS)
+                .register(registry);
+
+        FunctionCounter.builder(
+                        "geoserver.backend.jdbcconfig.connections.routed",
+                        dataSource,
+                        JdbcConfigReadReplicaDataSource::getReplicaConnections)
+                .description("Connections routed to the jdbcconfig database")
+                .tag("target", "replica")
+                .baseUnit(BaseUnits.OPERATIONS)
+                .register(registry);
+
+        FunctionCounter.builder(
+                        "geoserver.backend.jdbcconfig.replica.checks",
+                        dataSource,
+                        JdbcConfigReadReplicaDataSource::getReplicaChecks)
+                .description("Queries to the read replica to check its update sequence")
+                .baseUnit(BaseUnits.OPERATIONS)
+                .register(registry);
+    }
+}
@@ -8,39 +8,224 @@ import static java.lang.String.format;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 import org.geoserver.platform.config.UpdateSequence;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.sql.DataSource;
 
 /**
+ * {@link UpdateSequence} backed by a database sequence.
+ *
+ * <p>All database round trips go through a single, dedicated connection, kept open for the lifetime
+ * of this object (and re-opened if it fails), instead of borrowing one from the pool for each call.
+ * {@code NEXTVAL} is atomic on its own, so no transaction is needed.
+ *
+ * <p>{@link #nextValue()} fetches {@link #setBlockSize(int) blockSize} sequence values per round
+ * trip, handing them out locally in order. The default block size of {@code 1} keeps the update
+ * sequence strictly increasing cluster-wide; a bigger block size trades that guarantee (another
+ * instance may hand out lower values from its own block afterwards) for fewer round trips, and
+ * shall only be used where that is acceptable, like single-writer deployments.
+ *
+ * <p>{@link #currValue()} queries the database until the first call to {@link #observe(long)},
+ * which is meant to be called with the update sequence of each remote {@code UpdateSequenceEvent}.
+ * From then on, it returns the highest value either handed out by {@link #nextValue()} or observed,
+ * since the events keep it up to date.
+ *
+ * <p>If {@link #setCommitMarker(boolean) commitMarker} is enabled, {@link #nextValue()} also
+ * records each value it hands out in the single row {@code gs_update_sequence_commit} table,
+ * committed right away. Since the update sequence is incremented after the change it stands for is
+ * committed, a read replica where that row holds a value of at least {@code N} has replayed all the
+ * changes up to update sequence {@code N}. The sequence's own value can't tell that, as values are
+ * handed out (and written ahead to the WAL) before the changes they stand for are committed.
+ *
  * @since 1.0
  */
 @RequiredArgsConstructor
-public class JdbcConfigUpdateSequence implements UpdateSequence, InitializingBean {
+@Slf4j
+public class JdbcConfigUpdateSequence implements UpdateSequence, InitializingBean, DisposableBean {
 
     private static final String SEQUENCE_NAME = "gs_update_sequence";
 
+    private static final String COMMIT_MARKER_TABLE = "gs_update_sequence_commit";
+
+    private static final long UNKNOWN = Long.MIN_VALUE;
+
     private final @NonNull DataSource dataSource;
     private final @NonNull CloudJdbcConfigProperties props;
 
+    private int blockSize = 1;
+
+    private boolean commitMarker;
+
     private String incrementAndGetQuery;
+    private String incrementAndGetBlockQuery;
     private String getQuery;
+    private String commitMarkerQuery;
+    private String updateCommitMarkerStatement;
+
+    /** Guards {@link #connection} and {@link #block} */
+    private final Lock lock = new ReentrantLock();
+
+    private Connection connection;
+
+    /** Fetched but not yet handed out values, in ascending order */
+    private final Deque<Long> block = new ArrayDeque<>();
+
+    /** Highest value seen locally, either from the database, or {@link #observe(long) observed} */
+    private final AtomicLong localValue = new AtomicLong(UNKNOWN);
+
+    private volatile boolean observing;
+
+    /** Highest value handed out by {@link #nextValue()} */
+    private final AtomicLong lastNextValue = new AtomicLong(UNKNOWN);
+
+    /**
+     * Highest value either handed out by {@link #nextValue()} or {@link #observe(long) observed}
+     */
+    private final AtomicLong lastChangeValue = new AtomicLong(UNKNOWN);
+
+    private final AtomicLong nextValueQueries = new AtomicLong();
+    private final AtomicLong currValueQueries = new AtomicLong();
+    private final AtomicLong localCurrValueHits = new AtomicLong();
+
+    /** Number of sequence values to fetch per database round trip, defaults to {@code 1} */
+    public void setBlockSize(int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("blockSize must be >= 1: " + blockSize);
+        }
+        this.blockSize = blockSize;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Whether to record each value handed out by {@link #nextValue()} as committed, for {@link
+     * JdbcConfigReadReplicaDataSource} to know when a read replica caught up with it. Defaults to
+     * {@code false}, must be set before {@link #afterPropertiesSet()}.
+     */
+    public void setCommitMarker(boolean commitMarker) {
+        this.commitMarker = commitMarker;
+    }
+
+    public boolean isCommitMarker() {
+        return commitMarker;
+    }
 
     @Override
     public long currValue() {
-        return runAndGetLong(this.getQuery);
+        if (observing) {
+            long value = localValue.get();
+            if (value != UNKNOWN) {
+                localCurrValueHits.incrementAndGet();
+                return value;
+            }
+        }
+        long value = withConnection(c -> queryLongs(c, getQuery)).get(0);
+        currValueQueries.incrementAndGet();
+        return localValue.accumulateAndGet(value, Math::max);
     }
 
     @Override
     public long nextValue() {
-        return runAndGetLong(this.incrementAndGetQuery);
+        lock.lock();
+        try {
+            if (block.isEmpty()) {
+                String query = blockSize == 1 ? incrementAndGetQuery : incrementAndGetBlockQuery;
+                List<Long> values = withConnection(c -> queryLongs(c, query));
+                nextValueQueries.incrementAndGet();
+                Collections.sort(values);
+                block.addAll(values);
+            }
+            long value = block.pollFirst();
+            if (commitMarker) {
+                withConnection(c -> updateCommitMarker(c, value));
+            }
+            localValue.accumulateAndGet(value, Math::max);
+            lastNextValue.accumulateAndGet(value, Math::max);
+            lastChangeValue.accumulateAndGet(value, Math::max);
+            return value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Updates the locally tracked current value with an update sequence value known to have been
+     * handed out by any instance, and starts serving {@link #currValue()} from it
+     */
+    public void observe(long updateSequence) {
+        localValue.accumulateAndGet(updateSequence, Math::max);
+        lastChangeValue.accumulateAndGet(updateSequence, Math::max);
+        observing = true;
+    }
+
+    /**
+     * @return the highest value handed out by {@link #nextValue()}, i.e. the update sequence of the
+     *     latest change made by this instance, or {@link Long#MIN_VALUE} if none
+     */
+    public long getLastNextValue() {
+        return lastNextValue.get();
+    }
+
+    /**
+     * @return the highest value either handed out by {@link #nextValue()} or {@link #observe(long)
+     *     observed} from other instances, i.e. the update sequence of the latest change known to
+     *     this instance, or {@link Long#MIN_VALUE} if none
+     */
+    public long getLastChangeValue() {
+        return lastChangeValue.get();
+    }
+
+    /**
+     * @return the query to get the highest update sequence value recorded as committed, also valid
+     *     on a read replica
+     * @throws IllegalStateException if {@link #setCommitMarker(boolean) commitMarker} is disabled
+     */
+    String commitMarkerQuery() {
+        if (!commitMarker) {
+            throw new IllegalStateException("commitMarker is disabled");
+        }
+        return commitMarkerQuery;
+    }
+
+    /**
+     * @return number of database round trips performed to get new sequence values
+     */
+    public long getNextValueQueries() {
+        return nextValueQueries.get();
+    }
+
+    /**
+     * @return number of database round trips performed to get the current sequence value
+     */
+    public long getCurrValueQueries() {
+        return currValueQueries.get();
+    }
+
+    /**
+     * @return number of {@link #currValue()} calls served from the locally tracked value
+     */
+    public long getLocalCurrValueHits() {
+        return localCurrValueHits.get();
     }
 
     @Override
@@ -53,6 +238,10 @@ public class JdbcConfigUpdateSequence implements UpdateSequence, InitializingBea
             // this session" error
             getQuery = format("SELECT last_value FROM %s", SEQUENCE_NAME);
             incrementAndGetQuery = format("SELECT NEXTVAL('%s')", SEQUENCE_NAME);
+            incrementAndGetBlockQuery =
+                    format(
+                            "SELECT NEXTVAL('%s') FROM generate_series(1, %d)",
+                            SEQUENCE_NAME, blockSize);
         } else if (props.isH2()) {
             createSequenceStatement = format("CREATE SEQUENCE IF NOT EXISTS %s", SEQUENCE_NAME);
             // getQuery = format("SELECT CURRVAL('%s')", SEQUENCE_NAME);
@@ -65,31 +254,123 @@ public class JdbcConfigUpdateSequence implements UpdateSequence, InitializingBea
                     """,
                             SEQUENCE_NAME.toUpperCase());
             incrementAndGetQuery = format("SELECT NEXTVAL('%s')", SEQUENCE_NAME);
+            incrementAndGetBlockQuery =
+                    format(
+                            "SELECT NEXTVAL('%s') FROM SYSTEM_RANGE(1, %d)",
+                            SEQUENCE_NAME, blockSize);
         } else {
             throw new IllegalStateException("Db is not PostgreSQL nor H2");
         }
         try (Connection c = dataSource.getConnection();
                 Statement st = c.createStatement()) {
             st.execute(createSequenceStatement);
+            if (commitMarker) {
+                createCommitMarker(st);
+            }
         }
         // incrementAndGet();
     }
 
-    protected long runAndGetLong(String query) {
-        try (Connection c = dataSource.getConnection()) {
-            c.setAutoCommit(false);
-            c.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
-            try (Statement st = c.createStatement();
-                    ResultSet rs = st.executeQuery(query)) {
-                if (rs.next()) {
-                    return rs.getLong(1);
-                }
-                throw new IllegalStateException("Query did not return a result: " + getQuery);
-            } finally {
-                c.setAutoCommit(true);
+    private void createCommitMarker(Statement st) throws SQLException {
+        commitMarkerQuery =
+                format("SELECT last_committed FROM %s WHERE id = 1", COMMIT_MARKER_TABLE);
+        updateCommitMarkerStatement =
+                format(
+                        "UPDATE %s SET last_committed = ? WHERE id = 1 AND last_committed < ?",
+                        COMMIT_MARKER_TABLE);
+        st.execute(
+                format(
+                        "CREATE TABLE IF NOT EXISTS %s (id INT PRIMARY KEY, last_committed BIGINT NOT NULL)",
+                        COMMIT_MARKER_TABLE));
+        try (ResultSet rs = st.executeQuery(commitMarkerQuery)) {
+            if (rs.next()) {
+                return;
             }
+        }
+        try {
+            st.execute(format("INSERT INTO %s VALUES(1, 0)", COMMIT_MARKER_TABLE));
         } catch (SQLException e) {
+            // another instance created the row in the meantime
+            log.debug("Error initializing the update sequence commit marker", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        lock.lock();
+        try {
+            closeConnection();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @FunctionalInterface
+    private static interface SqlFunction<R> {
+        R apply(Connection c) throws SQLException;
+    }
+
+    /**
+     * Runs {@code function} with the dedicated connection, retrying once with a new connection if
+     * it fails, in case the database closed it
+     */
+    private <R> R withConnection(SqlFunction<R> function) {
+        lock.lock();
+        try {
+            try {
+                return function.apply(connection());
+            } catch (SQLException e) {
+                log.debug("Update sequence query failed, retrying with a new connection", e);
+                closeConnection();
+                return function.apply(connection());
+            }
+        } catch (SQLException e) {
+            closeConnection();
             throw new IllegalStateException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Connection connection() throws SQLException {
+        if (connection == null || connection.isClosed()) {
+            connection = dataSource.getConnection();
+            connection.setAutoCommit(true);
+        }
+        return connection;
+    }
+
+    private void closeConnection() {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                log.debug("Error closing update sequence connection", e);
+            }
+            connection = null;
+        }
+    }
+
+    private Void updateCommitMarker(Connection c, long value) throws SQLException {
+        try (PreparedStatement st = c.prepareStatement(updateCommitMarkerStatement)) {
+            st.setLong(1, value);
+            st.setLong(2, value);
+            st.executeUpdate();
+        }
+        return null;
+    }
+
+    private static List<Long> queryLongs(Connection c, String query) throws SQLException {
+        List<Long> values = new ArrayList<>();
+        try (Statement st = c.createStatement();
+                ResultSet rs = st.executeQuery(query)) {
+            while (rs.next()) {
+                values.add(rs.getLong(1));
+            }
+        }
+        if (values.isEmpty()) {
+            throw new IllegalStateException("Query did not return a result: " + query);
         }
+        return values;
     }
 }
@@ -0,0 +1,61 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.config.catalog.backend.jdbcconfig;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Exports {@link JdbcConfigUpdateSequence} metrics to micrometer's {@link MeterRegistry}:
+ *
+ * <ul>
+ *   <li>{@literal geoserver.backend.jdbcconfig.update_sequence.next_value.queries}: number of
+ *       database round trips to fetch new update sequence values
+ *   <li>{@literal geoserver.backend.jdbcconfig.update_sequence.curr_value.queries}: number of
+ *       database round trips to get the current update sequence value
+ *   <li>{@literal geoserver.backend.jdbcconfig.update_sequence.curr_value.local}: number of current
+ *       update sequence value requests served without querying the database
+ * </ul>
+ *
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+public class JdbcConfigUpdateSequenceMetrics implements MeterBinder {
+
+    private final @NonNull JdbcConfigUpdateSequence updateSequence;
+
+    public @Override void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder(
+                        "geoserver.backend.jdbcconfig.update_sequence.next_value.queries",
+                        updateSequence,
+                        JdbcConfigUpdateSequence::getNextValueQueries)
+                .description("Database round trips to fetch new update sequence values")
+                .baseUnit(BaseUnits.OPERATIONS)
+                .register(registry);
+
+        FunctionCounter.builder(
+                        "geoserver.backend.jdbcconfig.update_sequence.curr_value.queries",
+                        updateSequence,
+                        JdbcConfigUpdateSequence::getCurrValueQueries)
+                .description("Database round trips to get the current update sequence value")
+                .baseUnit(BaseUnits.OPERATIONS)
+                .register(registry);
+
+        FunctionCounter.builder(
+                        "geoserver.backend.jdbcconfig.update_sequence.curr_value.local",
+                        updateSequence,
+                        JdbcConfigUpdateSequence::getLocalCurrValueHits)
+                .description(
+                        "Current update sequence value requests served without querying the"
+                                + " database")
+                .baseUnit(BaseUnits.OPERATIONS)
+                .register(registry);
+    }
+}
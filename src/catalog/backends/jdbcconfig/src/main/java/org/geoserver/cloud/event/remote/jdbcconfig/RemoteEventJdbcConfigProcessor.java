@@ -8,21 +8,33 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.geoserver.catalog.CatalogInfo;
 import org.geoserver.catalog.Info;
+import org.geoserver.cloud.config.catalog.backend.jdbcconfig.JdbcConfigUpdateSequence;
+import org.geoserver.cloud.event.UpdateSequenceEvent;
 import org.geoserver.cloud.event.info.ConfigInfoType;
 import org.geoserver.cloud.event.info.InfoEvent;
 import org.geoserver.cloud.event.info.InfoModified;
 import org.geoserver.cloud.event.info.InfoRemoved;
 import org.geoserver.jdbcconfig.internal.ConfigDatabase;
+import org.geoserver.platform.config.UpdateSequence;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.event.EventListener;
 
 /**
  * Listens to {@link RemoteCatalogEvent}s and evicts the modified or deleted {@link CatalogInfo }
- * from the {@link ConfigDatabase} cache
+ * from the {@link ConfigDatabase} cache, and feeds the remote {@link UpdateSequenceEvent}s to the
+ * {@link JdbcConfigUpdateSequence} for it to track the current update sequence locally
  */
 @Slf4j(topic = "org.geoserver.cloud.bus.incoming.jdbcconfig")
 public class RemoteEventJdbcConfigProcessor {
     private @Autowired ConfigDatabase jdbcConfigDatabase;
+    private @Autowired UpdateSequence updateSequence;
+
+    @EventListener(UpdateSequenceEvent.class)
+    public void onUpdateSequenceEvent(UpdateSequenceEvent<?> event) {
+        if (event.isRemote() && updateSequence instanceof JdbcConfigUpdateSequence) {
+            ((JdbcConfigUpdateSequence) updateSequence).observe(event.getUpdateSequence());
+        }
+    }
 
     @EventListener(InfoRemoved.class)
     public void onRemoteRemoveEvent(InfoRemoved<?, ?> event) {
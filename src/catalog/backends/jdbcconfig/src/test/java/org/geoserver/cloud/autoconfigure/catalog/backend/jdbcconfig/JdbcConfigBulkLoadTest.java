@@ -0,0 +1,91 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.autoconfigure.catalog.backend.jdbcconfig;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.geoserver.catalog.CatalogFactory;
+import org.geoserver.catalog.CatalogInfo;
+import org.geoserver.catalog.WorkspaceInfo;
+import org.geoserver.catalog.plugin.CatalogFacadeExtensionAdapter;
+import org.geoserver.cloud.config.catalog.backend.jdbcconfig.CloudJdbcCatalogFacade;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+@SpringBootTest(
+        classes = AutoConfigurationTestConfiguration.class,
+        properties = "geoserver.backend.jdbcconfig.enabled=true")
+public class JdbcConfigBulkLoadTest extends JDBCConfigTest {
+
+    /**
+     * Runs all checks in a single test, since {@link JDBCConfigTest} closes the data source after
+     * each test
+     */
+    public @Test void testBulkLoad() {
+        CloudJdbcCatalogFacade facade =
+                (CloudJdbcCatalogFacade)
+                        ((CatalogFacadeExtensionAdapter) rawCatalogFacade).getSubject();
+
+        WorkspaceInfo ws1 = workspace("bulk1");
+        WorkspaceInfo ws2 = workspace("bulk2");
+        assertEquals(2, facade.bulkLoad(List.of(ws1, ws2), 1));
+        assertStored(facade, ws1);
+        assertStored(facade, ws2);
+
+        testFailedBatchRollsBackDatabaseAndCache(facade);
+    }
+
+    private void testFailedBatchRollsBackDatabaseAndCache(CloudJdbcCatalogFacade facade) {
+        WorkspaceInfo committed1 = workspace("bulk3");
+        WorkspaceInfo committed2 = workspace("bulk4");
+        WorkspaceInfo committed3 = workspace("bulk5");
+        WorkspaceInfo rolledBack1 = workspace("bulk6");
+        WorkspaceInfo rolledBack2 = workspace("bulk7");
+        // same id as an object in its batch, violates the object table unique id
+        WorkspaceInfo duplicate = workspace("bulk8");
+        duplicate.setId(rolledBack1.getId());
+
+        List<CatalogInfo> infos =
+                List.of(committed1, committed2, committed3, rolledBack1, rolledBack2, duplicate);
+        assertThrows(RuntimeException.class, () -> facade.bulkLoad(infos, 3));
+
+        // the first batch is committed
+        assertStored(facade, committed1);
+        assertStored(facade, committed2);
+        assertStored(facade, committed3);
+        // the failed batch is neither in the database nor in the cache
+        assertNotStored(facade, rolledBack1);
+        assertNotStored(facade, rolledBack2);
+    }
+
+    private WorkspaceInfo workspace(String name) {
+        CatalogFactory factory = catalog.getFactory();
+        WorkspaceInfo ws = factory.createWorkspace();
+        ws.setId(name + "-id");
+        ws.setName(name);
+        return ws;
+    }
+
+    private void assertStored(CloudJdbcCatalogFacade facade, CatalogInfo info) {
+        assertEquals(1, countRows(info.getId()));
+        assertNotNull(facade.getById(info.getId()));
+    }
+
+    private void assertNotStored(CloudJdbcCatalogFacade facade, CatalogInfo info) {
+        assertEquals(0, countRows(info.getId()));
+        assertNull(facade.getById(info.getId()));
+    }
+
+    private int countRows(String id) {
+        return new JdbcTemplate(dataSource)
+                .queryForObject("select count(*) from object where id = ?", Integer.class, id);
+    }
+}
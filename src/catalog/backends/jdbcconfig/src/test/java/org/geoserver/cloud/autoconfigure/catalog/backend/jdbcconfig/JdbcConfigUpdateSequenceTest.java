@@ -6,12 +6,15 @@ package org.geoserver.cloud.autoconfigure.catalog.backend.jdbcconfig;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import org.geoserver.cloud.config.catalog.backend.jdbcconfig.CloudJdbcConfigProperties;
 import org.geoserver.cloud.config.catalog.backend.jdbcconfig.JdbcConfigUpdateSequence;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 @SpringBootTest(
@@ -20,6 +23,7 @@ import java.util.stream.IntStream;
 public class JdbcConfigUpdateSequenceTest extends JDBCConfigTest {
 
     private @Autowired JdbcConfigUpdateSequence updateSequence;
+    private @Autowired CloudJdbcConfigProperties jdbcConfigProperties;
 
     @Disabled(
             "Couldn't get rid of the DB closed error if running more than one test, so better run the parallel one")
@@ -37,14 +41,56 @@ public class JdbcConfigUpdateSequenceTest extends JDBCConfigTest {
         assertEquals(2 + initial, v);
     }
 
-    public @Test void multiThreadedTest() {
+    /**
+     * Runs all checks in a single test, since {@link JDBCConfigTest} closes the data source after
+     * each test
+     */
+    public @Test void multiThreadedTest() throws Exception {
         final int incrementCount = 10_000;
         final long initial = updateSequence.currValue();
         final long expected = initial + incrementCount;
+        final long initialQueries = updateSequence.getNextValueQueries();
 
         IntStream.range(0, incrementCount).parallel().forEach(i -> updateSequence.nextValue());
 
         long v = updateSequence.currValue();
         assertEquals(expected, v);
+        assertEquals(initialQueries + incrementCount, updateSequence.getNextValueQueries());
+
+        testBlockSize();
+        testObservedCurrValue();
+    }
+
+    private void testBlockSize() throws Exception {
+        JdbcConfigUpdateSequence blockSequence =
+                new JdbcConfigUpdateSequence(dataSource, jdbcConfigProperties);
+        blockSequence.setBlockSize(100);
+        blockSequence.afterPropertiesSet();
+        try {
+            final int incrementCount = 1_000;
+            Set<Long> values =
+                    IntStream.range(0, incrementCount)
+                            .parallel()
+                            .mapToObj(i -> blockSequence.nextValue())
+                            .collect(Collectors.toSet());
+            assertEquals(incrementCount, values.size());
+            assertEquals(incrementCount / 100, blockSequence.getNextValueQueries());
+        } finally {
+            blockSequence.destroy();
+        }
+    }
+
+    private void testObservedCurrValue() {
+        final long queries = updateSequence.getCurrValueQueries();
+        final long current = updateSequence.currValue();
+        assertEquals(queries + 1, updateSequence.getCurrValueQueries());
+
+        updateSequence.observe(current + 10);
+        assertEquals(current + 10, updateSequence.currValue());
+        // lower values don't go back in time
+        updateSequence.observe(current + 5);
+        assertEquals(current + 10, updateSequence.currValue());
+        assertEquals(queries + 1, updateSequence.getCurrValueQueries());
+        assertEquals(2, updateSequence.getLocalCurrValueHits());
     }
 }
@@ -0,0 +1,206 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.config.catalog.backend.jdbcconfig;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+/**
+ * {@link JdbcConfigReadReplicaDataSource} tests with two H2 in-memory databases, each one telling
+ * its name through a {@code db_name} table
+ */
+class JdbcConfigReadReplicaDataSourceTest {
+
+    private DriverManagerDataSource primary;
+    private DriverManagerDataSource replica;
+
+    private JdbcConfigUpdateSequence updateSequence;
+    private JdbcConfigReadReplicaDataSource routing;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        primary = createDatabase("primary");
+        replica = createDatabase("replica");
+
+        CloudJdbcConfigProperties props = new CloudJdbcConfigProperties(primary);
+        props.setProperty("datasource.driverClassname", "org.h2.Driver");
+        updateSequence = new JdbcConfigUpdateSequence(primary, props);
+        updateSequence.setCommitMarker(true);
+        updateSequence.afterPropertiesSet();
+        // as if replicated from the primary
+        JdbcTemplate replicaTemplate = new JdbcTemplate(replica);
+        replicaTemplate.execute("CREATE SEQUENCE gs_update_sequence");
+        replicaTemplate.execute(
+                "CREATE TABLE gs_update_sequence_commit (id INT PRIMARY KEY, last_committed BIGINT NOT NULL)");
+        replicaTemplate.update("INSERT INTO gs_update_sequence_commit VALUES(1, 0)");
+
+        routing = new JdbcConfigReadReplicaDataSource(primary, replica, updateSequence);
+        routing.setReplicaCheckInterval(Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        updateSequence.destroy();
+        new JdbcTemplate(primary).execute("SHUTDOWN");
+        new JdbcTemplate(replica).execute("SHUTDOWN");
+    }
+
+    private DriverManagerDataSource createDatabase(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource();
+        dataSource.setDriverClassName("org.h2.Driver");
+        dataSource.setUrl("jdbc:h2:mem:%s-%s;DB_CLOSE_DELAY=-1".formatted(name, UUID.randomUUID()));
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE db_name(name VARCHAR)");
+        template.update("INSERT INTO db_name VALUES(?)", name);
+        return dataSource;
+    }
+
+    private String queriedDatabase() {
+        return queriedDatabase(routing);
+    }
+
+    private String queriedDatabase(DataSource dataSource) {
+        return new JdbcTemplate(dataSource)
+                .queryForObject("SELECT name FROM db_name", String.class);
+    }
+
+    /** Advances the replica's update sequence commit marker up to {@code value} */
+    private void replicate(long value) {
+        new JdbcTemplate(replica)
+                .update(
+                        "UPDATE gs_update_sequence_commit SET last_committed = ? WHERE id = 1",
+                        value);
+    }
+
+    /** Advances the replica's update sequence up to {@code value} */
+    private void replicateSequence(long value) {
+        JdbcTemplate replicaTemplate = new JdbcTemplate(replica);
+        long current;
+        do {
+            current =
+                    replicaTemplate.queryForObject(
+                            "SELECT NEXTVAL('gs_update_sequence')", Long.class);
+        } while (current < value);
+    }
+
+    @Test
+    void readsGoToReplica() {
+        assertEquals("replica", queriedDatabase());
+        assertEquals("replica", queriedDatabase());
+        assertEquals(2, routing.getReplicaConnections());
+        assertEquals(0, routing.getPrimaryConnections());
+    }
+
+    @Test
+    void readYourOwnWrites() {
+        final long written = updateSequence.nextValue();
+        assertEquals("primary", queriedDatabase());
+        assertEquals(1, routing.getReplicaChecks());
+
+        replicate(written);
+        assertEquals("replica", queriedDatabase());
+        assertEquals(2, routing.getReplicaChecks());
+
+        // replica known to be up to date, no need to check again
+        assertEquals("replica", queriedDatabase());
+        assertEquals(2, routing.getReplicaChecks());
+    }
+
+    @Test
+    void readYourOwnWritesChecksReplicaAtMostOncePerInterval() {
+        routing.setReplicaCheckInterval(Duration.ofHours(1));
+
+        replicate(updateSequence.nextValue());
+        // first check finds the replica up to date
+        assertEquals("replica", queriedDatabase());
+        assertEquals(1, routing.getReplicaChecks());
+
+        // replica behind, but checked too recently to check again
+        updateSequence.nextValue();
+        assertEquals("primary", queriedDatabase());
+        assertEquals("primary", queriedDatabase());
+        assertEquals(1, routing.getReplicaChecks());
+    }
+
+    @Test
+    void commitMarkerIsWrittenOnNextValue() {
+        final long written = updateSequence.nextValue();
+        assertEquals(
+                written,
+                new JdbcTemplate(primary)
+                        .queryForObject(
+                                "SELECT last_committed FROM gs_update_sequence_commit",
+                                Long.class));
+    }
+
+    @Test
+    void sequenceAheadOfCommitMarkerGoesToPrimary() {
+        final long written = updateSequence.nextValue();
+        // the sequence value is replicated before the change it stands for is committed
+        replicateSequence(written + 32);
+        assertEquals("primary", queriedDatabase());
+
+        replicate(written);
+        assertEquals("replica", queriedDatabase());
+    }
+
+    @Test
+    void remoteChangeGoesToPrimaryUntilReplicated() {
+        assertEquals("replica", queriedDatabase());
+
+        // another instance made a change
+        updateSequence.observe(10);
+        assertEquals("primary", queriedDatabase());
+
+        replicate(10);
+        assertEquals("replica", queriedDatabase());
+    }
+
+    @Test
+    void requiresCommitMarker() throws Exception {
+        CloudJdbcConfigProperties props = new CloudJdbcConfigProperties(primary);
+        props.setProperty("datasource.driverClassname", "org.h2.Driver");
+        JdbcConfigUpdateSequence noMarker = new JdbcConfigUpdateSequence(primary, props);
+        noMarker.afterPropertiesSet();
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new JdbcConfigReadReplicaDataSource(primary, replica, noMarker));
+    }
+
+    @Test
+    void writeTransactionGoesToPrimary() {
+        TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(primary));
+        tx.executeWithoutResult(
+                status -> {
+                    assertEquals("primary", queriedDatabase());
+                    new JdbcTemplate(routing).update("UPDATE db_name SET name = 'updated'");
+                    status.setRollbackOnly();
+                });
+        assertEquals("primary", queriedDatabase(primary));
+        assertEquals("replica", queriedDatabase());
+        assertTrue(routing.getPrimaryConnections() > 0);
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(primary));
+        tx.setReadOnly(true);
+        tx.executeWithoutResult(status -> assertEquals("replica", queriedDatabase()));
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.backend.pgconfig.catalog;
+
+import lombok.NonNull;
+
+import org.geoserver.catalog.Catalog;
+import org.geoserver.catalog.CatalogFacade;
+import org.geoserver.catalog.CatalogInfo;
+import org.geoserver.catalog.LayerGroupInfo;
+import org.geoserver.catalog.LayerInfo;
+import org.geoserver.catalog.MapInfo;
+import org.geoserver.catalog.NamespaceInfo;
+import org.geoserver.catalog.ResourceInfo;
+import org.geoserver.catalog.StoreInfo;
+import org.geoserver.catalog.StyleInfo;
+import org.geoserver.catalog.WorkspaceInfo;
+import org.geoserver.catalog.plugin.RepositoryCatalogFacade;
+import org.geoserver.catalog.plugin.RepositoryCatalogFacadeImpl;
+import org.geoserver.catalog.plugin.forwarding.ResolvingCatalogFacadeDecorator;
+import org.geoserver.catalog.plugin.resolving.CatalogPropertyResolver;
+import org.geoserver.catalog.plugin.resolving.CollectionPropertiesInitializer;
+import org.geoserver.catalog.plugin.resolving.ResolvingProxyResolver;
+import org.geoserver.cloud.backend.pgconfig.catalog.repository.PgconfigCatalogInfoRepository;
+import org.geoserver.cloud.backend.pgconfig.catalog.repository.PgconfigLayerGroupRepository;
+import org.geoserver.cloud.backend.pgconfig.catalog.repository.PgconfigLayerRepository;
+import org.geoserver.cloud.backend.pgconfig.catalog.repository.PgconfigMapRepository;
+import org.geoserver.cloud.backend.pgconfig.catalog.repository.PgconfigNamespaceRepository;
+import org.geoserver.cloud.backend.pgconfig.catalog.repository.PgconfigResourceRepository;
+import org.geoserver.cloud.backend.pgconfig.catalog.repository.PgconfigStoreRepository;
+import org.geoserver.cloud.backend.pgconfig.catalog.repository.PgconfigStyleRepository;
+import org.geoserver.cloud.backend.pgconfig.catalog.repository.PgconfigWorkspaceRepository;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.lang.reflect.Proxy;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+/**
+ * {@link CatalogFacade} storing the catalog in a relational database through the {@link
+ * PgconfigCatalogInfoRepository pgconfig repositories}, one table per {@link CatalogInfo} type,
+ * each row holding the object as a JSON document plus indexed columns for lookups and queries.
+ *
+ * <p>As a {@link ResolvingCatalogFacadeDecorator}, wraps the raw {@link RepositoryCatalogFacade}
+ * and sets up the repositories to resolve the {@code ResolvingProxy} references of the decoded
+ * objects, their {@link Catalog} property, and {@code null} collection properties, before leaving
+ * the repositories, so that the query filters evaluated in-memory see fully resolved objects.
+ *
+ * <p>The database schema is created by {@link #createSchema(DataSource)}.
+ *
+ * @since 1.0
+ */
+public class PgconfigCatalogFacade extends ResolvingCatalogFacadeDecorator {
+
+    private static final String SCHEMA_SCRIPT = "catalog_schema.sql";
+
+    public PgconfigCatalogFacade(@NonNull JdbcTemplate template) {
+        super(createRawFacade(template));
+    }
+
+    private static RepositoryCatalogFacade createRawFacade(JdbcTemplate template) {
+        RepositoryCatalogFacadeImpl facade = new RepositoryCatalogFacadeImpl();
+        facade.setWorkspaceRepository(new PgconfigWorkspaceRepository(template));
+        facade.setNamespaceRepository(new PgconfigNamespaceRepository(template));
+        facade.setStoreRepository(new PgconfigStoreRepository(template));
+        facade.setResourceRepository(new PgconfigResourceRepository(template));
+        facade.setLayerRepository(new PgconfigLayerRepository(template));
+        facade.setLayerGroupRepository(new PgconfigLayerGroupRepository(template));
+        facade.setStyleRepository(new PgconfigStyleRepository(template));
+        facade.setMapRepository(new PgconfigMapRepository(template));
+        return facade;
+    }
+
+    /**
+     * Creates the catalog tables and indexes, if they don't already exist, on a PostgreSQL
+     * database, or an H2 database in PostgreSQL compatibility mode
+     */
+    public static void createSchema(@NonNull DataSource dataSource) {
+        ClassPathResource script =
+                new ClassPathResource(SCHEMA_SCRIPT, PgconfigCatalogFacade.class);
+        new ResourceDatabasePopulator(script).execute(dataSource);
+    }
+
+    // set up resolving chain
+    public @Override void setCatalog(Catalog catalog) {
+        super.setCatalog(catalog);
+
+        final ResolvingProxyResolver<CatalogInfo> proxyResolver =
+                ResolvingProxyResolver.of(catalog);
+        final CatalogPropertyResolver<CatalogInfo> catalogPropertyResolver =
+                CatalogPropertyResolver.of(catalog);
+        final CollectionPropertiesInitializer<CatalogInfo> collectionInitializer =
+                CollectionPropertiesInitializer.instance();
+
+        Function<CatalogInfo, CatalogInfo> objectResolver =
+                proxyResolver.andThen(catalogPropertyResolver).andThen(collectionInitializer);
+
+        // uses a memoizing proxy resolver that caches resolved references for the lifetime of
+        // the stream
+        Supplier<Function<CatalogInfo, CatalogInfo>> streamResolver =
+                () ->
+                        proxyResolver
+                                .<CatalogInfo>memoizing()
+                                .andThen(catalogPropertyResolver)
+                                .andThen(collectionInitializer);
+
+        setInboundResolver(
+                o -> {
+                    if (o instanceof Proxy) {
+                        throw new IllegalArgumentException(
+                                "java.lang.reflect.Proxy instances not accepted: " + o);
+                    }
+                    return o;
+                });
+
+        setResolvers(repo(WorkspaceInfo.class), objectResolver, streamResolver);
+        setResolvers(repo(NamespaceInfo.class), objectResolver, streamResolver);
+        setResolvers(repo(StoreInfo.class), objectResolver, streamResolver);
+        setResolvers(repo(ResourceInfo.class), objectResolver, streamResolver);
+        setResolvers(repo(LayerInfo.class), objectResolver, streamResolver);
+        setResolvers(repo(LayerGroupInfo.class), objectResolver, streamResolver);
+        setResolvers(repo(StyleInfo.class), objectResolver, streamResolver);
+        setResolvers(repo(MapInfo.class), objectResolver, streamResolver);
+    }
+
+    private void setResolvers(
+            PgconfigCatalogInfoRepository<?> repository,
+            Function<CatalogInfo, CatalogInfo> objectResolver,
+            Supplier<Function<CatalogInfo, CatalogInfo>> streamResolver) {
+        repository.setObjectResolver(objectResolver);
+        repository.setStreamResolver(streamResolver);
+    }
+
+    private <T extends CatalogInfo> PgconfigCatalogInfoRepository<T> repo(Class<T> type) {
+        return facade().repository(type);
+    }
+
+    protected @Override RepositoryCatalogFacade facade() {
+        return (RepositoryCatalogFacade) facade;
+    }
+}
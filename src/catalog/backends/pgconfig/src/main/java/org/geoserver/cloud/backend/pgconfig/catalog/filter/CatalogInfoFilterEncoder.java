@@ -0,0 +1,190 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.backend.pgconfig.catalog.filter;
+
+import static org.geotools.filter.visitor.SimplifyingFilterVisitor.simplify;
+
+import lombok.NonNull;
+import lombok.Value;
+
+import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.util.Converters;
+import org.opengis.filter.And;
+import org.opengis.filter.BinaryComparisonOperator;
+import org.opengis.filter.Filter;
+import org.opengis.filter.FilterFactory;
+import org.opengis.filter.Or;
+import org.opengis.filter.PropertyIsEqualTo;
+import org.opengis.filter.PropertyIsNotEqualTo;
+import org.opengis.filter.PropertyIsNull;
+import org.opengis.filter.expression.Expression;
+import org.opengis.filter.expression.Literal;
+import org.opengis.filter.expression.PropertyName;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Splits a {@link Filter} into an SQL {@code WHERE} clause over the indexed columns of a catalog
+ * table, and a post-filter with the parts that can't be translated, to be evaluated in-memory
+ * against the decoded objects.
+ *
+ * <p>Only the constructs whose SQL semantics match the ones of {@link Filter#evaluate(Object)} are
+ * translated: {@link PropertyIsEqualTo}, {@link PropertyIsNotEqualTo}, and {@link PropertyIsNull}
+ * comparing a {@link #column mapped} property against a literal, and {@link And} and {@link Or}
+ * combinations of them. Top level {@link And} filters are split, so a query like {@code
+ * workspace.id = 'ws1' AND resource.store.type = 'PostGIS'} still narrows the rows to fetch by the
+ * indexed {@code workspace} column, and post-filters the result by store type.
+ *
+ * @since 1.0
+ */
+public class CatalogInfoFilterEncoder {
+
+    private static final FilterFactory FF = CommonFactoryFinder.getFilterFactory2();
+
+    private final Map<String, Column> columns = new LinkedHashMap<>();
+
+    /** A table column the property {@code name} is indexed at, and its value type */
+    private static @Value class Column {
+        private String name;
+        private Class<?> type;
+    }
+
+    /** Result of {@link CatalogInfoFilterEncoder#encode(Filter)} */
+    public static @Value class EncodedFilter {
+        /** SQL {@code WHERE} clause, with {@code ?} placeholders for {@link #arguments} */
+        private Optional<String> where;
+
+        private List<Object> arguments;
+
+        /** The part of the filter that couldn't be translated to SQL, or {@link Filter#INCLUDE} */
+        private Filter postFilter;
+
+        public boolean isFullySupported() {
+            return Filter.INCLUDE.equals(postFilter);
+        }
+    }
+
+    /**
+     * Maps {@code propertyName} to the {@code column} its values are indexed at
+     *
+     * @param type the column value type, for literal values to be converted to
+     */
+    public CatalogInfoFilterEncoder column(
+            @NonNull String propertyName, @NonNull String column, @NonNull Class<?> type) {
+        columns.put(propertyName, new Column(column, type));
+        return this;
+    }
+
+    /**
+     * @return the name of the column {@code propertyName} is indexed at, if any
+     */
+    public Optional<String> columnFor(@NonNull String propertyName) {
+        return Optional.ofNullable(columns.get(propertyName)).map(Column::getName);
+    }
+
+    public EncodedFilter encode(@NonNull Filter filter) {
+        filter = simplify(filter);
+        if (Filter.INCLUDE.equals(filter)) {
+            return new EncodedFilter(Optional.empty(), Collections.emptyList(), Filter.INCLUDE);
+        }
+        List<Object> arguments = new ArrayList<>();
+        if (filter instanceof And) {
+            List<String> clauses = new ArrayList<>();
+            List<Filter> unsupported = new ArrayList<>();
+            for (Filter child : ((And) filter).getChildren()) {
+                List<Object> childArguments = new ArrayList<>();
+                String clause = toSQL(child, childArguments);
+                if (clause == null) {
+                    unsupported.add(child);
+                } else {
+                    clauses.add(clause);
+                    arguments.addAll(childArguments);
+                }
+            }
+            Optional<String> where =
+                    clauses.isEmpty()
+                            ? Optional.empty()
+                            : Optional.of(String.join(" AND ", clauses));
+            Filter postFilter =
+                    unsupported.isEmpty()
+                            ? Filter.INCLUDE
+                            : unsupported.size() == 1 ? unsupported.get(0) : FF.and(unsupported);
+            return new EncodedFilter(where, arguments, postFilter);
+        }
+        String clause = toSQL(filter, arguments);
+        if (clause == null) {
+            return new EncodedFilter(Optional.empty(), Collections.emptyList(), filter);
+        }
+        return new EncodedFilter(Optional.of(clause), arguments, Filter.INCLUDE);
+    }
+
+    /**
+     * @return the SQL for {@code filter}, or {@code null} if it can't be fully translated
+     */
+    private String toSQL(Filter filter, List<Object> arguments) {
+        if (Filter.INCLUDE.equals(filter)) return "1 = 1";
+        if (Filter.EXCLUDE.equals(filter)) return "1 = 0";
+        if (filter instanceof And) return toSQL(((And) filter).getChildren(), " AND ", arguments);
+        if (filter instanceof Or) return toSQL(((Or) filter).getChildren(), " OR ", arguments);
+        if (filter instanceof PropertyIsNull) {
+            Column column = column(((PropertyIsNull) filter).getExpression());
+            return column == null ? null : column.getName() + " IS NULL";
+        }
+        if (filter instanceof PropertyIsEqualTo || filter instanceof PropertyIsNotEqualTo) {
+            return comparison((BinaryComparisonOperator) filter, arguments);
+        }
+        return null;
+    }
+
+    private String toSQL(List<Filter> children, String operator, List<Object> arguments) {
+        List<String> clauses = new ArrayList<>();
+        for (Filter child : children) {
+            String clause = toSQL(child, arguments);
+            if (clause == null) return null;
+            clauses.add(clause);
+        }
+        return "(" + String.join(operator, clauses) + ")";
+    }
+
+    private String comparison(BinaryComparisonOperator filter, List<Object> arguments) {
+        Column column = column(filter.getExpression1());
+        Expression literal = filter.getExpression2();
+        if (column == null) {
+            column = column(filter.getExpression2());
+            literal = filter.getExpression1();
+        }
+        if (column == null || !(literal instanceof Literal)) return null;
+
+        final Object value = ((Literal) literal).getValue();
+        final Object converted = value == null ? null : Converters.convert(value, column.getType());
+        if (converted == null) return null;
+
+        String columnExpr = column.getName();
+        String argumentExpr = "?";
+        if (!filter.isMatchingCase() && String.class.equals(column.getType())) {
+            columnExpr = "LOWER(" + columnExpr + ")";
+            argumentExpr = "LOWER(?)";
+        }
+        arguments.add(converted);
+        if (filter instanceof PropertyIsNotEqualTo) {
+            // in-memory evaluation of a not-equal comparison against null is true
+            return String.format(
+                    "(%s IS NULL OR %s <> %s)", column.getName(), columnExpr, argumentExpr);
+        }
+        return String.format("%s = %s", columnExpr, argumentExpr);
+    }
+
+    private Column column(Expression expression) {
+        if (expression instanceof PropertyName) {
+            return columns.get(((PropertyName) expression).getPropertyName());
+        }
+        return null;
+    }
+}
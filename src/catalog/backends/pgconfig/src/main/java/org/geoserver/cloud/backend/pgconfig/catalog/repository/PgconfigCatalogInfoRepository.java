@@ -0,0 +1,529 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.backend.pgconfig.catalog.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+import org.geoserver.catalog.CatalogInfo;
+import org.geoserver.catalog.impl.ClassMappings;
+import org.geoserver.catalog.impl.ResolvingProxy;
+import org.geoserver.catalog.plugin.CatalogInfoLookup;
+import org.geoserver.catalog.plugin.CatalogInfoRepository;
+import org.geoserver.catalog.plugin.Patch;
+import org.geoserver.catalog.plugin.Query;
+import org.geoserver.cloud.backend.pgconfig.catalog.filter.CatalogInfoFilterEncoder;
+import org.geoserver.cloud.backend.pgconfig.catalog.filter.CatalogInfoFilterEncoder.EncodedFilter;
+import org.geotools.jackson.databind.util.ObjectMapperUtil;
+import org.opengis.filter.Filter;
+import org.opengis.filter.sort.SortBy;
+import org.opengis.filter.sort.SortOrder;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@link CatalogInfoRepository} storing {@link CatalogInfo} objects in a relational database table,
+ * as a JSON document (using the {@code gs-jackson-bindings} encoding) plus a set of indexed columns
+ * with the properties the repository lookups and the most common query filters refer to.
+ *
+ * <p>Lookups by id, name, and the other {@link CatalogInfoRepository} specializations' criteria are
+ * resolved by the database using the indexed columns. {@link #findAll(Query)} and {@link
+ * #count(Class, Filter)} translate as much of the query {@link Filter} as possible to an SQL {@code
+ * WHERE} clause over the indexed columns (see {@link CatalogInfoFilterEncoder}), and evaluate the
+ * rest in-memory against the decoded objects. Sorting and paging are performed by the database if
+ * the whole filter was translated and all the sort properties are indexed, and in-memory otherwise.
+ * Sorting by the database uses the database collation for string comparisons.
+ *
+ * <p>{@link #update Updates} touching only {@link #topLevelProperties top-level} scalar properties
+ * patch the stored JSON document in place instead of re-encoding the whole object.
+ *
+ * <p>Objects are decoded with {@link ResolvingProxy} references to other catalog objects, which are
+ * resolved by the {@link #setObjectResolver object resolver} and {@link #setStreamResolver stream
+ * resolver} functions before leaving the repository, so that in-memory filters can traverse them.
+ *
+ * @since 1.0
+ */
+@Slf4j
+public abstract class PgconfigCatalogInfoRepository<T extends CatalogInfo>
+        implements CatalogInfoRepository<T> {
+
+    protected static final String INFO_COLUMN = "info";
+    protected static final String TYPE_COLUMN = "infotype";
+
+    private static final ObjectMapper DEFAULT_MAPPER = ObjectMapperUtil.newObjectMapper();
+
+    protected final JdbcTemplate template;
+    protected final TransactionTemplate transactionTemplate;
+    protected final String table;
+    protected final CatalogInfoFilterEncoder filterEncoder;
+
+    private ObjectMapper objectMapper = DEFAULT_MAPPER;
+
+    /** Names of the properties {@link #update} can patch in place in the stored document */
+    private final Set<String> topLevelProperties =
+            new HashSet<>(Set.of("dateCreated", "dateModified"));
+
+    private @Setter Function<CatalogInfo, CatalogInfo> objectResolver = Function.identity();
+    private @Setter Supplier<Function<CatalogInfo, CatalogInfo>> streamResolver =
+            () -> Function.identity();
+
+    protected PgconfigCatalogInfoRepository(@NonNull JdbcTemplate template, @NonNull String table) {
+        this.template = template;
+        this.table = table;
+        this.transactionTemplate =
+                new TransactionTemplate(new DataSourceTransactionManager(template.getDataSource()));
+        this.filterEncoder = new CatalogInfoFilterEncoder().column("id", "id", String.class);
+    }
+
+    /**
+     * Declares properties encoded as top-level fields of the same name and with scalar values
+     * (strings, numbers, booleans, enums, or dates) in the stored document, so that {@link #update}
+     * can patch them in place. Properties derived from other objects (e.g. a layer's name, which is
+     * its resource's name) shall not be declared
+     */
+    protected void topLevelProperties(String... propertyNames) {
+        topLevelProperties.addAll(Arrays.asList(propertyNames));
+    }
+
+    /**
+     * @return the values of the indexed columns for {@code info}, keyed by column name, in the
+     *     order the {@code INSERT} and {@code UPDATE} statements list them
+     */
+    protected abstract Map<String, Object> indexedValues(T info);
+
+    public @Override void add(@NonNull T value) {
+        checkNotAProxy(value);
+        Map<String, Object> indexed = indexedValues(value);
+        List<String> columns = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        columns.add("id");
+        values.add(value.getId());
+        columns.add(TYPE_COLUMN);
+        values.add(typeName(value));
+        indexed.forEach(
+                (column, v) -> {
+                    columns.add(column);
+                    values.add(v);
+                });
+        columns.add(INFO_COLUMN);
+        values.add(encode(value));
+        String placeholders = columns.stream().map(c -> "?").collect(Collectors.joining(", "));
+        String sql =
+                String.format(
+                        "INSERT INTO %s (%s) VALUES (%s)",
+                        table, String.join(", ", columns), placeholders);
+        try {
+            template.update(sql, values.toArray());
+        } catch (DuplicateKeyException e) {
+            log.warn(
+                    "{}:{} already exists, not replaced",
+                    getContentType().getSimpleName(),
+                    value.getId());
+            return;
+        }
+        inserted(value);
+    }
+
+    /** Called after {@code info} has been inserted, to maintain derived columns and tables */
+    protected void inserted(T info) {
+        // no-op by default
+    }
+
+    public @Override void remove(@NonNull T value) {
+        template.update(String.format("DELETE FROM %s WHERE id = ?", table), value.getId());
+    }
+
+    /**
+     * Applies the patch to the stored object in a transaction, holding a row lock on it, and
+     * rewrites both the JSON document and the indexed columns.
+     *
+     * <p>If the patch only changes {@link #topLevelProperties top-level} properties, their encoded
+     * values are set straight into the stored document. Otherwise the patch is applied to the
+     * decoded object, which is then re-encoded, since the patch property names don't map 1:1 to the
+     * encoded document's structure.
+     */
+    public @Override <I extends T> I update(@NonNull I value, @NonNull Patch patch) {
+        checkNotAProxy(value);
+        @SuppressWarnings("unchecked")
+        final Class<I> type = (Class<I>) ClassMappings.fromImpl(value.getClass()).getInterface();
+        return transactionTemplate.execute(
+                status -> {
+                    String select =
+                            String.format(
+                                    "SELECT %s FROM %s WHERE id = ? FOR UPDATE",
+                                    INFO_COLUMN, table);
+                    String stored =
+                            template
+                                    .query(
+                                            select,
+                                            (rs, i) -> rs.getString(INFO_COLUMN),
+                                            value.getId())
+                                    .stream()
+                                    .findFirst()
+                                    .orElseThrow(
+                                            () ->
+                                                    new NoSuchElementException(
+                                                            String.format(
+                                                                    "%s with id %s does not exist",
+                                                                    type.getSimpleName(),
+                                                                    value.getId())));
+                    final I patched;
+                    final String encoded;
+                    if (isTopLevel(patch)) {
+                        encoded = patchDocument(stored, patch);
+                        patched = resolve(type.cast(decode(encoded)));
+                    } else {
+                        patched = resolve(type.cast(decode(stored)));
+                        patch.applyTo(patched, type);
+                        encoded = encode(patched);
+                    }
+                    save(patched, encoded);
+                    return patched;
+                });
+    }
+
+    /**
+     * @return whether {@code patch} only changes {@link #topLevelProperties top-level} properties
+     */
+    boolean isTopLevel(Patch patch) {
+        return patch.getPatches().stream()
+                .allMatch(p -> topLevelProperties.contains(p.getName()) && isScalar(p.getValue()));
+    }
+
+    private static boolean isScalar(Object value) {
+        return value == null
+                || value instanceof String
+                || value instanceof Boolean
+                || value instanceof Number
+                || value instanceof Enum
+                || value instanceof Date;
+    }
+
+    /**
+     * Sets the patched values into the properties object of the encoded document, which is wrapped
+     * by the type name. Null and empty string values are removed, as the encoder omits them
+     */
+    private String patchDocument(String encoded, Patch patch) {
+        try {
+            ObjectNode document = (ObjectNode) objectMapper.readTree(encoded);
+            ObjectNode properties = (ObjectNode) document.elements().next();
+            for (Patch.Property property : patch.getPatches()) {
+                Object value = property.getValue();
+                JsonNode node = value == null ? null : objectMapper.valueToTree(value);
+                if (node == null
+                        || node.isNull()
+                        || (node.isTextual() && node.textValue().isEmpty())) {
+                    properties.remove(property.getName());
+                } else {
+                    properties.set(property.getName(), node);
+                }
+            }
+            return objectMapper.writeValueAsString(document);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Rewrites the document and indexed columns of an existing object, called by {@link #update}
+     * inside its transaction
+     *
+     * @param encoded the encoded {@code info}
+     */
+    protected void save(T info, String encoded) {
+        Map<String, Object> indexed = indexedValues(info);
+        List<Object> values = new ArrayList<>(indexed.values());
+        values.add(encoded);
+        values.add(info.getId());
+        String assignments =
+                indexed.keySet().stream().map(c -> c + " = ?").collect(Collectors.joining(", "));
+        String sql =
+                String.format(
+                        "UPDATE %s SET %s, %s = ? WHERE id = ?", table, assignments, INFO_COLUMN);
+        template.update(sql, values.toArray());
+    }
+
+    /** No-op, the database contents outlive the repository */
+    public @Override void dispose() {
+        // no-op
+    }
+
+    public @Override boolean canSortBy(@NonNull String propertyName) {
+        return CatalogInfoLookup.canSort(propertyName, getContentType());
+    }
+
+    public @Override <U extends T> Stream<U> findAll(@NonNull Query<U> query) {
+        if (Filter.EXCLUDE.equals(query.getFilter())) {
+            return Stream.empty();
+        }
+        final EncodedFilter filter = filterEncoder.encode(query.getFilter());
+        final List<Object> arguments = new ArrayList<>();
+        final StringBuilder sql = select(query.getType(), filter, arguments);
+
+        final Optional<String> orderBy =
+                filter.isFullySupported() ? orderBy(query) : Optional.empty();
+        final boolean sortAndPageInDatabase = orderBy.isPresent();
+        if (sortAndPageInDatabase) {
+            sql.append(" ORDER BY ").append(orderBy.get());
+            if (query.count().isPresent()) {
+                sql.append(" LIMIT ?");
+                arguments.add(query.count().getAsInt());
+            }
+            if (query.offset().isPresent()) {
+                sql.append(" OFFSET ?");
+                arguments.add(query.offset().getAsInt());
+            }
+        } else {
+            sql.append(" ORDER BY id");
+        }
+
+        Stream<U> stream = queryForStream(query.getType(), sql.toString(), arguments.toArray());
+        if (!sortAndPageInDatabase) {
+            if (!filter.isFullySupported()) {
+                Filter postFilter = filter.getPostFilter();
+                log.debug("Post-filtering with {}", postFilter);
+                stream = stream.filter(postFilter::evaluate);
+            }
+            if (!query.getSortBy().isEmpty()) {
+                Comparator<U> comparator = CatalogInfoLookup.toComparator(query);
+                stream = stream.sorted(comparator);
+            }
+            if (query.offset().isPresent()) {
+                stream = stream.skip(query.offset().getAsInt());
+            }
+            if (query.count().isPresent()) {
+                stream = stream.limit(query.count().getAsInt());
+            }
+        }
+        return stream;
+    }
+
+    /**
+     * @return the {@code ORDER BY} clause for the query, or {@code empty} if any of the sort
+     *     properties is not indexed
+     */
+    private Optional<String> orderBy(Query<?> query) {
+        List<String> terms = new ArrayList<>();
+        for (SortBy sortBy : query.getSortBy()) {
+            String property = sortBy.getPropertyName().getPropertyName();
+            Optional<String> column = filterEncoder.columnFor(property);
+            if (column.isEmpty()) {
+                return Optional.empty();
+            }
+            // match the in-memory comparator, where nulls come first in ascending order
+            boolean descending = SortOrder.DESCENDING.equals(sortBy.getSortOrder());
+            terms.add(column.get() + (descending ? " DESC NULLS LAST" : " ASC NULLS FIRST"));
+        }
+        terms.add("id");
+        return Optional.of(String.join(", ", terms));
+    }
+
+    public @Override <U extends T> long count(@NonNull Class<U> of, @NonNull Filter filter) {
+        if (Filter.EXCLUDE.equals(filter)) {
+            return 0L;
+        }
+        final EncodedFilter encoded = filterEncoder.encode(filter);
+        if (encoded.isFullySupported()) {
+            List<Object> arguments = new ArrayList<>();
+            StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM ").append(table);
+            where(of, encoded, sql, arguments);
+            Long count = template.queryForObject(sql.toString(), Long.class, arguments.toArray());
+            return count == null ? 0L : count.longValue();
+        }
+        try (Stream<U> all = findAll(Query.valueOf(of, filter))) {
+            return all.count();
+        }
+    }
+
+    public @Override <U extends T> Optional<U> findById(
+            @NonNull String id, @NonNull Class<U> clazz) {
+        return findOne(clazz, "id = ?", id);
+    }
+
+    public @Override <U extends T> Optional<U> findFirstByName(
+            @NonNull String name, @NonNull Class<U> clazz) {
+        return findOne(clazz, "name = ?", name);
+    }
+
+    public @Override void syncTo(@NonNull CatalogInfoRepository<T> target) {
+        try (Stream<T> all = findAll()) {
+            all.forEach(target::add);
+        }
+    }
+
+    /**
+     * @return the first object of type {@code type} matching the SQL {@code where} clause, in
+     *     {@code id} order
+     */
+    protected <U extends T> Optional<U> findOne(Class<U> type, String where, Object... args) {
+        List<Object> arguments = new ArrayList<>(Arrays.asList(args));
+        StringBuilder sql = select(type, where, arguments);
+        sql.append(" ORDER BY id LIMIT 1");
+        return template.query(sql.toString(), this::decodeRow, arguments.toArray()).stream()
+                .map(type::cast)
+                .map(this::resolve)
+                .findFirst();
+    }
+
+    /**
+     * @return all the objects of type {@code type} matching the SQL {@code where} clause, in {@code
+     *     id} order
+     */
+    protected <U extends T> Stream<U> findMany(Class<U> type, String where, Object... args) {
+        List<Object> arguments = new ArrayList<>(Arrays.asList(args));
+        StringBuilder sql = select(type, where, arguments);
+        sql.append(" ORDER BY id");
+        return queryForStream(type, sql.toString(), arguments.toArray());
+    }
+
+    private <U extends T> Stream<U> queryForStream(Class<U> type, String sql, Object[] arguments) {
+        @SuppressWarnings("unchecked")
+        Function<U, U> resolver = (Function<U, U>) this.streamResolver.get();
+        return template.queryForStream(sql, this::decodeRow, arguments)
+                .map(type::cast)
+                .map(resolver);
+    }
+
+    private StringBuilder select(Class<? extends T> type, String where, List<Object> arguments) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(INFO_COLUMN);
+        sql.append(" FROM ").append(table).append(" WHERE ").append(where);
+        appendTypeCondition(type, sql, arguments);
+        return sql;
+    }
+
+    private StringBuilder select(
+            Class<? extends T> type, EncodedFilter filter, List<Object> arguments) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(INFO_COLUMN);
+        sql.append(" FROM ").append(table);
+        where(type, filter, sql, arguments);
+        return sql;
+    }
+
+    private void where(
+            Class<? extends T> type,
+            EncodedFilter filter,
+            StringBuilder sql,
+            List<Object> arguments) {
+        sql.append(" WHERE ").append(filter.getWhere().orElse("1 = 1"));
+        arguments.addAll(filter.getArguments());
+        appendTypeCondition(type, sql, arguments);
+    }
+
+    /** Narrows the query to the concrete types assignable to {@code type}, if needed */
+    private void appendTypeCondition(
+            Class<? extends T> type, StringBuilder sql, List<Object> arguments) {
+        if (getContentType().equals(type)) {
+            return;
+        }
+        List<String> typeNames =
+                Arrays.stream(ClassMappings.values())
+                        .filter(m -> type.isAssignableFrom(m.getInterface()))
+                        .map(ClassMappings::name)
+                        .collect(Collectors.toList());
+        if (typeNames.isEmpty()) {
+            sql.append(" AND 1 = 0");
+            return;
+        }
+        String placeholders = typeNames.stream().map(t -> "?").collect(Collectors.joining(", "));
+        sql.append(" AND ").append(TYPE_COLUMN).append(" IN (").append(placeholders).append(")");
+        arguments.addAll(typeNames);
+    }
+
+    /**
+     * Establishes the object with the given id as the default one for {@code key} in the {@code
+     * catalog_default} table
+     */
+    protected void setDefault(String key, String id) {
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    template.update("DELETE FROM catalog_default WHERE default_key = ?", key);
+                    template.update(
+                            "INSERT INTO catalog_default (default_key, info_id) VALUES (?, ?)",
+                            key,
+                            id);
+                });
+    }
+
+    protected void unsetDefault(String key) {
+        template.update("DELETE FROM catalog_default WHERE default_key = ?", key);
+    }
+
+    protected <U extends T> Optional<U> findDefault(String key, Class<U> type) {
+        return findOne(
+                type, "id = (SELECT info_id FROM catalog_default WHERE default_key = ?)", key);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected <U extends T> U resolve(U info) {
+        return info == null ? null : (U) objectResolver.apply(info);
+    }
+
+    protected String typeName(T info) {
+        return ClassMappings.fromImpl(info.getClass()).name();
+    }
+
+    protected String encode(T info) {
+        try {
+            return objectMapper.writeValueAsString(info);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    protected T decodeRow(ResultSet rs, int rowNum) throws SQLException {
+        return decode(rs.getString(INFO_COLUMN));
+    }
+
+    protected T decode(String encoded) {
+        try {
+            return getContentType().cast(objectMapper.readValue(encoded, CatalogInfo.class));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Overrides the default {@link ObjectMapperUtil#newObjectMapper() object mapper} */
+    public void setObjectMapper(@NonNull ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    protected static String id(CatalogInfo info) {
+        return info == null ? null : info.getId();
+    }
+
+    private static void checkNotAProxy(CatalogInfo value) {
+        if (Proxy.isProxyClass(value.getClass())) {
+            throw new IllegalArgumentException(
+                    "Proxy values shall not be passed to PgconfigCatalogInfoRepository");
+        }
+    }
+}
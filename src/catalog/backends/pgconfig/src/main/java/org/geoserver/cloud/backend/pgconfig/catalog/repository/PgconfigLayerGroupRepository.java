@@ -0,0 +1,62 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.backend.pgconfig.catalog.repository;
+
+import lombok.NonNull;
+
+import org.geoserver.catalog.LayerGroupInfo;
+import org.geoserver.catalog.WorkspaceInfo;
+import org.geoserver.catalog.plugin.CatalogInfoRepository.LayerGroupRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * @since 1.0
+ */
+public class PgconfigLayerGroupRepository extends PgconfigCatalogInfoRepository<LayerGroupInfo>
+        implements LayerGroupRepository {
+
+    public PgconfigLayerGroupRepository(@NonNull JdbcTemplate template) {
+        super(template, "layergroupinfo");
+        filterEncoder
+                .column("name", "name", String.class)
+                .column("workspace.id", "workspace", String.class)
+                .column("enabled", "enabled", Boolean.class);
+        topLevelProperties("name", "title", "enabled", "advertised", "mode", "queryDisabled");
+    }
+
+    public @Override Class<LayerGroupInfo> getContentType() {
+        return LayerGroupInfo.class;
+    }
+
+    protected @Override Map<String, Object> indexedValues(LayerGroupInfo info) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("name", info.getName());
+        values.put("workspace", id(info.getWorkspace()));
+        values.put("enabled", info.isEnabled());
+        return values;
+    }
+
+    public @Override Optional<LayerGroupInfo> findByNameAndWorkspaceIsNull(@NonNull String name) {
+        return findOne(LayerGroupInfo.class, "workspace IS NULL AND name = ?", name);
+    }
+
+    public @Override Optional<LayerGroupInfo> findByNameAndWorkspace(
+            @NonNull String name, @NonNull WorkspaceInfo workspace) {
+        return findOne(LayerGroupInfo.class, "workspace = ? AND name = ?", workspace.getId(), name);
+    }
+
+    public @Override Stream<LayerGroupInfo> findAllByWorkspaceIsNull() {
+        return findMany(LayerGroupInfo.class, "workspace IS NULL");
+    }
+
+    public @Override Stream<LayerGroupInfo> findAllByWorkspace(@NonNull WorkspaceInfo workspace) {
+        return findMany(LayerGroupInfo.class, "workspace = ?", workspace.getId());
+    }
+}
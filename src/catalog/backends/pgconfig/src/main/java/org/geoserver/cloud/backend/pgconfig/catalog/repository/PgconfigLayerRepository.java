@@ -0,0 +1,140 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.backend.pgconfig.catalog.repository;
+
+import lombok.NonNull;
+
+import org.geoserver.catalog.LayerInfo;
+import org.geoserver.catalog.NamespaceInfo;
+import org.geoserver.catalog.ResourceInfo;
+import org.geoserver.catalog.StyleInfo;
+import org.geoserver.catalog.plugin.CatalogInfoRepository.LayerRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@link LayerRepository} indexing layers by their name, which is the name of their resource, kept
+ * up to date by {@link PgconfigResourceRepository} when a resource is renamed.
+ *
+ * <p>Layers are also indexed by the workspace of their resource's store, so filters on {@code
+ * resource.store.workspace.id}, like the per-workspace layer listings, run in the database. The
+ * column is computed from the stored resource and store rows on each insert and update, and kept up
+ * to date by {@link PgconfigResourceRepository} and {@link PgconfigStoreRepository} when a resource
+ * is moved to another store or a store to another workspace.
+ *
+ * <p>The ids of the layer's additional styles are indexed in the {@code layerinfo_styles} join
+ * table, so that {@link #findAllByDefaultStyleOrStyles} is resolved by the database.
+ *
+ * @since 1.0
+ */
+public class PgconfigLayerRepository extends PgconfigCatalogInfoRepository<LayerInfo>
+        implements LayerRepository {
+
+    /**
+     * Sets the indexed workspace of the layers matching the appended {@code WHERE} condition to the
+     * workspace of their resource's store
+     */
+    static final String UPDATE_WORKSPACE =
+            "UPDATE layerinfo SET workspace = (SELECT s.workspace FROM resourceinfo r"
+                    + " JOIN storeinfo s ON s.id = r.store WHERE r.id = layerinfo.resource) WHERE ";
+
+    public PgconfigLayerRepository(@NonNull JdbcTemplate template) {
+        super(template, "layerinfo");
+        filterEncoder
+                .column("name", "name", String.class)
+                .column("resource.name", "name", String.class)
+                .column("resource.id", "resource", String.class)
+                .column("defaultStyle.id", "defaultstyle", String.class)
+                .column("resource.store.workspace.id", "workspace", String.class)
+                .column("enabled", "enabled", Boolean.class);
+        topLevelProperties("path", "queryable", "opaque");
+    }
+
+    public @Override Class<LayerInfo> getContentType() {
+        return LayerInfo.class;
+    }
+
+    protected @Override Map<String, Object> indexedValues(LayerInfo info) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("name", info.getName());
+        values.put("resource", id(info.getResource()));
+        values.put("defaultstyle", id(info.getDefaultStyle()));
+        values.put("enabled", info.isEnabled());
+        return values;
+    }
+
+    /** Also indexes the layer workspace, from the stored resource and store, and its styles */
+    protected @Override void inserted(LayerInfo info) {
+        template.update(UPDATE_WORKSPACE + "id = ?", info.getId());
+        saveStyles(info);
+    }
+
+    /**
+     * Also updates the indexed workspace and styles, in case the layer's resource or styles changed
+     */
+    protected @Override void save(LayerInfo info, String encoded) {
+        super.save(info, encoded);
+        template.update(UPDATE_WORKSPACE + "id = ?", info.getId());
+        saveStyles(info);
+    }
+
+    /** Also removes the layer's style index entries */
+    public @Override void remove(@NonNull LayerInfo value) {
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    template.update("DELETE FROM layerinfo_styles WHERE layer = ?", value.getId());
+                    super.remove(value);
+                });
+    }
+
+    private void saveStyles(LayerInfo info) {
+        template.update("DELETE FROM layerinfo_styles WHERE layer = ?", info.getId());
+        List<Object[]> rows =
+                info.getStyles().stream()
+                        .map(PgconfigCatalogInfoRepository::id)
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .map(styleId -> new Object[] {info.getId(), styleId})
+                        .collect(Collectors.toList());
+        if (!rows.isEmpty()) {
+            template.batchUpdate("INSERT INTO layerinfo_styles (layer, style) VALUES (?, ?)", rows);
+        }
+    }
+
+    public @Override Optional<LayerInfo> findOneByName(@NonNull String name) {
+        return findOne(LayerInfo.class, "name = ?", name);
+    }
+
+    /** The layer name is indexed as the resource name, narrows by namespace with a sub-query */
+    public @Override Optional<LayerInfo> findOneByNameAndNamespace(
+            @NonNull String name, @NonNull NamespaceInfo namespace) {
+        return findOne(
+                LayerInfo.class,
+                "name = ? AND resource IN"
+                        + " (SELECT id FROM resourceinfo WHERE namespace = ? AND name = ?)",
+                name,
+                namespace.getId(),
+                name);
+    }
+
+    public @Override Stream<LayerInfo> findAllByDefaultStyleOrStyles(@NonNull StyleInfo style) {
+        return findMany(
+                LayerInfo.class,
+                "(defaultstyle = ? OR id IN (SELECT layer FROM layerinfo_styles WHERE style = ?))",
+                style.getId(),
+                style.getId());
+    }
+
+    public @Override Stream<LayerInfo> findAllByResource(@NonNull ResourceInfo resource) {
+        return findMany(LayerInfo.class, "resource = ?", resource.getId());
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.backend.pgconfig.catalog.repository;
+
+import lombok.NonNull;
+
+import org.geoserver.catalog.MapInfo;
+import org.geoserver.catalog.plugin.CatalogInfoRepository.MapRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * @since 1.0
+ */
+public class PgconfigMapRepository extends PgconfigCatalogInfoRepository<MapInfo>
+        implements MapRepository {
+
+    public PgconfigMapRepository(@NonNull JdbcTemplate template) {
+        super(template, "mapinfo");
+        filterEncoder.column("name", "name", String.class);
+        topLevelProperties("name", "enabled");
+    }
+
+    public @Override Class<MapInfo> getContentType() {
+        return MapInfo.class;
+    }
+
+    protected @Override Map<String, Object> indexedValues(MapInfo info) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("name", info.getName());
+        return values;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.backend.pgconfig.catalog.repository;
+
+import lombok.NonNull;
+
+import org.geoserver.catalog.NamespaceInfo;
+import org.geoserver.catalog.plugin.CatalogInfoRepository.NamespaceRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * @since 1.0
+ */
+public class PgconfigNamespaceRepository extends PgconfigCatalogInfoRepository<NamespaceInfo>
+        implements NamespaceRepository {
+
+    private static final String DEFAULT_KEY = "namespace";
+
+    public PgconfigNamespaceRepository(@NonNull JdbcTemplate template) {
+        super(template, "namespaceinfo");
+        filterEncoder
+                .column("prefix", "prefix", String.class)
+                .column("name", "prefix", String.class)
+                .column("URI", "uri", String.class)
+                .column("uri", "uri", String.class);
+        topLevelProperties("prefix", "isolated");
+    }
+
+    public @Override Class<NamespaceInfo> getContentType() {
+        return NamespaceInfo.class;
+    }
+
+    protected @Override Map<String, Object> indexedValues(NamespaceInfo info) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("prefix", info.getPrefix());
+        values.put("uri", info.getURI());
+        return values;
+    }
+
+    public @Override void setDefaultNamespace(@NonNull NamespaceInfo namespace) {
+        String id =
+                findById(namespace.getId(), NamespaceInfo.class)
+                        .map(NamespaceInfo::getId)
+                        .orElseThrow(NoSuchElementException::new);
+        setDefault(DEFAULT_KEY, id);
+    }
+
+    public @Override void unsetDefaultNamespace() {
+        unsetDefault(DEFAULT_KEY);
+    }
+
+    public @Override Optional<NamespaceInfo> getDefaultNamespace() {
+        return findDefault(DEFAULT_KEY, NamespaceInfo.class);
+    }
+
+    public @Override <U extends NamespaceInfo> Optional<U> findFirstByName(
+            @NonNull String name, @NonNull Class<U> clazz) {
+        return findOne(clazz, "prefix = ?", name);
+    }
+
+    public @Override Optional<NamespaceInfo> findOneByURI(@NonNull String uri) {
+        return findOne(NamespaceInfo.class, "uri = ?", uri);
+    }
+
+    public @Override Stream<NamespaceInfo> findAllByURI(@NonNull String uri) {
+        return findMany(NamespaceInfo.class, "uri = ?", uri);
+    }
+}
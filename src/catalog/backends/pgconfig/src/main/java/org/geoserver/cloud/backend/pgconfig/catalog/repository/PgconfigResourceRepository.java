@@ -0,0 +1,91 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.backend.pgconfig.catalog.repository;
+
+import lombok.NonNull;
+
+import org.geoserver.catalog.NamespaceInfo;
+import org.geoserver.catalog.ResourceInfo;
+import org.geoserver.catalog.StoreInfo;
+import org.geoserver.catalog.plugin.CatalogInfoRepository.ResourceRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * @since 1.0
+ */
+public class PgconfigResourceRepository extends PgconfigCatalogInfoRepository<ResourceInfo>
+        implements ResourceRepository {
+
+    public PgconfigResourceRepository(@NonNull JdbcTemplate template) {
+        super(template, "resourceinfo");
+        filterEncoder
+                .column("name", "name", String.class)
+                .column("namespace.id", "namespace", String.class)
+                .column("store.id", "store", String.class)
+                .column("enabled", "enabled", Boolean.class);
+        topLevelProperties(
+                "name",
+                "nativeName",
+                "title",
+                "description",
+                "enabled",
+                "advertised",
+                "serviceConfiguration",
+                "simpleConversionEnabled");
+    }
+
+    public @Override Class<ResourceInfo> getContentType() {
+        return ResourceInfo.class;
+    }
+
+    protected @Override Map<String, Object> indexedValues(ResourceInfo info) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("name", info.getName());
+        values.put("namespace", id(info.getNamespace()));
+        values.put("store", id(info.getStore()));
+        values.put("enabled", info.isEnabled());
+        return values;
+    }
+
+    /**
+     * Also updates the indexed name and workspace of the resource's layers, which are the resource
+     * name and the workspace of its store
+     */
+    protected @Override void save(ResourceInfo info, String encoded) {
+        super.save(info, encoded);
+        template.update(
+                "UPDATE layerinfo SET name = ? WHERE resource = ?", info.getName(), info.getId());
+        template.update(PgconfigLayerRepository.UPDATE_WORKSPACE + "resource = ?", info.getId());
+    }
+
+    public @Override <T extends ResourceInfo> Optional<T> findByNameAndNamespace(
+            @NonNull String name, @NonNull NamespaceInfo namespace, @NonNull Class<T> clazz) {
+        return findOne(clazz, "namespace = ? AND name = ?", namespace.getId(), name);
+    }
+
+    public @Override <T extends ResourceInfo> Stream<T> findAllByType(@NonNull Class<T> clazz) {
+        return findMany(clazz, "1 = 1");
+    }
+
+    public @Override <T extends ResourceInfo> Stream<T> findAllByNamespace(
+            @NonNull NamespaceInfo ns, @NonNull Class<T> clazz) {
+        return findMany(clazz, "namespace = ?", ns.getId());
+    }
+
+    public @Override <T extends ResourceInfo> Optional<T> findByStoreAndName(
+            @NonNull StoreInfo store, @NonNull String name, @NonNull Class<T> clazz) {
+        return findOne(clazz, "store = ? AND name = ?", store.getId(), name);
+    }
+
+    public @Override <T extends ResourceInfo> Stream<T> findAllByStore(
+            @NonNull StoreInfo store, @NonNull Class<T> clazz) {
+        return findMany(clazz, "store = ?", store.getId());
+    }
+}
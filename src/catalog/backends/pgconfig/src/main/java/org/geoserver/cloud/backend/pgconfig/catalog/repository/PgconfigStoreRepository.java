@@ -0,0 +1,96 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.backend.pgconfig.catalog.repository;
+
+import lombok.NonNull;
+
+import org.geoserver.catalog.DataStoreInfo;
+import org.geoserver.catalog.StoreInfo;
+import org.geoserver.catalog.WorkspaceInfo;
+import org.geoserver.catalog.plugin.CatalogInfoRepository.StoreRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * @since 1.0
+ */
+public class PgconfigStoreRepository extends PgconfigCatalogInfoRepository<StoreInfo>
+        implements StoreRepository {
+
+    private static final String DEFAULT_KEY_PREFIX = "datastore:";
+
+    public PgconfigStoreRepository(@NonNull JdbcTemplate template) {
+        super(template, "storeinfo");
+        filterEncoder
+                .column("name", "name", String.class)
+                .column("workspace.id", "workspace", String.class)
+                .column("enabled", "enabled", Boolean.class);
+        topLevelProperties("name", "description", "type", "enabled");
+    }
+
+    public @Override Class<StoreInfo> getContentType() {
+        return StoreInfo.class;
+    }
+
+    protected @Override Map<String, Object> indexedValues(StoreInfo info) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("name", info.getName());
+        values.put("workspace", id(info.getWorkspace()));
+        values.put("enabled", info.isEnabled());
+        return values;
+    }
+
+    /** Also updates the indexed workspace of the layers of the store's resources */
+    protected @Override void save(StoreInfo info, String encoded) {
+        super.save(info, encoded);
+        template.update(
+                PgconfigLayerRepository.UPDATE_WORKSPACE
+                        + "resource IN (SELECT id FROM resourceinfo WHERE store = ?)",
+                info.getId());
+    }
+
+    public @Override void setDefaultDataStore(
+            @NonNull WorkspaceInfo workspace, @NonNull DataStoreInfo dataStore) {
+        String id =
+                findById(dataStore.getId(), DataStoreInfo.class)
+                        .map(DataStoreInfo::getId)
+                        .orElseThrow(NoSuchElementException::new);
+        setDefault(DEFAULT_KEY_PREFIX + workspace.getId(), id);
+    }
+
+    public @Override void unsetDefaultDataStore(@NonNull WorkspaceInfo workspace) {
+        unsetDefault(DEFAULT_KEY_PREFIX + workspace.getId());
+    }
+
+    public @Override Optional<DataStoreInfo> getDefaultDataStore(@NonNull WorkspaceInfo workspace) {
+        return findDefault(DEFAULT_KEY_PREFIX + workspace.getId(), DataStoreInfo.class);
+    }
+
+    public @Override Stream<DataStoreInfo> getDefaultDataStores() {
+        return findMany(
+                DataStoreInfo.class,
+                "id IN (SELECT info_id FROM catalog_default WHERE default_key LIKE ?)",
+                DEFAULT_KEY_PREFIX + "%");
+    }
+
+    public @Override <T extends StoreInfo> Stream<T> findAllByWorkspace(
+            @NonNull WorkspaceInfo workspace, @NonNull Class<T> clazz) {
+        return findMany(clazz, "workspace = ?", workspace.getId());
+    }
+
+    public @Override <T extends StoreInfo> Stream<T> findAllByType(@NonNull Class<T> clazz) {
+        return findMany(clazz, "1 = 1");
+    }
+
+    public @Override <T extends StoreInfo> Optional<T> findByNameAndWorkspace(
+            @NonNull String name, @NonNull WorkspaceInfo workspace, @NonNull Class<T> clazz) {
+        return findOne(clazz, "workspace = ? AND name = ?", workspace.getId(), name);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.backend.pgconfig.catalog.repository;
+
+import lombok.NonNull;
+
+import org.geoserver.catalog.StyleInfo;
+import org.geoserver.catalog.WorkspaceInfo;
+import org.geoserver.catalog.plugin.CatalogInfoRepository.StyleRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * @since 1.0
+ */
+public class PgconfigStyleRepository extends PgconfigCatalogInfoRepository<StyleInfo>
+        implements StyleRepository {
+
+    public PgconfigStyleRepository(@NonNull JdbcTemplate template) {
+        super(template, "styleinfo");
+        filterEncoder
+                .column("name", "name", String.class)
+                .column("workspace.id", "workspace", String.class);
+        topLevelProperties("name", "format", "filename");
+    }
+
+    public @Override Class<StyleInfo> getContentType() {
+        return StyleInfo.class;
+    }
+
+    protected @Override Map<String, Object> indexedValues(StyleInfo info) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("name", info.getName());
+        values.put("workspace", id(info.getWorkspace()));
+        return values;
+    }
+
+    public @Override Stream<StyleInfo> findAllByNullWorkspace() {
+        return findMany(StyleInfo.class, "workspace IS NULL");
+    }
+
+    public @Override Stream<StyleInfo> findAllByWorkspace(@NonNull WorkspaceInfo ws) {
+        return findMany(StyleInfo.class, "workspace = ?", ws.getId());
+    }
+
+    public @Override Optional<StyleInfo> findByNameAndWordkspaceNull(@NonNull String name) {
+        return findOne(StyleInfo.class, "workspace IS NULL AND name = ?", name);
+    }
+
+    public @Override Optional<StyleInfo> findByNameAndWorkspace(
+            @NonNull String name, @NonNull WorkspaceInfo workspace) {
+        return findOne(StyleInfo.class, "workspace = ? AND name = ?", workspace.getId(), name);
+    }
+}
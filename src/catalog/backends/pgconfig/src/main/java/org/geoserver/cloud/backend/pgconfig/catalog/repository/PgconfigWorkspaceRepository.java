@@ -0,0 +1,57 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.backend.pgconfig.catalog.repository;
+
+import lombok.NonNull;
+
+import org.geoserver.catalog.WorkspaceInfo;
+import org.geoserver.catalog.plugin.CatalogInfoRepository.WorkspaceRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * @since 1.0
+ */
+public class PgconfigWorkspaceRepository extends PgconfigCatalogInfoRepository<WorkspaceInfo>
+        implements WorkspaceRepository {
+
+    private static final String DEFAULT_KEY = "workspace";
+
+    public PgconfigWorkspaceRepository(@NonNull JdbcTemplate template) {
+        super(template, "workspaceinfo");
+        filterEncoder.column("name", "name", String.class);
+        topLevelProperties("name", "isolated");
+    }
+
+    public @Override Class<WorkspaceInfo> getContentType() {
+        return WorkspaceInfo.class;
+    }
+
+    protected @Override Map<String, Object> indexedValues(WorkspaceInfo info) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("name", info.getName());
+        return values;
+    }
+
+    public @Override void unsetDefaultWorkspace() {
+        unsetDefault(DEFAULT_KEY);
+    }
+
+    public @Override void setDefaultWorkspace(@NonNull WorkspaceInfo workspace) {
+        String id =
+                findById(workspace.getId(), WorkspaceInfo.class)
+                        .map(WorkspaceInfo::getId)
+                        .orElseThrow(NoSuchElementException::new);
+        setDefault(DEFAULT_KEY, id);
+    }
+
+    public @Override Optional<WorkspaceInfo> getDefaultWorkspace() {
+        return findDefault(DEFAULT_KEY, WorkspaceInfo.class);
+    }
+}
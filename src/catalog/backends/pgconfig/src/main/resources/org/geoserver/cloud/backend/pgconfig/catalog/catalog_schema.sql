@@ -0,0 +1,108 @@
+-- Catalog schema for the pgconfig backend.
+-- Each CatalogInfo type has its own table, with the JSON encoded object in the info column, and
+-- the properties used by the repository lookups and the most common query filters as indexed
+-- columns, kept in sync with the document on each insert and update.
+-- The script is idempotent and runs on PostgreSQL and on H2 in PostgreSQL compatibility mode.
+
+CREATE TABLE IF NOT EXISTS workspaceinfo (
+  id VARCHAR(255) NOT NULL PRIMARY KEY,
+  infotype VARCHAR(64) NOT NULL,
+  name VARCHAR(255),
+  info TEXT NOT NULL
+);
+CREATE INDEX IF NOT EXISTS workspaceinfo_name_idx ON workspaceinfo (name);
+
+CREATE TABLE IF NOT EXISTS namespaceinfo (
+  id VARCHAR(255) NOT NULL PRIMARY KEY,
+  infotype VARCHAR(64) NOT NULL,
+  prefix VARCHAR(255),
+  uri VARCHAR(4096),
+  info TEXT NOT NULL
+);
+CREATE INDEX IF NOT EXISTS namespaceinfo_prefix_idx ON namespaceinfo (prefix);
+CREATE INDEX IF NOT EXISTS namespaceinfo_uri_idx ON namespaceinfo (uri);
+
+CREATE TABLE IF NOT EXISTS storeinfo (
+  id VARCHAR(255) NOT NULL PRIMARY KEY,
+  infotype VARCHAR(64) NOT NULL,
+  name VARCHAR(255),
+  workspace VARCHAR(255),
+  enabled BOOLEAN,
+  info TEXT NOT NULL
+);
+CREATE INDEX IF NOT EXISTS storeinfo_name_idx ON storeinfo (name);
+CREATE INDEX IF NOT EXISTS storeinfo_workspace_idx ON storeinfo (workspace, name);
+CREATE INDEX IF NOT EXISTS storeinfo_infotype_idx ON storeinfo (infotype);
+
+CREATE TABLE IF NOT EXISTS resourceinfo (
+  id VARCHAR(255) NOT NULL PRIMARY KEY,
+  infotype VARCHAR(64) NOT NULL,
+  name VARCHAR(255),
+  namespace VARCHAR(255),
+  store VARCHAR(255),
+  enabled BOOLEAN,
+  info TEXT NOT NULL
+);
+CREATE INDEX IF NOT EXISTS resourceinfo_name_idx ON resourceinfo (name);
+CREATE INDEX IF NOT EXISTS resourceinfo_namespace_idx ON resourceinfo (namespace, name);
+CREATE INDEX IF NOT EXISTS resourceinfo_store_idx ON resourceinfo (store, name);
+CREATE INDEX IF NOT EXISTS resourceinfo_infotype_idx ON resourceinfo (infotype);
+
+CREATE TABLE IF NOT EXISTS layerinfo (
+  id VARCHAR(255) NOT NULL PRIMARY KEY,
+  infotype VARCHAR(64) NOT NULL,
+  name VARCHAR(255),
+  resource VARCHAR(255),
+  defaultstyle VARCHAR(255),
+  workspace VARCHAR(255),
+  enabled BOOLEAN,
+  info TEXT NOT NULL
+);
+CREATE INDEX IF NOT EXISTS layerinfo_name_idx ON layerinfo (name);
+CREATE INDEX IF NOT EXISTS layerinfo_resource_idx ON layerinfo (resource);
+CREATE INDEX IF NOT EXISTS layerinfo_defaultstyle_idx ON layerinfo (defaultstyle);
+CREATE INDEX IF NOT EXISTS layerinfo_workspace_idx ON layerinfo (workspace);
+
+-- ids of each layer's additional styles, to find the layers using a style
+CREATE TABLE IF NOT EXISTS layerinfo_styles (
+  layer VARCHAR(255) NOT NULL,
+  style VARCHAR(255) NOT NULL,
+  PRIMARY KEY (layer, style)
+);
+CREATE INDEX IF NOT EXISTS layerinfo_styles_style_idx ON layerinfo_styles (style);
+
+CREATE TABLE IF NOT EXISTS layergroupinfo (
+  id VARCHAR(255) NOT NULL PRIMARY KEY,
+  infotype VARCHAR(64) NOT NULL,
+  name VARCHAR(255),
+  workspace VARCHAR(255),
+  enabled BOOLEAN,
+  info TEXT NOT NULL
+);
+CREATE INDEX IF NOT EXISTS layergroupinfo_name_idx ON layergroupinfo (name);
+CREATE INDEX IF NOT EXISTS layergroupinfo_workspace_idx ON layergroupinfo (workspace, name);
+
+CREATE TABLE IF NOT EXISTS styleinfo (
+  id VARCHAR(255) NOT NULL PRIMARY KEY,
+  infotype VARCHAR(64) NOT NULL,
+  name VARCHAR(255),
+  workspace VARCHAR(255),
+  info TEXT NOT NULL
+);
+CREATE INDEX IF NOT EXISTS styleinfo_name_idx ON styleinfo (name);
+CREATE INDEX IF NOT EXISTS styleinfo_workspace_idx ON styleinfo (workspace, name);
+
+CREATE TABLE IF NOT EXISTS mapinfo (
+  id VARCHAR(255) NOT NULL PRIMARY KEY,
+  infotype VARCHAR(64) NOT NULL,
+  name VARCHAR(255),
+  info TEXT NOT NULL
+);
+CREATE INDEX IF NOT EXISTS mapinfo_name_idx ON mapinfo (name);
+
+-- Default workspace, namespace, and per-workspace default data stores, keyed by
+-- 'workspace', 'namespace', and 'datastore:<workspace id>' respectively
+CREATE TABLE IF NOT EXISTS catalog_default (
+  default_key VARCHAR(512) NOT NULL PRIMARY KEY,
+  info_id VARCHAR(255) NOT NULL
+);
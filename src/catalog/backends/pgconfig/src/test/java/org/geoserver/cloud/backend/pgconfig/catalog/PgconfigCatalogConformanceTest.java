@@ -0,0 +1,41 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.backend.pgconfig.catalog;
+
+import org.geoserver.catalog.plugin.CatalogConformanceTest;
+import org.geoserver.catalog.plugin.CatalogPlugin;
+import org.junit.jupiter.api.AfterEach;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.UUID;
+
+/**
+ * Runs the {@link CatalogConformanceTest} suite against {@link PgconfigCatalogFacade} on an H2
+ * in-memory database in PostgreSQL compatibility mode, a new database for each test
+ */
+class PgconfigCatalogConformanceTest extends CatalogConformanceTest {
+
+    private DriverManagerDataSource dataSource;
+
+    protected @Override CatalogPlugin createCatalog() {
+        dataSource = new DriverManagerDataSource();
+        dataSource.setDriverClassName("org.h2.Driver");
+        dataSource.setUrl(
+                "jdbc:h2:mem:pgconfig-"
+                        + UUID.randomUUID()
+                        + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        PgconfigCatalogFacade.createSchema(dataSource);
+
+        CatalogPlugin catalog = new CatalogPlugin();
+        catalog.setFacade(new PgconfigCatalogFacade(new JdbcTemplate(dataSource)));
+        return catalog;
+    }
+
+    @AfterEach
+    void dropDatabase() {
+        new JdbcTemplate(dataSource).execute("SHUTDOWN");
+    }
+}
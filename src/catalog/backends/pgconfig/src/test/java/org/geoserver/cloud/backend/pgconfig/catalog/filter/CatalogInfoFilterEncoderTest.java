@@ -0,0 +1,183 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.backend.pgconfig.catalog.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.geoserver.cloud.backend.pgconfig.catalog.filter.CatalogInfoFilterEncoder.EncodedFilter;
+import org.geotools.factory.CommonFactoryFinder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opengis.filter.Filter;
+import org.opengis.filter.FilterFactory2;
+
+import java.util.List;
+import java.util.Optional;
+
+class CatalogInfoFilterEncoderTest {
+
+    private static final FilterFactory2 FF = CommonFactoryFinder.getFilterFactory2();
+
+    private CatalogInfoFilterEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        encoder =
+                new CatalogInfoFilterEncoder()
+                        .column("name", "name", String.class)
+                        .column("workspace.id", "workspace", String.class)
+                        .column("enabled", "enabled", Boolean.class);
+    }
+
+    @Test
+    void testIncludeAndExclude() {
+        EncodedFilter include = encoder.encode(Filter.INCLUDE);
+        assertEquals(Optional.empty(), include.getWhere());
+        assertTrue(include.isFullySupported());
+
+        assertEncoded("1 = 0", List.of(), Filter.EXCLUDE);
+    }
+
+    @Test
+    void testEqualTo() {
+        assertEncoded("name = ?", List.of("n1"), FF.equals(FF.property("name"), FF.literal("n1")));
+        // literal first
+        assertEncoded("name = ?", List.of("n1"), FF.equals(FF.literal("n1"), FF.property("name")));
+    }
+
+    @Test
+    void testNotEqualTo() {
+        // in-memory evaluation of a not-equal comparison against a null property is true
+        assertEncoded(
+                "(name IS NULL OR name <> ?)",
+                List.of("n1"),
+                FF.notEqual(FF.property("name"), FF.literal("n1")));
+    }
+
+    @Test
+    void testNotEqualToNullIsPostFiltered() {
+        Filter filter = FF.notEqual(FF.property("name"), FF.literal(null));
+        assertPostFiltered(filter);
+    }
+
+    @Test
+    void testIsNull() {
+        assertEncoded("name IS NULL", List.of(), FF.isNull(FF.property("name")));
+    }
+
+    @Test
+    void testLiteralConvertedToColumnType() {
+        assertEncoded(
+                "enabled = ?",
+                List.of(Boolean.TRUE),
+                FF.equals(FF.property("enabled"), FF.literal("true")));
+    }
+
+    @Test
+    void testMatchCaseFalse() {
+        assertEncoded(
+                "LOWER(name) = LOWER(?)",
+                List.of("N1"),
+                FF.equal(FF.property("name"), FF.literal("N1"), false));
+        assertEncoded(
+                "(name IS NULL OR LOWER(name) <> LOWER(?))",
+                List.of("N1"),
+                FF.notEqual(FF.property("name"), FF.literal("N1"), false));
+        // only applies to string columns
+        assertEncoded(
+                "enabled = ?",
+                List.of(Boolean.FALSE),
+                FF.equal(FF.property("enabled"), FF.literal(false), false));
+    }
+
+    @Test
+    void testOr() {
+        assertEncoded(
+                "(name = ? OR workspace = ?)",
+                List.of("n1", "ws1"),
+                FF.or(
+                        FF.equals(FF.property("name"), FF.literal("n1")),
+                        FF.equals(FF.property("workspace.id"), FF.literal("ws1"))));
+    }
+
+    @Test
+    void testOrWithUnsupportedChildIsPostFiltered() {
+        assertPostFiltered(
+                FF.or(
+                        FF.equals(FF.property("name"), FF.literal("n1")),
+                        FF.equals(FF.property("title"), FF.literal("t1"))));
+    }
+
+    @Test
+    void testUnsupported() {
+        // not a mapped property
+        assertPostFiltered(FF.equals(FF.property("title"), FF.literal("t1")));
+        // not a literal
+        assertPostFiltered(FF.equals(FF.property("name"), FF.property("workspace.id")));
+        // not a supported operator
+        assertPostFiltered(FF.like(FF.property("name"), "n*"));
+        assertPostFiltered(FF.less(FF.property("name"), FF.literal("n1")));
+    }
+
+    @Test
+    void testAnd() {
+        assertEncoded(
+                "name = ? AND workspace IS NULL",
+                List.of("n1"),
+                FF.and(
+                        FF.equals(FF.property("name"), FF.literal("n1")),
+                        FF.isNull(FF.property("workspace.id"))));
+    }
+
+    @Test
+    void testAndSplitWithPostFilterRemainder() {
+        Filter title = FF.equals(FF.property("title"), FF.literal("t1"));
+        Filter filter =
+                FF.and(
+                        List.of(
+                                FF.equals(FF.property("name"), FF.literal("n1")),
+                                title,
+                                FF.equals(FF.property("enabled"), FF.literal(true))));
+        EncodedFilter encoded = encoder.encode(filter);
+        assertEquals(Optional.of("name = ? AND enabled = ?"), encoded.getWhere());
+        assertEquals(List.of("n1", Boolean.TRUE), encoded.getArguments());
+        assertFalse(encoded.isFullySupported());
+        assertEquals(title, encoded.getPostFilter());
+    }
+
+    @Test
+    void testAndSplitWithSeveralUnsupported() {
+        Filter title = FF.equals(FF.property("title"), FF.literal("t1"));
+        Filter like = FF.like(FF.property("name"), "n*");
+        Filter filter =
+                FF.and(List.of(title, FF.equals(FF.property("name"), FF.literal("n1")), like));
+        EncodedFilter encoded = encoder.encode(filter);
+        assertEquals(Optional.of("name = ?"), encoded.getWhere());
+        assertEquals(FF.and(title, like), encoded.getPostFilter());
+    }
+
+    @Test
+    void testColumnFor() {
+        assertEquals(Optional.of("workspace"), encoder.columnFor("workspace.id"));
+        assertEquals(Optional.empty(), encoder.columnFor("title"));
+    }
+
+    private void assertEncoded(String expectedSql, List<Object> expectedArgs, Filter filter) {
+        EncodedFilter encoded = encoder.encode(filter);
+        assertEquals(Optional.of(expectedSql), encoded.getWhere());
+        assertEquals(expectedArgs, encoded.getArguments());
+        assertTrue(encoded.isFullySupported());
+    }
+
+    private void assertPostFiltered(Filter filter) {
+        EncodedFilter encoded = encoder.encode(filter);
+        assertEquals(Optional.empty(), encoded.getWhere());
+        assertEquals(List.of(), encoded.getArguments());
+        assertFalse(encoded.isFullySupported());
+        assertEquals(filter, encoded.getPostFilter());
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.backend.pgconfig.catalog.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.geoserver.catalog.LayerInfo;
+import org.geoserver.catalog.MetadataMap;
+import org.geoserver.catalog.StyleInfo;
+import org.geoserver.catalog.WorkspaceInfo;
+import org.geoserver.catalog.impl.FeatureTypeInfoImpl;
+import org.geoserver.catalog.impl.LayerInfoImpl;
+import org.geoserver.catalog.impl.StyleInfoImpl;
+import org.geoserver.catalog.impl.WorkspaceInfoImpl;
+import org.geoserver.catalog.plugin.Patch;
+import org.geoserver.catalog.plugin.Query;
+import org.geoserver.cloud.backend.pgconfig.catalog.PgconfigCatalogFacade;
+import org.geotools.factory.CommonFactoryFinder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opengis.filter.Filter;
+import org.opengis.filter.FilterFactory2;
+import org.opengis.filter.sort.SortBy;
+import org.opengis.filter.sort.SortOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+class PgconfigCatalogInfoRepositoryTest {
+
+    private static final FilterFactory2 FF = CommonFactoryFinder.getFilterFactory2();
+
+    private DriverManagerDataSource dataSource;
+    private RecordingJdbcTemplate template;
+
+    private PgconfigWorkspaceRepository workspaces;
+
+    /** Records the statements issued through {@link JdbcTemplate#queryForStream} */
+    private static class RecordingJdbcTemplate extends JdbcTemplate {
+        final List<String> queries = new ArrayList<>();
+
+        RecordingJdbcTemplate(DriverManagerDataSource dataSource) {
+            super(dataSource);
+        }
+
+        public @Override <T> Stream<T> queryForStream(
+                String sql, RowMapper<T> rowMapper, Object... args) {
+            queries.add(sql);
+            return super.queryForStream(sql, rowMapper, args);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource();
+        dataSource.setDriverClassName("org.h2.Driver");
+        dataSource.setUrl(
+                "jdbc:h2:mem:pgconfig-"
+                        + UUID.randomUUID()
+                        + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        PgconfigCatalogFacade.createSchema(dataSource);
+        template = new RecordingJdbcTemplate(dataSource);
+        workspaces = new PgconfigWorkspaceRepository(template);
+        for (int i = 5; i >= 1; i--) {
+            workspaces.add(workspace("ws" + i, i % 2 == 0));
+        }
+    }
+
+    @AfterEach
+    void dropDatabase() {
+        new JdbcTemplate(dataSource).execute("SHUTDOWN");
+    }
+
+    private WorkspaceInfo workspace(String name, boolean isolated) {
+        WorkspaceInfoImpl ws = new WorkspaceInfoImpl();
+        ws.setId(name + "-id");
+        ws.setName(name);
+        ws.setIsolated(isolated);
+        ws.getMetadata().put("key", name + "-value");
+        return ws;
+    }
+
+    private List<String> names(Query<WorkspaceInfo> query) {
+        template.queries.clear();
+        try (Stream<WorkspaceInfo> all = workspaces.findAll(query)) {
+            return all.map(WorkspaceInfo::getName).collect(Collectors.toList());
+        }
+    }
+
+    private String lastQuery() {
+        return template.queries.get(template.queries.size() - 1);
+    }
+
+    @Test
+    void testSortAndPageInDatabase() {
+        SortBy byName = FF.sort("name", SortOrder.DESCENDING);
+        Query<WorkspaceInfo> query =
+                Query.valueOf(WorkspaceInfo.class, Filter.INCLUDE, 1, 2, byName);
+
+        assertEquals(List.of("ws4", "ws3"), names(query));
+        String sql = lastQuery();
+        assertTrue(sql.contains("ORDER BY name DESC NULLS LAST, id"), sql);
+        assertTrue(sql.contains("LIMIT ?"), sql);
+        assertTrue(sql.contains("OFFSET ?"), sql);
+    }
+
+    @Test
+    void testSortAndPageInMemoryWithPostFilter() {
+        // isolated is not an indexed property, the whole query is evaluated in-memory
+        Filter isolated = FF.equals(FF.property("isolated"), FF.literal(false));
+        SortBy byName = FF.sort("name", SortOrder.ASCENDING);
+        Query<WorkspaceInfo> query = Query.valueOf(WorkspaceInfo.class, isolated, 1, 1, byName);
+
+        assertEquals(List.of("ws3"), names(query));
+        String sql = lastQuery();
+        assertTrue(sql.endsWith("ORDER BY id"), sql);
+        assertFalse(sql.contains("LIMIT"), sql);
+    }
+
+    @Test
+    void testSortInMemoryByUnindexedProperty() {
+        Filter filter = FF.equals(FF.property("name"), FF.literal("ws1"));
+        filter = FF.or(filter, FF.equals(FF.property("name"), FF.literal("ws2")));
+        SortBy byIsolated = FF.sort("isolated", SortOrder.DESCENDING);
+        Query<WorkspaceInfo> query = Query.valueOf(WorkspaceInfo.class, filter, 0, 1, byIsolated);
+
+        assertEquals(List.of("ws2"), names(query));
+        String sql = lastQuery();
+        assertTrue(sql.contains("(name = ? OR name = ?)"), sql);
+        assertTrue(sql.endsWith("ORDER BY id"), sql);
+    }
+
+    @Test
+    void testUpdateTopLevelProperties() {
+        WorkspaceInfo ws1 = workspaces.findById("ws1-id", WorkspaceInfo.class).orElseThrow();
+        Patch patch = new Patch().with("name", "renamed").with("isolated", true);
+        assertTrue(workspaces.isTopLevel(patch));
+
+        WorkspaceInfo updated = workspaces.update(ws1, patch);
+        assertEquals("renamed", updated.getName());
+        assertTrue(updated.isIsolated());
+        assertEquals("ws1-value", updated.getMetadata().get("key"));
+
+        WorkspaceInfo found =
+                workspaces.findFirstByName("renamed", WorkspaceInfo.class).orElseThrow();
+        assertEquals("ws1-id", found.getId());
+        assertTrue(found.isIsolated());
+        assertEquals("ws1-value", found.getMetadata().get("key"));
+        assertTrue(workspaces.findFirstByName("ws1", WorkspaceInfo.class).isEmpty());
+    }
+
+    @Test
+    void testUpdateTopLevelPropertyToNull() {
+        WorkspaceInfo ws1 = workspaces.findById("ws1-id", WorkspaceInfo.class).orElseThrow();
+        Patch patch = new Patch().with("dateModified", null);
+        assertTrue(workspaces.isTopLevel(patch));
+
+        WorkspaceInfo updated = workspaces.update(ws1, patch);
+        assertNull(updated.getDateModified());
+        assertEquals("ws1", updated.getName());
+    }
+
+    @Test
+    void testUpdateNestedProperties() {
+        WorkspaceInfo ws1 = workspaces.findById("ws1-id", WorkspaceInfo.class).orElseThrow();
+        MetadataMap metadata = new MetadataMap();
+        metadata.put("key", "changed");
+        Patch patch = new Patch().with("name", "renamed").with("metadata", metadata);
+        assertFalse(workspaces.isTopLevel(patch));
+
+        workspaces.update(ws1, patch);
+        WorkspaceInfo found =
+                workspaces.findFirstByName("renamed", WorkspaceInfo.class).orElseThrow();
+        assertEquals("changed", found.getMetadata().get("key"));
+    }
+
+    @Test
+    void testLayerStylesIndex() {
+        PgconfigLayerRepository layers = new PgconfigLayerRepository(template);
+        StyleInfo s1 = style("s1");
+        StyleInfo s2 = style("s2");
+        StyleInfo s3 = style("s3");
+
+        FeatureTypeInfoImpl resource = new FeatureTypeInfoImpl(null);
+        resource.setId("ft1");
+        resource.setName("ft1");
+        LayerInfoImpl layer = new LayerInfoImpl();
+        layer.setId("layer1");
+        layer.setResource(resource);
+        layer.setDefaultStyle(s1);
+        layer.getStyles().add(s2);
+        layers.add(layer);
+
+        assertEquals(List.of("layer1"), layerIds(layers.findAllByDefaultStyleOrStyles(s1)));
+        assertEquals(List.of("layer1"), layerIds(layers.findAllByDefaultStyleOrStyles(s2)));
+        assertEquals(List.of(), layerIds(layers.findAllByDefaultStyleOrStyles(s3)));
+
+        LayerInfo stored = layers.findById("layer1", LayerInfo.class).orElseThrow();
+        layers.update(stored, new Patch().with("styles", Set.of(s3)));
+        assertEquals(List.of(), layerIds(layers.findAllByDefaultStyleOrStyles(s2)));
+        assertEquals(List.of("layer1"), layerIds(layers.findAllByDefaultStyleOrStyles(s3)));
+
+        layers.remove(stored);
+        assertEquals(List.of(), layerIds(layers.findAllByDefaultStyleOrStyles(s3)));
+        Integer rows =
+                template.queryForObject("SELECT COUNT(*) FROM layerinfo_styles", Integer.class);
+        assertEquals(0, rows);
+    }
+
+    private StyleInfo style(String name) {
+        StyleInfoImpl style = new StyleInfoImpl(null);
+        style.setId(name + "-id");
+        style.setName(name);
+        return style;
+    }
+
+    private List<String> layerIds(Stream<LayerInfo> layers) {
+        try (layers) {
+            return layers.map(LayerInfo::getId).collect(Collectors.toList());
+        }
+    }
+}
@@ -54,4 +54,12 @@ public interface CachingCatalogFacade extends ExtendedCatalogFacade {
     static CatalogInfoKey generateLayersByResourceKey(ResourceInfo resource) {
         return new CatalogInfoKey("layers@" + resource.getId(), ClassMappings.LAYER);
     }
+
+    /**
+     * Key used to cache the id of the layer {@link #getLayerByPrefixedName(String, String)}
+     * resolves {@code prefix:name} to
+     */
+    static CatalogInfoKey generateLayerByPrefixedNameKey(String prefix, String name) {
+        return new CatalogInfoKey("layer@" + prefix + ":" + name, ClassMappings.LAYER);
+    }
 }
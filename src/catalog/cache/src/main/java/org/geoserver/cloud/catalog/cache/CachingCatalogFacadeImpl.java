@@ -4,6 +4,7 @@
  */
 package org.geoserver.cloud.catalog.cache;
 
+import static org.geoserver.cloud.catalog.cache.CachingCatalogFacade.generateLayerByPrefixedNameKey;
 import static org.geoserver.cloud.catalog.cache.CachingCatalogFacade.generateLayersByResourceKey;
 
 import lombok.NonNull;
@@ -53,12 +54,14 @@ class CachingCatalogFacadeImpl extends ForwardingExtendedCatalogFacade
         if (info instanceof ResourceInfo) {
             CatalogInfoKey layersByResourceKey = generateLayersByResourceKey((ResourceInfo) info);
             idCache.evict(layersByResourceKey);
+            evictLayerByPrefixedName((ResourceInfo) info);
         } else if (info instanceof LayerInfo) {
             LayerInfo l = (LayerInfo) info;
             ResourceInfo r = l.getResource();
             if (r != null) {
                 CatalogInfoKey layersByResourceKey = generateLayersByResourceKey(r);
                 idCache.evict(layersByResourceKey);
+                evictLayerByPrefixedName(r);
             }
         }
         CatalogInfoKey key = new CatalogInfoKey(info);
@@ -70,6 +73,20 @@ class CachingCatalogFacadeImpl extends ForwardingExtendedCatalogFacade
         return idCache.evictIfPresent(key);
     }
 
+    /**
+     * Evicts the {@link #getLayerByPrefixedName(String, String)} entry for {@code resource}'s
+     * current name, if it and its namespace prefix are known (e.g. not an unresolved proxy)
+     */
+    private void evictLayerByPrefixedName(ResourceInfo resource) {
+        if (idCache == null || resource == null) return;
+        NamespaceInfo namespace = resource.getNamespace();
+        String prefix = namespace == null ? null : namespace.getPrefix();
+        String name = resource.getName();
+        if (prefix != null && name != null) {
+            idCache.evict(generateLayerByPrefixedNameKey(prefix, name));
+        }
+    }
+
     @CachePut(key = "new org.geoserver.cloud.catalog.cache.CatalogInfoKey(#p0)")
     public @Override StoreInfo add(StoreInfo store) {
         return super.add(store);
@@ -112,6 +129,7 @@ class CachingCatalogFacadeImpl extends ForwardingExtendedCatalogFacade
 
     @CacheEvict(key = "new org.geoserver.cloud.catalog.cache.CatalogInfoKey(#p0)")
     public @Override void remove(ResourceInfo resource) {
+        evictLayerByPrefixedName(resource);
         super.remove(resource);
     }
 
@@ -125,6 +143,7 @@ class CachingCatalogFacadeImpl extends ForwardingExtendedCatalogFacade
                                 "new org.geoserver.cloud.catalog.cache.CatalogInfoKey('layers@' + #layer.resource.id, 'LAYER')")
             })
     public @Override void remove(LayerInfo layer) {
+        evictLayerByPrefixedName(layer.getResource());
         super.remove(layer);
     }
 
@@ -187,6 +206,12 @@ class CachingCatalogFacadeImpl extends ForwardingExtendedCatalogFacade
             key = "new org.geoserver.cloud.catalog.cache.CatalogInfoKey(#info)",
             unless = "#result == null")
     public @Override <I extends CatalogInfo> I update(final I info, final Patch patch) {
+        // evict by the names before the update
+        if (info instanceof ResourceInfo) {
+            evictLayerByPrefixedName((ResourceInfo) info);
+        } else if (info instanceof LayerInfo) {
+            evictLayerByPrefixedName(((LayerInfo) info).getResource());
+        }
         return super.update(info, patch);
     }
 
@@ -265,6 +290,48 @@ class CachingCatalogFacadeImpl extends ForwardingExtendedCatalogFacade
         return super.getLayers(resource);
     }
 
+    /**
+     * Caches the id of the layer {@code prefix:name} resolves to, rather than the layer itself, and
+     * validates the entry on each hit against the layer, its resource, and the resource's
+     * namespace, as cached by id. Those are evicted whenever the objects change, locally or through
+     * remote events, so renaming the namespace or the resource, pointing the layer to another
+     * resource, or removing the layer, turns the entry into a cache miss without having to know
+     * which prefixed names the change affects.
+     *
+     * @implNote manual caching, for the by-id lookups to go through the cache too
+     */
+    public @Override LayerInfo getLayerByPrefixedName(String prefix, String name) {
+        final CatalogInfoKey key = generateLayerByPrefixedNameKey(prefix, name);
+        ValueWrapper value = idCache.get(key);
+        if (value != null) {
+            String layerId = (String) value.get();
+            LayerInfo layer = getOrCache(layerId, LayerInfo.class, (id, c) -> super.getLayer(id));
+            if (layer != null && isNamed(layer, prefix, name)) {
+                return layer;
+            }
+            idCache.evict(key);
+        }
+        LayerInfo layer = super.getLayerByPrefixedName(prefix, name);
+        if (layer != null) {
+            idCache.put(key, layer.getId());
+        }
+        return layer;
+    }
+
+    /** Checks {@code layer} is named {@code prefix:name}, with the cached resource and namespace */
+    private boolean isNamed(LayerInfo layer, String prefix, String name) {
+        ResourceInfo resource = layer.getResource();
+        if (resource == null) return false;
+        resource = getOrCache(resource.getId(), ResourceInfo.class, super::getResource);
+        if (resource == null || !name.equals(resource.getName())) return false;
+        NamespaceInfo namespace = resource.getNamespace();
+        if (namespace == null) return false;
+        namespace =
+                getOrCache(
+                        namespace.getId(), NamespaceInfo.class, (id, c) -> super.getNamespace(id));
+        return namespace != null && prefix.equals(namespace.getPrefix());
+    }
+
     @Cacheable(
             key = "new org.geoserver.cloud.catalog.cache.CatalogInfoKey(#id, 'LAYERGROUP')",
             unless = "#result == null")
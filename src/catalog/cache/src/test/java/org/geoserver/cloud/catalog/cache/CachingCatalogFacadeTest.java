@@ -329,6 +329,90 @@ public class CachingCatalogFacadeTest {
         assertEquals(expected, layersWrapper.get());
     }
 
+    public @Test void testGetLayerByPrefixedName() {
+        when(ns.getPrefix()).thenReturn("ns");
+        when(ft.getNamespace()).thenReturn(ns);
+        when(ft.getName()).thenReturn("ft");
+        when(mock.getLayerByPrefixedName("ns", "ft")).thenReturn(layer);
+
+        assertSame(layer, caching.getLayerByPrefixedName("ns", "ft"));
+        assertSame(layer, caching.getLayerByPrefixedName("ns", "ft"));
+        assertSame(layer, caching.getLayerByPrefixedName("ns", "ft"));
+        verify(mock, times(1)).getLayerByPrefixedName("ns", "ft");
+
+        CatalogInfoKey key = CachingCatalogFacade.generateLayerByPrefixedNameKey("ns", "ft");
+        assertEquals(layer.getId(), cache.get(key).get());
+        // the layer, resource, and namespace are served from the cache too
+        verify(mock, times(1)).getLayer(layer.getId());
+        verify(mock, times(1)).getResource(ft.getId(), ResourceInfo.class);
+        verify(mock, times(1)).getNamespace(ns.getId());
+    }
+
+    public @Test void testGetLayerByPrefixedNameNotCachedIfNotFound() {
+        assertNull(caching.getLayerByPrefixedName("ns", "ft"));
+        assertNull(caching.getLayerByPrefixedName("ns", "ft"));
+        verify(mock, times(2)).getLayerByPrefixedName("ns", "ft");
+    }
+
+    public @Test void testGetLayerByPrefixedNameEvictedOnLayerChanges() {
+        when(ns.getPrefix()).thenReturn("ns");
+        when(ft.getNamespace()).thenReturn(ns);
+        when(ft.getName()).thenReturn("ft");
+        when(mock.getLayerByPrefixedName("ns", "ft")).thenReturn(layer);
+        CatalogInfoKey key = CachingCatalogFacade.generateLayerByPrefixedNameKey("ns", "ft");
+
+        assertSame(layer, caching.getLayerByPrefixedName("ns", "ft"));
+        caching.remove(layer);
+        assertNull(cache.get(key), "expected cache evict on layer removal");
+
+        assertSame(layer, caching.getLayerByPrefixedName("ns", "ft"));
+        caching.update(layer, new Patch());
+        assertNull(cache.get(key), "expected cache evict on layer update");
+
+        assertSame(layer, caching.getLayerByPrefixedName("ns", "ft"));
+        // as the remote events evictor does
+        caching.evict(layer);
+        assertNull(cache.get(key), "expected cache evict on remote layer change");
+    }
+
+    public @Test void testGetLayerByPrefixedNameEvictedOnResourceRename() {
+        when(ns.getPrefix()).thenReturn("ns");
+        when(ft.getNamespace()).thenReturn(ns);
+        when(ft.getName()).thenReturn("ft");
+        when(mock.getLayerByPrefixedName("ns", "ft")).thenReturn(layer);
+        CatalogInfoKey key = CachingCatalogFacade.generateLayerByPrefixedNameKey("ns", "ft");
+
+        assertSame(layer, caching.getLayerByPrefixedName("ns", "ft"));
+        caching.evict(ft);
+        assertNull(cache.get(key), "expected cache evict on resource change");
+
+        // renamed by another instance, the entry is stale but doesn't match anymore
+        assertSame(layer, caching.getLayerByPrefixedName("ns", "ft"));
+        when(ft.getName()).thenReturn("renamed");
+        when(mock.getLayerByPrefixedName("ns", "ft")).thenReturn(null);
+        assertNull(caching.getLayerByPrefixedName("ns", "ft"));
+        assertNull(cache.get(key));
+    }
+
+    public @Test void testGetLayerByPrefixedNameInvalidatedOnNamespaceRename() {
+        when(ns.getPrefix()).thenReturn("ns");
+        when(ft.getNamespace()).thenReturn(ns);
+        when(ft.getName()).thenReturn("ft");
+        when(mock.getLayerByPrefixedName("ns", "ft")).thenReturn(layer);
+        CatalogInfoKey key = CachingCatalogFacade.generateLayerByPrefixedNameKey("ns", "ft");
+        assertSame(layer, caching.getLayerByPrefixedName("ns", "ft"));
+
+        NamespaceInfo renamed = stub(NamespaceInfo.class, 1); // same id
+        when(renamed.getPrefix()).thenReturn("renamed");
+        when(mock.update(same(ns), any())).thenReturn(renamed);
+        when(mock.getLayerByPrefixedName("ns", "ft")).thenReturn(null);
+        caching.update(ns, new Patch().with("prefix", "renamed"));
+
+        assertNull(caching.getLayerByPrefixedName("ns", "ft"));
+        assertNull(cache.get(key), "expected stale entry to be evicted");
+        verify(mock, times(2)).getLayerByPrefixedName("ns", "ft");
+    }
+
     public @Test void testAddLayerGroupInfo() {
         LayerGroupInfo info = this.lg;
         LayerGroupInfo added = stub(LayerGroupInfo.class, 1); // same id
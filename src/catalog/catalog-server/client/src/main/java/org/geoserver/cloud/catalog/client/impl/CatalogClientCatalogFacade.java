@@ -24,9 +24,15 @@ import org.geoserver.catalog.plugin.forwarding.ResolvingCatalogFacadeDecorator;
 import org.geoserver.catalog.plugin.resolving.CatalogPropertyResolver;
 import org.geoserver.catalog.plugin.resolving.CollectionPropertiesInitializer;
 import org.geoserver.catalog.plugin.resolving.ResolvingProxyResolver;
+import org.geoserver.cloud.catalog.client.reactivefeign.ReactiveCatalogClient;
 import org.geoserver.cloud.catalog.client.repository.CatalogClientRepository;
 
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
 import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -62,10 +68,40 @@ import java.util.function.Supplier;
  */
 public class CatalogClientCatalogFacade extends ResolvingCatalogFacadeDecorator {
 
+    /** Used by {@link #findById(String)}, which has no counterpart in the repositories */
+    private ReactiveCatalogClient client;
+
+    /** The same resolver the repositories apply to single objects coming from the wire */
+    private Function<CatalogInfo, CatalogInfo> objectResolver = Function.identity();
+
     public CatalogClientCatalogFacade(@NonNull RepositoryCatalogFacade rawFacade) {
         super(rawFacade);
     }
 
+    public CatalogClientCatalogFacade(
+            @NonNull RepositoryCatalogFacade rawFacade, @NonNull ReactiveCatalogClient client) {
+        super(rawFacade);
+        this.client = client;
+    }
+
+    /**
+     * Resolves the object with a single call to the {@code catalog-service} type agnostic id
+     * lookup, instead of querying each {@link CatalogInfo} type endpoint in turn
+     */
+    public @Override Optional<CatalogInfo> findById(@NonNull String id) {
+        if (client == null) {
+            return super.findById(id);
+        }
+        Mono<CatalogInfo> call = client.findAnyById(id);
+        Optional<CatalogInfo> found;
+        if (Schedulers.isInNonBlockingThread()) {
+            found = CompletableFuture.supplyAsync(call::blockOptional).join();
+        } else {
+            found = call.blockOptional();
+        }
+        return found.map(objectResolver).map(this::resolveOutbound);
+    }
+
     // set up resolving chain
     public @Override void setCatalog(Catalog catalog) {
         super.setCatalog(catalog);
@@ -80,6 +116,7 @@ public class CatalogClientCatalogFacade extends ResolvingCatalogFacadeDecorator
         // resolver for single-object returning methods
         Function<CatalogInfo, CatalogInfo> outboundResolver =
                 proxyResolver.andThen(catalogPropertyResolver).andThen(collectionInitializer);
+        this.objectResolver = outboundResolver;
 
         // resolver supplier for Stream<> returning methods, uses memoized proxy resolver that
         // caches resolved references for the lifetime of the stream
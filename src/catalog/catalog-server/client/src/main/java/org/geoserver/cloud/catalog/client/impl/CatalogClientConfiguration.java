@@ -7,6 +7,7 @@ package org.geoserver.cloud.catalog.client.impl;
 import org.geoserver.catalog.plugin.RepositoryCatalogFacade;
 import org.geoserver.catalog.plugin.RepositoryCatalogFacadeImpl;
 import org.geoserver.cloud.catalog.client.reactivefeign.BlockingResourceStoreClient;
+import org.geoserver.cloud.catalog.client.reactivefeign.ReactiveCatalogClient;
 import org.geoserver.cloud.catalog.client.reactivefeign.ReactiveConfigClient;
 import org.geoserver.cloud.catalog.client.reactivefeign.ReactiveResourceStoreClient;
 import org.geoserver.cloud.catalog.client.repository.CatalogClientConfigRepository;
@@ -37,6 +38,7 @@ public class CatalogClientConfiguration {
     private @Autowired CatalogClientStyleRepository cloudStyleRepository;
     private @Autowired CatalogClientMapRepository cloudMapRepository;
 
+    private @Autowired ReactiveCatalogClient catalogClient;
     private @Autowired ReactiveConfigClient configClient;
     private @Autowired ReactiveResourceStoreClient resourceStoreClient;
 
@@ -51,7 +53,8 @@ public class CatalogClientConfiguration {
         rawFacade.setStyleRepository(cloudStyleRepository);
         rawFacade.setMapRepository(cloudMapRepository);
 
-        CatalogClientCatalogFacade facade = new CatalogClientCatalogFacade(rawFacade);
+        CatalogClientCatalogFacade facade =
+                new CatalogClientCatalogFacade(rawFacade, catalogClient);
         return facade;
     }
 
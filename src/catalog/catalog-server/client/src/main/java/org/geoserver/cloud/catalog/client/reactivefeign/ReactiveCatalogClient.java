@@ -62,6 +62,9 @@ public interface ReactiveCatalogClient {
             @PathVariable("id") String id,
             @RequestParam(name = "type", required = false) ClassMappings subType);
 
+    @GetMapping(path = {"/ids/{id}"})
+    Mono<CatalogInfo> findAnyById(@PathVariable("id") String id);
+
     @GetMapping(path = "/{endpoint}/name/{name}/first")
     <C extends CatalogInfo> Mono<C> findFirstByName( //
             @PathVariable("endpoint") String endpoint,
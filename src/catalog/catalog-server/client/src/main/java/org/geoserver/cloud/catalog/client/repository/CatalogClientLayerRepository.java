@@ -7,17 +7,34 @@ package org.geoserver.cloud.catalog.client.repository;
 import lombok.Getter;
 import lombok.NonNull;
 
+import org.geoserver.catalog.CatalogInfo;
 import org.geoserver.catalog.LayerInfo;
+import org.geoserver.catalog.Predicates;
 import org.geoserver.catalog.ResourceInfo;
 import org.geoserver.catalog.StyleInfo;
+import org.geoserver.catalog.impl.ProxyUtils;
+import org.geoserver.catalog.impl.ResolvingProxy;
 import org.geoserver.catalog.plugin.CatalogInfoRepository.LayerRepository;
+import org.geoserver.catalog.plugin.Query;
+import org.geoserver.catalog.plugin.resolving.ResolutionScope;
+import org.opengis.filter.Filter;
 
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class CatalogClientLayerRepository extends CatalogClientRepository<LayerInfo>
         implements LayerRepository {
 
+    /** Number of layers whose resources are fetched with a single query while streaming layers */
+    static final int RESOURCE_PREFETCH_SIZE = 100;
+
     private final @Getter Class<LayerInfo> contentType = LayerInfo.class;
 
     public @Override Stream<LayerInfo> findAllByDefaultStyleOrStyles(StyleInfo style) {
@@ -31,4 +48,69 @@ public class CatalogClientLayerRepository extends CatalogClientRepository<LayerI
     public @Override Optional<LayerInfo> findOneByName(@NonNull String name) {
         return findFirstByName(name, LayerInfo.class);
     }
+
+    /**
+     * Resolves the layers in batches of {@link #RESOURCE_PREFETCH_SIZE}, fetching the resources of
+     * each batch with a single query instead of one call per layer, which is what dominates the
+     * cost of traversing all layers, for example to build a capabilities document. The prefetched
+     * resources are only kept for their batch, while the {@link ResolutionScope} spanning the whole
+     * stream memoizes the stores, namespaces, workspaces, and styles they share.
+     */
+    protected @Override <I extends LayerInfo> Stream<I> toStream(Flux<I> flux) {
+        final Function<CatalogInfo, CatalogInfo> resolver = newStreamResolver();
+        final ResolutionScope scope = ResolutionScope.newScope();
+        return flux.buffer(RESOURCE_PREFETCH_SIZE)
+                .toStream()
+                .flatMap(batch -> scope.call(() -> resolveBatch(batch, resolver)).stream());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <I extends LayerInfo> List<I> resolveBatch(
+            List<I> batch, Function<CatalogInfo, CatalogInfo> resolver) {
+
+        final Map<String, ResourceInfo> resources = prefetchResources(batch, resolver);
+        return batch.stream()
+                .map(
+                        layer -> {
+                            String ref = resourceRef(layer);
+                            if (ref != null && resources.containsKey(ref)) {
+                                layer.setResource(resources.get(ref));
+                            }
+                            return (I) resolver.apply(layer);
+                        })
+                .collect(Collectors.toList());
+    }
+
+    private Map<String, ResourceInfo> prefetchResources(
+            List<? extends LayerInfo> batch, Function<CatalogInfo, CatalogInfo> resolver) {
+
+        List<Filter> unresolved =
+                batch.stream()
+                        .map(CatalogClientLayerRepository::resourceRef)
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .map(id -> Predicates.equal("id", id))
+                        .collect(Collectors.toList());
+        if (unresolved.isEmpty()) {
+            return Map.of();
+        }
+        Filter filter = unresolved.size() == 1 ? unresolved.get(0) : Predicates.or(unresolved);
+        Query<ResourceInfo> query = Query.valueOf(ResourceInfo.class, filter);
+        return client().query("resources", query)
+                .toStream()
+                .map(resource -> (ResourceInfo) resolver.apply(resource))
+                .collect(
+                        Collectors.toMap(ResourceInfo::getId, Function.identity(), (r1, r2) -> r1));
+    }
+
+    /**
+     * @return the id of the layer's resource if it's an unresolved reference, {@code null}
+     *     otherwise
+     */
+    private static String resourceRef(LayerInfo layer) {
+        ResourceInfo resource = layer.getResource();
+        ResolvingProxy proxy =
+                resource == null ? null : ProxyUtils.handler(resource, ResolvingProxy.class);
+        return proxy == null ? null : proxy.getRef();
+    }
 }
@@ -99,11 +99,18 @@ public abstract class CatalogClientRepository<CI extends CatalogInfo>
      */
     protected <I extends CI> Stream<I> toStream(Flux<I> flux) {
         @SuppressWarnings("unchecked")
-        Function<I, I> resolver = (Function<I, I>) this.streamResolver.get();
+        Function<I, I> resolver = (Function<I, I>) newStreamResolver();
         Stream<I> resolvingStream = flux.toStream().map(resolver::apply);
         return resolvingStream;
     }
 
+    /**
+     * @return a new instance of the stream resolver, to be used while a single stream is consumed
+     */
+    protected Function<CatalogInfo, CatalogInfo> newStreamResolver() {
+        return this.streamResolver.get();
+    }
+
     protected void block(Mono<Void> call) {
         if (Schedulers.isInNonBlockingThread()) {
             CompletableFuture.supplyAsync(call::block).join();
@@ -0,0 +1,133 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.catalog.client.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.geoserver.catalog.CatalogTestData;
+import org.geoserver.catalog.FeatureTypeInfo;
+import org.geoserver.catalog.LayerInfo;
+import org.geoserver.catalog.ResourceInfo;
+import org.geoserver.catalog.impl.LayerInfoImpl;
+import org.geoserver.catalog.impl.ProxyUtils;
+import org.geoserver.catalog.impl.ResolvingProxy;
+import org.geoserver.catalog.plugin.CatalogPlugin;
+import org.geoserver.catalog.plugin.Query;
+import org.geoserver.cloud.catalog.client.reactivefeign.ReactiveCatalogClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+class CatalogClientLayerRepositoryTest {
+
+    private static final int LAYERS = 250;
+
+    private ReactiveCatalogClient client;
+    private CatalogClientLayerRepository repository;
+
+    private CatalogTestData data;
+
+    /** The resources the mocked catalog service holds, by id */
+    private Map<String, FeatureTypeInfo> resources;
+
+    @BeforeEach
+    void setUp() {
+        CatalogPlugin catalog = new CatalogPlugin();
+        data = CatalogTestData.empty(() -> catalog, () -> null).initConfig(false).initialize();
+
+        List<FeatureTypeInfo> fts = new ArrayList<>();
+        for (int i = 0; i < LAYERS; i++) {
+            fts.add(data.createFeatureType("ft" + i));
+        }
+        resources =
+                fts.stream().collect(Collectors.toMap(FeatureTypeInfo::getId, Function.identity()));
+
+        client = Mockito.mock(ReactiveCatalogClient.class);
+        when(client.query(eq("resources"), any()))
+                .thenAnswer(
+                        invocation -> {
+                            Query<?> query = invocation.getArgument(1);
+                            return Flux.fromIterable(fts)
+                                    .filter(ft -> query.getFilter().evaluate(ft));
+                        });
+        repository = new CatalogClientLayerRepository();
+        repository.setClient(client);
+    }
+
+    @AfterEach
+    void after() {
+        data.after();
+    }
+
+    /** Creates layers as they come from the catalog service, with unresolved resource references */
+    private List<LayerInfo> remoteLayers() {
+        List<LayerInfo> layers = new ArrayList<>();
+        for (String resourceId : resources.keySet()) {
+            LayerInfoImpl layer = new LayerInfoImpl();
+            layer.setId("layer-" + resourceId);
+            layer.setResource(ResolvingProxy.create(resourceId, FeatureTypeInfo.class));
+            layers.add(layer);
+        }
+        return layers;
+    }
+
+    @Test
+    void toStreamPrefetchesResourcesPerBatch() {
+        List<LayerInfo> layers = remoteLayers();
+        List<String> expectedIds =
+                layers.stream()
+                        .map(l -> ProxyUtils.handler(l.getResource(), ResolvingProxy.class))
+                        .map(ResolvingProxy::getRef)
+                        .collect(Collectors.toList());
+
+        List<LayerInfo> resolved =
+                repository.toStream(Flux.fromIterable(layers)).collect(Collectors.toList());
+
+        assertEquals(LAYERS, resolved.size());
+        for (int i = 0; i < LAYERS; i++) {
+            ResourceInfo resource = resolved.get(i).getResource();
+            assertNull(ProxyUtils.handler(resource, ResolvingProxy.class));
+            assertSame(resources.get(expectedIds.get(i)), resource);
+        }
+        int batches =
+                (LAYERS + CatalogClientLayerRepository.RESOURCE_PREFETCH_SIZE - 1)
+                        / CatalogClientLayerRepository.RESOURCE_PREFETCH_SIZE;
+        verify(client, times(batches)).query(eq("resources"), any());
+    }
+
+    @Test
+    void toStreamDoesNotQueryResolvedResources() {
+        List<LayerInfo> layers = remoteLayers();
+        layers.forEach(
+                l -> {
+                    String id = ProxyUtils.handler(l.getResource(), ResolvingProxy.class).getRef();
+                    l.setResource(resources.get(id));
+                });
+
+        List<LayerInfo> resolved =
+                repository.toStream(Flux.fromIterable(layers)).collect(Collectors.toList());
+
+        assertEquals(layers, resolved);
+        verify(client, never()).query(anyString(), any());
+    }
+}
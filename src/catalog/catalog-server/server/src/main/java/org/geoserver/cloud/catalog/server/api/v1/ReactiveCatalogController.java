@@ -140,6 +140,13 @@ public class ReactiveCatalogController {
                                 type.getInterface().getSimpleName(), id));
     }
 
+    /** Type agnostic lookup by id, saves clients from querying each endpoint in turn */
+    @GetMapping(path = {"/ids/{id}"})
+    public Mono<CatalogInfo> findAnyById(@PathVariable("id") String id) {
+        return catalog.getById(id)
+                .switchIfEmpty(noContent("CatalogInfo with id '%s' does not exist", id));
+    }
+
     @GetMapping(path = "/{endpoint}/name/{name}/first")
     public Mono<? extends CatalogInfo> findFirstByName( //
             @PathVariable("endpoint") String endpoint,
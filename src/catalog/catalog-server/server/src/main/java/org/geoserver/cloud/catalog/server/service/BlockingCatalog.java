@@ -31,6 +31,9 @@ import org.opengis.filter.sort.SortBy;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.stream.Stream;
@@ -77,6 +80,19 @@ public class BlockingCatalog extends AbstractCatalogDecorator {
         }
     }
 
+    /**
+     * @return the catalog to run listing queries against, the raw catalog's {@link
+     *     CatalogPlugin#getReadOnlyView() read-only view} if available, since their results are
+     *     only encoded and sent back, and are not worth a change tracking {@code ModificationProxy}
+     *     each
+     */
+    private Catalog listing() {
+        if (delegate instanceof CatalogPlugin) {
+            return ((CatalogPlugin) delegate).getReadOnlyView();
+        }
+        return delegate;
+    }
+
     @SuppressWarnings("unchecked")
     public <C extends CatalogInfo> C get(String id, Class<? extends C> type) {
         if (WorkspaceInfo.class.isAssignableFrom(type)) return type.cast(delegate.getWorkspace(id));
@@ -93,6 +109,29 @@ public class BlockingCatalog extends AbstractCatalogDecorator {
         throw new IllegalArgumentException("unknown CatalogInfo class: " + type.getCanonicalName());
     }
 
+    /**
+     * Looks up an object of any type by id, with a single {@link CatalogPlugin#findById(String)}
+     * call if the decorated catalog is a {@code CatalogPlugin}, or trying each type in turn
+     * otherwise
+     */
+    public Optional<? extends CatalogInfo> findById(@NonNull String id) {
+        if (delegate instanceof CatalogPlugin) {
+            return ((CatalogPlugin) delegate).findById(id);
+        }
+        return Stream.of(
+                        WorkspaceInfo.class,
+                        NamespaceInfo.class,
+                        StoreInfo.class,
+                        ResourceInfo.class,
+                        LayerInfo.class,
+                        LayerGroupInfo.class,
+                        StyleInfo.class,
+                        MapInfo.class)
+                .map(type -> get(id, type))
+                .filter(Objects::nonNull)
+                .findFirst();
+    }
+
     public <C extends CatalogInfo> C add(@NonNull C info) {
         Class<? extends CatalogInfo> type = info.getClass();
         if (WorkspaceInfo.class.isAssignableFrom(type)) delegate.add((WorkspaceInfo) info);
@@ -185,7 +224,7 @@ public class BlockingCatalog extends AbstractCatalogDecorator {
 
         CloseableIterator<? extends C> iterator;
         try {
-            iterator = delegate.list(type, filter, offset, count, sortBy);
+            iterator = listing().list(type, filter, offset, count, sortBy);
         } catch (RuntimeException e) {
             e.printStackTrace();
             throw e;
@@ -203,11 +242,32 @@ public class BlockingCatalog extends AbstractCatalogDecorator {
     }
 
     public Stream<NamespaceInfo> getNamespacesByURI(String uri) {
-        return getFacade().getNamespacesByURI(uri).stream();
+        return listing().getFacade().getNamespacesByURI(uri).stream();
     }
 
     public Stream<DataStoreInfo> getDefaultDataStores() {
         Stream<WorkspaceInfo> workspaces = query(Query.all(WorkspaceInfo.class));
-        return workspaces.map(delegate::getDefaultDataStore).filter(d -> d != null);
+        return workspaces.map(listing()::getDefaultDataStore).filter(d -> d != null);
+    }
+
+    public @Override <T extends StoreInfo> List<T> getStoresByWorkspace(
+            WorkspaceInfo workspace, Class<T> clazz) {
+        return listing().getStoresByWorkspace(workspace, clazz);
+    }
+
+    public @Override List<LayerInfo> getLayers(ResourceInfo resource) {
+        return listing().getLayers(resource);
+    }
+
+    public @Override List<LayerInfo> getLayers(StyleInfo style) {
+        return listing().getLayers(style);
+    }
+
+    public @Override List<LayerGroupInfo> getLayerGroupsByWorkspace(WorkspaceInfo workspace) {
+        return listing().getLayerGroupsByWorkspace(workspace);
+    }
+
+    public @Override List<StyleInfo> getStylesByWorkspace(WorkspaceInfo workspace) {
+        return listing().getStylesByWorkspace(workspace);
     }
 }
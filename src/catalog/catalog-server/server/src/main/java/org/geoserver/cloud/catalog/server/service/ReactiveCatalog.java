@@ -35,6 +35,9 @@ public interface ReactiveCatalog {
 
     <C extends CatalogInfo> Mono<C> getById(@NonNull String id, @NonNull Class<C> type);
 
+    /** Looks up an object of any {@link CatalogInfo} type by id */
+    Mono<CatalogInfo> getById(@NonNull String id);
+
     <C extends CatalogInfo> Mono<C> getFirstByName(@NonNull String name, @NonNull Class<C> type);
 
     Mono<Boolean> canSortBy(Class<? extends CatalogInfo> type, String propertyName);
@@ -93,6 +93,10 @@ public class ReactiveCatalogImpl implements ReactiveCatalog {
         return async(() -> blockingCatalog.get(id, type));
     }
 
+    public @Override Mono<CatalogInfo> getById(@NonNull String id) {
+        return async(() -> blockingCatalog.findById(id).orElse(null));
+    }
+
     public @Override <C extends CatalogInfo> Mono<C> getFirstByName(
             @NonNull String name, @NonNull Class<C> type) {
 
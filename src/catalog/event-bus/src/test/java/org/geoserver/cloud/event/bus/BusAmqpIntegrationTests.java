@@ -224,7 +224,7 @@ public abstract class BusAmqpIntegrationTests {
         T proxy = ModificationProxy.create(ModificationProxy.unwrap(info), type);
         modifier.accept(proxy);
 
-        Patch expected = resolveExpectedDiff(proxy).clean().toPatch();
+        Patch expected = resolveExpectedDiff(proxy).clean().toCompactPatch();
         assertThat(expected.size()).isGreaterThan(0);
 
         this.eventsCaptor.start();
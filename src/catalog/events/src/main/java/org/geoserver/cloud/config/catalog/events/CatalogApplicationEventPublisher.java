@@ -187,6 +187,8 @@ class CatalogApplicationEventPublisher {
                 List<Object> newValues) {
 
             PropertyDiff diff = PropertyDiff.valueOf(propertyNames, oldValues, newValues);
+            // full values, no CollectionDeltas: a replica whose copy doesn't match the delta base
+            // can reload catalog objects from the shared data directory, but not config objects
             Patch patch = diff.clean().toPatch();
             push(id, patch);
         }
@@ -72,7 +72,7 @@ public class CatalogInfoModified extends InfoModified<CatalogInfoModified, Catal
                                 event.getOldValues(),
                                 event.getNewValues())
                         .clean()
-                        .toPatch();
+                        .toCompactPatch();
 
         if (!patch.isEmpty() && info instanceof Catalog) {
             Optional<Property> defaultWorkspace = patch.get("defaultWorkspace");
@@ -15,9 +15,11 @@ import org.geoserver.catalog.Catalog;
 import org.geoserver.catalog.CatalogInfo;
 import org.geoserver.catalog.CatalogTestData;
 import org.geoserver.catalog.Info;
+import org.geoserver.catalog.Keyword;
 import org.geoserver.catalog.event.CatalogListener;
 import org.geoserver.catalog.impl.ClassMappings;
 import org.geoserver.catalog.impl.ModificationProxy;
+import org.geoserver.catalog.plugin.CollectionDelta;
 import org.geoserver.catalog.plugin.Patch;
 import org.geoserver.catalog.plugin.Patch.Property;
 import org.geoserver.catalog.plugin.PropertyDiff;
@@ -283,6 +285,26 @@ public class CatalogApplicationEventsConfigurationTest {
         // testConfigModifyService(testData.wpsService);
     }
 
+    /** Config objects can't be reloaded on a delta base mismatch, so they get full values */
+    public @Test void testConfigModifyEventsCarryFullCollectionValues() {
+        for (int i = 0; i < 20; i++) {
+            testData.wmsService.getKeywords().add(new Keyword("keyword" + i));
+        }
+        geoserver.add(testData.wmsService);
+        ServiceInfo service = geoserver.getService(testData.wmsService.getId(), ServiceInfo.class);
+
+        listener.clear();
+        listener.start();
+        service.getKeywords().remove(0);
+        geoserver.save(service);
+
+        @SuppressWarnings("rawtypes")
+        ConfigInfoModified post = listener.expectOne(ConfigInfoModified.class);
+        Object keywords = post.getPatch().get("keywords").orElseThrow().getValue();
+        assertFalse(keywords instanceof CollectionDelta, "expected full value, got " + keywords);
+        assertEquals(service.getKeywords(), keywords);
+    }
+
     private void testConfigModifyService(ServiceInfo service) {
         service = geoserver.getService(service.getId(), ServiceInfo.class);
 
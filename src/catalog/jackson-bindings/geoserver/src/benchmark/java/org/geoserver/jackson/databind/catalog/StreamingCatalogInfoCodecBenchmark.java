@@ -0,0 +1,107 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.jackson.databind.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.geoserver.catalog.CatalogInfo;
+import org.geoserver.catalog.CatalogTestData;
+import org.geoserver.catalog.impl.ModificationProxy;
+import org.geoserver.catalog.plugin.CatalogPlugin;
+import org.geoserver.config.GeoServer;
+import org.geoserver.config.plugin.GeoServerImpl;
+import org.geoserver.jackson.databind.catalog.dto.CatalogInfoDto;
+import org.geoserver.jackson.databind.catalog.mapper.CatalogInfoMapper;
+import org.geoserver.platform.GeoServerExtensionsHelper;
+import org.geotools.jackson.databind.util.ObjectMapperUtil;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding throughput of {@link StreamingCatalogInfoCodec} compared to the DTO based
+ * code path, for the {@link CatalogInfo} types it supports. Each operation encodes or decodes one
+ * object of each type.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class StreamingCatalogInfoCodecBenchmark {
+
+    private static final CatalogInfoMapper mapper = Mappers.getMapper(CatalogInfoMapper.class);
+
+    private ObjectMapper objectMapper;
+    private List<CatalogInfo> infos;
+    private byte[][] encoded;
+
+    @Setup
+    public void setUp() throws Exception {
+        GeoServerExtensionsHelper.setIsSpringContext(false);
+        objectMapper = ObjectMapperUtil.newObjectMapper();
+        CatalogPlugin catalog = new CatalogPlugin();
+        GeoServer geoserver = new GeoServerImpl();
+        geoserver.setCatalog(catalog);
+        CatalogTestData data =
+                CatalogTestData.initialized(() -> catalog, () -> geoserver).initialize();
+        infos =
+                List.of(
+                        ModificationProxy.unwrap(data.workspaceA),
+                        ModificationProxy.unwrap(data.namespaceA),
+                        ModificationProxy.unwrap(data.dataStoreA),
+                        ModificationProxy.unwrap(data.featureTypeA),
+                        ModificationProxy.unwrap(data.coverageA),
+                        ModificationProxy.unwrap(data.layerFeatureTypeA),
+                        ModificationProxy.unwrap(data.style1));
+        encoded = new byte[infos.size()][];
+        for (int i = 0; i < encoded.length; i++) {
+            encoded[i] = objectMapper.writeValueAsBytes(infos.get(i));
+        }
+    }
+
+    @Benchmark
+    public void encodeDto(Blackhole blackhole) throws Exception {
+        for (CatalogInfo info : infos) {
+            blackhole.consume(objectMapper.writeValueAsBytes(mapper.map(info)));
+        }
+    }
+
+    @Benchmark
+    public void encodeStreaming(Blackhole blackhole) throws Exception {
+        for (CatalogInfo info : infos) {
+            blackhole.consume(objectMapper.writeValueAsBytes(info));
+        }
+    }
+
+    @Benchmark
+    public void decodeDto(Blackhole blackhole) throws Exception {
+        for (byte[] bytes : encoded) {
+            blackhole.consume(mapper.map(objectMapper.readValue(bytes, CatalogInfoDto.class)));
+        }
+    }
+
+    @Benchmark
+    public void decodeStreaming(Blackhole blackhole) throws Exception {
+        for (byte[] bytes : encoded) {
+            blackhole.consume(objectMapper.readValue(bytes, CatalogInfo.class));
+        }
+    }
+}
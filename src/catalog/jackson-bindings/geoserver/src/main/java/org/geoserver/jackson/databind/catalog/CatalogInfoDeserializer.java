@@ -6,6 +6,7 @@ package org.geoserver.jackson.databind.catalog;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 
@@ -23,8 +24,45 @@ public class CatalogInfoDeserializer<I extends CatalogInfo> extends JsonDeserial
     public @Override I deserialize(JsonParser parser, DeserializationContext ctxt)
             throws IOException, JsonProcessingException {
 
-        CatalogInfoDto dto = parser.readValueAs(CatalogInfoDto.class);
-        I info = mapper.map(dto);
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        }
+        if (token != JsonToken.FIELD_NAME) {
+            return ctxt.reportWrongTokenException(
+                    this, JsonToken.FIELD_NAME, "expected CatalogInfo type name");
+        }
+        final String typeName = parser.getCurrentName();
+        parser.nextToken();
+
+        final I info;
+        StreamingCatalogInfoCodec<I> codec = StreamingCatalogInfoCodec.forTypeName(typeName);
+        if (codec != null) {
+            info = codec.read(parser, ctxt);
+        } else {
+            CatalogInfoDto dto = readDto(typeName, parser, ctxt);
+            info = mapper.map(dto);
+        }
+        // type name wrapper object
+        if (parser.nextToken() != JsonToken.END_OBJECT) {
+            return ctxt.reportWrongTokenException(
+                    this, JsonToken.END_OBJECT, "expected end of %s wrapper object", typeName);
+        }
         return info;
     }
+
+    /**
+     * Reads the DTO with the parser positioned after its type name, hence with the non type-aware
+     * deserializer, since the type name wrapper object has already been consumed
+     */
+    private CatalogInfoDto readDto(String typeName, JsonParser parser, DeserializationContext ctxt)
+            throws IOException {
+        Class<? extends CatalogInfoDto> dtoType = StreamingCatalogInfoCodec.dtoType(typeName);
+        if (dtoType == null) {
+            return ctxt.reportInputMismatch(this, "unknown CatalogInfo type name %s", typeName);
+        }
+        JsonDeserializer<Object> deserializer =
+                ctxt.findContextualValueDeserializer(ctxt.constructType(dtoType), null);
+        return (CatalogInfoDto) deserializer.deserialize(parser, ctxt);
+    }
 }
@@ -33,6 +33,11 @@ public class CatalogInfoSerializer<I extends CatalogInfo> extends StdSerializer<
     public @Override void serialize(
             CatalogInfo info, JsonGenerator gen, SerializerProvider provider) throws IOException {
 
+        StreamingCatalogInfoCodec<CatalogInfo> codec = StreamingCatalogInfoCodec.forInfo(info);
+        if (codec != null && StreamingCatalogInfoCodec.supports(provider)) {
+            codec.write(info, gen, provider);
+            return;
+        }
         CatalogInfoDto dto = mapper.map(info);
         gen.writeObject(dto);
     }
@@ -45,7 +50,7 @@ public class CatalogInfoSerializer<I extends CatalogInfo> extends StdSerializer<
                 typeSer.writeTypePrefix(
                         gen, typeSer.typeId(value, infoType, JsonToken.VALUE_STRING));
 
-        serialize(value, gen, null);
+        serialize(value, gen, serializers);
 
         typeSer.writeTypeSuffix(gen, typeIdDef);
     }
@@ -31,6 +31,7 @@ import org.geoserver.catalog.impl.ModificationProxy;
 import org.geoserver.catalog.impl.ResolvingProxy;
 import org.geoserver.catalog.impl.ResourceInfoImpl;
 import org.geoserver.catalog.impl.StoreInfoImpl;
+import org.geoserver.catalog.plugin.CollectionDelta;
 import org.geoserver.catalog.plugin.Patch;
 import org.geoserver.config.GeoServer;
 import org.geoserver.config.GeoServerInfo;
@@ -117,6 +118,9 @@ public class ProxyUtils {
             Set<Object> set = (Set<Object>) orig;
             return resolve(set);
         }
+        if (orig instanceof CollectionDelta) {
+            return ((CollectionDelta) orig).mapValues(this::resolvePatchPropertyValue);
+        }
         return orig;
     }
 
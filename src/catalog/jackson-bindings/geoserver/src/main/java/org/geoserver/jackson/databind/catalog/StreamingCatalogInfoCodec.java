@@ -0,0 +1,1425 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.jackson.databind.catalog;
+
+import static org.geoserver.jackson.databind.catalog.GeoServerCatalogModule.SHARED_MAPPER;
+import static org.geoserver.jackson.databind.catalog.GeoServerCatalogModule.VALUE_MAPPER;
+import static org.geoserver.jackson.databind.catalog.mapper.CatalogInfoMapper.PUBLISHED_MAPPER;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import org.geoserver.catalog.AttributeTypeInfo;
+import org.geoserver.catalog.AuthorityURLInfo;
+import org.geoserver.catalog.Catalog;
+import org.geoserver.catalog.CatalogInfo;
+import org.geoserver.catalog.CoverageDimensionInfo;
+import org.geoserver.catalog.CoverageInfo;
+import org.geoserver.catalog.CoverageStoreInfo;
+import org.geoserver.catalog.DataLinkInfo;
+import org.geoserver.catalog.DataStoreInfo;
+import org.geoserver.catalog.FeatureTypeInfo;
+import org.geoserver.catalog.HTTPStoreInfo;
+import org.geoserver.catalog.Info;
+import org.geoserver.catalog.KeywordInfo;
+import org.geoserver.catalog.LayerGroupInfo;
+import org.geoserver.catalog.LayerIdentifierInfo;
+import org.geoserver.catalog.LayerInfo;
+import org.geoserver.catalog.LegendInfo;
+import org.geoserver.catalog.MetadataLinkInfo;
+import org.geoserver.catalog.NamespaceInfo;
+import org.geoserver.catalog.ProjectionPolicy;
+import org.geoserver.catalog.PublishedInfo;
+import org.geoserver.catalog.ResourceInfo;
+import org.geoserver.catalog.StoreInfo;
+import org.geoserver.catalog.StyleInfo;
+import org.geoserver.catalog.WMSLayerInfo;
+import org.geoserver.catalog.WMSStoreInfo;
+import org.geoserver.catalog.WMTSLayerInfo;
+import org.geoserver.catalog.WMTSStoreInfo;
+import org.geoserver.catalog.WorkspaceInfo;
+import org.geoserver.catalog.impl.CoverageInfoImpl;
+import org.geoserver.catalog.impl.CoverageStoreInfoImpl;
+import org.geoserver.catalog.impl.DataStoreInfoImpl;
+import org.geoserver.catalog.impl.FeatureTypeInfoImpl;
+import org.geoserver.catalog.impl.LayerGroupInfoImpl;
+import org.geoserver.catalog.impl.LayerGroupStyle;
+import org.geoserver.catalog.impl.LayerInfoImpl;
+import org.geoserver.catalog.impl.NamespaceInfoImpl;
+import org.geoserver.catalog.impl.ResourceInfoImpl;
+import org.geoserver.catalog.impl.StoreInfoImpl;
+import org.geoserver.catalog.impl.StyleInfoImpl;
+import org.geoserver.catalog.impl.WMSLayerInfoImpl;
+import org.geoserver.catalog.impl.WMSStoreInfoImpl;
+import org.geoserver.catalog.impl.WMTSLayerInfoImpl;
+import org.geoserver.catalog.impl.WMTSStoreInfoImpl;
+import org.geoserver.catalog.impl.WorkspaceInfoImpl;
+import org.geoserver.jackson.databind.catalog.dto.Attribution;
+import org.geoserver.jackson.databind.catalog.dto.CatalogInfoDto;
+import org.geoserver.jackson.databind.catalog.dto.InfoReference;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.measure.Measure;
+import org.geotools.util.Version;
+import org.opengis.coverage.grid.GridGeometry;
+import org.opengis.referencing.crs.CoordinateReferenceSystem;
+import org.opengis.util.InternationalString;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes and reads the most frequently encoded {@link CatalogInfo} types straight from/to the
+ * {@link JsonGenerator} and {@link JsonParser}, without the intermediate {@link CatalogInfoDto}
+ * copy the general purpose {@link CatalogInfoSerializer} and {@link CatalogInfoDeserializer} code
+ * path creates.
+ *
+ * <p>The encoded form is the same as the one produced for the corresponding DTO (the {@link
+ * JsonTypeName type name} wrapper object, the properties in DTO declaration order, and the {@link
+ * JsonInclude.Include#NON_EMPTY NON_EMPTY} inclusion rules {@link
+ * org.geotools.jackson.databind.util.ObjectMapperUtil} configures), so both code paths can read
+ * what the other one wrote. {@link #supports(SerializerProvider)} returns {@code false} for
+ * serialization configurations whose output this codec can't reproduce, in which case the DTO code
+ * path is used.
+ *
+ * <p>Nested value objects (keywords, CRS, envelopes, attributes, etc.) and {@link InfoReference
+ * references} to other objects are written and read with the same serializers and mappers the DTO
+ * code path uses for them, only the top level object is streamed.
+ *
+ * <p>Streamed types are {@link WorkspaceInfo}, {@link NamespaceInfo}, all the {@link StoreInfo} and
+ * {@link ResourceInfo} types, {@link LayerInfo}, {@link LayerGroupInfo} and {@link StyleInfo}.
+ * {@link org.geoserver.catalog.MapInfo} and the configuration objects ({@code GeoServerInfo},
+ * {@code SettingsInfo}, {@code LoggingInfo} and the {@code ServiceInfo}s) go through the DTO code
+ * path.
+ *
+ * @since 1.0
+ */
+abstract class StreamingCatalogInfoCodec<I extends CatalogInfo> {
+
+    private static final TypeFactory TYPES = TypeFactory.defaultInstance();
+
+    private static final JavaType METADATA_TYPE =
+            TYPES.constructMapType(HashMap.class, String.class, Serializable.class);
+    private static final JavaType I18N_TYPE =
+            TYPES.constructMapType(HashMap.class, String.class, String.class);
+    private static final JavaType STRINGS = list(String.class);
+    private static final JavaType KEYWORDS = list(KeywordInfo.class);
+    private static final JavaType METADATA_LINKS = list(MetadataLinkInfo.class);
+    private static final JavaType DATA_LINKS = list(DataLinkInfo.class);
+    private static final JavaType ATTRIBUTES = list(AttributeTypeInfo.class);
+    private static final JavaType COVERAGE_DIMENSIONS = list(CoverageDimensionInfo.class);
+    private static final JavaType AUTHORITY_URLS = list(AuthorityURLInfo.class);
+    private static final JavaType IDENTIFIERS = list(LayerIdentifierInfo.class);
+    private static final JavaType REFERENCE = TYPES.constructType(InfoReference.class);
+    private static final JavaType REFERENCE_SET =
+            TYPES.constructCollectionType(HashSet.class, InfoReference.class);
+    private static final JavaType CRS_TYPE = TYPES.constructType(CoordinateReferenceSystem.class);
+    private static final JavaType ENVELOPE = TYPES.constructType(ReferencedEnvelope.class);
+    private static final JavaType GRID = TYPES.constructType(GridGeometry.class);
+    private static final JavaType MEASURE = TYPES.constructType(Measure.class);
+    private static final JavaType VERSION = TYPES.constructType(Version.class);
+    private static final JavaType LEGEND = TYPES.constructType(LegendInfo.class);
+    private static final JavaType ATTRIBUTION = TYPES.constructType(Attribution.class);
+    private static final JavaType REFERENCES = list(InfoReference.class);
+    private static final JavaType LAYER_GROUP_STYLES =
+            list(org.geoserver.jackson.databind.catalog.dto.LayerGroupStyle.class);
+
+    private static final List<StreamingCatalogInfoCodec<?>> CODECS =
+            List.of(
+                    new WorkspaceCodec(),
+                    new NamespaceCodec(),
+                    new DataStoreCodec(),
+                    new CoverageStoreCodec(),
+                    new WMSStoreCodec(),
+                    new WMTSStoreCodec(),
+                    new FeatureTypeCodec(),
+                    new CoverageCodec(),
+                    new WMSLayerCodec(),
+                    new WMTSLayerCodec(),
+                    new LayerCodec(),
+                    new LayerGroupCodec(),
+                    new StyleCodec());
+
+    private static final Map<String, StreamingCatalogInfoCodec<?>> CODECS_BY_TYPE_NAME =
+            new HashMap<>();
+
+    /** Type name to DTO type, to read any other type once its type name has been consumed */
+    private static final Map<String, Class<? extends CatalogInfoDto>> DTO_TYPES = new HashMap<>();
+
+    static {
+        CODECS.forEach(codec -> CODECS_BY_TYPE_NAME.put(codec.typeName, codec));
+        collectDtoTypes(CatalogInfoDto.class);
+    }
+
+    private final String typeName;
+    private final Class<I> infoType;
+
+    protected StreamingCatalogInfoCodec(String typeName, Class<I> infoType) {
+        this.typeName = typeName;
+        this.infoType = infoType;
+    }
+
+    /**
+     * @return whether the output of the streaming codecs matches the one of the DTO serializers for
+     *     the given provider's configuration
+     */
+    static boolean supports(SerializerProvider provider) {
+        if (provider == null) return false;
+        SerializationConfig config = provider.getConfig();
+        JsonInclude.Value inclusion = config.getDefaultPropertyInclusion();
+        return inclusion.getValueInclusion() == JsonInclude.Include.NON_EMPTY
+                && !config.isEnabled(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY);
+    }
+
+    /**
+     * @return the streaming codec for {@code info}, or {@code null} if its type is not handled by a
+     *     streaming codec
+     */
+    @SuppressWarnings("unchecked")
+    static <I extends CatalogInfo> StreamingCatalogInfoCodec<I> forInfo(CatalogInfo info) {
+        for (StreamingCatalogInfoCodec<?> codec : CODECS) {
+            if (codec.infoType.isInstance(info)) return (StreamingCatalogInfoCodec<I>) codec;
+        }
+        return null;
+    }
+
+    /**
+     * @return the streaming codec for the {@link JsonTypeName type name}, or {@code null} if the
+     *     type is not handled by a streaming codec
+     */
+    @SuppressWarnings("unchecked")
+    static <I extends CatalogInfo> StreamingCatalogInfoCodec<I> forTypeName(String typeName) {
+        return (StreamingCatalogInfoCodec<I>) CODECS_BY_TYPE_NAME.get(typeName);
+    }
+
+    /**
+     * @return the concrete DTO type for the {@link JsonTypeName type name}, or {@code null}
+     */
+    static Class<? extends CatalogInfoDto> dtoType(String typeName) {
+        return DTO_TYPES.get(typeName);
+    }
+
+    /** Writes the type name wrapper object and the object's properties */
+    public void write(I info, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(typeName);
+        gen.writeStartObject(info);
+        writeString("id", info.getId(), gen);
+        writeDate("dateCreated", info.getDateCreated(), gen, provider);
+        writeDate("dateModified", info.getDateModified(), gen, provider);
+        writeProperties(info, gen, provider);
+        gen.writeEndObject();
+        gen.writeEndObject();
+    }
+
+    /**
+     * Reads the object's properties, with the parser positioned at the {@link
+     * JsonToken#START_OBJECT} following the type name, and leaves it at the matching {@link
+     * JsonToken#END_OBJECT}
+     */
+    public I read(JsonParser parser, DeserializationContext ctxt) throws IOException {
+        final I info = newInstance();
+        String name;
+        while ((name = parser.nextFieldName()) != null) {
+            parser.nextToken();
+            switch (name) {
+                case "id":
+                    setId(info, parser.getValueAsString());
+                    break;
+                case "dateCreated":
+                    info.setDateCreated(readDate(parser, ctxt));
+                    break;
+                case "dateModified":
+                    info.setDateModified(readDate(parser, ctxt));
+                    break;
+                default:
+                    if (!readProperty(name, info, parser, ctxt)) {
+                        unknownProperty(name, info, parser, ctxt);
+                    }
+            }
+        }
+        return info;
+    }
+
+    protected abstract I newInstance();
+
+    protected abstract void setId(I info, String id);
+
+    protected abstract void writeProperties(I info, JsonGenerator gen, SerializerProvider provider)
+            throws IOException;
+
+    /**
+     * @return {@code false} if the property is unknown
+     */
+    protected abstract boolean readProperty(
+            String name, I info, JsonParser parser, DeserializationContext ctxt) throws IOException;
+
+    protected static void writeString(String name, String value, JsonGenerator gen)
+            throws IOException {
+        if (value != null && !value.isEmpty()) {
+            gen.writeStringField(name, value);
+        }
+    }
+
+    protected static void writeNumber(String name, Double value, JsonGenerator gen)
+            throws IOException {
+        if (value != null) {
+            gen.writeNumberField(name, value.doubleValue());
+        }
+    }
+
+    protected static void writeEnum(String name, Enum<?> value, JsonGenerator gen)
+            throws IOException {
+        if (value != null) {
+            gen.writeStringField(name, value.name());
+        }
+    }
+
+    protected static void writeDate(
+            String name, Date value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            provider.defaultSerializeDateValue(value, gen);
+        }
+    }
+
+    protected static void writeMetadata(
+            Map<String, Serializable> metadata, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        writeValue("metadata", metadata, METADATA_TYPE, gen, provider);
+    }
+
+    /**
+     * Writes {@code value} with the serializer for its DTO property {@code type}, unless it's
+     * {@link JsonSerializer#isEmpty(SerializerProvider, Object) empty}
+     */
+    protected static void writeValue(
+            String name,
+            Object value,
+            JavaType type,
+            JsonGenerator gen,
+            SerializerProvider provider)
+            throws IOException {
+        if (value == null) return;
+        JsonSerializer<Object> serializer = provider.findValueSerializer(type, null);
+        if (!serializer.isEmpty(provider, value)) {
+            gen.writeFieldName(name);
+            serializer.serialize(value, gen, provider);
+        }
+    }
+
+    /** Writes the {@link InfoReference} to {@code info} */
+    protected static void writeReference(
+            String name, Info info, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        writeValue(name, SHARED_MAPPER.infoToReference(info), REFERENCE, gen, provider);
+    }
+
+    /**
+     * Writes the {@link InfoReference references} to the list elements, keeping {@code null}
+     * elements, which for layer group styles stand for the layer's default style
+     */
+    protected static void writeReferences(
+            String name, List<? extends Info> infos, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        if (infos == null) return;
+        List<InfoReference> refs = new ArrayList<>(infos.size());
+        for (Info info : infos) {
+            refs.add(SHARED_MAPPER.infoToReference(info));
+        }
+        writeValue(name, refs, REFERENCES, gen, provider);
+    }
+
+    /**
+     * Writes the {@link InternationalString} as a locale to text map, an empty map being omitted as
+     * for the DTO property
+     */
+    protected static void writeInternationalString(
+            String name, InternationalString value, JsonGenerator gen, SerializerProvider provider)
+            throws IOException {
+        writeValue(name, VALUE_MAPPER.internationalStringToDto(value), I18N_TYPE, gen, provider);
+    }
+
+    protected static Date readDate(JsonParser parser, DeserializationContext ctxt)
+            throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL
+                ? null
+                : ctxt.readValue(parser, Date.class);
+    }
+
+    protected static boolean readBoolean(JsonParser parser) throws IOException {
+        return parser.getValueAsBoolean();
+    }
+
+    protected static Double readDouble(JsonParser parser) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getValueAsDouble();
+    }
+
+    protected static <E extends Enum<E>> E readEnum(JsonParser parser, Class<E> type)
+            throws IOException {
+        String value = parser.getValueAsString();
+        return value == null ? null : Enum.valueOf(type, value);
+    }
+
+    protected static Map<String, Serializable> readMetadata(
+            JsonParser parser, DeserializationContext ctxt) throws IOException {
+        return readValue(METADATA_TYPE, parser, ctxt);
+    }
+
+    protected static <T> T readValue(JavaType type, JsonParser parser, DeserializationContext ctxt)
+            throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) return null;
+        return ctxt.readValue(parser, type);
+    }
+
+    /** Adds the values read as a collection of {@code type} to {@code target} */
+    protected static <T> void readInto(
+            Collection<T> target, JavaType type, JsonParser parser, DeserializationContext ctxt)
+            throws IOException {
+        Collection<T> values = readValue(type, parser, ctxt);
+        if (values != null) target.addAll(values);
+    }
+
+    protected static void readMetadataInto(
+            Map<String, Serializable> target, JsonParser parser, DeserializationContext ctxt)
+            throws IOException {
+        Map<String, Serializable> values = readMetadata(parser, ctxt);
+        if (values != null) target.putAll(values);
+    }
+
+    /**
+     * @return an unresolved {@link org.geoserver.catalog.impl.ResolvingProxy proxy} to the {@link
+     *     InfoReference referenced} object, as the DTO code path does
+     */
+    protected static <T extends Info> T readReference(
+            JsonParser parser, DeserializationContext ctxt) throws IOException {
+        InfoReference ref = readValue(REFERENCE, parser, ctxt);
+        return SHARED_MAPPER.referenceToInfo(ref);
+    }
+
+    /** Adds an unresolved proxy to {@code target} for each reference read, or {@code null} */
+    protected static <T extends Info> void readReferencesInto(
+            List<T> target, JsonParser parser, DeserializationContext ctxt) throws IOException {
+        List<InfoReference> refs = readValue(REFERENCES, parser, ctxt);
+        if (refs != null) {
+            for (InfoReference ref : refs) {
+                target.add(SHARED_MAPPER.referenceToInfo(ref));
+            }
+        }
+    }
+
+    protected static InternationalString readInternationalString(
+            JsonParser parser, DeserializationContext ctxt) throws IOException {
+        Map<String, String> value = readValue(I18N_TYPE, parser, ctxt);
+        return VALUE_MAPPER.dtoToInternationalString(value);
+    }
+
+    private void unknownProperty(
+            String name, I info, JsonParser parser, DeserializationContext ctxt)
+            throws IOException {
+        if (ctxt.isEnabled(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)) {
+            throw UnrecognizedPropertyException.from(parser, info, name, null);
+        }
+        parser.skipChildren();
+    }
+
+    private static JavaType list(Class<?> elementType) {
+        return TYPES.constructCollectionType(List.class, elementType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void collectDtoTypes(Class<?> type) {
+        JsonTypeName typeName = type.getAnnotation(JsonTypeName.class);
+        if (typeName != null) {
+            DTO_TYPES.put(typeName.value(), (Class<? extends CatalogInfoDto>) type);
+        }
+        JsonSubTypes subtypes = type.getDeclaredAnnotation(JsonSubTypes.class);
+        if (subtypes != null) {
+            for (JsonSubTypes.Type subtype : subtypes.value()) {
+                collectDtoTypes(subtype.value());
+            }
+        }
+    }
+
+    private static class WorkspaceCodec extends StreamingCatalogInfoCodec<WorkspaceInfo> {
+
+        WorkspaceCodec() {
+            super("WorkspaceInfo", WorkspaceInfo.class);
+        }
+
+        protected @Override WorkspaceInfo newInstance() {
+            return new WorkspaceInfoImpl();
+        }
+
+        protected @Override void setId(WorkspaceInfo info, String id) {
+            ((WorkspaceInfoImpl) info).setId(id);
+        }
+
+        protected @Override void writeProperties(
+                WorkspaceInfo info, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            writeString("name", info.getName(), gen);
+            gen.writeBooleanField("isolated", info.isIsolated());
+            writeMetadata(info.getMetadata(), gen, provider);
+        }
+
+        protected @Override boolean readProperty(
+                String name, WorkspaceInfo info, JsonParser parser, DeserializationContext ctxt)
+                throws IOException {
+            switch (name) {
+                case "name":
+                    info.setName(parser.getValueAsString());
+                    return true;
+                case "isolated":
+                    info.setIsolated(readBoolean(parser));
+                    return true;
+                case "metadata":
+                    readMetadataInto(info.getMetadata(), parser, ctxt);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+
+    private static class NamespaceCodec extends StreamingCatalogInfoCodec<NamespaceInfo> {
+
+        NamespaceCodec() {
+            super("NamespaceInfo", NamespaceInfo.class);
+        }
+
+        protected @Override NamespaceInfo newInstance() {
+            return new NamespaceInfoImpl();
+        }
+
+        protected @Override void setId(NamespaceInfo info, String id) {
+            ((NamespaceInfoImpl) info).setId(id);
+        }
+
+        /**
+         * Property order matches the DTO's, where {@code uri} comes last since it's bound through
+         * the {@code getURI()/setURI()} accessors instead of the {@code URI} field
+         */
+        protected @Override void writeProperties(
+                NamespaceInfo info, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            writeString("prefix", info.getPrefix(), gen);
+            gen.writeBooleanField("isolated", info.isIsolated());
+            writeMetadata(info.getMetadata(), gen, provider);
+            writeString("uri", info.getURI(), gen);
+        }
+
+        protected @Override boolean readProperty(
+                String name, NamespaceInfo info, JsonParser parser, DeserializationContext ctxt)
+                throws IOException {
+            switch (name) {
+                case "prefix":
+                    info.setPrefix(parser.getValueAsString());
+                    return true;
+                case "uri":
+                    info.setURI(parser.getValueAsString());
+                    return true;
+                case "isolated":
+                    info.setIsolated(readBoolean(parser));
+                    return true;
+                case "metadata":
+                    readMetadataInto(info.getMetadata(), parser, ctxt);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+
+    /** Properties of the {@code Store} DTO */
+    private abstract static class StoreCodec<S extends StoreInfo>
+            extends StreamingCatalogInfoCodec<S> {
+
+        StoreCodec(String typeName, Class<S> infoType) {
+            super(typeName, infoType);
+        }
+
+        protected @Override void setId(S info, String id) {
+            ((StoreInfoImpl) info).setId(id);
+        }
+
+        protected @Override void writeProperties(
+                S info, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            writeString("name", info.getName(), gen);
+            writeReference("workspace", info.getWorkspace(), gen, provider);
+            writeString("description", info.getDescription(), gen);
+            writeString("type", info.getType(), gen);
+            gen.writeBooleanField("enabled", info.isEnabled());
+            writeValue(
+                    "connectionParameters",
+                    info.getConnectionParameters(),
+                    METADATA_TYPE,
+                    gen,
+                    provider);
+            writeMetadata(info.getMetadata(), gen, provider);
+        }
+
+        protected @Override boolean readProperty(
+                String name, S info, JsonParser parser, DeserializationContext ctxt)
+                throws IOException {
+            switch (name) {
+                case "name":
+                    info.setName(parser.getValueAsString());
+                    return true;
+                case "workspace":
+                    info.setWorkspace(readReference(parser, ctxt));
+                    return true;
+                case "description":
+                    info.setDescription(parser.getValueAsString());
+                    return true;
+                case "type":
+                    info.setType(parser.getValueAsString());
+                    return true;
+                case "enabled":
+                    info.setEnabled(readBoolean(parser));
+                    return true;
+                case "connectionParameters":
+                    readMetadataInto(info.getConnectionParameters(), parser, ctxt);
+                    return true;
+                case "metadata":
+                    readMetadataInto(info.getMetadata(), parser, ctxt);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+
+    private static class DataStoreCodec extends StoreCodec<DataStoreInfo> {
+
+        DataStoreCodec() {
+            super("DataStoreInfo", DataStoreInfo.class);
+        }
+
+        protected @Override DataStoreInfo newInstance() {
+            return new DataStoreInfoImpl((Catalog) null);
+        }
+    }
+
+    private static class CoverageStoreCodec extends StoreCodec<CoverageStoreInfo> {
+
+        CoverageStoreCodec() {
+            super("CoverageStoreInfo", CoverageStoreInfo.class);
+        }
+
+        protected @Override CoverageStoreInfo newInstance() {
+            return new CoverageStoreInfoImpl((Catalog) null);
+        }
+
+        protected @Override void writeProperties(
+                CoverageStoreInfo info, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            super.writeProperties(info, gen, provider);
+            writeString("url", info.getURL(), gen);
+        }
+
+        protected @Override boolean readProperty(
+                String name, CoverageStoreInfo info, JsonParser parser, DeserializationContext ctxt)
+                throws IOException {
+            if ("url".equals(name)) {
+                info.setURL(parser.getValueAsString());
+                return true;
+            }
+            return super.readProperty(name, info, parser, ctxt);
+        }
+    }
+
+    /** Properties of the {@code HTTPStore} DTO */
+    private abstract static class HTTPStoreCodec<S extends HTTPStoreInfo> extends StoreCodec<S> {
+
+        HTTPStoreCodec(String typeName, Class<S> infoType) {
+            super(typeName, infoType);
+        }
+
+        protected @Override void writeProperties(
+                S info, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            super.writeProperties(info, gen, provider);
+            writeString("capabilitiesURL", info.getCapabilitiesURL(), gen);
+            writeString("username", info.getUsername(), gen);
+            writeString("password", info.getPassword(), gen);
+            gen.writeNumberField("maxConnections", info.getMaxConnections());
+            gen.writeNumberField("readTimeout", info.getReadTimeout());
+            gen.writeNumberField("connectTimeout", info.getConnectTimeout());
+            gen.writeBooleanField("useConnectionPooling", info.isUseConnectionPooling());
+        }
+
+        protected @Override boolean readProperty(
+                String name, S info, JsonParser parser, DeserializationContext ctxt)
+                throws IOException {
+            switch (name) {
+                case "capabilitiesURL":
+                    info.setCapabilitiesURL(parser.getValueAsString());
+                    return true;
+                case "username":
+                    info.setUsername(parser.getValueAsString());
+                    return true;
+                case "password":
+                    info.setPassword(parser.getValueAsString());
+                    return true;
+                case "maxConnections":
+                    info.setMaxConnections(parser.getValueAsInt());
+                    return true;
+                case "readTimeout":
+                    info.setReadTimeout(parser.getValueAsInt());
+                    return true;
+                case "connectTimeout":
+                    info.setConnectTimeout(parser.getValueAsInt());
+                    return true;
+                case "useConnectionPooling":
+                    info.setUseConnectionPooling(readBoolean(parser));
+                    return true;
+                default:
+                    return super.readProperty(name, info, parser, ctxt);
+            }
+        }
+    }
+
+    private static class WMSStoreCodec extends HTTPStoreCodec<WMSStoreInfo> {
+
+        WMSStoreCodec() {
+            super("WMSStoreInfo", WMSStoreInfo.class);
+        }
+
+        protected @Override WMSStoreInfo newInstance() {
+            return new WMSStoreInfoImpl((Catalog) null);
+        }
+    }
+
+    private static class WMTSStoreCodec extends HTTPStoreCodec<WMTSStoreInfo> {
+
+        WMTSStoreCodec() {
+            super("WMTSStoreInfo", WMTSStoreInfo.class);
+        }
+
+        protected @Override WMTSStoreInfo newInstance() {
+            return new WMTSStoreInfoImpl((Catalog) null);
+        }
+
+        protected @Override void writeProperties(
+                WMTSStoreInfo info, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            super.writeProperties(info, gen, provider);
+            writeString("headerName", info.getHeaderName(), gen);
+            writeString("headerValue", info.getHeaderValue(), gen);
+        }
+
+        protected @Override boolean readProperty(
+                String name, WMTSStoreInfo info, JsonParser parser, DeserializationContext ctxt)
+                throws IOException {
+            switch (name) {
+                case "headerName":
+                    info.setHeaderName(parser.getValueAsString());
+                    return true;
+                case "headerValue":
+                    info.setHeaderValue(parser.getValueAsString());
+                    return true;
+                default:
+                    return super.readProperty(name, info, parser, ctxt);
+            }
+        }
+    }
+
+    /** Properties of the {@code Resource} DTO */
+    private abstract static class ResourceCodec<R extends ResourceInfo>
+            extends StreamingCatalogInfoCodec<R> {
+
+        ResourceCodec(String typeName, Class<R> infoType) {
+            super(typeName, infoType);
+        }
+
+        protected @Override void setId(R info, String id) {
+            ((ResourceInfoImpl) info).setId(id);
+        }
+
+        protected @Override void writeProperties(
+                R info, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            writeString("name", info.getName(), gen);
+            writeReference("namespace", info.getNamespace(), gen, provider);
+            writeReference("store", info.getStore(), gen, provider);
+            writeString("nativeName", info.getNativeName(), gen);
+            writeValue("alias", info.getAlias(), STRINGS, gen, provider);
+            writeString("title", info.getTitle(), gen);
+            writeString("description", info.getDescription(), gen);
+            writeString("abstract", info.getAbstract(), gen);
+            writeValue("keywords", info.getKeywords(), KEYWORDS, gen, provider);
+            writeValue("metadataLinks", info.getMetadataLinks(), METADATA_LINKS, gen, provider);
+            writeValue("dataLinks", info.getDataLinks(), DATA_LINKS, gen, provider);
+            writeValue("nativeCRS", info.getNativeCRS(), CRS_TYPE, gen, provider);
+            writeString("srs", info.getSRS(), gen);
+            writeValue("nativeBoundingBox", info.getNativeBoundingBox(), ENVELOPE, gen, provider);
+            writeValue("latLonBoundingBox", info.getLatLonBoundingBox(), ENVELOPE, gen, provider);
+            writeEnum("projectionPolicy", info.getProjectionPolicy(), gen);
+            gen.writeBooleanField("enabled", info.isEnabled());
+            gen.writeBooleanField("advertised", info.isAdvertised());
+            writeMetadata(info.getMetadata(), gen, provider);
+            gen.writeBooleanField("serviceConfiguration", info.isServiceConfiguration());
+            writeValue("disabledServices", info.getDisabledServices(), STRINGS, gen, provider);
+            gen.writeBooleanField("simpleConversionEnabled", info.isSimpleConversionEnabled());
+            writeInternationalString(
+                    "internationalTitle", info.getInternationalTitle(), gen, provider);
+            writeInternationalString(
+                    "internationalAbstract", info.getInternationalAbstract(), gen, provider);
+        }
+
+        protected @Override boolean readProperty(
+                String name, R info, JsonParser parser, DeserializationContext ctxt)
+                throws IOException {
+            switch (name) {
+                case "name":
+                    info.setName(parser.getValueAsString());
+                    return true;
+                case "namespace":
+                    info.setNamespace(readReference(parser, ctxt));
+                    return true;
+                case "store":
+                    info.setStore(readReference(parser, ctxt));
+                    return true;
+                case "nativeName":
+                    info.setNativeName(parser.getValueAsString());
+                    return true;
+                case "alias":
+                    readInto(info.getAlias(), STRINGS, parser, ctxt);
+                    return true;
+                case "title":
+                    info.setTitle(parser.getValueAsString());
+                    return true;
+                case "description":
+                    info.setDescription(parser.getValueAsString());
+                    return true;
+                case "abstract":
+                    info.setAbstract(parser.getValueAsString());
+                    return true;
+                case "keywords":
+                    readInto(info.getKeywords(), KEYWORDS, parser, ctxt);
+                    return true;
+                case "metadataLinks":
+                    readInto(info.getMetadataLinks(), METADATA_LINKS, parser, ctxt);
+                    return true;
+                case "dataLinks":
+                    readInto(info.getDataLinks(), DATA_LINKS, parser, ctxt);
+                    return true;
+                case "nativeCRS":
+                    info.setNativeCRS(readValue(CRS_TYPE, parser, ctxt));
+                    return true;
+                case "srs":
+                    info.setSRS(parser.getValueAsString());
+                    return true;
+                case "nativeBoundingBox":
+                    info.setNativeBoundingBox(readValue(ENVELOPE, parser, ctxt));
+                    return true;
+                case "latLonBoundingBox":
+                    info.setLatLonBoundingBox(readValue(ENVELOPE, parser, ctxt));
+                    return true;
+                case "projectionPolicy":
+                    info.setProjectionPolicy(readEnum(parser, ProjectionPolicy.class));
+                    return true;
+                case "enabled":
+                    info.setEnabled(readBoolean(parser));
+                    return true;
+                case "advertised":
+                    info.setAdvertised(readBoolean(parser));
+                    return true;
+                case "metadata":
+                    readMetadataInto(info.getMetadata(), parser, ctxt);
+                    return true;
+                case "serviceConfiguration":
+                    info.setServiceConfiguration(readBoolean(parser));
+                    return true;
+                case "disabledServices":
+                    readInto(info.getDisabledServices(), STRINGS, parser, ctxt);
+                    return true;
+                case "simpleConversionEnabled":
+                    info.setSimpleConversionEnabled(readBoolean(parser));
+                    return true;
+                case "internationalTitle":
+                    info.setInternationalTitle(readInternationalString(parser, ctxt));
+                    return true;
+                case "internationalAbstract":
+                    info.setInternationalAbstract(readInternationalString(parser, ctxt));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+
+    private static class FeatureTypeCodec extends ResourceCodec<FeatureTypeInfo> {
+
+        FeatureTypeCodec() {
+            super("FeatureTypeInfo", FeatureTypeInfo.class);
+        }
+
+        protected @Override FeatureTypeInfo newInstance() {
+            return new FeatureTypeInfoImpl((Catalog) null);
+        }
+
+        protected @Override void writeProperties(
+                FeatureTypeInfo info, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            super.writeProperties(info, gen, provider);
+            writeString("cqlFilter", info.getCqlFilter(), gen);
+            gen.writeNumberField("maxFeatures", info.getMaxFeatures());
+            gen.writeNumberField("numDecimals", info.getNumDecimals());
+            gen.writeBooleanField("padWithZeros", info.getPadWithZeros());
+            gen.writeBooleanField("forcedDecimal", info.getForcedDecimal());
+            writeValue("attributes", info.getAttributes(), ATTRIBUTES, gen, provider);
+            writeValue("responseSRS", info.getResponseSRS(), STRINGS, gen, provider);
+            gen.writeBooleanField("overridingServiceSRS", info.isOverridingServiceSRS());
+            gen.writeBooleanField("skipNumberMatched", info.getSkipNumberMatched());
+            gen.writeBooleanField("circularArcPresent", info.isCircularArcPresent());
+            gen.writeBooleanField("encodeMeasures", info.getEncodeMeasures());
+            writeValue(
+                    "linearizationTolerance",
+                    info.getLinearizationTolerance(),
+                    MEASURE,
+                    gen,
+                    provider);
+        }
+
+        protected @Override boolean readProperty(
+                String name, FeatureTypeInfo info, JsonParser parser, DeserializationContext ctxt)
+                throws IOException {
+            switch (name) {
+                case "cqlFilter":
+                    info.setCqlFilter(parser.getValueAsString());
+                    return true;
+                case "maxFeatures":
+                    info.setMaxFeatures(parser.getValueAsInt());
+                    return true;
+                case "numDecimals":
+                    info.setNumDecimals(parser.getValueAsInt());
+                    return true;
+                case "padWithZeros":
+                    info.setPadWithZeros(readBoolean(parser));
+                    return true;
+                case "forcedDecimal":
+                    info.setForcedDecimal(readBoolean(parser));
+                    return true;
+                case "attributes":
+                    readInto(info.getAttributes(), ATTRIBUTES, parser, ctxt);
+                    return true;
+                case "responseSRS":
+                    readInto(info.getResponseSRS(), STRINGS, parser, ctxt);
+                    return true;
+                case "overridingServiceSRS":
+                    info.setOverridingServiceSRS(readBoolean(parser));
+                    return true;
+                case "skipNumberMatched":
+                    info.setSkipNumberMatched(readBoolean(parser));
+                    return true;
+                case "circularArcPresent":
+                    info.setCircularArcPresent(readBoolean(parser));
+                    return true;
+                case "encodeMeasures":
+                    info.setEncodeMeasures(readBoolean(parser));
+                    return true;
+                case "linearizationTolerance":
+                    info.setLinearizationTolerance(readValue(MEASURE, parser, ctxt));
+                    return true;
+                default:
+                    return super.readProperty(name, info, parser, ctxt);
+            }
+        }
+    }
+
+    private static class CoverageCodec extends ResourceCodec<CoverageInfo> {
+
+        CoverageCodec() {
+            super("CoverageInfo", CoverageInfo.class);
+        }
+
+        protected @Override CoverageInfo newInstance() {
+            return new CoverageInfoImpl((Catalog) null);
+        }
+
+        protected @Override void writeProperties(
+                CoverageInfo info, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            super.writeProperties(info, gen, provider);
+            writeString("nativeFormat", info.getNativeFormat(), gen);
+            writeValue("grid", info.getGrid(), GRID, gen, provider);
+            writeValue("supportedFormats", info.getSupportedFormats(), STRINGS, gen, provider);
+            writeValue(
+                    "interpolationMethods", info.getInterpolationMethods(), STRINGS, gen, provider);
+            writeString("defaultInterpolationMethod", info.getDefaultInterpolationMethod(), gen);
+            writeValue("dimensions", info.getDimensions(), COVERAGE_DIMENSIONS, gen, provider);
+            writeValue("requestSRS", info.getRequestSRS(), STRINGS, gen, provider);
+            writeValue("responseSRS", info.getResponseSRS(), STRINGS, gen, provider);
+            writeValue("parameters", info.getParameters(), METADATA_TYPE, gen, provider);
+            writeString("nativeCoverageName", info.getNativeCoverageName(), gen);
+        }
+
+        protected @Override boolean readProperty(
+                String name, CoverageInfo info, JsonParser parser, DeserializationContext ctxt)
+                throws IOException {
+            switch (name) {
+                case "nativeFormat":
+                    info.setNativeFormat(parser.getValueAsString());
+                    return true;
+                case "grid":
+                    info.setGrid(readValue(GRID, parser, ctxt));
+                    return true;
+                case "supportedFormats":
+                    readInto(info.getSupportedFormats(), STRINGS, parser, ctxt);
+                    return true;
+                case "interpolationMethods":
+                    readInto(info.getInterpolationMethods(), STRINGS, parser, ctxt);
+                    return true;
+                case "defaultInterpolationMethod":
+                    info.setDefaultInterpolationMethod(parser.getValueAsString());
+                    return true;
+                case "dimensions":
+                    readInto(info.getDimensions(), COVERAGE_DIMENSIONS, parser, ctxt);
+                    return true;
+                case "requestSRS":
+                    readInto(info.getRequestSRS(), STRINGS, parser, ctxt);
+                    return true;
+                case "responseSRS":
+                    readInto(info.getResponseSRS(), STRINGS, parser, ctxt);
+                    return true;
+                case "parameters":
+                    readMetadataInto(info.getParameters(), parser, ctxt);
+                    return true;
+                case "nativeCoverageName":
+                    info.setNativeCoverageName(parser.getValueAsString());
+                    return true;
+                default:
+                    return super.readProperty(name, info, parser, ctxt);
+            }
+        }
+    }
+
+    /**
+     * The {@code WMSLayer} DTO has no {@code remoteStyleInfos}, {@code styles} and {@code
+     * allAvailableRemoteStyles}, they're fetched from the remote server
+     */
+    private static class WMSLayerCodec extends ResourceCodec<WMSLayerInfo> {
+
+        WMSLayerCodec() {
+            super("WMSLayerInfo", WMSLayerInfo.class);
+        }
+
+        protected @Override WMSLayerInfo newInstance() {
+            return new WMSLayerInfoImpl((Catalog) null);
+        }
+
+        protected @Override void writeProperties(
+                WMSLayerInfo info, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            super.writeProperties(info, gen, provider);
+            writeString("forcedRemoteStyle", info.getForcedRemoteStyle(), gen);
+            writeString("preferredFormat", info.getPreferredFormat(), gen);
+            writeNumber("minScale", info.getMinScale(), gen);
+            writeNumber("maxScale", info.getMaxScale(), gen);
+            gen.writeBooleanField("metadataBBoxRespected", info.isMetadataBBoxRespected());
+            writeValue(
+                    "selectedRemoteFormats",
+                    info.getSelectedRemoteFormats(),
+                    STRINGS,
+                    gen,
+                    provider);
+            writeValue(
+                    "selectedRemoteStyles", info.getSelectedRemoteStyles(), STRINGS, gen, provider);
+        }
+
+        protected @Override boolean readProperty(
+                String name, WMSLayerInfo info, JsonParser parser, DeserializationContext ctxt)
+                throws IOException {
+            switch (name) {
+                case "forcedRemoteStyle":
+                    info.setForcedRemoteStyle(parser.getValueAsString());
+                    return true;
+                case "preferredFormat":
+                    info.setPreferredFormat(parser.getValueAsString());
+                    return true;
+                case "minScale":
+                    info.setMinScale(readDouble(parser));
+                    return true;
+                case "maxScale":
+                    info.setMaxScale(readDouble(parser));
+                    return true;
+                case "metadataBBoxRespected":
+                    info.setMetadataBBoxRespected(readBoolean(parser));
+                    return true;
+                case "selectedRemoteFormats":
+                    info.setSelectedRemoteFormats(readValue(STRINGS, parser, ctxt));
+                    return true;
+                case "selectedRemoteStyles":
+                    info.setSelectedRemoteStyles(readValue(STRINGS, parser, ctxt));
+                    return true;
+                default:
+                    return super.readProperty(name, info, parser, ctxt);
+            }
+        }
+    }
+
+    private static class WMTSLayerCodec extends ResourceCodec<WMTSLayerInfo> {
+
+        WMTSLayerCodec() {
+            super("WMTSLayerInfo", WMTSLayerInfo.class);
+        }
+
+        protected @Override WMTSLayerInfo newInstance() {
+            return new WMTSLayerInfoImpl((Catalog) null);
+        }
+    }
+
+    /** Properties of the {@code Published} DTO */
+    private abstract static class PublishedCodec<P extends PublishedInfo>
+            extends StreamingCatalogInfoCodec<P> {
+
+        PublishedCodec(String typeName, Class<P> infoType) {
+            super(typeName, infoType);
+        }
+
+        protected @Override void writeProperties(
+                P info, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            writeString("name", info.getName(), gen);
+            writeString("title", info.getTitle(), gen);
+            writeString("abstract", info.getAbstract(), gen);
+            gen.writeBooleanField("enabled", info.isEnabled());
+            gen.writeBooleanField("advertised", info.isAdvertised());
+            writeValue("authorityURLs", info.getAuthorityURLs(), AUTHORITY_URLS, gen, provider);
+            writeValue("identifiers", info.getIdentifiers(), IDENTIFIERS, gen, provider);
+            if (info.getAttribution() != null) {
+                Attribution attribution = VALUE_MAPPER.infoToDto(info.getAttribution());
+                writeValue("attribution", attribution, ATTRIBUTION, gen, provider);
+            }
+            writeMetadata(info.getMetadata(), gen, provider);
+        }
+
+        /**
+         * Reads the properties common to all published types but {@code name}, {@code title},
+         * {@code abstract}, {@code enabled} and {@code advertised}, which {@link LayerInfo} derives
+         * from its resource
+         */
+        protected @Override boolean readProperty(
+                String name, P info, JsonParser parser, DeserializationContext ctxt)
+                throws IOException {
+            switch (name) {
+                case "authorityURLs":
+                    readInto(info.getAuthorityURLs(), AUTHORITY_URLS, parser, ctxt);
+                    return true;
+                case "identifiers":
+                    readInto(info.getIdentifiers(), IDENTIFIERS, parser, ctxt);
+                    return true;
+                case "attribution":
+                    Attribution attribution = readValue(ATTRIBUTION, parser, ctxt);
+                    info.setAttribution(VALUE_MAPPER.dtoToInfo(attribution));
+                    return true;
+                case "metadata":
+                    readMetadataInto(info.getMetadata(), parser, ctxt);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+
+    /** Properties of the {@code Layer} DTO */
+    private static class LayerCodec extends PublishedCodec<LayerInfo> {
+
+        LayerCodec() {
+            super("LayerInfo", LayerInfo.class);
+        }
+
+        protected @Override LayerInfo newInstance() {
+            return new LayerInfoImpl();
+        }
+
+        protected @Override void setId(LayerInfo info, String id) {
+            ((LayerInfoImpl) info).setId(id);
+        }
+
+        protected @Override void writeProperties(
+                LayerInfo info, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            super.writeProperties(info, gen, provider);
+            writeString("path", info.getPath(), gen);
+            writeReference("defaultStyle", info.getDefaultStyle(), gen, provider);
+            writeValue("styles", styleReferences(info.getStyles()), REFERENCE_SET, gen, provider);
+            writeReference("resource", info.getResource(), gen, provider);
+            writeValue("legend", info.getLegend(), LEGEND, gen, provider);
+            writeEnum("type", info.getType(), gen);
+            gen.writeBooleanField("queryable", info.isQueryable());
+            gen.writeBooleanField("opaque", info.isOpaque());
+            writeEnum(
+                    "defaultWMSInterpolationMethod", info.getDefaultWMSInterpolationMethod(), gen);
+        }
+
+        /**
+         * Collects the style references into a {@link HashSet}, as the DTO mapper does, so the
+         * array is written in the same order
+         */
+        private Set<InfoReference> styleReferences(Set<StyleInfo> styles) {
+            if (styles == null) return null;
+            Set<InfoReference> refs = new HashSet<>(Math.max((int) (styles.size() / .75f) + 1, 16));
+            for (StyleInfo style : styles) {
+                refs.add(SHARED_MAPPER.infoToReference(style));
+            }
+            return refs;
+        }
+
+        /**
+         * {@code name}, {@code title}, {@code abstract}, {@code enabled}, {@code advertised} and
+         * {@code type} are derived from the resource and ignored, as the DTO mapper does
+         */
+        protected @Override boolean readProperty(
+                String name, LayerInfo info, JsonParser parser, DeserializationContext ctxt)
+                throws IOException {
+            switch (name) {
+                case "name":
+                case "title":
+                case "abstract":
+                case "enabled":
+                case "advertised":
+                case "type":
+                    parser.skipChildren();
+                    return true;
+                case "path":
+                    info.setPath(parser.getValueAsString());
+                    return true;
+                case "defaultStyle":
+                    info.setDefaultStyle(readReference(parser, ctxt));
+                    return true;
+                case "styles":
+                    Set<InfoReference> styles = readValue(REFERENCE_SET, parser, ctxt);
+                    if (styles != null) {
+                        for (InfoReference ref : styles) {
+                            info.getStyles().add(SHARED_MAPPER.referenceToInfo(ref));
+                        }
+                    }
+                    return true;
+                case "resource":
+                    info.setResource(readReference(parser, ctxt));
+                    return true;
+                case "legend":
+                    info.setLegend(readValue(LEGEND, parser, ctxt));
+                    return true;
+                case "queryable":
+                    info.setQueryable(readBoolean(parser));
+                    return true;
+                case "opaque":
+                    info.setOpaque(readBoolean(parser));
+                    return true;
+                case "defaultWMSInterpolationMethod":
+                    info.setDefaultWMSInterpolationMethod(
+                            readEnum(parser, LayerInfo.WMSInterpolation.class));
+                    return true;
+                default:
+                    return super.readProperty(name, info, parser, ctxt);
+            }
+        }
+    }
+
+    /**
+     * Properties of the {@code LayerGroup} DTO. {@code layers} and {@code styles} are parallel
+     * lists, {@code null} styles standing for the layer's default style, hence written and read
+     * keeping {@code null} elements
+     */
+    private static class LayerGroupCodec extends PublishedCodec<LayerGroupInfo> {
+
+        LayerGroupCodec() {
+            super("LayerGroupInfo", LayerGroupInfo.class);
+        }
+
+        protected @Override LayerGroupInfo newInstance() {
+            return new LayerGroupInfoImpl();
+        }
+
+        protected @Override void setId(LayerGroupInfo info, String id) {
+            ((LayerGroupInfoImpl) info).setId(id);
+        }
+
+        protected @Override void writeProperties(
+                LayerGroupInfo info, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            super.writeProperties(info, gen, provider);
+            writeEnum("mode", info.getMode(), gen);
+            gen.writeBooleanField("queryDisabled", info.isQueryDisabled());
+            writeReference("workspace", info.getWorkspace(), gen, provider);
+            writeReference("rootLayer", info.getRootLayer(), gen, provider);
+            writeReference("rootLayerStyle", info.getRootLayerStyle(), gen, provider);
+            writeReferences("layers", info.getLayers(), gen, provider);
+            writeReferences("styles", info.getStyles(), gen, provider);
+            writeValue("metadataLinks", info.getMetadataLinks(), METADATA_LINKS, gen, provider);
+            writeValue("bounds", info.getBounds(), ENVELOPE, gen, provider);
+            writeValue("keywords", info.getKeywords(), KEYWORDS, gen, provider);
+            writeInternationalString(
+                    "internationalTitle", info.getInternationalTitle(), gen, provider);
+            writeInternationalString(
+                    "internationalAbstract", info.getInternationalAbstract(), gen, provider);
+            writeLayerGroupStyles(info.getLayerGroupStyles(), gen, provider);
+        }
+
+        /**
+         * Layer group styles are value objects with no serializer of their own, written through
+         * their DTO as the DTO code path does
+         */
+        private void writeLayerGroupStyles(
+                List<LayerGroupStyle> styles, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            if (styles == null) return;
+            List<org.geoserver.jackson.databind.catalog.dto.LayerGroupStyle> dtos =
+                    new ArrayList<>(styles.size());
+            for (LayerGroupStyle style : styles) {
+                dtos.add(PUBLISHED_MAPPER.map(style));
+            }
+            writeValue("layerGroupStyles", dtos, LAYER_GROUP_STYLES, gen, provider);
+        }
+
+        protected @Override boolean readProperty(
+                String name, LayerGroupInfo info, JsonParser parser, DeserializationContext ctxt)
+                throws IOException {
+            switch (name) {
+                case "name":
+                    info.setName(parser.getValueAsString());
+                    return true;
+                case "title":
+                    info.setTitle(parser.getValueAsString());
+                    return true;
+                case "abstract":
+                    info.setAbstract(parser.getValueAsString());
+                    return true;
+                case "enabled":
+                    info.setEnabled(readBoolean(parser));
+                    return true;
+                case "advertised":
+                    info.setAdvertised(readBoolean(parser));
+                    return true;
+                case "mode":
+                    info.setMode(readEnum(parser, LayerGroupInfo.Mode.class));
+                    return true;
+                case "queryDisabled":
+                    if (parser.currentToken() != JsonToken.VALUE_NULL) {
+                        info.setQueryDisabled(readBoolean(parser));
+                    }
+                    return true;
+                case "workspace":
+                    info.setWorkspace(readReference(parser, ctxt));
+                    return true;
+                case "rootLayer":
+                    info.setRootLayer(readReference(parser, ctxt));
+                    return true;
+                case "rootLayerStyle":
+                    info.setRootLayerStyle(readReference(parser, ctxt));
+                    return true;
+                case "layers":
+                    readReferencesInto(info.getLayers(), parser, ctxt);
+                    return true;
+                case "styles":
+                    readReferencesInto(info.getStyles(), parser, ctxt);
+                    return true;
+                case "metadataLinks":
+                    readInto(info.getMetadataLinks(), METADATA_LINKS, parser, ctxt);
+                    return true;
+                case "bounds":
+                    info.setBounds(readValue(ENVELOPE, parser, ctxt));
+                    return true;
+                case "keywords":
+                    readInto(info.getKeywords(), KEYWORDS, parser, ctxt);
+                    return true;
+                case "internationalTitle":
+                    info.setInternationalTitle(readInternationalString(parser, ctxt));
+                    return true;
+                case "internationalAbstract":
+                    info.setInternationalAbstract(readInternationalString(parser, ctxt));
+                    return true;
+                case "layerGroupStyles":
+                    List<org.geoserver.jackson.databind.catalog.dto.LayerGroupStyle> dtos =
+                            readValue(LAYER_GROUP_STYLES, parser, ctxt);
+                    if (dtos != null) {
+                        List<LayerGroupStyle> styles = new ArrayList<>(dtos.size());
+                        dtos.forEach(dto -> styles.add(PUBLISHED_MAPPER.map(dto)));
+                        info.setLayerGroupStyles(styles);
+                    }
+                    return true;
+                default:
+                    return super.readProperty(name, info, parser, ctxt);
+            }
+        }
+    }
+
+    private static class StyleCodec extends StreamingCatalogInfoCodec<StyleInfo> {
+
+        StyleCodec() {
+            super("StyleInfo", StyleInfo.class);
+        }
+
+        protected @Override StyleInfo newInstance() {
+            return new StyleInfoImpl((Catalog) null);
+        }
+
+        protected @Override void setId(StyleInfo info, String id) {
+            ((StyleInfoImpl) info).setId(id);
+        }
+
+        protected @Override void writeProperties(
+                StyleInfo info, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            writeString("name", info.getName(), gen);
+            writeReference("workspace", info.getWorkspace(), gen, provider);
+            writeString("format", info.getFormat(), gen);
+            writeValue("formatVersion", info.getFormatVersion(), VERSION, gen, provider);
+            writeString("filename", info.getFilename(), gen);
+            writeValue("legend", info.getLegend(), LEGEND, gen, provider);
+            writeMetadata(info.getMetadata(), gen, provider);
+        }
+
+        protected @Override boolean readProperty(
+                String name, StyleInfo info, JsonParser parser, DeserializationContext ctxt)
+                throws IOException {
+            switch (name) {
+                case "name":
+                    info.setName(parser.getValueAsString());
+                    return true;
+                case "workspace":
+                    info.setWorkspace(readReference(parser, ctxt));
+                    return true;
+                case "format":
+                    info.setFormat(parser.getValueAsString());
+                    return true;
+                case "formatVersion":
+                    info.setFormatVersion(readValue(VERSION, parser, ctxt));
+                    return true;
+                case "filename":
+                    info.setFilename(parser.getValueAsString());
+                    return true;
+                case "legend":
+                    info.setLegend(readValue(LEGEND, parser, ctxt));
+                    return true;
+                case "metadata":
+                    readMetadataInto(info.getMetadata(), parser, ctxt);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+}
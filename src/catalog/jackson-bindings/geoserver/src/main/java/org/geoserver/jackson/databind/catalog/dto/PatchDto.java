@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonTypeName;
 import lombok.Data;
 import lombok.Generated;
 
+import org.geoserver.catalog.plugin.CollectionDelta;
 import org.geotools.jackson.databind.filter.dto.Literal;
 
 import java.util.ArrayList;
@@ -25,5 +26,23 @@ public @Data @Generated class PatchDto {
     public static @Data class PatchPropertyDto {
         private String name;
         private Literal value;
+        /** Element-level changes, in place of {@link #value} for large collection properties */
+        private DeltaDto delta;
+    }
+
+    /** DTO for {@link org.geoserver.catalog.plugin.CollectionDelta} */
+    @JsonTypeName("Delta")
+    public static @Data class DeltaDto {
+        private CollectionDelta.Kind kind;
+        private int baseSize;
+        private int baseHash;
+        private List<DeltaOpDto> ops = new ArrayList<>();
+    }
+
+    @JsonTypeName("Op")
+    public static @Data class DeltaOpDto {
+        private CollectionDelta.OpType type;
+        private Literal key;
+        private Literal value;
     }
 }
@@ -7,6 +7,7 @@ package org.geoserver.jackson.databind.catalog.mapper;
 import org.geoserver.catalog.LayerGroupInfo;
 import org.geoserver.catalog.LayerInfo;
 import org.geoserver.catalog.PublishedInfo;
+import org.geoserver.catalog.impl.LayerGroupStyle;
 import org.geoserver.jackson.databind.catalog.dto.Layer;
 import org.geoserver.jackson.databind.catalog.dto.LayerGroup;
 import org.geoserver.jackson.databind.catalog.dto.Published;
@@ -49,4 +50,8 @@ public interface PublishedMapper {
     LayerGroupInfo map(LayerGroup o);
 
     LayerGroup map(LayerGroupInfo o);
+
+    LayerGroupStyle map(org.geoserver.jackson.databind.catalog.dto.LayerGroupStyle o);
+
+    org.geoserver.jackson.databind.catalog.dto.LayerGroupStyle map(LayerGroupStyle o);
 }
@@ -7,6 +7,7 @@ package org.geoserver.jackson.databind.mapper;
 import lombok.NonNull;
 
 import org.geoserver.catalog.Info;
+import org.geoserver.catalog.plugin.CollectionDelta;
 import org.geoserver.catalog.plugin.Patch;
 import org.geoserver.catalog.plugin.PropertyDiff;
 import org.geoserver.jackson.databind.catalog.ProxyUtils;
@@ -21,7 +22,9 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -42,6 +45,52 @@ public abstract class PatchMapper {
 
     public abstract PatchDto patchToDto(Patch patch);
 
+    protected PatchDto.PatchPropertyDto propertyToDto(Patch.Property property) {
+        if (property == null) return null;
+        PatchDto.PatchPropertyDto dto = new PatchDto.PatchPropertyDto();
+        dto.setName(property.getName());
+        if (property.getValue() instanceof CollectionDelta delta) {
+            dto.setDelta(deltaToDto(delta));
+        } else {
+            dto.setValue(literalValueToDto(property.getValue()));
+        }
+        return dto;
+    }
+
+    protected Patch.Property dtoToProperty(PatchDto.PatchPropertyDto dto) {
+        if (dto == null) return null;
+        Object value =
+                dto.getDelta() == null
+                        ? literalDtoToValueObject(dto.getValue())
+                        : dtoToDelta(dto.getDelta());
+        return new Patch.Property(dto.getName(), value);
+    }
+
+    private PatchDto.DeltaDto deltaToDto(CollectionDelta delta) {
+        PatchDto.DeltaDto dto = new PatchDto.DeltaDto();
+        dto.setKind(delta.getKind());
+        dto.setBaseSize(delta.getBaseSize());
+        dto.setBaseHash(delta.getBaseHash());
+        for (CollectionDelta.Op op : delta.getOps()) {
+            PatchDto.DeltaOpDto opDto = new PatchDto.DeltaOpDto();
+            opDto.setType(op.getType());
+            opDto.setKey(op.getKey() == null ? null : literalValueToDto(op.getKey()));
+            opDto.setValue(op.getValue() == null ? null : literalValueToDto(op.getValue()));
+            dto.getOps().add(opDto);
+        }
+        return dto;
+    }
+
+    private CollectionDelta dtoToDelta(PatchDto.DeltaDto dto) {
+        List<CollectionDelta.Op> ops = new ArrayList<>();
+        for (PatchDto.DeltaOpDto op : dto.getOps()) {
+            Object key = literalDtoToValueObject(op.getKey());
+            Object value = literalDtoToValueObject(op.getValue());
+            ops.add(new CollectionDelta.Op(op.getType(), key, value));
+        }
+        return new CollectionDelta(dto.getKind(), dto.getBaseSize(), dto.getBaseHash(), ops);
+    }
+
     protected @NonNull Literal literalValueToDto(final Object value) {
         Object proxified = valueToDto(value);
         return Literal.valueOf(proxified);
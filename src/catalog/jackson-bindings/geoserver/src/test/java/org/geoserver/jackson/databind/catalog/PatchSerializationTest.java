@@ -29,9 +29,11 @@ import org.geoserver.catalog.DataStoreInfo;
 import org.geoserver.catalog.DimensionInfo;
 import org.geoserver.catalog.FeatureTypeInfo;
 import org.geoserver.catalog.Info;
+import org.geoserver.catalog.KeywordInfo;
 import org.geoserver.catalog.LayerInfo;
 import org.geoserver.catalog.LayerInfo.WMSInterpolation;
 import org.geoserver.catalog.LegendInfo;
+import org.geoserver.catalog.MetadataMap;
 import org.geoserver.catalog.NamespaceInfo;
 import org.geoserver.catalog.PublishedType;
 import org.geoserver.catalog.StoreInfo;
@@ -40,6 +42,7 @@ import org.geoserver.catalog.WorkspaceInfo;
 import org.geoserver.catalog.faker.CatalogFaker;
 import org.geoserver.catalog.impl.ModificationProxy;
 import org.geoserver.catalog.plugin.CatalogPlugin;
+import org.geoserver.catalog.plugin.CollectionDelta;
 import org.geoserver.catalog.plugin.Patch;
 import org.geoserver.config.ContactInfo;
 import org.geoserver.config.CoverageAccessInfo;
@@ -81,8 +84,11 @@ import org.opengis.util.InternationalString;
 
 import si.uom.SI;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
@@ -327,6 +333,46 @@ public abstract class PatchSerializationTest {
         testPatch("keywords", Arrays.asList(faker.keywordInfo(), null, faker.keywordInfo()));
     }
 
+    public @Test void collectionDelta_list() throws Exception {
+        CatalogFaker faker = data.faker();
+        List<KeywordInfo> keywords = new ArrayList<>();
+        for (int i = 0; i < 10; i++) keywords.add(faker.keywordInfo());
+        List<KeywordInfo> changed = new ArrayList<>(keywords);
+        changed.set(5, faker.keywordInfo());
+        changed.add(2, null);
+
+        CollectionDelta delta = CollectionDelta.valueOf(keywords, changed).orElseThrow();
+        Patch resolved = testPatch("keywords", delta);
+        CollectionDelta decoded = resolved.get("keywords").orElseThrow().value();
+        decoded.applyTo(keywords);
+        assertEquals(changed, keywords);
+    }
+
+    public @Test void collectionDelta_set_of_references() throws Exception {
+        Set<StyleInfo> styles = new HashSet<>(Set.of(data.style1));
+        Set<StyleInfo> changed = Set.of(data.style1, data.style2);
+
+        CollectionDelta delta = CollectionDelta.valueOf(styles, changed).orElseThrow();
+        Patch resolved = testPatch("styles", delta);
+        CollectionDelta decoded = resolved.get("styles").orElseThrow().value();
+        StyleInfo style = (StyleInfo) decoded.getOps().get(0).getValue();
+        assertModificationProxy(data.style2, style);
+    }
+
+    public @Test void collectionDelta_map() throws Exception {
+        MetadataMap metadata = new MetadataMap();
+        for (int i = 0; i < 10; i++) metadata.put("key" + i, i);
+        MetadataMap changed = new MetadataMap(new HashMap<>(metadata));
+        changed.remove("key1");
+        changed.put("key2", "changed");
+
+        CollectionDelta delta = CollectionDelta.valueOf(metadata, changed).orElseThrow();
+        Patch resolved = testPatch("metadata", delta);
+        CollectionDelta decoded = resolved.get("metadata").orElseThrow().value();
+        decoded.applyTo(metadata);
+        assertEquals(changed, metadata);
+    }
+
     public @Test void name() throws Exception {
         org.opengis.feature.type.Name name = new NameImpl("localname");
         testPatch("name", name);
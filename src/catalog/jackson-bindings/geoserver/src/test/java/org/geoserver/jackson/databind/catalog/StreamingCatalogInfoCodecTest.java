@@ -0,0 +1,308 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.jackson.databind.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.geoserver.catalog.AttributeTypeInfo;
+import org.geoserver.catalog.AttributionInfo;
+import org.geoserver.catalog.CatalogInfo;
+import org.geoserver.catalog.CatalogTestData;
+import org.geoserver.catalog.CoverageInfo;
+import org.geoserver.catalog.CoverageStoreInfo;
+import org.geoserver.catalog.DataStoreInfo;
+import org.geoserver.catalog.FeatureTypeInfo;
+import org.geoserver.catalog.Keyword;
+import org.geoserver.catalog.KeywordInfo;
+import org.geoserver.catalog.LayerGroupInfo;
+import org.geoserver.catalog.LayerInfo;
+import org.geoserver.catalog.LegendInfo;
+import org.geoserver.catalog.NamespaceInfo;
+import org.geoserver.catalog.ProjectionPolicy;
+import org.geoserver.catalog.SLDHandler;
+import org.geoserver.catalog.StyleInfo;
+import org.geoserver.catalog.WMSLayerInfo;
+import org.geoserver.catalog.WMSStoreInfo;
+import org.geoserver.catalog.WMTSLayerInfo;
+import org.geoserver.catalog.WMTSStoreInfo;
+import org.geoserver.catalog.WorkspaceInfo;
+import org.geoserver.catalog.impl.AttributeTypeInfoImpl;
+import org.geoserver.catalog.impl.AttributionInfoImpl;
+import org.geoserver.catalog.impl.LayerGroupStyle;
+import org.geoserver.catalog.impl.LayerGroupStyleImpl;
+import org.geoserver.catalog.impl.LegendInfoImpl;
+import org.geoserver.catalog.impl.ModificationProxy;
+import org.geoserver.catalog.plugin.CatalogPlugin;
+import org.geoserver.config.GeoServer;
+import org.geoserver.config.plugin.GeoServerImpl;
+import org.geoserver.jackson.databind.catalog.dto.CatalogInfoDto;
+import org.geoserver.jackson.databind.catalog.mapper.CatalogInfoMapper;
+import org.geoserver.platform.GeoServerExtensionsHelper;
+import org.geotools.geometry.jts.ReferencedEnvelope;
+import org.geotools.jackson.databind.util.ObjectMapperUtil;
+import org.geotools.measure.Measure;
+import org.geotools.referencing.CRS;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import si.uom.SI;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Verifies the {@link StreamingCatalogInfoCodec} output is interchangeable with the one of the DTO
+ * based code path
+ */
+class StreamingCatalogInfoCodecTest {
+
+    private static final CatalogInfoMapper mapper = Mappers.getMapper(CatalogInfoMapper.class);
+
+    private ObjectMapper objectMapper;
+    private CatalogTestData data;
+    private ProxyUtils proxyResolver;
+
+    public static @BeforeAll void oneTimeSetup() {
+        GeoServerExtensionsHelper.setIsSpringContext(false);
+    }
+
+    public @BeforeEach void before() {
+        objectMapper = ObjectMapperUtil.newObjectMapper();
+        CatalogPlugin catalog = new CatalogPlugin();
+        GeoServer geoserver = new GeoServerImpl();
+        geoserver.setCatalog(catalog);
+        data = CatalogTestData.initialized(() -> catalog, () -> geoserver).initialize();
+        proxyResolver = new ProxyUtils(catalog, geoserver);
+    }
+
+    @Test
+    void testWorkspace() throws Exception {
+        WorkspaceInfo ws = ModificationProxy.unwrap(data.workspaceA);
+        ws.setIsolated(true);
+        ws.setDateModified(new Date());
+        ws.getMetadata().put("k1", "v1");
+        ws.getMetadata().put("k2", 2);
+        testCompatibility(ws, WorkspaceInfo.class);
+        testCompatibility(ModificationProxy.unwrap(data.workspaceB), WorkspaceInfo.class);
+    }
+
+    @Test
+    void testNamespace() throws Exception {
+        NamespaceInfo ns = ModificationProxy.unwrap(data.namespaceA);
+        ns.setIsolated(true);
+        ns.getMetadata().put("k1", "v1");
+        testCompatibility(ns, NamespaceInfo.class);
+        testCompatibility(ModificationProxy.unwrap(data.namespaceB), NamespaceInfo.class);
+    }
+
+    @Test
+    void testDataStore() throws Exception {
+        DataStoreInfo ds = ModificationProxy.unwrap(data.dataStoreA);
+        ds.setDescription("description");
+        ds.getConnectionParameters().put("param", "value");
+        ds.getMetadata().put("k1", "v1");
+        testCompatibility(ds, DataStoreInfo.class);
+        testCompatibility(ModificationProxy.unwrap(data.dataStoreB), DataStoreInfo.class);
+    }
+
+    @Test
+    void testCoverageStore() throws Exception {
+        testCompatibility(ModificationProxy.unwrap(data.coverageStoreA), CoverageStoreInfo.class);
+    }
+
+    @Test
+    void testFeatureType() throws Exception {
+        FeatureTypeInfo ft = ModificationProxy.unwrap(data.featureTypeA);
+        KeywordInfo keyword = new Keyword("value");
+        keyword.setLanguage("es");
+        ft.getKeywords().add(keyword);
+        ft.getAlias().add("alias");
+        ft.setTitle("Title");
+        ft.setNativeCRS(CRS.decode("EPSG:4326", true));
+        ft.setSRS("EPSG:4326");
+        ft.setNativeBoundingBox(new ReferencedEnvelope(-180, 180, -90, 90, ft.getNativeCRS()));
+        ft.setLatLonBoundingBox(new ReferencedEnvelope(-180, 180, -90, 90, ft.getNativeCRS()));
+        ft.setProjectionPolicy(ProjectionPolicy.FORCE_DECLARED);
+        ft.setInternationalTitle(
+                data.faker()
+                        .internationalString(
+                                Locale.ENGLISH,
+                                "english title",
+                                Locale.CANADA_FRENCH,
+                                "titre anglais"));
+        ft.setCqlFilter("a = 1");
+        ft.setMaxFeatures(1000);
+        ft.setNumDecimals(3);
+        ft.getResponseSRS().add("3857");
+        ft.setLinearizationTolerance(new Measure(10, SI.METRE));
+        ft.getMetadata().put("k1", "v1");
+
+        AttributeTypeInfo attribute = new AttributeTypeInfoImpl();
+        attribute.setName("att");
+        attribute.setBinding(String.class);
+        attribute.setFeatureType(ft);
+        ft.getAttributes().add(attribute);
+
+        testCompatibility(ft, FeatureTypeInfo.class);
+    }
+
+    @Test
+    void testCoverage() throws Exception {
+        CoverageInfo coverage = ModificationProxy.unwrap(data.coverageA);
+        coverage.setNativeFormat("GeoTIFF");
+        coverage.getSupportedFormats().add("PNG");
+        coverage.getInterpolationMethods().add("nearest neighbor");
+        coverage.setDefaultInterpolationMethod("nearest neighbor");
+        coverage.getRequestSRS().add("EPSG:4326");
+        coverage.getParameters().put("param", "value");
+        coverage.setNativeCoverageName("native");
+        testCompatibility(coverage, CoverageInfo.class);
+    }
+
+    @Test
+    void testLayer() throws Exception {
+        LayerInfo layer = ModificationProxy.unwrap(data.layerFeatureTypeA);
+        layer.getStyles().add(data.style2);
+        layer.setPath("/path");
+        layer.setOpaque(true);
+        layer.setDefaultWMSInterpolationMethod(LayerInfo.WMSInterpolation.Bicubic);
+        LegendInfo legend = new LegendInfoImpl();
+        legend.setWidth(10);
+        legend.setHeight(20);
+        legend.setFormat("image/png");
+        layer.setLegend(legend);
+        AttributionInfo attribution = new AttributionInfoImpl();
+        attribution.setTitle("attribution");
+        attribution.setLogoWidth(10);
+        layer.setAttribution(attribution);
+        layer.getMetadata().put("k1", "v1");
+        testCompatibility(layer, LayerInfo.class);
+    }
+
+    @Test
+    void testStyle() throws Exception {
+        StyleInfo style = ModificationProxy.unwrap(data.style1);
+        style.setFormat(SLDHandler.FORMAT);
+        style.setFormatVersion(SLDHandler.VERSION_10);
+        testCompatibility(style, StyleInfo.class);
+
+        StyleInfo wsStyle = ModificationProxy.unwrap(data.style2);
+        wsStyle.setWorkspace(data.workspaceA);
+        testCompatibility(wsStyle, StyleInfo.class);
+    }
+
+    @Test
+    void testReadAsCatalogInfo() throws Exception {
+        WorkspaceInfo ws = ModificationProxy.unwrap(data.workspaceA);
+        String encoded = objectMapper.writeValueAsString(ws);
+        assertEquals(ws, objectMapper.readValue(encoded, CatalogInfo.class));
+    }
+
+    @Test
+    void testHTTPStores() throws Exception {
+        WMSStoreInfo wms = ModificationProxy.unwrap(data.wmsStoreA);
+        wms.setUsername("user");
+        wms.setPassword("secret");
+        wms.setMaxConnections(10);
+        wms.setReadTimeout(30);
+        wms.setConnectTimeout(5);
+        wms.setUseConnectionPooling(false);
+        testCompatibility(wms, WMSStoreInfo.class);
+
+        WMTSStoreInfo wmts = ModificationProxy.unwrap(data.wmtsStoreA);
+        wmts.setHeaderName("Referer");
+        wmts.setHeaderValue("http://localhost");
+        testCompatibility(wmts, WMTSStoreInfo.class);
+    }
+
+    @Test
+    void testWMSLayer() throws Exception {
+        WMSLayerInfo layer = ModificationProxy.unwrap(data.wmsLayerA);
+        layer.setForcedRemoteStyle("remote");
+        layer.setPreferredFormat("image/png");
+        layer.setMinScale(1000d);
+        layer.setMaxScale(100_000d);
+        layer.setMetadataBBoxRespected(true);
+        layer.setSelectedRemoteFormats(new ArrayList<>(List.of("image/png", "image/jpeg")));
+        layer.setSelectedRemoteStyles(new ArrayList<>(List.of("remote")));
+        testCompatibility(layer, WMSLayerInfo.class);
+    }
+
+    @Test
+    void testWMTSLayer() throws Exception {
+        WMTSLayerInfo layer = ModificationProxy.unwrap(data.wmtsLayerA);
+        layer.setTitle("WMTS layer");
+        testCompatibility(layer, WMTSLayerInfo.class);
+    }
+
+    @Test
+    void testLayerGroup() throws Exception {
+        LayerGroupInfo lg = ModificationProxy.unwrap(data.layerGroup1);
+        lg.setTitle("LG Title");
+        lg.setMode(LayerGroupInfo.Mode.NAMED);
+        lg.setWorkspace(data.workspaceA);
+        lg.setBounds(new ReferencedEnvelope(-180, 180, -90, 90, CRS.decode("EPSG:4326", true)));
+        // a null style stands for the layer's default style and must be kept
+        lg.getLayers().add(data.layerFeatureTypeA);
+        lg.getStyles().add(null);
+        lg.getKeywords().add(new Keyword("keyword"));
+        lg.getMetadata().put("k1", "v1");
+        lg.setInternationalTitle(
+                data.faker()
+                        .internationalString(
+                                Locale.ENGLISH,
+                                "english title",
+                                Locale.CANADA_FRENCH,
+                                "titre anglais"));
+
+        LayerGroupStyle lgs = new LayerGroupStyleImpl();
+        lgs.setId("lgsid");
+        lgs.setTitle("Lgs Title");
+        lgs.setName(data.createStyle("lgs-style"));
+        lgs.setLayers(new ArrayList<>(List.of(data.layerFeatureTypeA)));
+        lgs.setStyles(new ArrayList<>(List.of(data.style1)));
+        lg.setLayerGroupStyles(new ArrayList<>(List.of(lgs)));
+
+        testCompatibility(lg, LayerGroupInfo.class);
+
+        LayerGroupInfo decoded =
+                objectMapper.readValue(objectMapper.writeValueAsString(lg), LayerGroupInfo.class);
+        assertEquals(2, decoded.getStyles().size());
+        assertNull(decoded.getStyles().get(1));
+    }
+
+    private <T extends CatalogInfo> void testCompatibility(T info, Class<T> type) throws Exception {
+        final String streamed = objectMapper.writeValueAsString(info);
+        final String viaDto = objectMapper.writeValueAsString(mapper.map(info));
+
+        JsonNode streamedTree = objectMapper.readTree(streamed);
+        JsonNode dtoTree = objectMapper.readTree(viaDto);
+        assertEquals(dtoTree, streamedTree);
+
+        // read the streamed output through the DTO code path and vice versa
+        CatalogInfoDto dto = objectMapper.readValue(streamed, CatalogInfoDto.class);
+        assertDecoded(info, mapper.map(dto));
+
+        T decoded = objectMapper.readValue(viaDto, type);
+        assertNotNull(decoded);
+        assertDecoded(info, decoded);
+    }
+
+    /** Both code paths return references as unresolved proxies */
+    private void assertDecoded(CatalogInfo expected, CatalogInfo decoded) {
+        CatalogInfo resolved = proxyResolver.resolve(decoded);
+        data.assertEqualsLenientConnectionParameters(expected, resolved);
+        data.assertInternationalStringPropertiesEqual(expected, resolved);
+    }
+}
@@ -28,6 +28,9 @@ import org.locationtech.jts.geom.MultiPolygon;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import org.locationtech.jts.geom.util.GeometryTransformer;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBReader;
 
 import java.io.IOException;
 import java.util.Arrays;
@@ -64,6 +67,10 @@ public class GeometryDeserializer<T extends Geometry> extends JsonDeserializer<T
     }
 
     private Geometry readGeometry(ObjectNode geometryNode, int dimensions, boolean hasM) {
+        final JsonNode wkb = geometryNode.get("wkb");
+        if (wkb != null) {
+            return readWKB(wkb, dimensions, hasM);
+        }
         final String type = geometryNode.findValue("type").asText();
         switch (type) {
             case Geometry.TYPENAME_POINT:
@@ -86,6 +93,22 @@ public class GeometryDeserializer<T extends Geometry> extends JsonDeserializer<T
         }
     }
 
+    /**
+     * Reads a {@link GeometryEncoding#WKB} encoded geometry, as a binary node or a base64 encoded
+     * text node depending on the data format
+     */
+    private Geometry readWKB(JsonNode wkb, int dimensions, boolean hasM) {
+        final Geometry geometry;
+        try {
+            geometry = new WKBReader(geometryFactory).read(wkb.binaryValue());
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException(
+                    "Unable to parse WKB geometry: " + e.getMessage(), e);
+        }
+        // WKB has no M flag in the format written, the 3rd ordinate is M if hasM is true
+        return hasM ? new MeasuresTransformer(dimensions).transform(geometry) : geometry;
+    }
+
     private int getDimensions(ObjectNode geometryNode) {
         JsonNode dimensionsProperty = geometryNode.findValue("dimensions");
         if (dimensionsProperty instanceof NumericNode) {
@@ -225,6 +248,29 @@ public class GeometryDeserializer<T extends Geometry> extends JsonDeserializer<T
         return geometryFactory.createPoint(coordinate);
     }
 
+    /** Copies the coordinate sequences read from WKB into sequences with the M ordinate */
+    private static class MeasuresTransformer extends GeometryTransformer {
+        private final int dimensions;
+
+        MeasuresTransformer(int dimensions) {
+            this.dimensions = dimensions;
+        }
+
+        protected @Override CoordinateSequence transformCoordinates(
+                CoordinateSequence coords, Geometry parent) {
+            final int size = coords.size();
+            final int dimension = Math.min(dimensions, coords.getDimension());
+            CoordinateSequence sequence =
+                    factory.getCoordinateSequenceFactory().create(size, dimensions, 1);
+            for (int i = 0; i < size; i++) {
+                for (int d = 0; d < dimension; d++) {
+                    sequence.setOrdinate(i, d, coords.getOrdinate(i, d));
+                }
+            }
+            return sequence;
+        }
+    }
+
     public static boolean isGeometry(JsonNode value) {
         if (!(value instanceof ObjectNode)) {
             return false;
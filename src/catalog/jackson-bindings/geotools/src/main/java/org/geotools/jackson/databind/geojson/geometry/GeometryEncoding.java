@@ -0,0 +1,71 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geotools.jackson.databind.geojson.geometry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import lombok.NonNull;
+
+/**
+ * Encoding of geometry coordinates used by {@link GeometrySerializer}.
+ *
+ * <p>The geometry object always has the GeoJSON {@code type} property, and the {@code dimensions}
+ * and {@code hasM} extension properties for geometries with Z and/or M ordinates. {@link #GEOJSON}
+ * then writes the GeoJSON {@code coordinates} (or {@code geometries}) arrays, while {@link #WKB}
+ * writes a single {@code wkb} binary property with the geometry's Well Known Binary representation,
+ * which text formats (JSON, YAML) encode as base64, and binary formats (Smile, CBOR) as native
+ * binary.
+ *
+ * <p>{@link GeometryDeserializer} reads both, regardless of the configured encoding.
+ *
+ * <p>The encoding is set as a jackson context attribute, for example for all the writes of an
+ * {@link ObjectMapper}:
+ *
+ * <pre>{@code
+ * GeometryEncoding.WKB.configure(objectMapper);
+ * }</pre>
+ *
+ * or for a single {@link ObjectWriter}:
+ *
+ * <pre>{@code
+ * objectMapper.writer().withAttribute(GeometryEncoding.ATTRIBUTE, GeometryEncoding.WKB);
+ * }</pre>
+ *
+ * @since 1.0
+ */
+public enum GeometryEncoding {
+    /** GeoJSON coordinate arrays, the default */
+    GEOJSON,
+    /**
+     * Well Known Binary. Empty geometries and geometries with more than 3 dimensions (XYZM) are
+     * still encoded as GeoJSON, since WKB can't represent them.
+     */
+    WKB;
+
+    /**
+     * Name of the jackson context attribute holding the {@link GeometryEncoding}, either as an enum
+     * value or its name
+     */
+    public static final String ATTRIBUTE = GeometryEncoding.class.getName();
+
+    /** Sets this encoding as the default one for all the writes of {@code mapper} */
+    public ObjectMapper configure(@NonNull ObjectMapper mapper) {
+        return mapper.setConfig(mapper.getSerializationConfig().withAttribute(ATTRIBUTE, this));
+    }
+
+    /**
+     * @return the encoding set as {@link #ATTRIBUTE} for the serialization context, or {@link
+     *     #GEOJSON} if not set
+     */
+    public static GeometryEncoding of(SerializerProvider provider) {
+        Object value = provider == null ? null : provider.getAttribute(ATTRIBUTE);
+        if (value instanceof GeometryEncoding) return (GeometryEncoding) value;
+        if (value instanceof String)
+            return GeometryEncoding.valueOf(((String) value).toUpperCase());
+        return GEOJSON;
+    }
+}
@@ -21,6 +21,7 @@ import org.locationtech.jts.geom.MultiPoint;
 import org.locationtech.jts.geom.MultiPolygon;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.io.WKBWriter;
 
 import java.io.IOException;
 import java.util.concurrent.atomic.AtomicReference;
@@ -42,7 +43,7 @@ public class GeometrySerializer extends StdSerializer<Geometry> {
         WritableTypeId typeIdDef =
                 typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_OBJECT));
 
-        serializeContent(value, gen, null);
+        serializeContent(value, gen, null, GeometryEncoding.of(serializers));
 
         typeSer.writeTypeSuffix(gen, typeIdDef);
     }
@@ -50,7 +51,7 @@ public class GeometrySerializer extends StdSerializer<Geometry> {
     public @Override void serialize(
             Geometry value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
 
-        serialize(value, gen);
+        serialize(value, gen, null, GeometryEncoding.of(serializers));
     }
 
     public void serialize(Geometry geometry, JsonGenerator generator) throws IOException {
@@ -59,23 +60,41 @@ public class GeometrySerializer extends StdSerializer<Geometry> {
 
     public void serialize(Geometry geometry, JsonGenerator generator, String customNameProperty)
             throws IOException {
+        serialize(geometry, generator, customNameProperty, GeometryEncoding.GEOJSON);
+    }
+
+    public void serialize(
+            Geometry geometry,
+            JsonGenerator generator,
+            String customNameProperty,
+            GeometryEncoding encoding)
+            throws IOException {
         if (geometry == null) {
             generator.writeNull();
             return;
         }
         generator.writeStartObject();
-        serializeContent(geometry, generator, customNameProperty);
+        serializeContent(geometry, generator, customNameProperty, encoding);
         generator.writeEndObject();
     }
 
     private void serializeContent(
-            Geometry geometry, JsonGenerator generator, String customNameProperty)
+            Geometry geometry,
+            JsonGenerator generator,
+            String customNameProperty,
+            GeometryEncoding encoding)
             throws IOException {
         generator.writeStringField("type", geometry.getGeometryType());
         writeDimensions(geometry, generator);
         if (customNameProperty != null) {
             generator.writeStringField("name", customNameProperty);
         }
+        final byte[] wkb = encoding == GeometryEncoding.WKB ? toWKB(geometry) : null;
+        if (wkb != null) {
+            generator.writeFieldName("wkb");
+            generator.writeBinary(wkb);
+            return;
+        }
         if (geometry instanceof GeometryCollection
                 && !(geometry instanceof MultiPoint
                         || geometry instanceof MultiLineString
@@ -84,7 +103,7 @@ public class GeometrySerializer extends StdSerializer<Geometry> {
             generator.writeFieldName("geometries");
             generator.writeStartArray();
             for (int i = 0; i < geometry.getNumGeometries(); i++) {
-                serialize(geometry.getGeometryN(i), generator, customNameProperty);
+                serialize(geometry.getGeometryN(i), generator, customNameProperty, encoding);
             }
             generator.writeEndArray();
             return;
@@ -107,6 +126,23 @@ public class GeometrySerializer extends StdSerializer<Geometry> {
         }
     }
 
+    /**
+     * @return the geometry's WKB, or {@code null} if it can't be represented as WKB (empty or XYZM
+     *     geometries), to fall back to GeoJSON coordinates
+     */
+    private byte[] toWKB(Geometry geometry) {
+        CoordinateSequence sampleSequence = findSampleSequence(geometry);
+        if (sampleSequence == null || sampleSequence.getDimension() > 3) {
+            return null;
+        }
+        try {
+            return new WKBWriter(sampleSequence.getDimension()).write(geometry);
+        } catch (IllegalArgumentException e) {
+            // e.g. a GeometryCollection containing an empty Point
+            return null;
+        }
+    }
+
     private CoordinateSequence findSampleSequence(Geometry g) {
         if (g == null || g.isEmpty()) return null;
         if (g instanceof GeometryCollection) {
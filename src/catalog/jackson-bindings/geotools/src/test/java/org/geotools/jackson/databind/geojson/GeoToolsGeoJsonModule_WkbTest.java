@@ -0,0 +1,61 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geotools.jackson.databind.geojson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.geotools.jackson.databind.geojson.geometry.GeometryEncoding;
+import org.geotools.jackson.databind.util.ObjectMapperUtil;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.WKTReader;
+
+/**
+ * Runs the {@link GeoToolsGeoJsonModuleTest} round-trip tests with {@link GeometryEncoding#WKB}
+ *
+ * @since 1.0
+ */
+public class GeoToolsGeoJsonModule_WkbTest extends GeoToolsGeoJsonModuleTest {
+
+    protected @Override ObjectMapper newObjectMapper() {
+        return GeometryEncoding.WKB.configure(ObjectMapperUtil.newObjectMapper());
+    }
+
+    public @Test void testEncodesWKB() throws Exception {
+        ObjectMapper mapper = newObjectMapper();
+        Geometry geom = new WKTReader().read("LINESTRING Z(0 1 2, 4 5 6)");
+        JsonNode node = mapper.readTree(mapper.writeValueAsString(geom));
+        assertEquals("LineString", node.get("type").asText());
+        assertEquals(3, node.get("dimensions").asInt());
+        assertTrue(node.get("wkb").isTextual());
+        assertNull(node.get("coordinates"));
+    }
+
+    public @Test void testReadsGeoJSONRegardlessOfEncoding() throws Exception {
+        Geometry geom = new WKTReader().read("POLYGON ((0 0, 10 10, 20 0, 0 0))");
+        String geojson = ObjectMapperUtil.newObjectMapper().writeValueAsString(geom);
+        assertTrue(geom.equalsExact(newObjectMapper().readValue(geojson, Geometry.class)));
+
+        String wkb = newObjectMapper().writeValueAsString(geom);
+        assertTrue(
+                geom.equalsExact(
+                        ObjectMapperUtil.newObjectMapper().readValue(wkb, Geometry.class)));
+    }
+
+    public @Test void testAttributeOverridesDefault() throws Exception {
+        Geometry geom = new WKTReader().read("POINT (1 2)");
+        String encoded =
+                ObjectMapperUtil.newObjectMapper()
+                        .writer()
+                        .withAttribute(GeometryEncoding.ATTRIBUTE, "wkb")
+                        .writeValueAsString(geom);
+        assertTrue(encoded.contains("\"wkb\""), encoded);
+    }
+}
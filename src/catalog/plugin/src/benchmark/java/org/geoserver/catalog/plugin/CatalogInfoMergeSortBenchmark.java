@@ -0,0 +1,137 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.catalog.plugin;
+
+import org.geoserver.catalog.CatalogInfo;
+import org.geoserver.catalog.LayerInfo;
+import org.geoserver.catalog.impl.FeatureTypeInfoImpl;
+import org.geoserver.catalog.impl.LayerInfoImpl;
+import org.geotools.factory.CommonFactoryFinder;
+import org.opengis.filter.sort.SortBy;
+import org.opengis.filter.sort.SortOrder;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Time and heap usage of sorting a large result set with {@link CatalogInfoMergeSort} compared to a
+ * plain {@link Stream#sorted()}, as a remote backend would produce it, creating new objects for
+ * every query.
+ *
+ * <p>Heap usage is sampled while consuming the sorted stream and reported as the {@code peakHeapMB}
+ * secondary result, an approximation of the peak heap needed by each strategy.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class CatalogInfoMergeSortBenchmark {
+
+    private static final int SIZE = 500_000;
+
+    private static final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    private final SortBy sortBy =
+            CommonFactoryFinder.getFilterFactory2().sort("title", SortOrder.ASCENDING);
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Heap {
+        private long baseline;
+        public long peakHeapMB;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            System.gc();
+            baseline = usedHeap();
+            peakHeapMB = 0;
+        }
+
+        void sample() {
+            peakHeapMB = Math.max(peakHeapMB, (usedHeap() - baseline) / 1024 / 1024);
+        }
+    }
+
+    @Benchmark
+    public long streamSorted(Heap heap) {
+        return consume(source().sorted(Comparator.comparing(LayerInfo::getTitle)), heap);
+    }
+
+    @Benchmark
+    public long mergeSortPageOf100(Heap heap) {
+        return consume(mergeSort(10_000).sort(source(), SIZE / 2, 100), heap);
+    }
+
+    @Benchmark
+    public long mergeSort10kInMemory(Heap heap) {
+        return consume(mergeSort(10_000).sort(source(), null, null), heap);
+    }
+
+    @Benchmark
+    public long mergeSort50kInMemory(Heap heap) {
+        return consume(mergeSort(50_000).sort(source(), null, null), heap);
+    }
+
+    private CatalogInfoMergeSort<LayerInfo> mergeSort(int maxInMemory) {
+        return new CatalogInfoMergeSort<>(
+                LayerInfo.class, sortBy, CatalogInfoMergeSortBenchmark::load, maxInMemory);
+    }
+
+    private long consume(Stream<LayerInfo> sorted, Heap heap) {
+        long count = 0;
+        try (sorted) {
+            for (Iterator<LayerInfo> it = sorted.iterator(); it.hasNext(); it.next()) {
+                if (count++ % 10_000 == 0) heap.sample();
+            }
+        }
+        return count;
+    }
+
+    /** Creates a new instance each time, as a remote backend would */
+    private static LayerInfo layer(int i) {
+        FeatureTypeInfoImpl resource = new FeatureTypeInfoImpl(null);
+        resource.setId("ft-" + i);
+        resource.setName("layer-" + i);
+        resource.setTitle("Title " + Integer.toHexString(i * 31));
+        LayerInfoImpl layer = new LayerInfoImpl();
+        layer.setId("layer-" + i);
+        layer.setResource(resource);
+        return layer;
+    }
+
+    private static Stream<LayerInfo> source() {
+        return IntStream.range(0, SIZE).mapToObj(CatalogInfoMergeSortBenchmark::layer);
+    }
+
+    private static Optional<CatalogInfo> load(String id) {
+        return Optional.of(layer(Integer.parseInt(id.substring("layer-".length()))));
+    }
+
+    private static long usedHeap() {
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
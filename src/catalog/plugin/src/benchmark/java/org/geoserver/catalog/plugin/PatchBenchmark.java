@@ -0,0 +1,99 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.catalog.plugin;
+
+import org.geoserver.catalog.Keyword;
+import org.geoserver.catalog.MetadataMap;
+import org.geoserver.catalog.impl.FeatureTypeInfoImpl;
+import org.geoserver.catalog.impl.LayerInfoImpl;
+import org.geoserver.ows.util.OwsUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies typical layer and feature type {@link Patch patches}, as done for every local
+ * modification and remote modify event, with the cached {@link PropertyAccessor}s compared to
+ * resolving each property through {@link OwsUtils} on each call.
+ *
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(2)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PatchBenchmark {
+
+    private final LayerInfoImpl layer = new LayerInfoImpl();
+    private final FeatureTypeInfoImpl featureType = new FeatureTypeInfoImpl(null);
+
+    private final Patch layerPatch =
+            new Patch()
+                    .with("enabled", true)
+                    .with("advertised", false)
+                    .with("path", "/some/path")
+                    .with("queryable", true);
+
+    private final Patch featureTypePatch =
+            new Patch()
+                    .with("title", "New title")
+                    .with("abstract", "New abstract")
+                    .with("keywords", List.of(new Keyword("k1"), new Keyword("k2")))
+                    .with(
+                            "metadata",
+                            new MetadataMap(Map.<String, Serializable>of("cachingEnabled", "true")))
+                    .with("srs", "EPSG:4326")
+                    .with("maxFeatures", 1000);
+
+    @Benchmark
+    public Object compiled() {
+        layerPatch.applyTo(layer);
+        featureTypePatch.applyTo(featureType);
+        return featureType;
+    }
+
+    @Benchmark
+    public Object reflective() {
+        applyReflectively(layerPatch, layer);
+        applyReflectively(featureTypePatch, featureType);
+        return featureType;
+    }
+
+    /** How {@link Patch#applyTo(Object)} used to resolve properties, for comparison */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void applyReflectively(Patch patch, Object target) {
+        for (Patch.Property change : patch.getPatches()) {
+            Method getter = OwsUtils.getter(target.getClass(), change.getName(), null);
+            if (Collection.class.isAssignableFrom(getter.getReturnType())) {
+                Collection prop = (Collection) OwsUtils.get(target, change.getName());
+                prop.clear();
+                prop.addAll((Collection) change.getValue());
+            } else if (Map.class.isAssignableFrom(getter.getReturnType())) {
+                Map prop = (Map) OwsUtils.get(target, change.getName());
+                prop.clear();
+                prop.putAll((Map) change.getValue());
+            } else {
+                OwsUtils.set(target, change.getName(), change.getValue());
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.catalog.plugin;
+
+import org.geoserver.catalog.Catalog;
+import org.geoserver.catalog.CatalogTestData;
+import org.geoserver.catalog.FeatureTypeInfo;
+import org.geoserver.catalog.LayerInfo;
+import org.geoserver.catalog.impl.LayerInfoImpl;
+import org.geoserver.catalog.util.CloseableIterator;
+import org.opengis.filter.Filter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Traverses all layers the way a capabilities document generation does, through a {@link
+ * CatalogPlugin} and through its {@link ReadOnlyCatalogView}, which returns the catalog objects
+ * behind a {@link ReadOnlyProxy} instead of a change tracking {@code ModificationProxy}. Run with
+ * {@code -prof gc} to compare the allocation rate of both.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ReadOnlyCatalogViewBenchmark {
+
+    private static final int LAYERS = 50_000;
+
+    private CatalogPlugin catalog;
+    private ReadOnlyCatalogView view;
+
+    @Setup
+    public void setUp() {
+        catalog = new CatalogPlugin();
+        CatalogTestData data =
+                CatalogTestData.empty(() -> catalog, () -> null)
+                        .initCatalog(true)
+                        .initConfig(false)
+                        .initialize();
+        for (int i = 0; i < LAYERS; i++) {
+            FeatureTypeInfo ft = data.createFeatureType("ft" + i);
+            catalog.add(ft);
+            LayerInfoImpl layer = new LayerInfoImpl();
+            layer.setId("layer-" + i);
+            layer.setResource(ft);
+            layer.setDefaultStyle(data.style1);
+            catalog.add(layer);
+        }
+        view = catalog.getReadOnlyView();
+    }
+
+    @Benchmark
+    public long catalog() {
+        return traverse(catalog);
+    }
+
+    @Benchmark
+    public long readOnlyView() {
+        return traverse(view);
+    }
+
+    private long traverse(Catalog catalog) {
+        long visited = 0;
+        try (CloseableIterator<LayerInfo> layers = catalog.list(LayerInfo.class, Filter.INCLUDE)) {
+            while (layers.hasNext()) {
+                visited += visit(layers.next());
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Accesses the properties a capabilities document would for each layer, calling {@code
+     * layer.getResource()} for each of them, as capabilities transformers commonly do
+     */
+    private int visit(LayerInfo layer) {
+        int hash = layer.getName().hashCode();
+        hash += String.valueOf(layer.getResource().getTitle()).hashCode();
+        hash += String.valueOf(layer.getResource().getAbstract()).hashCode();
+        hash += layer.getResource().getNamespace().getPrefix().hashCode();
+        hash += layer.getResource().getStore().getWorkspace().getName().hashCode();
+        hash += layer.getResource().getKeywords().size();
+        hash += layer.getStyles().size();
+        hash += String.valueOf(layer.getDefaultStyle().getName()).hashCode();
+        return hash;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.catalog.plugin;
+
+import org.geoserver.catalog.CatalogInfo;
+import org.geoserver.catalog.CatalogTestData;
+import org.geoserver.catalog.FeatureTypeInfo;
+import org.geoserver.catalog.LayerInfo;
+import org.geoserver.catalog.ResourceInfo;
+import org.geoserver.catalog.impl.LayerInfoImpl;
+import org.geoserver.catalog.impl.ResolvingProxy;
+import org.geoserver.catalog.plugin.forwarding.ForwardingExtendedCatalogFacade;
+import org.geoserver.catalog.plugin.forwarding.ResolvingCatalogFacadeDecorator;
+import org.geoserver.catalog.plugin.resolving.ResolutionScope;
+import org.geoserver.catalog.plugin.resolving.ResolvingProxyResolver;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Resolves a large layer listing through {@link ResolvingCatalogFacadeDecorator}, with its
+ * call-scoped {@link ResolutionScope}, compared to resolving each layer's references independently,
+ * as it used to. The number of resource lookups is reported as the {@code lookups} secondary
+ * result.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ResolvingCatalogFacadeDecoratorBenchmark {
+
+    private static final int LAYERS = 10_000;
+    private static final int RESOURCES = 100;
+
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    private List<String> resourceIds;
+    private ResolvingProxyResolver<CatalogInfo> resolver;
+    private ResolvingCatalogFacadeDecorator decorator;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Lookups {
+        public long lookups;
+    }
+
+    @Setup
+    public void setUp() {
+        ExtendedCatalogFacade counting =
+                new ForwardingExtendedCatalogFacade(new DefaultMemoryCatalogFacade()) {
+                    public @Override <T extends ResourceInfo> T getResource(
+                            String id, Class<T> clazz) {
+                        lookups.incrementAndGet();
+                        return super.getResource(id, clazz);
+                    }
+                };
+        CatalogPlugin catalog = new CatalogPlugin(counting);
+        CatalogTestData data =
+                CatalogTestData.empty(() -> catalog, () -> null)
+                        .initCatalog(true)
+                        .initConfig(false)
+                        .initialize();
+        resourceIds = new ArrayList<>();
+        for (int i = 0; i < RESOURCES; i++) {
+            FeatureTypeInfo ft = data.createFeatureType("ft" + i);
+            catalog.add(ft);
+            resourceIds.add(ft.getId());
+        }
+        resolver = ResolvingProxyResolver.of(catalog);
+        decorator =
+                new ResolvingCatalogFacadeDecorator(
+                        new ForwardingExtendedCatalogFacade(new DefaultMemoryCatalogFacade()) {
+                            public @Override List<LayerInfo> getLayers() {
+                                return layers().collect(Collectors.toList());
+                            }
+                        });
+        decorator.setOutboundResolver(resolver);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetLookups() {
+        lookups.set(0);
+    }
+
+    @Benchmark
+    public List<LayerInfo> perElement(Lookups counter) {
+        List<LayerInfo> layers =
+                layers().map(resolver::apply)
+                        .map(LayerInfo.class::cast)
+                        .collect(Collectors.toList());
+        counter.lookups += lookups.get();
+        return layers;
+    }
+
+    @Benchmark
+    public List<LayerInfo> callScoped(Lookups counter) {
+        List<LayerInfo> layers = new ArrayList<>(decorator.getLayers());
+        counter.lookups += lookups.get();
+        return layers;
+    }
+
+    /** Creates new layers each time, with unresolved resource references, as a remote backend */
+    private Stream<LayerInfo> layers() {
+        return IntStream.range(0, LAYERS)
+                .mapToObj(
+                        i -> {
+                            LayerInfoImpl layer = new LayerInfoImpl();
+                            layer.setId("layer-" + i);
+                            String resourceId = resourceIds.get(i % resourceIds.size());
+                            layer.setResource(
+                                    ResolvingProxy.create(resourceId, FeatureTypeInfo.class));
+                            return layer;
+                        });
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.config.plugin;
+
+import org.geoserver.catalog.WorkspaceInfo;
+import org.geoserver.catalog.impl.WorkspaceInfoImpl;
+import org.geoserver.config.ServiceInfo;
+import org.geoserver.wfs.WFSInfo;
+import org.geoserver.wfs.WFSInfoImpl;
+import org.geoserver.wms.WMSInfo;
+import org.geoserver.wms.WMSInfoImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-request service resolution {@code GeoServerImpl} performs against {@link
+ * MemoryConfigRepository} (global service, workspace service, and workspace service by name), with
+ * thousands of workspaces each having their own services, compared to a full scan of all services.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class MemoryConfigRepositoryBenchmark {
+
+    private static final int WORKSPACES = 3_000;
+
+    private MemoryConfigRepository repository;
+    private List<WorkspaceInfo> workspaces;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        repository = new MemoryConfigRepository();
+        workspaces = new ArrayList<>();
+        repository.add(service(new WMSInfoImpl(), "wms", "WMS", null));
+        repository.add(service(new WFSInfoImpl(), "wfs", "WFS", null));
+        for (int i = 0; i < WORKSPACES; i++) {
+            WorkspaceInfoImpl ws = new WorkspaceInfoImpl();
+            ws.setId("ws-" + i);
+            ws.setName("ws" + i);
+            workspaces.add(ws);
+            repository.add(service(new WMSInfoImpl(), "wms-" + i, "WMS", ws));
+            repository.add(service(new WFSInfoImpl(), "wfs-" + i, "WFS", ws));
+        }
+    }
+
+    private ServiceInfo service(
+            ServiceInfo service, String id, String name, WorkspaceInfo workspace) {
+        service.setId(id);
+        service.setName(name);
+        service.setWorkspace(workspace);
+        return service;
+    }
+
+    private WorkspaceInfo nextWorkspace() {
+        next = (next + 1) % WORKSPACES;
+        return workspaces.get(next);
+    }
+
+    /** What {@code GeoServerImpl} asks for on a workspace-specific (virtual service) request */
+    @Benchmark
+    public boolean indexed() {
+        WorkspaceInfo ws = nextWorkspace();
+        return repository.getGlobalService(WMSInfo.class).isPresent()
+                && repository.getServiceByWorkspace(ws, WMSInfo.class).isPresent()
+                && repository.getServiceByNameAndWorkspace("WFS", ws, WFSInfo.class).isPresent();
+    }
+
+    /** The same lookups as full scans over all services */
+    @Benchmark
+    public boolean scan() {
+        WorkspaceInfo ws = nextWorkspace();
+        return scan(WMSInfo.class, null, null).isPresent()
+                && scan(WMSInfo.class, ws, null).isPresent()
+                && scan(WFSInfo.class, ws, "WFS").isPresent();
+    }
+
+    private <T extends ServiceInfo> Optional<T> scan(
+            Class<T> clazz, WorkspaceInfo ws, String name) {
+        return repository.services.values().stream()
+                .filter(clazz::isInstance)
+                .filter(
+                        s ->
+                                ws == null
+                                        ? s.getWorkspace() == null
+                                        : s.getWorkspace() != null
+                                                && ws.getId().equals(s.getWorkspace().getId()))
+                .filter(s -> name == null || name.equals(s.getName()))
+                .map(clazz::cast)
+                .findFirst();
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.catalog.plugin;
+
+import org.geoserver.catalog.CatalogException;
+import org.geoserver.catalog.event.CatalogListener;
+
+/**
+ * Marker interface for {@link CatalogListener}s that don't need to be notified on the thread that
+ * changed the catalog.
+ *
+ * <p>{@link CatalogPlugin} feeds asynchronous listeners from a per-listener queue through its
+ * {@link AsyncCatalogListenerDispatcher}, so each listener gets its events in the same order they
+ * were fired, but without adding to the latency of the catalog write.
+ *
+ * <p>Asynchronous listeners can't veto a catalog operation: a {@link CatalogException} thrown while
+ * handling an event is logged instead of propagated to the caller. Also note the event source may
+ * have been further modified by the time the event is handled, hence implementations shall rely on
+ * the event's property names and values rather than on the source object's state. Listeners that
+ * need either guarantee shall stay synchronous.
+ *
+ * @since 1.0
+ */
+public interface AsyncCatalogListener extends CatalogListener {}
@@ -0,0 +1,252 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.catalog.plugin;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.geoserver.catalog.event.CatalogAddEvent;
+import org.geoserver.catalog.event.CatalogBeforeAddEvent;
+import org.geoserver.catalog.event.CatalogEvent;
+import org.geoserver.catalog.event.CatalogListener;
+import org.geoserver.catalog.event.CatalogModifyEvent;
+import org.geoserver.catalog.event.CatalogPostModifyEvent;
+import org.geoserver.catalog.event.CatalogRemoveEvent;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Feeds {@link AsyncCatalogListener}s with {@link CatalogEvent}s on a bounded thread pool, keeping
+ * a queue per listener so each listener gets its events in the order they were fired, one at a
+ * time.
+ *
+ * <p>At most one drain task per listener is submitted to the thread pool at any given time, hence a
+ * slow listener only holds one thread, and its queue is limited to {@code queueCapacity} events.
+ * When a listener's queue is full, the thread firing the event waits until there's room for it,
+ * applying back-pressure to catalog writers instead of growing the heap unbounded.
+ *
+ * <p>Each {@link ListenerQueue} exposes its depth, the age of its oldest pending event (lag), and
+ * the number of events processed, to be exported as metrics by {@link #addQueueObserver queue
+ * observers}.
+ *
+ * @since 1.0
+ */
+@Slf4j(topic = "org.geoserver.catalog.plugin")
+public class AsyncCatalogListenerDispatcher {
+
+    public static final int DEFAULT_THREADS = 2;
+    public static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+
+    /** Max events processed by a drain task before yielding its thread to other listeners */
+    private static final int MAX_BATCH = 100;
+
+    /** Whether the current thread is draining a listener queue */
+    private static final ThreadLocal<Boolean> DRAINING = ThreadLocal.withInitial(() -> false);
+
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+
+    private final ConcurrentMap<AsyncCatalogListener, ListenerQueue> queues =
+            new ConcurrentHashMap<>();
+
+    private final List<Consumer<ListenerQueue>> queueObservers = new CopyOnWriteArrayList<>();
+
+    public AsyncCatalogListenerDispatcher() {
+        this(DEFAULT_THREADS, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public AsyncCatalogListenerDispatcher(int threads, int queueCapacity) {
+        if (threads < 1) throw new IllegalArgumentException("threads must be > 0: " + threads);
+        if (queueCapacity < 1)
+            throw new IllegalArgumentException("queueCapacity must be > 0: " + queueCapacity);
+        this.queueCapacity = queueCapacity;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("catalog-events-");
+        threadFactory.setDaemon(true);
+        // the work queue holds at most one task per listener, no need to bound it
+        this.executor =
+                new ThreadPoolExecutor(
+                        threads,
+                        threads,
+                        30,
+                        TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(),
+                        threadFactory);
+        // no idle threads for catalogs with no async listeners
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Notifies {@code observer} of the current and future listener queues, for example to register
+     * metrics for them
+     */
+    public void addQueueObserver(@NonNull Consumer<ListenerQueue> observer) {
+        queueObservers.add(observer);
+        queues.values().forEach(observer);
+    }
+
+    public Stream<ListenerQueue> queues() {
+        return queues.values().stream();
+    }
+
+    public void register(@NonNull AsyncCatalogListener listener) {
+        queues.computeIfAbsent(
+                listener,
+                l -> {
+                    ListenerQueue queue = new ListenerQueue(l, new Semaphore(queueCapacity));
+                    queueObservers.forEach(observer -> observer.accept(queue));
+                    return queue;
+                });
+    }
+
+    /**
+     * Stops dispatching new events to {@code listener}. Events already queued are still delivered.
+     */
+    public void unregister(@NonNull AsyncCatalogListener listener) {
+        queues.remove(listener);
+    }
+
+    /**
+     * Queues {@code event} to be delivered to {@code listener}, waiting for room in its queue if
+     * it's full
+     */
+    public void dispatch(@NonNull AsyncCatalogListener listener, @NonNull CatalogEvent event) {
+        ListenerQueue queue = queues.get(listener);
+        if (queue == null) {
+            log.debug("{} is not registered, ignoring event", listener);
+            return;
+        }
+        queue.offer(event);
+        schedule(queue);
+    }
+
+    /** Shuts down the thread pool, discarding any pending event */
+    public void dispose() {
+        queues.clear();
+        executor.shutdownNow();
+    }
+
+    private void schedule(ListenerQueue queue) {
+        if (queue.scheduled.compareAndSet(false, true)) {
+            executor.execute(() -> drain(queue));
+        }
+    }
+
+    private void drain(ListenerQueue queue) {
+        DRAINING.set(true);
+        try {
+            Pending pending;
+            for (int i = 0; i < MAX_BATCH && (pending = queue.events.poll()) != null; i++) {
+                try {
+                    notify(queue.listener, pending.event);
+                } catch (RuntimeException e) {
+                    log.warn(
+                            "Asynchronous catalog listener {} threw exception handling event",
+                            queue.listener.getClass().getName(),
+                            e);
+                } finally {
+                    if (pending.acquired) queue.capacity.release();
+                    queue.processed.incrementAndGet();
+                }
+            }
+        } finally {
+            DRAINING.remove();
+            queue.scheduled.set(false);
+        }
+        // events may have been queued after the last poll() and before resetting scheduled
+        if (!queue.events.isEmpty()) {
+            schedule(queue);
+        }
+    }
+
+    /** Calls the {@code listener} method that corresponds to the {@code event} type */
+    static void notify(CatalogListener listener, CatalogEvent event) {
+        if (event instanceof CatalogAddEvent) {
+            listener.handleAddEvent((CatalogAddEvent) event);
+        } else if (event instanceof CatalogRemoveEvent) {
+            listener.handleRemoveEvent((CatalogRemoveEvent) event);
+        } else if (event instanceof CatalogModifyEvent) {
+            listener.handleModifyEvent((CatalogModifyEvent) event);
+        } else if (event instanceof CatalogPostModifyEvent) {
+            listener.handlePostModifyEvent((CatalogPostModifyEvent) event);
+        } else if (event instanceof CatalogBeforeAddEvent) {
+            listener.handlePreAddEvent((CatalogBeforeAddEvent) event);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class Pending {
+        final CatalogEvent event;
+        final long queuedAt;
+        final boolean acquired;
+    }
+
+    /** The ordered queue of pending events of an {@link AsyncCatalogListener} */
+    @RequiredArgsConstructor
+    public static class ListenerQueue {
+        private final @Getter AsyncCatalogListener listener;
+        private final Semaphore capacity;
+        private final Queue<Pending> events = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicLong queued = new AtomicLong();
+        private final AtomicLong processed = new AtomicLong();
+
+        void offer(CatalogEvent event) {
+            // a listener changing the catalog must not wait for its own queue to drain
+            boolean acquired = DRAINING.get() ? capacity.tryAcquire() : acquire();
+            queued.incrementAndGet();
+            events.add(new Pending(event, System.nanoTime(), acquired));
+        }
+
+        private boolean acquire() {
+            if (!capacity.tryAcquire()) {
+                log.debug("Event queue of {} is full, waiting", listener.getClass().getName());
+                capacity.acquireUninterruptibly();
+            }
+            return true;
+        }
+
+        /**
+         * @return number of events waiting to be delivered to the listener
+         */
+        public long getDepth() {
+            return queued.get() - processed.get();
+        }
+
+        /**
+         * @return how long the oldest pending event has been waiting to be delivered, or zero if
+         *     there are no pending events
+         */
+        public Duration getLag() {
+            Pending oldest = events.peek();
+            return oldest == null
+                    ? Duration.ZERO
+                    : Duration.ofNanos(System.nanoTime() - oldest.queuedAt);
+        }
+
+        /**
+         * @return number of events delivered to the listener
+         */
+        public long getProcessed() {
+            return processed.get();
+        }
+    }
+}
@@ -32,9 +32,12 @@ import org.opengis.filter.Filter;
 import org.opengis.filter.sort.SortBy;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -52,6 +55,9 @@ public class CatalogFacadeExtensionAdapter extends ForwardingCatalogFacade
     private CatalogInfoTypeRegistry<?, Consumer<?>> updateToSaveBridge =
             new CatalogInfoTypeRegistry<>();
 
+    /** Type agnostic lookup by id of the decorated facade, if it has one */
+    private Function<String, CatalogInfo> idLookup;
+
     public CatalogFacadeExtensionAdapter(CatalogFacade facade) {
         super(facade);
         if (facade instanceof ExtendedCatalogFacade) {
@@ -89,6 +95,22 @@ public class CatalogFacadeExtensionAdapter extends ForwardingCatalogFacade
         super.setCatalog(catalog);
     }
 
+    /**
+     * Sets the function to look up an object of any type by id in the decorated facade, for {@link
+     * #findById(String)} to use it instead of querying each {@link CatalogInfo} type in turn
+     */
+    public void setIdLookup(Function<String, CatalogInfo> idLookup) {
+        this.idLookup = idLookup;
+    }
+
+    public @Override Optional<CatalogInfo> findById(String id) {
+        if (idLookup == null) {
+            return ExtendedCatalogFacade.super.findById(id);
+        }
+        Objects.requireNonNull(id, "id");
+        return Optional.ofNullable(idLookup.apply(id));
+    }
+
     /**
      * Bridges the new {@link ExtendedCatalogFacade#update(CatalogInfo, Patch)} method to the
      * corresponding {@link CatalogFacade#save} method in the decorated old style {@link
@@ -117,6 +117,12 @@ abstract class CatalogInfoLookup<T extends CatalogInfo> implements CatalogInfoRe
 
     protected final Function<T, Name> nameMapper;
 
+    /**
+     * Catalog wide id index shared by all the lookups of a {@link DefaultMemoryCatalogFacade}, kept
+     * in sync with {@link #idMultiMap}, or {@code null}
+     */
+    private ConcurrentMap<String, CatalogInfo> globalIdIndex;
+
     protected final Class<T> infoType;
 
     static final <T> Predicate<T> alwaysTrue() {
@@ -133,6 +139,27 @@ abstract class CatalogInfoLookup<T extends CatalogInfo> implements CatalogInfoRe
         return infoType;
     }
 
+    /**
+     * Sets the catalog wide id index this lookup shall add and remove its objects to and from,
+     * indexing the objects it already holds
+     */
+    void setGlobalIdIndex(ConcurrentMap<String, CatalogInfo> globalIdIndex) {
+        this.globalIdIndex = globalIdIndex;
+        idMultiMap.values().forEach(globalIdIndex::putAll);
+    }
+
+    private void addToGlobalIdIndex(T value) {
+        if (globalIdIndex != null) {
+            globalIdIndex.putIfAbsent(value.getId(), value);
+        }
+    }
+
+    protected void removeFromGlobalIdIndex(String id) {
+        if (globalIdIndex != null) {
+            globalIdIndex.remove(id);
+        }
+    }
+
     <K, V> ConcurrentMap<K, V> getMapForValue(
             ConcurrentMap<Class<? extends T>, ConcurrentNavigableMap<K, V>> maps, T value) {
         @SuppressWarnings("unchecked")
@@ -174,6 +201,7 @@ abstract class CatalogInfoLookup<T extends CatalogInfo> implements CatalogInfoRe
             Name name = nameMapper.apply(value);
             nameMap.put(name, value);
             idToName.put(value.getId(), name);
+            addToGlobalIdIndex(value);
         }
     }
 
@@ -187,6 +215,7 @@ abstract class CatalogInfoLookup<T extends CatalogInfo> implements CatalogInfoRe
             if (removed != null) {
                 Name name = getMapForValue(idToMameMultiMap, value).remove(value.getId());
                 getMapForValue(nameMultiMap, value).remove(name);
+                removeFromGlobalIdIndex(value.getId());
             }
         }
     }
@@ -228,6 +257,9 @@ abstract class CatalogInfoLookup<T extends CatalogInfo> implements CatalogInfoRe
     }
 
     protected void clear() {
+        if (globalIdIndex != null) {
+            idMultiMap.values().forEach(ids -> ids.keySet().forEach(globalIdIndex::remove));
+        }
         idMultiMap.clear();
         nameMultiMap.clear();
         idToMameMultiMap.clear();
@@ -447,6 +479,9 @@ abstract class CatalogInfoLookup<T extends CatalogInfo> implements CatalogInfoRe
             other.idMultiMap.putAll(this.idMultiMap);
             other.nameMultiMap.putAll(this.nameMultiMap);
             other.idToMameMultiMap.putAll(this.idToMameMultiMap);
+            if (other.globalIdIndex != null) {
+                this.idMultiMap.values().forEach(other.globalIdIndex::putAll);
+            }
         } else {
             this.idMultiMap.values().forEach(typeMap -> typeMap.values().forEach(target::add));
         }
@@ -471,6 +506,14 @@ abstract class CatalogInfoLookup<T extends CatalogInfo> implements CatalogInfoRe
             return Optional.ofNullable(defaultNamespace);
         }
 
+        /** Direct lookup on the name index, keyed by prefix */
+        public @Override <U extends NamespaceInfo> Optional<U> findFirstByName(
+                String prefix, Class<U> clazz) {
+            requireNonNull(prefix);
+            requireNonNull(clazz);
+            return findFirstByName(new NameImpl(prefix), clazz);
+        }
+
         public @Override Optional<NamespaceInfo> findOneByURI(String uri) {
             requireNonNull(uri);
             return findFirst(NamespaceInfo.class, ns -> uri.equals(ns.getURI()));
@@ -505,6 +548,14 @@ abstract class CatalogInfoLookup<T extends CatalogInfo> implements CatalogInfoRe
             return Optional.ofNullable(defaultWorkspace);
         }
 
+        /** Direct lookup on the name index */
+        public @Override <U extends WorkspaceInfo> Optional<U> findFirstByName(
+                String name, Class<U> clazz) {
+            requireNonNull(name);
+            requireNonNull(clazz);
+            return findFirstByName(new NameImpl(name), clazz);
+        }
+
         public @Override void unsetDefaultWorkspace() {
             defaultWorkspace = null;
         }
@@ -699,6 +750,7 @@ abstract class CatalogInfoLookup<T extends CatalogInfo> implements CatalogInfoRe
                 if (removed != null) {
                     getMapForValue(idMultiMap, value).remove(value.getId());
                     getMapForValue(idToMameMultiMap, value).remove(value.getId());
+                    removeFromGlobalIdIndex(value.getId());
                 }
             }
         }
@@ -708,6 +760,18 @@ abstract class CatalogInfoLookup<T extends CatalogInfo> implements CatalogInfoRe
             return findFirst(LayerInfo.class, li -> name.equals(li.getName()));
         }
 
+        /**
+         * Direct lookup on the name index, which is keyed by namespace id and resource name, and
+         * hence kept up to date by {@link ResourceInfoLookup} on resource renames and namespace
+         * changes, and unaffected by namespace prefix changes
+         */
+        public @Override Optional<LayerInfo> findOneByNameAndNamespace(
+                String name, NamespaceInfo namespace) {
+            requireNonNull(name);
+            requireNonNull(namespace);
+            return findFirstByName(new NameImpl(namespace.getId(), name), LayerInfo.class);
+        }
+
         public @Override Stream<LayerInfo> findAllByDefaultStyleOrStyles(StyleInfo style) {
             requireNonNull(style);
             return list(
@@ -0,0 +1,298 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.catalog.plugin;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.geoserver.catalog.CatalogInfo;
+import org.geoserver.catalog.impl.CatalogPropertyAccessor;
+import org.opengis.filter.sort.SortBy;
+import org.opengis.filter.sort.SortOrder;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Sorts a stream of {@link CatalogInfo} in-process, for {@link CatalogPlugin#list(Class,
+ * org.opengis.filter.Filter, Integer, Integer, SortBy) list()} requests whose sort order the
+ * backend can't handle.
+ *
+ * <p>Memory usage is bounded by {@code maxInMemory} objects:
+ *
+ * <ul>
+ *   <li>When {@code offset + count} fits in memory, only the top {@code offset + count} objects are
+ *       kept, in a bounded heap.
+ *   <li>Otherwise objects are sorted in memory as long as they fit. Beyond that, sorted runs of
+ *       {@code (sort key, id)} pairs are spilled to temporary files and merged, and the resulting
+ *       page is loaded back by id.
+ * </ul>
+ *
+ * Objects with equal sort keys are ordered by id, so paging over the same result set is stable.
+ * Sort key values that are not {@link Comparable} and {@link Serializable} (e.g. collections) are
+ * compared by their string representation.
+ *
+ * @since 1.0
+ */
+@Slf4j(topic = "org.geoserver.catalog.plugin")
+class CatalogInfoMergeSort<T extends CatalogInfo> {
+
+    static final int DEFAULT_MAX_IN_MEMORY = 10_000;
+
+    private static final CatalogPropertyAccessor PROPERTY_ACCESSOR = new CatalogPropertyAccessor();
+
+    private final Class<T> type;
+    private final String propertyName;
+    private final Function<String, Optional<CatalogInfo>> idLookup;
+    private final int maxInMemory;
+    private final Comparator<Keyed> comparator;
+
+    /**
+     * @param idLookup used to load back the objects of the resulting page when the sort keys had to
+     *     be spilled to disk
+     * @param maxInMemory max number of objects to hold in memory
+     */
+    CatalogInfoMergeSort(
+            @NonNull Class<T> type,
+            @NonNull SortBy sortOrder,
+            @NonNull Function<String, Optional<CatalogInfo>> idLookup,
+            int maxInMemory) {
+        if (maxInMemory < 1)
+            throw new IllegalArgumentException("maxInMemory must be > 0: " + maxInMemory);
+        this.type = type;
+        this.propertyName = sortOrder.getPropertyName().getPropertyName();
+        this.idLookup = idLookup;
+        this.maxInMemory = maxInMemory;
+        Comparator<Keyed> byKey = (k1, k2) -> compareValues(k1.key, k2.key);
+        if (SortOrder.DESCENDING.equals(sortOrder.getSortOrder())) {
+            byKey = byKey.reversed();
+        }
+        this.comparator = byKey.thenComparing(k -> k.id, Comparator.nullsFirst(String::compareTo));
+    }
+
+    /**
+     * Sorts {@code source} and applies {@code offset} and {@code count}. The returned stream closes
+     * {@code source} and removes any temporary file when closed.
+     */
+    public Stream<T> sort(@NonNull Stream<T> source, Integer offset, Integer count) {
+        final int skip = offset == null ? 0 : offset.intValue();
+        final long topK = count == null ? Long.MAX_VALUE : (long) skip + count.intValue();
+        if (topK <= maxInMemory) {
+            try (source) {
+                return page(topK(source, (int) topK), skip, topK);
+            }
+        }
+        Runs runs = new Runs();
+        try (source) {
+            List<Keyed> buffer = new ArrayList<>();
+            for (Iterator<T> it = source.iterator(); it.hasNext(); ) {
+                buffer.add(keyed(it.next()));
+                if (buffer.size() == maxInMemory) {
+                    runs.spill(buffer);
+                    buffer.clear();
+                }
+            }
+            if (runs.isEmpty()) {
+                buffer.sort(comparator);
+                return page(buffer, skip, topK);
+            }
+            runs.spill(buffer);
+        } catch (RuntimeException e) {
+            runs.close();
+            throw e;
+        }
+        log.debug(
+                "Sorted {} by {} in {} runs spilled to disk",
+                type.getSimpleName(),
+                propertyName,
+                runs.files.size());
+        Stream<String> ids = runs.merge().skip(skip);
+        if (count != null) ids = ids.limit(count.intValue());
+        return ids.map(idLookup)
+                .flatMap(Optional::stream)
+                .filter(type::isInstance)
+                .map(type::cast)
+                .onClose(runs::close);
+    }
+
+    private List<Keyed> topK(Stream<T> source, int k) {
+        // max-heap on the sort order, its head is the first one to drop when full
+        PriorityQueue<Keyed> heap = new PriorityQueue<>(Math.max(1, k), comparator.reversed());
+        source.forEach(
+                info -> {
+                    Keyed keyed = keyed(info);
+                    if (heap.size() < k) {
+                        heap.add(keyed);
+                    } else if (k > 0 && comparator.compare(keyed, heap.peek()) < 0) {
+                        heap.poll();
+                        heap.add(keyed);
+                    }
+                });
+        List<Keyed> sorted = new ArrayList<>(heap);
+        sorted.sort(comparator);
+        return sorted;
+    }
+
+    private Stream<T> page(List<Keyed> sorted, int skip, long limit) {
+        return sorted.stream().skip(skip).limit(limit - skip).map(k -> type.cast(k.info));
+    }
+
+    private Keyed keyed(T info) {
+        return new Keyed(sortKey(info), info.getId(), info);
+    }
+
+    private Object sortKey(T info) {
+        Object value = PROPERTY_ACCESSOR.getProperty(info, propertyName);
+        if (value == null || (value instanceof Comparable && value instanceof Serializable)) {
+            return value;
+        }
+        return String.valueOf(value);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static int compareValues(Object v1, Object v2) {
+        if (v1 == v2) return 0;
+        if (v1 == null) return -1;
+        if (v2 == null) return 1;
+        if (v1.getClass().equals(v2.getClass())) {
+            return ((Comparable) v1).compareTo(v2);
+        }
+        return String.valueOf(v1).compareTo(String.valueOf(v2));
+    }
+
+    @RequiredArgsConstructor
+    private static class Keyed {
+        final Object key;
+        final String id;
+        /** null when read back from a spilled run */
+        final CatalogInfo info;
+    }
+
+    /** Sorted runs of {@code (sort key, id)} pairs spilled to temporary files */
+    private class Runs implements AutoCloseable {
+        private final List<Path> files = new ArrayList<>();
+        private final List<ObjectInputStream> readers = new ArrayList<>();
+
+        boolean isEmpty() {
+            return files.isEmpty();
+        }
+
+        void spill(List<Keyed> buffer) {
+            if (buffer.isEmpty()) return;
+            buffer.sort(comparator);
+            try {
+                Path file = Files.createTempFile("gs-catalog-sort", ".run");
+                files.add(file);
+                try (ObjectOutputStream out =
+                        new ObjectOutputStream(
+                                new BufferedOutputStream(Files.newOutputStream(file)))) {
+                    for (Keyed k : buffer) {
+                        out.writeObject(k.key);
+                        out.writeUTF(k.id);
+                        // don't keep references to the written objects
+                        out.reset();
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error spilling catalog sort run", e);
+            }
+        }
+
+        Stream<String> merge() {
+            PriorityQueue<RunReader> heads =
+                    new PriorityQueue<>(
+                            Comparator.<RunReader, Keyed>comparing(r -> r.head, comparator));
+            try {
+                for (Path file : files) {
+                    ObjectInputStream in =
+                            new ObjectInputStream(
+                                    new BufferedInputStream(Files.newInputStream(file)));
+                    readers.add(in);
+                    RunReader reader = new RunReader(in);
+                    if (reader.advance()) heads.add(reader);
+                }
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException("Error reading catalog sort run", e);
+            }
+            Iterator<String> ids =
+                    new Iterator<>() {
+                        public @Override boolean hasNext() {
+                            return !heads.isEmpty();
+                        }
+
+                        public @Override String next() {
+                            RunReader reader = heads.poll();
+                            if (reader == null) throw new NoSuchElementException();
+                            String id = reader.head.id;
+                            if (reader.advance()) heads.add(reader);
+                            return id;
+                        }
+                    };
+            return StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(ids, Spliterator.ORDERED), false);
+        }
+
+        public @Override void close() {
+            for (ObjectInputStream in : readers) {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                    log.debug("Error closing catalog sort run", e);
+                }
+            }
+            for (Path file : files) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    log.warn("Unable to delete temporary file {}", file, e);
+                }
+            }
+            readers.clear();
+            files.clear();
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class RunReader {
+        private final ObjectInputStream in;
+        Keyed head;
+
+        boolean advance() {
+            try {
+                Object key = in.readObject();
+                String id = in.readUTF();
+                head = new Keyed(key, id, null);
+                return true;
+            } catch (EOFException eof) {
+                head = null;
+                return false;
+            } catch (IOException | ClassNotFoundException e) {
+                throw new IllegalStateException("Error reading catalog sort run", e);
+            }
+        }
+    }
+}
@@ -12,6 +12,7 @@ import org.geoserver.catalog.LayerGroupInfo;
 import org.geoserver.catalog.LayerInfo;
 import org.geoserver.catalog.MapInfo;
 import org.geoserver.catalog.NamespaceInfo;
+import org.geoserver.catalog.Predicates;
 import org.geoserver.catalog.ResourceInfo;
 import org.geoserver.catalog.StoreInfo;
 import org.geoserver.catalog.StyleInfo;
@@ -177,6 +178,21 @@ public interface CatalogInfoRepository<T extends CatalogInfo> {
 
         Optional<LayerInfo> findOneByName(@NonNull String possiblyPrefixedName);
 
+        /**
+         * Looks up the layer of the resource named {@code name} in {@code namespace}. Implementors
+         * are encouraged to override the default filter based query with a direct lookup.
+         */
+        default Optional<LayerInfo> findOneByNameAndNamespace(
+                @NonNull String name, @NonNull NamespaceInfo namespace) {
+            Filter filter =
+                    Predicates.and(
+                            Predicates.equal("resource.namespace.id", namespace.getId()),
+                            Predicates.equal("resource.name", name));
+            try (Stream<LayerInfo> layers = findAll(Query.valueOf(LayerInfo.class, filter))) {
+                return layers.findFirst();
+            }
+        }
+
         Stream<LayerInfo> findAllByDefaultStyleOrStyles(@NonNull StyleInfo style);
 
         Stream<LayerInfo> findAllByResource(@NonNull ResourceInfo resource);
@@ -36,13 +36,8 @@ import org.geoserver.catalog.WMSStoreInfo;
 import org.geoserver.catalog.WMTSLayerInfo;
 import org.geoserver.catalog.WMTSStoreInfo;
 import org.geoserver.catalog.WorkspaceInfo;
-import org.geoserver.catalog.event.CatalogAddEvent;
-import org.geoserver.catalog.event.CatalogBeforeAddEvent;
 import org.geoserver.catalog.event.CatalogEvent;
 import org.geoserver.catalog.event.CatalogListener;
-import org.geoserver.catalog.event.CatalogModifyEvent;
-import org.geoserver.catalog.event.CatalogPostModifyEvent;
-import org.geoserver.catalog.event.CatalogRemoveEvent;
 import org.geoserver.catalog.event.impl.CatalogAddEventImpl;
 import org.geoserver.catalog.event.impl.CatalogBeforeAddEventImpl;
 import org.geoserver.catalog.event.impl.CatalogModifyEventImpl;
@@ -68,13 +63,11 @@ import org.geoserver.config.util.XStreamPersister;
 import org.geoserver.ows.util.OwsUtils;
 import org.geoserver.platform.ExtensionPriority;
 import org.geoserver.platform.GeoServerResourceLoader;
-import org.geotools.factory.CommonFactoryFinder;
 import org.geotools.util.Converters;
 import org.geotools.util.SuppressFBWarnings;
 import org.geotools.util.logging.Logging;
 import org.opengis.feature.type.Name;
 import org.opengis.filter.Filter;
-import org.opengis.filter.FilterFactory2;
 import org.opengis.filter.Id;
 import org.opengis.filter.PropertyIsEqualTo;
 import org.opengis.filter.expression.Literal;
@@ -169,8 +162,14 @@ public class CatalogPlugin extends CatalogImpl implements Catalog {
 
     private CatalogBusinessRules businessRules;
 
+    /** Delivers events to {@link AsyncCatalogListener}s off the thread that changed the catalog */
+    private AsyncCatalogListenerDispatcher asyncListenerDispatcher;
+
     protected final boolean isolated;
 
+    /** Lazily created by {@link #getReadOnlyView()}, reset whenever the facade changes */
+    private volatile ReadOnlyCatalogView readOnlyView;
+
     public CatalogPlugin() {
         this(true);
     }
@@ -186,12 +185,27 @@ public class CatalogPlugin extends CatalogImpl implements Catalog {
     public CatalogPlugin(CatalogFacade facade, boolean isolated) {
         Objects.requireNonNull(facade);
         this.isolated = isolated;
+        asyncListenerDispatcher = new AsyncCatalogListenerDispatcher();
         setFacade(facade);
         resourcePool = ResourcePool.create(this);
         validationSupport = new CatalogValidationRules(this);
         businessRules = new CatalogBusinessRules();
     }
 
+    /**
+     * Constructor for {@link ReadOnlyCatalogView}, shares {@code subject}'s resource pool, resource
+     * loader, validation rules, and async listener dispatcher instead of creating its own
+     */
+    CatalogPlugin(@NonNull CatalogPlugin subject) {
+        this.isolated = subject.isolated;
+        this.validationSupport = subject.validationSupport;
+        this.businessRules = subject.businessRules;
+        this.asyncListenerDispatcher = subject.asyncListenerDispatcher;
+        this.resourcePool = subject.getResourcePool();
+        this.resourceLoader = subject.getResourceLoader();
+        setFacade(subject.getRawFacade());
+    }
+
     public @Override ExtendedCatalogFacade getFacade() {
         return (ExtendedCatalogFacade) facade;
     }
@@ -221,16 +235,26 @@ public class CatalogPlugin extends CatalogImpl implements Catalog {
         // facade = LockingCatalogFacade.create(facade, configurationLock);
         // }
         this.rawFacade = facade;
+        this.facade = createResolvingFacade(facade, ModificationProxyDecorator::wrap);
+        this.facade.setCatalog(this);
+        this.readOnlyView = null;
+    }
+
+    /**
+     * Decorates {@code facade} with an {@link IsolatedCatalogFacade} if this catalog is isolated,
+     * and a {@link ResolvingCatalogFacadeDecorator} that applies {@code outboundResolver} to all
+     * returned objects and removes the {@link ModificationProxy} from all incoming ones.
+     */
+    protected ResolvingCatalogFacadeDecorator createResolvingFacade(
+            CatalogFacade facade, Function<CatalogInfo, CatalogInfo> outboundResolver) {
         ExtendedCatalogFacade efacade;
-        Function<CatalogInfo, CatalogInfo> outboundResolver;
         Function<CatalogInfo, CatalogInfo> inboundResolver;
         if (facade instanceof ExtendedCatalogFacade) {
-            efacade = (ExtendedCatalogFacade) rawFacade;
+            efacade = (ExtendedCatalogFacade) facade;
             // make sure no object leaves the catalog without being proxied, nor enters the facade
             // as a proxy. Note it is ok if the provided facade is already a ResolvingCatalogFacade.
             // This catalog doesn't care which object resolution chain the provided facade needs to
             // perform.
-            outboundResolver = ModificationProxyDecorator::wrap;
             inboundResolver = ModificationProxyDecorator::unwrap;
         } else {
             efacade = new CatalogFacadeExtensionAdapter(facade);
@@ -244,8 +268,23 @@ public class CatalogPlugin extends CatalogImpl implements Catalog {
         ResolvingCatalogFacadeDecorator resolving = new ResolvingCatalogFacadeDecorator(efacade);
         resolving.setOutboundResolver(outboundResolver);
         resolving.setInboundResolver(inboundResolver);
-        this.facade = resolving;
-        this.facade.setCatalog(this);
+        return resolving;
+    }
+
+    /**
+     * Returns a read-only view of this catalog that hands out the facade's objects behind a
+     * lightweight {@link ReadOnlyProxy} instead of a change tracking {@link ModificationProxy}, for
+     * read-mostly code paths like capabilities generation over large catalogs.
+     *
+     * @see ReadOnlyCatalogView
+     */
+    public ReadOnlyCatalogView getReadOnlyView() {
+        ReadOnlyCatalogView view = this.readOnlyView;
+        if (view == null) {
+            view = new ReadOnlyCatalogView(this);
+            this.readOnlyView = view;
+        }
+        return view;
     }
 
     public @Override String getId() {
@@ -751,6 +790,11 @@ public class CatalogPlugin extends CatalogImpl implements Catalog {
         return getLayerByName(name.getLocalPart());
     }
 
+    /**
+     * Resolves qualified names, and unqualified names in the default workspace first, with a single
+     * {@link ExtendedCatalogFacade#getLayerByPrefixedName(String, String)} call instead of
+     * resolving the resource and then its layers
+     */
     public @Override LayerInfo getLayerByName(String name) {
         LayerInfo result = null;
         int colon = name.indexOf(':');
@@ -759,12 +803,12 @@ public class CatalogPlugin extends CatalogImpl implements Catalog {
             String prefix = name.substring(0, colon);
             String resource = name.substring(colon + 1);
 
-            result = getLayerByName(this, prefix, resource);
+            result = getFacade().getLayerByPrefixedName(prefix, resource);
         } else {
             // search in default workspace first
             WorkspaceInfo ws = getDefaultWorkspace();
             if (ws != null) {
-                result = getLayerByName(this, ws.getName(), name);
+                result = getFacade().getLayerByPrefixedName(ws.getName(), name);
             }
         }
 
@@ -1149,17 +1193,47 @@ public class CatalogPlugin extends CatalogImpl implements Catalog {
     public @Override void addListener(CatalogListener listener) {
         listeners.add(listener);
         Collections.sort(listeners, ExtensionPriority.COMPARATOR);
+        if (listener instanceof AsyncCatalogListener) {
+            asyncListenerDispatcher.register((AsyncCatalogListener) listener);
+        }
     }
 
     public @Override void removeListener(CatalogListener listener) {
         listeners.remove(listener);
+        if (listener instanceof AsyncCatalogListener) {
+            asyncListenerDispatcher.unregister((AsyncCatalogListener) listener);
+        }
     }
 
     public @Override void removeListeners(Class listenerClass) {
         new ArrayList<>(listeners)
                 .stream()
                         .filter(l -> listenerClass.isInstance(l))
-                        .forEach(l -> listeners.remove(l));
+                        .forEach(l -> removeListener(l));
+    }
+
+    public AsyncCatalogListenerDispatcher getAsyncListenerDispatcher() {
+        return asyncListenerDispatcher;
+    }
+
+    /**
+     * Replaces the dispatcher feeding {@link AsyncCatalogListener}s, moving the currently
+     * registered ones to the new dispatcher and disposing the current one.
+     */
+    public void setAsyncListenerDispatcher(@NonNull AsyncCatalogListenerDispatcher dispatcher) {
+        AsyncCatalogListenerDispatcher old = this.asyncListenerDispatcher;
+        this.asyncListenerDispatcher = dispatcher;
+        if (old != dispatcher) {
+            registerAsyncListeners();
+            old.dispose();
+        }
+    }
+
+    private void registerAsyncListeners() {
+        listeners.stream()
+                .filter(AsyncCatalogListener.class::isInstance)
+                .map(AsyncCatalogListener.class::cast)
+                .forEach(asyncListenerDispatcher::register);
     }
 
     public @Override ResourcePool getResourcePool() {
@@ -1181,6 +1255,7 @@ public class CatalogPlugin extends CatalogImpl implements Catalog {
     public @Override void dispose() {
         if (resourcePool != null) resourcePool.dispose();
         facade.dispose();
+        asyncListenerDispatcher.dispose();
     }
 
     // @Override TODO: add to the interface
@@ -1226,21 +1301,20 @@ public class CatalogPlugin extends CatalogImpl implements Catalog {
         event(event);
     }
 
+    /**
+     * Notifies {@code event} to all listeners. {@link AsyncCatalogListener}s are notified through
+     * the {@link #getAsyncListenerDispatcher() dispatcher} and can't veto the operation, the rest
+     * are called on the current thread and can veto it by throwing a {@link CatalogException}.
+     */
     protected void event(CatalogEvent event) {
         CatalogException toThrow = null;
 
         for (CatalogListener listener : listeners) {
             try {
-                if (event instanceof CatalogAddEvent) {
-                    listener.handleAddEvent((CatalogAddEvent) event);
-                } else if (event instanceof CatalogRemoveEvent) {
-                    listener.handleRemoveEvent((CatalogRemoveEvent) event);
-                } else if (event instanceof CatalogModifyEvent) {
-                    listener.handleModifyEvent((CatalogModifyEvent) event);
-                } else if (event instanceof CatalogPostModifyEvent) {
-                    listener.handlePostModifyEvent((CatalogPostModifyEvent) event);
-                } else if (event instanceof CatalogBeforeAddEvent) {
-                    listener.handlePreAddEvent((CatalogBeforeAddEvent) event);
+                if (listener instanceof AsyncCatalogListener) {
+                    asyncListenerDispatcher.dispatch((AsyncCatalogListener) listener, event);
+                } else {
+                    AsyncCatalogListenerDispatcher.notify(listener, event);
                 }
             } catch (Throwable t) {
                 if (t instanceof CatalogException && toThrow == null) {
@@ -1285,8 +1359,9 @@ public class CatalogPlugin extends CatalogImpl implements Catalog {
 
     public void sync(Catalog other) {
         other.getFacade().syncTo(facade);
-        listeners.clear();
+        new ArrayList<>(listeners).forEach(this::removeListener);
         listeners.addAll(other.getListeners());
+        registerAsyncListeners();
 
         ResourcePool resourcePool = other.getResourcePool();
         // REVISIT: this still sounds wrong... looks like an old assumption that both catalogs are
@@ -1322,36 +1397,43 @@ public class CatalogPlugin extends CatalogImpl implements Catalog {
             Integer count,
             SortBy sortOrder) {
         ExtendedCatalogFacade facade = getFacade();
+        final Stream<T> stream;
         if (sortOrder != null
                 && !facade.canSort(of, sortOrder.getPropertyName().getPropertyName())) {
-            // TODO: use GeoTools' merge-sort code to provide sorting anyways
-            throw new UnsupportedOperationException(
-                    "Catalog backend can't sort on property "
-                            + sortOrder.getPropertyName()
-                            + " in-process sorting is pending implementation");
+            // sort in-process, the backend only filters
+            CatalogInfoMergeSort<T> sorter =
+                    new CatalogInfoMergeSort<>(
+                            of,
+                            sortOrder,
+                            facade::findById,
+                            CatalogInfoMergeSort.DEFAULT_MAX_IN_MEMORY);
+            stream = sorter.sort(facade.query(Query.valueOf(of, filter)), offset, count);
+        } else {
+            Query<T> query = Query.valueOf(of, filter, offset, count, sortOrder);
+            stream = facade.query(query);
         }
-
-        Query<T> query = Query.valueOf(of, filter, offset, count, sortOrder);
-        Stream<T> stream = getFacade().query(query);
         return new CloseableIteratorAdapter<>(stream.iterator(), () -> stream.close());
     }
 
+    /**
+     * Looks up a {@link CatalogInfo} of any type by id, with a single {@link
+     * ExtendedCatalogFacade#findById(String)} call
+     */
     public Optional<? extends CatalogInfo> findById(@NonNull String id) {
-        FilterFactory2 ff = CommonFactoryFinder.getFilterFactory2();
-        final Filter filter = ff.id(ff.featureId(id));
-
-        return Stream.of(
-                        WorkspaceInfo.class,
-                        NamespaceInfo.class,
-                        StoreInfo.class,
-                        ResourceInfo.class,
-                        LayerInfo.class,
-                        LayerGroupInfo.class,
-                        StyleInfo.class,
-                        MapInfo.class)
-                .map(type -> get(type, filter))
-                .filter(Objects::nonNull)
-                .findFirst();
+        return getFacade().findById(id);
+    }
+
+    /**
+     * Streams the layers and layer groups in {@code workspace}, or in all workspaces if {@code
+     * null}, joined with the objects they reference, for capabilities documents to be built in a
+     * single pass. Use the {@link #getReadOnlyView() read-only view} to get them behind lightweight
+     * {@link ReadOnlyProxy read-only proxies} instead of {@link ModificationProxy} decorators.
+     *
+     * @see ExtendedCatalogFacade#traversePublished(WorkspaceInfo, boolean)
+     */
+    public Stream<PublishedEntry> traversePublished(
+            @Nullable WorkspaceInfo workspace, boolean enabledOnly) {
+        return getFacade().traversePublished(workspace, enabledOnly);
     }
 
     public @Override <T extends CatalogInfo> T get(Class<T> type, Filter filter)
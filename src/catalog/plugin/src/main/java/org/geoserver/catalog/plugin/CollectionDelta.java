@@ -0,0 +1,311 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.catalog.plugin;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+import org.geoserver.catalog.Info;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Element-level changes to a {@link List}, {@link Set}, or {@link Map} property, used as a {@link
+ * Patch.Property} value in place of the full new value when the delta is smaller, as produced by
+ * {@link PropertyDiff#toCompactPatch()}.
+ *
+ * <p>A delta is only meaningful when applied to the same collection it was computed against, for
+ * which {@link #getBaseSize() the original size} and {@link #getBaseHash() content hash} are
+ * verified before applying it. If they don't {@link #matches(Object) match}, the target has to be
+ * updated with the full property value instead.
+ *
+ * @since 1.0
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+public @Data class CollectionDelta implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public enum Kind {
+        LIST,
+        SET,
+        MAP
+    }
+
+    public enum OpType {
+        /** Insert at a list index, or add to a set */
+        ADD,
+        /** Remove at a list index, from a set, or a map key */
+        REMOVE,
+        /** Replace at a list index, or put a map key */
+        SET
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static @Data class Op implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private @NonNull OpType type;
+
+        /** List index, map key, or {@code null} for sets */
+        private Object key;
+
+        /** New element or map value, {@code null} for list and map removals */
+        private Object value;
+    }
+
+    private @NonNull Kind kind;
+
+    private int baseSize;
+
+    /**
+     * {@link #contentHash(Object) Content hash} of the collection this delta was computed against
+     */
+    private int baseHash;
+
+    private @NonNull List<Op> ops = new ArrayList<>();
+
+    public int size() {
+        return ops.size();
+    }
+
+    /**
+     * @return the delta from {@code oldValue} to {@code newValue} if both are lists, sets, or maps
+     *     of the same kind, and the delta has less operations than elements in {@code newValue}
+     */
+    public static Optional<CollectionDelta> valueOf(Object oldValue, Object newValue) {
+        CollectionDelta delta = null;
+        if (oldValue instanceof List<?> o && newValue instanceof List<?> n) {
+            delta = listDelta(o, n);
+        } else if (oldValue instanceof Set<?> o && newValue instanceof Set<?> n) {
+            delta = setDelta(o, n);
+        } else if (oldValue instanceof Map<?, ?> o && newValue instanceof Map<?, ?> n) {
+            delta = mapDelta(o, n);
+        }
+        if (delta == null || delta.size() >= sizeOf(newValue)) {
+            return Optional.empty();
+        }
+        return Optional.of(delta);
+    }
+
+    private static int sizeOf(Object collectionOrMap) {
+        if (collectionOrMap instanceof Map<?, ?> m) return m.size();
+        return ((Collection<?>) collectionOrMap).size();
+    }
+
+    /**
+     * Trims the common prefix and suffix of both lists, and replaces, inserts, or removes the
+     * elements in between, which is the minimal delta for single element changes.
+     */
+    private static CollectionDelta listDelta(List<?> oldList, List<?> newList) {
+        final int oldSize = oldList.size();
+        final int newSize = newList.size();
+        int prefix = 0;
+        while (prefix < oldSize
+                && prefix < newSize
+                && Patch.Property.valueEquals(oldList.get(prefix), newList.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < oldSize - prefix
+                && suffix < newSize - prefix
+                && Patch.Property.valueEquals(
+                        oldList.get(oldSize - 1 - suffix), newList.get(newSize - 1 - suffix))) {
+            suffix++;
+        }
+        final int oldMid = oldSize - prefix - suffix;
+        final int newMid = newSize - prefix - suffix;
+        final int replaced = Math.min(oldMid, newMid);
+
+        List<Op> ops = new ArrayList<>();
+        for (int i = prefix; i < prefix + replaced; i++) {
+            Object value = newList.get(i);
+            if (!Patch.Property.valueEquals(oldList.get(i), value)) {
+                ops.add(new Op(OpType.SET, i, value));
+            }
+        }
+        for (int i = prefix + replaced; i < prefix + newMid; i++) {
+            ops.add(new Op(OpType.ADD, i, newList.get(i)));
+        }
+        for (int i = replaced; i < oldMid; i++) {
+            ops.add(new Op(OpType.REMOVE, prefix + replaced, null));
+        }
+        return new CollectionDelta(Kind.LIST, oldSize, contentHash(oldList), ops);
+    }
+
+    private static CollectionDelta setDelta(Set<?> oldSet, Set<?> newSet) {
+        List<Op> ops = new ArrayList<>();
+        oldSet.stream()
+                .filter(v -> !newSet.contains(v))
+                .forEach(v -> ops.add(new Op(OpType.REMOVE, null, v)));
+        newSet.stream()
+                .filter(v -> !oldSet.contains(v))
+                .forEach(v -> ops.add(new Op(OpType.ADD, null, v)));
+        return new CollectionDelta(Kind.SET, oldSet.size(), contentHash(oldSet), ops);
+    }
+
+    private static CollectionDelta mapDelta(Map<?, ?> oldMap, Map<?, ?> newMap) {
+        List<Op> ops = new ArrayList<>();
+        oldMap.keySet().stream()
+                .filter(k -> !newMap.containsKey(k))
+                .forEach(k -> ops.add(new Op(OpType.REMOVE, k, null)));
+        newMap.forEach(
+                (k, v) -> {
+                    if (!oldMap.containsKey(k) || !Patch.Property.valueEquals(oldMap.get(k), v)) {
+                        ops.add(new Op(OpType.SET, k, v));
+                    }
+                });
+        return new CollectionDelta(Kind.MAP, oldMap.size(), contentHash(oldMap), ops);
+    }
+
+    /**
+     * @return a copy of this delta with its element and map values (not keys) transformed by {@code
+     *     mapper}, e.g. to encode or resolve catalog object references
+     */
+    public CollectionDelta mapValues(@NonNull Function<Object, Object> mapper) {
+        List<Op> mapped =
+                ops.stream()
+                        .map(
+                                op ->
+                                        new Op(
+                                                op.getType(),
+                                                op.getKey(),
+                                                op.getValue() == null
+                                                        ? null
+                                                        : mapper.apply(op.getValue())))
+                        .toList();
+        return new CollectionDelta(kind, baseSize, baseHash, new ArrayList<>(mapped));
+    }
+
+    /**
+     * A hash of the elements of a list (order dependent), set, or map (order independent), that
+     * doesn't change when the collection is sent to another instance: {@link Info} elements are
+     * hashed by id, as they're encoded as references and resolved to other instances, enums by
+     * name, and arrays by content, as their {@link Object#hashCode() hashCode} is identity based.
+     */
+    public static int contentHash(Object value) {
+        if (value instanceof List<?> list) {
+            int hash = 1;
+            for (Object e : list) hash = 31 * hash + contentHash(e);
+            return hash;
+        }
+        if (value instanceof Set<?> set) {
+            return set.stream().mapToInt(CollectionDelta::contentHash).sum();
+        }
+        if (value instanceof Map<?, ?> map) {
+            return map.entrySet().stream()
+                    .mapToInt(e -> contentHash(e.getKey()) ^ contentHash(e.getValue()))
+                    .sum();
+        }
+        if (value instanceof Info info) return Objects.hashCode(info.getId());
+        if (value instanceof Enum<?> e) return e.name().hashCode();
+        if (value != null && value.getClass().isArray()) {
+            return Arrays.deepHashCode(new Object[] {value});
+        }
+        return Objects.hashCode(value);
+    }
+
+    /**
+     * @return whether {@code target} is a collection or map of this delta's {@link #getKind() kind}
+     *     with the same size and content hash as the one this delta was computed against, and hence
+     *     this delta can be applied to it
+     */
+    public boolean matches(Object target) {
+        return kindType().isInstance(target)
+                && sizeOf(target) == baseSize
+                && contentHash(target) == baseHash;
+    }
+
+    private Class<?> kindType() {
+        return switch (kind) {
+            case LIST -> List.class;
+            case SET -> Set.class;
+            case MAP -> Map.class;
+        };
+    }
+
+    /**
+     * Applies this delta in-place to {@code target}
+     *
+     * @throws IllegalArgumentException if {@code target} is not a collection or map of this delta's
+     *     {@link #getKind() kind}
+     * @throws IllegalStateException if {@code target}'s size or content hash don't match the ones
+     *     of the collection this delta was computed against
+     */
+    @SuppressWarnings("unchecked")
+    public void applyTo(@NonNull Object target) {
+        switch (kind) {
+            case LIST -> applyToList(checkTarget(target, List.class));
+            case SET -> applyToSet(checkTarget(target, Set.class));
+            case MAP -> applyToMap(checkTarget(target, Map.class));
+        }
+    }
+
+    private <T> T checkTarget(Object target, Class<T> type) {
+        if (!type.isInstance(target)) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Expected a %s to apply a %s delta, got %s",
+                            type.getSimpleName(), kind, target.getClass().getName()));
+        }
+        int size = sizeOf(target);
+        if (size != baseSize) {
+            throw new IllegalStateException(
+                    String.format(
+                            "Delta computed against a %s of size %d, but the target has size %d",
+                            kind, baseSize, size));
+        }
+        if (contentHash(target) != baseHash) {
+            throw new IllegalStateException(
+                    String.format(
+                            "Delta computed against a different %s of size %d than the target",
+                            kind, baseSize));
+        }
+        return type.cast(target);
+    }
+
+    private void applyToList(List<Object> list) {
+        for (Op op : ops) {
+            int index = ((Number) op.getKey()).intValue();
+            switch (op.getType()) {
+                case ADD -> list.add(index, op.getValue());
+                case REMOVE -> list.remove(index);
+                case SET -> list.set(index, op.getValue());
+            }
+        }
+    }
+
+    private void applyToSet(Set<Object> set) {
+        for (Op op : ops) {
+            switch (op.getType()) {
+                case ADD -> set.add(op.getValue());
+                case REMOVE -> set.remove(op.getValue());
+                case SET -> throw new IllegalStateException("SET is not a set operation");
+            }
+        }
+    }
+
+    private void applyToMap(Map<Object, Object> map) {
+        for (Op op : ops) {
+            switch (op.getType()) {
+                case REMOVE -> map.remove(op.getKey());
+                case SET -> map.put(op.getKey(), op.getValue());
+                case ADD -> throw new IllegalStateException("ADD is not a map operation");
+            }
+        }
+    }
+}
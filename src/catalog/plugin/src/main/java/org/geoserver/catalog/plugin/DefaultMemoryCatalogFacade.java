@@ -8,6 +8,8 @@ import org.geoserver.catalog.Catalog;
 import org.geoserver.catalog.CatalogFacade;
 import org.geoserver.catalog.CatalogInfo;
 import org.geoserver.catalog.CatalogRepository;
+import org.geoserver.catalog.PublishedInfo;
+import org.geoserver.catalog.WorkspaceInfo;
 import org.geoserver.catalog.plugin.CatalogInfoLookup.LayerGroupInfoLookup;
 import org.geoserver.catalog.plugin.CatalogInfoLookup.LayerInfoLookup;
 import org.geoserver.catalog.plugin.CatalogInfoLookup.MapInfoLookup;
@@ -16,16 +18,27 @@ import org.geoserver.catalog.plugin.CatalogInfoLookup.ResourceInfoLookup;
 import org.geoserver.catalog.plugin.CatalogInfoLookup.StoreInfoLookup;
 import org.geoserver.catalog.plugin.CatalogInfoLookup.StyleInfoLookup;
 import org.geoserver.catalog.plugin.CatalogInfoLookup.WorkspaceInfoLookup;
+import org.opengis.filter.Filter;
 
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Default catalog facade implementation using in-memory {@link CatalogRepository repositories} to
  * store the {@link CatalogInfo}
+ *
+ * <p>The repositories share a catalog wide id index, so that {@link #findById(String)} resolves an
+ * object of any type with a single lookup.
  */
 public class DefaultMemoryCatalogFacade extends RepositoryCatalogFacadeImpl
         implements CatalogFacade {
 
+    /** id to object index of all the {@link CatalogInfoLookup}s in this facade */
+    private final ConcurrentMap<String, CatalogInfo> idIndex = new ConcurrentHashMap<>();
+
     public DefaultMemoryCatalogFacade() {
         this(null);
     }
@@ -40,6 +53,7 @@ public class DefaultMemoryCatalogFacade extends RepositoryCatalogFacadeImpl
         setLayerGroupRepository(new LayerGroupInfoLookup());
         setMapRepository(new MapInfoLookup());
         setStyleRepository(new StyleInfoLookup());
+        setGlobalIdIndex();
     }
 
     public @Override void resolve() {
@@ -53,6 +67,31 @@ public class DefaultMemoryCatalogFacade extends RepositoryCatalogFacadeImpl
         resources = resolve(resources, () -> new ResourceInfoLookup((LayerInfoLookup) layers));
         layerGroups = resolve(layerGroups, LayerGroupInfoLookup::new);
         maps = resolve(maps, MapInfoLookup::new);
+        setGlobalIdIndex();
+    }
+
+    private void setGlobalIdIndex() {
+        Stream.of(workspaces, namespaces, stores, resources, layers, layerGroups, styles, maps)
+                .filter(CatalogInfoLookup.class::isInstance)
+                .map(repository -> (CatalogInfoLookup<?>) repository)
+                .forEach(lookup -> lookup.setGlobalIdIndex(idIndex));
+    }
+
+    /** Single lookup on the id index shared by all the repositories */
+    public @Override Optional<CatalogInfo> findById(String id) {
+        return Optional.ofNullable(idIndex.get(id));
+    }
+
+    /**
+     * Walks the layers and layer groups in memory, evaluating the workspace and enabled criteria
+     * directly on the already joined objects instead of as {@link Filter}s
+     */
+    public @Override Stream<PublishedEntry> traversePublished(
+            WorkspaceInfo workspace, boolean enabledOnly) {
+        return Stream.<PublishedInfo>concat(layers.findAll(), layerGroups.findAll())
+                .map(PublishedEntry::valueOf)
+                .filter(entry -> entry.isIn(workspace))
+                .filter(entry -> !enabledOnly || entry.isEnabled());
     }
 
     private <I extends CatalogInfo, R extends CatalogInfoRepository<I>> R resolve(
@@ -10,6 +10,7 @@ import org.geoserver.catalog.LayerGroupInfo;
 import org.geoserver.catalog.LayerInfo;
 import org.geoserver.catalog.MapInfo;
 import org.geoserver.catalog.NamespaceInfo;
+import org.geoserver.catalog.PublishedInfo;
 import org.geoserver.catalog.ResourceInfo;
 import org.geoserver.catalog.StoreInfo;
 import org.geoserver.catalog.StyleInfo;
@@ -20,7 +21,10 @@ import org.opengis.filter.Filter;
 import org.opengis.filter.sort.SortBy;
 
 import java.io.Closeable;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
@@ -47,6 +51,87 @@ public interface ExtendedCatalogFacade extends CatalogFacade {
      */
     <T extends CatalogInfo> Stream<T> query(Query<T> query);
 
+    /**
+     * Looks up a {@link CatalogInfo} of any type by id.
+     *
+     * <p>The default implementation tries each {@code CatalogInfo} type in turn; implementations
+     * are encouraged to override it with a single lookup.
+     */
+    default Optional<CatalogInfo> findById(String id) {
+        Objects.requireNonNull(id, "id");
+        return Stream.<Supplier<CatalogInfo>>of(
+                        () -> getWorkspace(id),
+                        () -> getNamespace(id),
+                        () -> getStore(id, StoreInfo.class),
+                        () -> getResource(id, ResourceInfo.class),
+                        () -> getLayer(id),
+                        () -> getLayerGroup(id),
+                        () -> getStyle(id),
+                        () -> getMap(id))
+                .map(Supplier::get)
+                .filter(Objects::nonNull)
+                .findFirst();
+    }
+
+    /**
+     * Looks up the layer of the resource named {@code name} in the namespace with the given {@code
+     * prefix}, as in a qualified {@code prefix:name} layer name.
+     *
+     * <p>The default implementation resolves the namespace, resource, and layers in turn;
+     * implementations are encouraged to override it with a single lookup, since {@link
+     * CatalogPlugin#getLayerByName(String)} calls it for every qualified and default workspace
+     * layer name.
+     *
+     * @return the layer, or {@code null} if there's no such namespace or resource, or the resource
+     *     doesn't have exactly one layer
+     */
+    default LayerInfo getLayerByPrefixedName(String prefix, String name) {
+        Objects.requireNonNull(prefix, "prefix");
+        Objects.requireNonNull(name, "name");
+        NamespaceInfo namespace = getNamespaceByPrefix(prefix);
+        if (namespace == null) {
+            return null;
+        }
+        ResourceInfo resource = getResourceByName(namespace, name, ResourceInfo.class);
+        if (resource == null) {
+            return null;
+        }
+        List<LayerInfo> layers = getLayers(resource);
+        return layers.size() == 1 ? layers.get(0) : null;
+    }
+
+    /**
+     * Streams all layers and then all layer groups in {@code workspace}, or in all workspaces if
+     * {@code null}, joined with the objects they reference, in a single pass, as needed to build a
+     * capabilities document without loading the whole catalog in memory.
+     *
+     * <p>The default implementation runs a {@link #query(Query) query} for layers and one for layer
+     * groups, with the workspace and {@code enabled} criteria pushed down as {@link
+     * PublishedEntry#layersFilter filters}, and checks whether each layer's resource and store are
+     * enabled afterwards. The layer groups query is only run once all layers are consumed.
+     *
+     * <p>Be sure to {@link Stream#close} close the returned stream once consumed or before
+     * discarding.
+     *
+     * @param workspace the workspace to restrict the traversal to, {@code null} for all
+     * @param enabledOnly whether to skip disabled layers and layer groups, or the ones whose
+     *     resource or store are disabled
+     */
+    default Stream<PublishedEntry> traversePublished(
+            @Nullable WorkspaceInfo workspace, boolean enabledOnly) {
+        Query<LayerInfo> layers =
+                Query.valueOf(LayerInfo.class, PublishedEntry.layersFilter(workspace, enabledOnly));
+        Query<LayerGroupInfo> groups =
+                Query.valueOf(
+                        LayerGroupInfo.class,
+                        PublishedEntry.layerGroupsFilter(workspace, enabledOnly));
+        return Stream.<Supplier<Stream<? extends PublishedInfo>>>of(
+                        () -> query(layers), () -> query(groups))
+                .flatMap(Supplier::get)
+                .map(PublishedEntry::valueOf)
+                .filter(entry -> !enabledOnly || entry.isEnabled());
+    }
+
     /**
      * @deprecated use {@link #query(Query)} instead
      */
@@ -31,6 +31,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -127,6 +128,16 @@ public final class IsolatedCatalogFacade extends ForwardingExtendedCatalogFacade
         return enforceLayerIsolation(facade.getLayerByName(name));
     }
 
+    @Override
+    public Optional<CatalogInfo> findById(String id) {
+        return facade().findById(id).map(this::enforceIsolation);
+    }
+
+    @Override
+    public LayerInfo getLayerByPrefixedName(String prefix, String name) {
+        return enforceLayerIsolation(facade().getLayerByPrefixedName(prefix, name));
+    }
+
     @Override
     public List<LayerInfo> getLayers(ResourceInfo resource) {
         return filterIsolated(facade.getLayers(resource), LayerInfo.class, this::filter);
@@ -253,6 +264,12 @@ public final class IsolatedCatalogFacade extends ForwardingExtendedCatalogFacade
                 .filter(i -> i != null);
     }
 
+    @Override
+    public Stream<PublishedEntry> traversePublished(WorkspaceInfo workspace, boolean enabledOnly) {
+        return facade().traversePublished(workspace, enabledOnly)
+                .filter(entry -> enforceIsolation(entry.getPublished()) != null);
+    }
+
     @Override
     public CatalogCapabilities getCatalogCapabilities() {
         CatalogCapabilities capabilities = facade.getCatalogCapabilities();
@@ -421,16 +438,18 @@ public final class IsolatedCatalogFacade extends ForwardingExtendedCatalogFacade
      * @param objects list of catalog object, wrapped with a modification proxy
      * @param type the class of the list objects
      * @param filter filter that checks if an element should be visible
-     * @return a list wrapped with a modification proxy that contains the visible catalog objects
+     * @return a list wrapped with a modification proxy that contains the visible catalog objects,
+     *     or a plain list if {@code objects} was not wrapped
      */
     private <T extends CatalogInfo> List<T> filterIsolated(
             List<T> objects, Class<T> type, Predicate<T> filter) {
         // unwrap the catalog objects list
         List<T> unwrapped = ModificationProxy.unwrap(objects);
-        // filter the non visible catalog objects and wrap the resulting list with a modification
-        // proxy
-        return ModificationProxy.createList(
-                unwrapped.stream().filter(filter).collect(Collectors.toList()), type);
+        // filter the non visible catalog objects
+        List<T> visible = unwrapped.stream().filter(filter).collect(Collectors.toList());
+        // and wrap the resulting list with a modification proxy, unless the decorated facade
+        // returns plain objects, as CatalogPlugin's facades do, leaving it to the caller to decide
+        return unwrapped == objects ? visible : ModificationProxy.createList(visible, type);
     }
 
     /**
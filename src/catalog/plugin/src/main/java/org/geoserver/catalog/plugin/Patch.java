@@ -9,10 +9,8 @@ import lombok.NoArgsConstructor;
 import lombok.NonNull;
 
 import org.geoserver.catalog.impl.ModificationProxy;
-import org.geoserver.ows.util.OwsUtils;
 
 import java.io.Serializable;
-import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -120,6 +118,39 @@ public @Data class Patch implements Serializable {
         return get(propertyName).map(Property::getValue);
     }
 
+    /**
+     * @return whether every {@link CollectionDelta} property value {@link CollectionDelta#matches
+     *     matches} the current value of the property in {@code target}, otherwise {@link
+     *     #applyTo(Object)} would fail, as the delta was computed against a different collection
+     */
+    public boolean isApplicableTo(@NonNull Object target) {
+        final Object subject = ModificationProxy.unwrap(target);
+        return patches.stream()
+                .filter(p -> p.getValue() instanceof CollectionDelta)
+                .allMatch(
+                        p -> {
+                            CollectionDelta delta = p.value();
+                            PropertyAccessor accessor =
+                                    PropertyAccessor.get(subject.getClass(), p.getName());
+                            return delta.matches(accessor.get(subject));
+                        });
+    }
+
+    /**
+     * @return a patch for the same properties as this one, with their full values taken from {@code
+     *     source}, e.g. an up to date copy of an object this patch is not {@link #isApplicableTo
+     *     applicable} to
+     */
+    public Patch withValuesFrom(@NonNull Object source) {
+        final Object subject = ModificationProxy.unwrap(source);
+        Patch patch = new Patch();
+        for (Property p : patches) {
+            PropertyAccessor accessor = PropertyAccessor.get(subject.getClass(), p.getName());
+            patch.add(p.getName(), accessor.get(subject));
+        }
+        return patch;
+    }
+
     public void applyTo(Object target) {
         Objects.requireNonNull(target);
         Class<?> targetType = target.getClass();
@@ -139,14 +170,21 @@ public @Data class Patch implements Serializable {
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     private static void apply(Object target, Class<?> objectType, Property change) {
-        Method getter = OwsUtils.getter(objectType, change.getName(), null);
-        if (getter == null) {
-            throw new IllegalArgumentException(
-                    "No such property in target object: " + change.getName());
-        }
-        if (isCollection(getter)) {
+        final PropertyAccessor declared = PropertyAccessor.get(objectType, change.getName());
+        final PropertyAccessor accessor =
+                objectType.equals(target.getClass())
+                        ? declared
+                        : PropertyAccessor.get(target.getClass(), change.getName());
+        if (change.getValue() instanceof CollectionDelta delta) {
+            Object prop = accessor.get(target);
+            if (prop == null) {
+                throw new IllegalArgumentException(
+                        "Can't apply delta to null property " + change.getName());
+            }
+            delta.applyTo(prop);
+        } else if (declared.isCollection()) {
             Collection value = (Collection) change.getValue();
-            Collection prop = (Collection) OwsUtils.get(target, change.getName());
+            Collection prop = (Collection) accessor.get(target);
             if (prop != null) {
                 try {
                     prop.clear();
@@ -158,9 +196,9 @@ public @Data class Patch implements Serializable {
                     prop.addAll(value);
                 }
             }
-        } else if (isMap(getter)) {
+        } else if (declared.isMap()) {
             Map<Object, Object> value = (Map<Object, Object>) change.getValue();
-            Map<Object, Object> prop = (Map<Object, Object>) OwsUtils.get(target, change.getName());
+            Map<Object, Object> prop = (Map<Object, Object>) accessor.get(target);
             if (prop != null) {
                 prop.clear();
                 if (value != null) {
@@ -168,18 +206,10 @@ public @Data class Patch implements Serializable {
                 }
             }
         } else {
-            OwsUtils.set(target, change.getName(), change.getValue());
+            accessor.set(target, change.getValue());
         }
     }
 
-    private static boolean isMap(Method getter) {
-        return Map.class.isAssignableFrom(getter.getReturnType());
-    }
-
-    private static boolean isCollection(Method getter) {
-        return Collection.class.isAssignableFrom(getter.getReturnType());
-    }
-
     public @Override String toString() {
         String props =
                 this.getPatches().stream()
@@ -0,0 +1,170 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.catalog.plugin;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import org.geoserver.ows.util.OwsUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Compiled getter and setter of a single property of a given type, cached per {@code (type,
+ * property)} pair, to spare {@link Patch} and {@link PropertyDiff} from resolving them reflectively
+ * through {@link OwsUtils} on each call.
+ *
+ * <p>Methods are resolved exactly as {@link OwsUtils#getter(Class, String, Class)} and {@link
+ * OwsUtils#setter(Class, String, Class)} do (i.e. property names are case insensitive, and setters
+ * are matched by value type), only once per type, property, and value type. Nested property names
+ * (e.g. {@code resource.name}) are not supported, same as for {@link Patch}.
+ *
+ * @since 1.0
+ */
+final class PropertyAccessor {
+
+    private static final ClassValue<ConcurrentMap<String, Optional<PropertyAccessor>>> CACHE =
+            new ClassValue<>() {
+                protected @Override ConcurrentMap<String, Optional<PropertyAccessor>> computeValue(
+                        Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE =
+            MethodType.methodType(void.class, Object.class, Object.class);
+
+    /** Placeholder key for the setter to use with {@code null} values */
+    private static final Class<?> NULL_VALUE = Void.class;
+
+    private final Class<?> type;
+    private final @Getter String name;
+    private final @Getter Class<?> propertyType;
+    private final MethodHandle getter;
+
+    private final ConcurrentMap<Class<?>, Optional<Method>> typedGetters =
+            new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, Optional<MethodHandle>> setters =
+            new ConcurrentHashMap<>();
+
+    private PropertyAccessor(Class<?> type, String name, Method getter) {
+        this.type = type;
+        this.name = name;
+        this.propertyType = getter.getReturnType();
+        this.getter = compile(getter, GETTER_TYPE);
+    }
+
+    /**
+     * @return the accessor for {@code property} of {@code type}, or empty if {@code type} has no
+     *     getter for it
+     */
+    public static Optional<PropertyAccessor> find(
+            @NonNull Class<?> type, @NonNull String property) {
+        return CACHE.get(type).computeIfAbsent(property, p -> resolve(type, p));
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code type} has no getter for {@code property}
+     */
+    public static PropertyAccessor get(@NonNull Class<?> type, @NonNull String property) {
+        return find(type, property)
+                .orElseThrow(
+                        () ->
+                                new IllegalArgumentException(
+                                        "No such property in target object: " + property));
+    }
+
+    private static Optional<PropertyAccessor> resolve(Class<?> type, String property) {
+        Method getter = OwsUtils.getter(type, property, null);
+        return Optional.ofNullable(getter).map(m -> new PropertyAccessor(type, property, m));
+    }
+
+    public boolean isCollection() {
+        return Collection.class.isAssignableFrom(propertyType);
+    }
+
+    public boolean isMap() {
+        return Map.class.isAssignableFrom(propertyType);
+    }
+
+    /**
+     * Equivalent to {@code OwsUtils.getClassProperties(type).getter(name, valueType) != null}
+     *
+     * @return whether there's a getter for this property compatible with {@code valueType}
+     */
+    public boolean hasGetter(Class<?> valueType) {
+        if (valueType == null) return true;
+        return typedGetters
+                .computeIfAbsent(
+                        valueType,
+                        t -> Optional.ofNullable(OwsUtils.getClassProperties(type).getter(name, t)))
+                .isPresent();
+    }
+
+    public Object get(@NonNull Object target) {
+        try {
+            return getter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if there's no setter for this property accepting {@code
+     *     value}
+     */
+    public void set(@NonNull Object target, Object value) {
+        Class<?> valueType = value == null ? NULL_VALUE : value.getClass();
+        MethodHandle setter =
+                setters.computeIfAbsent(valueType, this::resolveSetter)
+                        .orElseThrow(
+                                () ->
+                                        new IllegalArgumentException(
+                                                "No such property '" + name + "'"));
+        try {
+            setter.invokeExact(target, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Optional<MethodHandle> resolveSetter(Class<?> valueType) {
+        Method setter = OwsUtils.setter(type, name, valueType == NULL_VALUE ? null : valueType);
+        return Optional.ofNullable(setter).map(m -> compile(m, SETTER_TYPE));
+    }
+
+    private static MethodHandle compile(Method method, MethodType erasedType) {
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            // e.g. public method declared in a non public class, let reflection deal with it
+            method.setAccessible(true);
+            try {
+                handle = MethodHandles.lookup().unreflect(method);
+            } catch (IllegalAccessException unexpected) {
+                throw new IllegalStateException(unexpected);
+            }
+        }
+        return handle.asType(erasedType);
+    }
+
+    public @Override String toString() {
+        return String.format("%s[%s.%s]", getClass().getSimpleName(), type.getName(), name);
+    }
+}
@@ -18,8 +18,6 @@ import org.geoserver.catalog.impl.ClassMappings;
 import org.geoserver.catalog.impl.ModificationProxy;
 import org.geoserver.catalog.impl.ProxyUtils;
 import org.geoserver.config.ServiceInfo;
-import org.geoserver.ows.util.ClassProperties;
-import org.geoserver.ows.util.OwsUtils;
 import org.geotools.referencing.CRS;
 import org.opengis.referencing.crs.CoordinateReferenceSystem;
 import org.opengis.util.InternationalString;
@@ -82,6 +80,28 @@ public @Data class PropertyDiff implements Serializable {
         return patch;
     }
 
+    /**
+     * Like {@link #toPatch()}, but using a {@link CollectionDelta} as the value of list, set, and
+     * map properties whenever it's smaller than the full new value, to reduce the payload of
+     * modification events for large collections.
+     *
+     * <p>The resulting patch can only be applied to an object in the state this diff's old values
+     * represent.
+     */
+    public Patch toCompactPatch() {
+        Patch patch = new Patch();
+        changes.stream()
+                .map(
+                        c ->
+                                new Patch.Property(
+                                        c.getPropertyName(),
+                                        CollectionDelta.valueOf(c.getOldValue(), c.getNewValue())
+                                                .map(Object.class::cast)
+                                                .orElse(c.getNewValue())))
+                .forEach(patch::add);
+        return patch;
+    }
+
     public int size() {
         return changes.size();
     }
@@ -300,14 +320,13 @@ public @Data class PropertyDiff implements Serializable {
         public PropertyDiffBuilder<T> with(String property, Object newValue) {
             property = fixCase(property);
             Class<? extends Info> type = info.getClass();
-            ClassProperties classProperties = OwsUtils.getClassProperties(type);
-            if (null
-                    == classProperties.getter(
-                            property, newValue == null ? null : newValue.getClass())) {
+            Optional<PropertyAccessor> accessor = PropertyAccessor.find(type, property);
+            if (accessor.isEmpty()
+                    || !accessor.get().hasGetter(newValue == null ? null : newValue.getClass())) {
                 throw new IllegalArgumentException("No such property: " + property);
             }
 
-            Object oldValue = OwsUtils.get(info, property);
+            Object oldValue = accessor.get().get(info);
             return with(property, oldValue, newValue);
         }
 
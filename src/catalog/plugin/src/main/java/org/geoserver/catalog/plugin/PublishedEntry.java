@@ -0,0 +1,159 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.catalog.plugin;
+
+import lombok.NonNull;
+import lombok.Value;
+
+import org.geoserver.catalog.LayerGroupInfo;
+import org.geoserver.catalog.LayerInfo;
+import org.geoserver.catalog.NamespaceInfo;
+import org.geoserver.catalog.Predicates;
+import org.geoserver.catalog.PublishedInfo;
+import org.geoserver.catalog.ResourceInfo;
+import org.geoserver.catalog.StoreInfo;
+import org.geoserver.catalog.StyleInfo;
+import org.geoserver.catalog.WorkspaceInfo;
+import org.opengis.filter.Filter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link LayerInfo} or {@link LayerGroupInfo} joined with the catalog objects a capabilities
+ * document references for it, as streamed by {@link ExtendedCatalogFacade#traversePublished}.
+ *
+ * @since 1.0
+ */
+@Value
+public class PublishedEntry {
+
+    private @NonNull PublishedInfo published;
+
+    /** The layer's resource, {@code null} for layer groups */
+    private ResourceInfo resource;
+
+    /** The layer's resource store, {@code null} for layer groups */
+    private StoreInfo store;
+
+    /** The layer's resource namespace, {@code null} for layer groups */
+    private NamespaceInfo namespace;
+
+    /** The layer's store workspace, or the layer group's, {@code null} for global layer groups */
+    private WorkspaceInfo workspace;
+
+    /** The layer's default style, or the layer group's root layer style */
+    private StyleInfo defaultStyle;
+
+    /**
+     * The layer's alternate styles, or the style each of the layer group's {@link #getLayers()
+     * layers} is rendered with: the group's own style for it, falling back to the layer's default
+     * style, {@code null} for nested layer groups without one
+     */
+    private @NonNull List<StyleInfo> styles;
+
+    /** The layer group's layers and nested layer groups, empty for layers */
+    private @NonNull List<PublishedInfo> layers;
+
+    /** Joins {@code published} with the objects it references */
+    public static PublishedEntry valueOf(@NonNull PublishedInfo published) {
+        if (published instanceof LayerInfo layer) {
+            ResourceInfo resource = layer.getResource();
+            StoreInfo store = resource == null ? null : resource.getStore();
+            return new PublishedEntry(
+                    layer,
+                    resource,
+                    store,
+                    resource == null ? null : resource.getNamespace(),
+                    store == null ? null : store.getWorkspace(),
+                    layer.getDefaultStyle(),
+                    new ArrayList<>(layer.getStyles()),
+                    List.of());
+        }
+        LayerGroupInfo group = (LayerGroupInfo) published;
+        List<PublishedInfo> layers = new ArrayList<>(group.getLayers());
+        List<StyleInfo> groupStyles = group.getStyles();
+        List<StyleInfo> styles = new ArrayList<>(layers.size());
+        for (int i = 0; i < layers.size(); i++) {
+            StyleInfo style = i < groupStyles.size() ? groupStyles.get(i) : null;
+            if (style == null && layers.get(i) instanceof LayerInfo layer) {
+                style = layer.getDefaultStyle();
+            }
+            styles.add(style);
+        }
+        return new PublishedEntry(
+                group,
+                null,
+                null,
+                null,
+                group.getWorkspace(),
+                group.getRootLayerStyle(),
+                styles,
+                layers);
+    }
+
+    public boolean isLayer() {
+        return published instanceof LayerInfo;
+    }
+
+    /**
+     * @return whether the layer group, or the layer and its resource and store, are enabled, as
+     *     checked by {@link LayerInfo#enabled()}
+     */
+    public boolean isEnabled() {
+        if (published instanceof LayerGroupInfo group) {
+            return group.isEnabled();
+        }
+        return published.isEnabled()
+                && resource != null
+                && resource.isEnabled()
+                && store != null
+                && store.isEnabled();
+    }
+
+    /** Whether this entry belongs to {@code workspace}, or any if it's {@code null} */
+    public boolean isIn(@Nullable WorkspaceInfo workspace) {
+        return workspace == null
+                || (this.workspace != null
+                        && Objects.equals(workspace.getId(), this.workspace.getId()));
+    }
+
+    /**
+     * @return the filter for the layers in {@code workspace}, or all if {@code null}, that are
+     *     {@code enabled} if {@code enabledOnly}, for backends to push them down to their queries
+     */
+    public static Filter layersFilter(@Nullable WorkspaceInfo workspace, boolean enabledOnly) {
+        Filter filter = Predicates.acceptAll();
+        if (workspace != null) {
+            filter = Predicates.equal("resource.store.workspace.id", workspace.getId());
+        }
+        if (enabledOnly) {
+            filter = and(filter, Predicates.equal("enabled", Boolean.TRUE));
+        }
+        return filter;
+    }
+
+    /**
+     * @return the filter for the layer groups in {@code workspace}, or all if {@code null}, that
+     *     are {@code enabled} if {@code enabledOnly}
+     */
+    public static Filter layerGroupsFilter(@Nullable WorkspaceInfo workspace, boolean enabledOnly) {
+        Filter filter = Predicates.acceptAll();
+        if (workspace != null) {
+            filter = Predicates.equal("workspace.id", workspace.getId());
+        }
+        if (enabledOnly) {
+            filter = and(filter, Predicates.equal("enabled", Boolean.TRUE));
+        }
+        return filter;
+    }
+
+    private static Filter and(Filter filter, Filter other) {
+        return Filter.INCLUDE.equals(filter) ? other : Predicates.and(filter, other);
+    }
+}
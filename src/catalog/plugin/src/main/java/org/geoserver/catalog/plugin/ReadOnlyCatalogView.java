@@ -0,0 +1,149 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.catalog.plugin;
+
+import lombok.NonNull;
+
+import org.geoserver.catalog.CatalogFacade;
+import org.geoserver.catalog.CatalogInfo;
+import org.geoserver.catalog.DataStoreInfo;
+import org.geoserver.catalog.NamespaceInfo;
+import org.geoserver.catalog.ResourcePool;
+import org.geoserver.catalog.WorkspaceInfo;
+import org.geoserver.catalog.event.CatalogListener;
+import org.geoserver.catalog.impl.ModificationProxy;
+import org.geoserver.catalog.plugin.resolving.ModificationProxyDecorator;
+import org.geoserver.platform.GeoServerResourceLoader;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Read-only view of a {@link CatalogPlugin}, sharing its facade, that returns the objects provided
+ * by the facade behind a {@link ReadOnlyProxy} instead of a {@link ModificationProxy}.
+ *
+ * <p>Meant for read-mostly code paths that traverse large parts of the catalog, like capabilities
+ * generation, where a {@code ModificationProxy} per returned object, tracking and copying every
+ * collection property accessed, only adds allocation overhead. With an in-memory facade, the
+ * returned proxies wrap the shared, live instances held by the catalog, hence their setters throw
+ * an {@link UnsupportedOperationException} and their collection properties are unmodifiable.
+ * Changes made to the catalog through the {@link #getSubject() subject catalog} are visible through
+ * the view.
+ *
+ * <p>All mutating methods throw {@link UnsupportedOperationException}. To modify an object obtained
+ * from this view, use the explicit copy-on-write path: get a {@link #modifiable(CatalogInfo)
+ * modifiable} copy of it, which records changes without affecting the shared instance, and {@link
+ * CatalogPlugin#save(CatalogInfo) save} it through the subject catalog.
+ *
+ * <p>Catalog listeners, the {@link ResourcePool}, resource loader, and validation rules are those
+ * of the subject catalog.
+ *
+ * @see CatalogPlugin#getReadOnlyView()
+ * @since 1.0
+ */
+@SuppressWarnings({"serial", "rawtypes"})
+public class ReadOnlyCatalogView extends CatalogPlugin {
+
+    private final CatalogPlugin subject;
+
+    ReadOnlyCatalogView(@NonNull CatalogPlugin subject) {
+        super(subject);
+        this.subject = subject;
+        if (super.facade == null) {
+            super.facade = subject.getFacade();
+        }
+    }
+
+    public CatalogPlugin getSubject() {
+        return subject;
+    }
+
+    /**
+     * Decorates the subject's raw facade with the {@link ReadOnlyProxy} outbound decorator instead
+     * of the {@link ModificationProxy} one, and doesn't set this view as the facade's catalog
+     */
+    public @Override void setFacade(CatalogFacade facade) {
+        super.rawFacade = facade;
+        // legacy facades return proxied objects anyway, and their adapter is bound to the subject
+        // catalog, the constructor uses the subject's facade then
+        super.facade =
+                facade instanceof ExtendedCatalogFacade
+                        ? createResolvingFacade(facade, ReadOnlyProxy::wrap)
+                        : null;
+    }
+
+    public @Override ReadOnlyCatalogView getReadOnlyView() {
+        return this;
+    }
+
+    /**
+     * @return a {@link ModificationProxy} over the object {@code info} wraps, which records changes
+     *     without affecting the shared instance until {@link CatalogPlugin#save(CatalogInfo) saved}
+     *     through the {@link #getSubject() subject catalog}
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends CatalogInfo> T modifiable(T info) {
+        return (T) ModificationProxyDecorator.wrap(ModificationProxy.unwrap(info));
+    }
+
+    protected @Override <T extends CatalogInfo> void doAdd(T object, Function<T, T> inserter) {
+        throw readOnly();
+    }
+
+    protected @Override <I extends CatalogInfo> void doSave(I info) {
+        throw readOnly();
+    }
+
+    protected @Override <T extends CatalogInfo> void doRemove(T object, Consumer<T> remover) {
+        throw readOnly();
+    }
+
+    public @Override void setDefaultDataStore(WorkspaceInfo workspace, DataStoreInfo store) {
+        throw readOnly();
+    }
+
+    public @Override void setDefaultNamespace(NamespaceInfo defaultNamespace) {
+        throw readOnly();
+    }
+
+    public @Override void setDefaultWorkspace(WorkspaceInfo defaultWorkspace) {
+        throw readOnly();
+    }
+
+    private UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException(
+                "Read-only catalog view, use modifiable(info) and save it through the subject catalog");
+    }
+
+    public @Override Collection<CatalogListener> getListeners() {
+        return subject == null ? super.getListeners() : subject.getListeners();
+    }
+
+    /** Adds {@code listener} to the subject catalog, the one publishing events */
+    public @Override void addListener(CatalogListener listener) {
+        // in case it's called by the super constructor before the subject is set
+        if (subject == null) super.addListener(listener);
+        else subject.addListener(listener);
+    }
+
+    public @Override void removeListener(CatalogListener listener) {
+        if (subject == null) super.removeListener(listener);
+        else subject.removeListener(listener);
+    }
+
+    public @Override ResourcePool getResourcePool() {
+        return subject == null ? super.getResourcePool() : subject.getResourcePool();
+    }
+
+    public @Override GeoServerResourceLoader getResourceLoader() {
+        return subject == null ? super.getResourceLoader() : subject.getResourceLoader();
+    }
+
+    /** Does nothing, the facade and resource pool are owned by the subject catalog */
+    public @Override void dispose() {
+        // no-op
+    }
+}
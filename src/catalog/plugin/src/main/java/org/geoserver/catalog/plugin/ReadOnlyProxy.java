@@ -0,0 +1,171 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.catalog.plugin;
+
+import org.geoserver.catalog.CatalogInfo;
+import org.geoserver.catalog.Info;
+import org.geoserver.catalog.MetadataMap;
+import org.geoserver.catalog.impl.ClassMappings;
+import org.geoserver.catalog.impl.ModificationProxy;
+
+import java.io.Serializable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link ModificationProxy} that fails fast on any attempt to modify the object it wraps, instead
+ * of recording the changes, used by {@link ReadOnlyCatalogView} to hand out the catalog's shared
+ * instances.
+ *
+ * <p>Setters throw an {@link UnsupportedOperationException}, collection and map properties are
+ * returned as unmodifiable views, and {@link Info} properties as read-only proxies themselves. The
+ * elements of the returned collections are not wrapped. Unlike a regular {@code ModificationProxy},
+ * property values are neither tracked nor copied, the only allocations per object are the proxy and
+ * its handler. The wrappers of the property values are memoized per proxy and getter, and handed
+ * out again for as long as the getter returns the same instance, so repeatedly calling, say, {@code
+ * layer.getResource()} returns the same read-only proxy instead of allocating a new one each time.
+ *
+ * <p>Being a {@code ModificationProxy}, {@link ModificationProxy#unwrap(Object)} returns the
+ * wrapped object, so code that unwraps catalog objects, like the catalog facades and the JSON
+ * encoders, handles these proxies as any other.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("serial")
+public class ReadOnlyProxy extends ModificationProxy {
+
+    /** Memoized read-only wrappers of the values returned by no-argument getters */
+    private transient volatile Map<Method, Wrapped> wrappers;
+
+    /** A getter return value and its read-only wrapper */
+    private static final class Wrapped {
+        final Object value;
+        final Object readOnly;
+
+        Wrapped(Object value, Object readOnly) {
+            this.value = value;
+            this.readOnly = readOnly;
+        }
+    }
+
+    ReadOnlyProxy(Object proxyObject) {
+        super(proxyObject);
+    }
+
+    /**
+     * @return a read-only proxy over {@code info}, or {@code info} itself if it's {@code null},
+     *     already a proxy, or its {@link CatalogInfo} subtype can't be determined
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends CatalogInfo> T wrap(T info) {
+        if (info == null || Proxy.isProxyClass(info.getClass())) return info;
+        ClassMappings mappings = ClassMappings.fromImpl(info.getClass());
+        if (mappings == null) return info;
+        return (T) create(info, mappings.getInterface());
+    }
+
+    private static Object create(Object info, Class<?> type) {
+        return Proxy.newProxyInstance(
+                type.getClassLoader(), new Class<?>[] {type}, new ReadOnlyProxy(info));
+    }
+
+    public @Override Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (isSetter(method)) {
+            throw new UnsupportedOperationException(
+                    "Read-only catalog object, use ReadOnlyCatalogView.modifiable(info) to call "
+                            + method.getName());
+        }
+        final Object value;
+        try {
+            value = method.invoke(getProxyObject(), args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+        if (value == null) return null;
+
+        final boolean memoize = method.getParameterCount() == 0;
+        if (memoize) {
+            Map<Method, Wrapped> memoized = wrappers;
+            Wrapped wrapped = memoized == null ? null : memoized.get(method);
+            if (wrapped != null && wrapped.value == value) {
+                return wrapped.readOnly;
+            }
+        }
+        final Object readOnly = readOnly(value, method.getReturnType());
+        if (memoize && readOnly != value) {
+            wrappers().put(method, new Wrapped(value, readOnly));
+        }
+        return readOnly;
+    }
+
+    private Map<Method, Wrapped> wrappers() {
+        Map<Method, Wrapped> memoized = wrappers;
+        if (memoized == null) {
+            // a concurrent call may replace it, losing some memoized wrappers, which is harmless
+            memoized = new ConcurrentHashMap<>(4);
+            wrappers = memoized;
+        }
+        return memoized;
+    }
+
+    private static boolean isSetter(Method method) {
+        return method.getName().startsWith("set") && method.getParameterCount() == 1;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object readOnly(Object value, Class<?> type) {
+        if (value == null) return null;
+        Object readOnly = value;
+        if (value instanceof CatalogInfo) {
+            readOnly = wrap((CatalogInfo) value);
+        } else if (value instanceof Info) {
+            if (type.isInterface() && !Proxy.isProxyClass(value.getClass())) {
+                readOnly = create(value, type);
+            }
+        } else if (value instanceof MetadataMap) {
+            readOnly = new ReadOnlyMetadataMap((MetadataMap) value);
+        } else if (value instanceof List) {
+            readOnly = Collections.unmodifiableList((List) value);
+        } else if (value instanceof Set) {
+            readOnly = Collections.unmodifiableSet((Set) value);
+        } else if (value instanceof Collection) {
+            readOnly = Collections.unmodifiableCollection((Collection) value);
+        } else if (value instanceof Map) {
+            readOnly = Collections.unmodifiableMap((Map) value);
+        }
+        // the method may declare a concrete collection type, can't be wrapped then
+        return type.isInstance(readOnly) ? readOnly : value;
+    }
+
+    private static class ReadOnlyMetadataMap extends MetadataMap {
+
+        ReadOnlyMetadataMap(MetadataMap map) {
+            super(Collections.unmodifiableMap(map));
+        }
+
+        public @Override Serializable put(String key, Serializable value) {
+            throw new UnsupportedOperationException();
+        }
+
+        public @Override void putAll(Map<? extends String, ? extends Serializable> map) {
+            throw new UnsupportedOperationException();
+        }
+
+        public @Override Serializable remove(Object key) {
+            throw new UnsupportedOperationException();
+        }
+
+        public @Override void clear() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
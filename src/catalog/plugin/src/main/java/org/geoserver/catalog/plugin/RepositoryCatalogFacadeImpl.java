@@ -223,6 +223,20 @@ public class RepositoryCatalogFacadeImpl extends CatalogInfoRepositoryHolderImpl
         return layers.findOneByName(name).orElse(null);
     }
 
+    /**
+     * Resolves the namespace and the layer through the namespace and layer repositories' name
+     * lookups, without going through the resource
+     */
+    public @Override LayerInfo getLayerByPrefixedName(String prefix, String name) {
+        Objects.requireNonNull(prefix, "prefix");
+        Objects.requireNonNull(name, "name");
+        NamespaceInfo namespace = getNamespaceByPrefix(prefix);
+        if (namespace == null) {
+            return null;
+        }
+        return layers.findOneByNameAndNamespace(name, namespace).orElse(null);
+    }
+
     public @Override List<LayerInfo> getLayers(ResourceInfo resource) {
         return toList(() -> layers.findAllByResource(resource));
     }
@@ -6,10 +6,14 @@ package org.geoserver.catalog.plugin.forwarding;
 
 import org.geoserver.catalog.CatalogFacade;
 import org.geoserver.catalog.CatalogInfo;
+import org.geoserver.catalog.LayerInfo;
+import org.geoserver.catalog.WorkspaceInfo;
 import org.geoserver.catalog.plugin.ExtendedCatalogFacade;
 import org.geoserver.catalog.plugin.Patch;
+import org.geoserver.catalog.plugin.PublishedEntry;
 import org.geoserver.catalog.plugin.Query;
 
+import java.util.Optional;
 import java.util.stream.Stream;
 
 /** Adapts a regular {@link CatalogFacade} to a {@link ExtendedCatalogFacade} */
@@ -28,6 +32,19 @@ public class ForwardingExtendedCatalogFacade extends ForwardingCatalogFacade
         return facade().query(query);
     }
 
+    public @Override Optional<CatalogInfo> findById(String id) {
+        return facade().findById(id);
+    }
+
+    public @Override LayerInfo getLayerByPrefixedName(String prefix, String name) {
+        return facade().getLayerByPrefixedName(prefix, name);
+    }
+
+    public @Override Stream<PublishedEntry> traversePublished(
+            WorkspaceInfo workspace, boolean enabledOnly) {
+        return facade().traversePublished(workspace, enabledOnly);
+    }
+
     protected ExtendedCatalogFacade facade() {
         return (ExtendedCatalogFacade) super.facade;
     }
@@ -5,6 +5,7 @@
 package org.geoserver.catalog.plugin.forwarding;
 
 import org.geoserver.catalog.LayerInfo;
+import org.geoserver.catalog.NamespaceInfo;
 import org.geoserver.catalog.ResourceInfo;
 import org.geoserver.catalog.StyleInfo;
 import org.geoserver.catalog.plugin.CatalogInfoRepository.LayerRepository;
@@ -23,6 +24,11 @@ public class ForwardingLayerRepository
         return subject.findOneByName(name);
     }
 
+    public @Override Optional<LayerInfo> findOneByNameAndNamespace(
+            String name, NamespaceInfo namespace) {
+        return subject.findOneByNameAndNamespace(name, namespace);
+    }
+
     public @Override Stream<LayerInfo> findAllByDefaultStyleOrStyles(StyleInfo style) {
         return subject.findAllByDefaultStyleOrStyles(style);
     }
@@ -22,16 +22,22 @@ import org.geoserver.catalog.impl.ModificationProxy;
 import org.geoserver.catalog.impl.ResolvingProxy;
 import org.geoserver.catalog.plugin.ExtendedCatalogFacade;
 import org.geoserver.catalog.plugin.Patch;
+import org.geoserver.catalog.plugin.PublishedEntry;
 import org.geoserver.catalog.plugin.Query;
+import org.geoserver.catalog.plugin.resolving.ResolutionScope;
 import org.geoserver.catalog.plugin.resolving.ResolvingCatalogFacade;
+import org.geoserver.catalog.plugin.resolving.ResolvingProxyResolver;
 import org.geoserver.catalog.util.CloseableIterator;
 import org.geoserver.catalog.util.CloseableIteratorAdapter;
 import org.opengis.filter.Filter;
 import org.opengis.filter.sort.SortBy;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 /**
@@ -76,6 +82,10 @@ import java.util.stream.Stream;
  * Note the caller is responsible of supplying a resolving function that utilizes the correct
  * {@link Catalog}, may some of the functions in the chain require one; {@link #setOutboundResolver}
  * is agnostic of such concerns.
+ * <p>
+ * Collection returning methods, {@link #list} and {@link #query}, run the decorated facade call and
+ * resolve its results within a call-scoped {@link ResolutionScope}, so any
+ * {@link ResolvingProxyResolver} in the chain resolves each distinct reference only once per call.
  */
 public class ResolvingCatalogFacadeDecorator extends ForwardingExtendedCatalogFacade
         implements ResolvingCatalogFacade {
@@ -154,6 +164,25 @@ public class ResolvingCatalogFacadeDecorator extends ForwardingExtendedCatalogFa
         return Lists.transform(info, this::resolveOutbound);
     }
 
+    /**
+     * Runs {@code query} and resolves the returned objects within a new {@link ResolutionScope}, so
+     * that references shared by several objects (e.g. their workspace, namespace, or store) are
+     * resolved only once. Objects are resolved eagerly into a new list, so the scope and its memo
+     * can be discarded as soon as this method returns.
+     */
+    protected <C extends CatalogInfo> List<C> scoped(Supplier<List<C>> query) {
+        return ResolutionScope.newScope()
+                .call(
+                        () -> {
+                            List<C> result = query.get();
+                            List<C> resolved = new ArrayList<>(result.size());
+                            for (C info : result) {
+                                resolved.add(resolveOutbound(info));
+                            }
+                            return resolved;
+                        });
+    }
+
     public @Override <I extends CatalogInfo> I update(I info, Patch patch) {
         return resolveOutbound(super.update(resolveInbound(info), patch));
     }
@@ -173,11 +202,11 @@ public class ResolvingCatalogFacadeDecorator extends ForwardingExtendedCatalogFa
 
     public @Override <T extends StoreInfo> List<T> getStoresByWorkspace(
             WorkspaceInfo workspace, Class<T> clazz) {
-        return resolveOutbound(super.getStoresByWorkspace(workspace, clazz));
+        return scoped(() -> super.getStoresByWorkspace(workspace, clazz));
     }
 
     public @Override <T extends StoreInfo> List<T> getStores(Class<T> clazz) {
-        return resolveOutbound(super.getStores(clazz));
+        return scoped(() -> super.getStores(clazz));
     }
 
     public @Override DataStoreInfo getDefaultDataStore(WorkspaceInfo workspace) {
@@ -198,12 +227,12 @@ public class ResolvingCatalogFacadeDecorator extends ForwardingExtendedCatalogFa
     }
 
     public @Override <T extends ResourceInfo> List<T> getResources(Class<T> clazz) {
-        return resolveOutbound(super.getResources(clazz));
+        return scoped(() -> super.getResources(clazz));
     }
 
     public @Override <T extends ResourceInfo> List<T> getResourcesByNamespace(
             NamespaceInfo namespace, Class<T> clazz) {
-        return resolveOutbound(super.getResourcesByNamespace(namespace, clazz));
+        return scoped(() -> super.getResourcesByNamespace(namespace, clazz));
     }
 
     public @Override <T extends ResourceInfo> T getResourceByStore(
@@ -213,7 +242,7 @@ public class ResolvingCatalogFacadeDecorator extends ForwardingExtendedCatalogFa
 
     public @Override <T extends ResourceInfo> List<T> getResourcesByStore(
             StoreInfo store, Class<T> clazz) {
-        return resolveOutbound(super.getResourcesByStore(store, clazz));
+        return scoped(() -> super.getResourcesByStore(store, clazz));
     }
 
     public @Override LayerInfo add(LayerInfo layer) {
@@ -228,16 +257,24 @@ public class ResolvingCatalogFacadeDecorator extends ForwardingExtendedCatalogFa
         return resolveOutbound(super.getLayerByName(name));
     }
 
+    public @Override Optional<CatalogInfo> findById(String id) {
+        return super.findById(id).map(this::resolveOutbound);
+    }
+
+    public @Override LayerInfo getLayerByPrefixedName(String prefix, String name) {
+        return resolveOutbound(super.getLayerByPrefixedName(prefix, name));
+    }
+
     public @Override List<LayerInfo> getLayers(ResourceInfo resource) {
-        return resolveOutbound(super.getLayers(resource));
+        return scoped(() -> super.getLayers(resource));
     }
 
     public @Override List<LayerInfo> getLayers(StyleInfo style) {
-        return resolveOutbound(super.getLayers(style));
+        return scoped(() -> super.getLayers(style));
     }
 
     public @Override List<LayerInfo> getLayers() {
-        return resolveOutbound(super.getLayers());
+        return scoped(() -> super.getLayers());
     }
 
     public @Override MapInfo add(MapInfo map) {
@@ -253,7 +290,7 @@ public class ResolvingCatalogFacadeDecorator extends ForwardingExtendedCatalogFa
     }
 
     public @Override List<MapInfo> getMaps() {
-        return resolveOutbound(super.getMaps());
+        return scoped(() -> super.getMaps());
     }
 
     public @Override LayerGroupInfo add(LayerGroupInfo layerGroup) {
@@ -273,11 +310,11 @@ public class ResolvingCatalogFacadeDecorator extends ForwardingExtendedCatalogFa
     }
 
     public @Override List<LayerGroupInfo> getLayerGroups() {
-        return resolveOutbound(super.getLayerGroups());
+        return scoped(() -> super.getLayerGroups());
     }
 
     public @Override List<LayerGroupInfo> getLayerGroupsByWorkspace(WorkspaceInfo workspace) {
-        return resolveOutbound(super.getLayerGroupsByWorkspace(workspace));
+        return scoped(() -> super.getLayerGroupsByWorkspace(workspace));
     }
 
     public @Override NamespaceInfo add(NamespaceInfo namespace) {
@@ -305,7 +342,7 @@ public class ResolvingCatalogFacadeDecorator extends ForwardingExtendedCatalogFa
     }
 
     public @Override List<NamespaceInfo> getNamespaces() {
-        return resolveOutbound(super.getNamespaces());
+        return scoped(() -> super.getNamespaces());
     }
 
     public @Override WorkspaceInfo add(WorkspaceInfo workspace) {
@@ -329,7 +366,7 @@ public class ResolvingCatalogFacadeDecorator extends ForwardingExtendedCatalogFa
     }
 
     public @Override List<WorkspaceInfo> getWorkspaces() {
-        return resolveOutbound(super.getWorkspaces());
+        return scoped(() -> super.getWorkspaces());
     }
 
     public @Override StyleInfo add(StyleInfo style) {
@@ -349,11 +386,11 @@ public class ResolvingCatalogFacadeDecorator extends ForwardingExtendedCatalogFa
     }
 
     public @Override List<StyleInfo> getStyles() {
-        return resolveOutbound(super.getStyles());
+        return scoped(() -> super.getStyles());
     }
 
     public @Override List<StyleInfo> getStylesByWorkspace(WorkspaceInfo workspace) {
-        return resolveOutbound(super.getStylesByWorkspace(workspace));
+        return scoped(() -> super.getStylesByWorkspace(workspace));
     }
 
     public @Override void save(WorkspaceInfo info) {
@@ -423,12 +460,34 @@ public class ResolvingCatalogFacadeDecorator extends ForwardingExtendedCatalogFa
     public @Override <T extends CatalogInfo> CloseableIterator<T> list(
             Class<T> of, Filter filter, Integer offset, Integer count, SortBy... sortOrder) {
 
+        final ResolutionScope scope = ResolutionScope.newScope();
         @SuppressWarnings("deprecation")
-        final CloseableIterator<T> orig = facade().list(of, filter, offset, count, sortOrder);
-        return CloseableIteratorAdapter.transform(orig, this::resolveOutbound);
+        final CloseableIterator<T> orig =
+                scope.call(() -> facade().list(of, filter, offset, count, sortOrder));
+        final CloseableIterator<T> resolved =
+                CloseableIteratorAdapter.transform(orig, this::resolveOutbound);
+        return new CloseableIteratorAdapter<>(scope.iterator(resolved), resolved);
     }
 
     public @Override <T extends CatalogInfo> Stream<T> query(Query<T> query) {
-        return super.query(query).map(this::resolveOutbound).filter(i -> i != null);
+        final ResolutionScope scope = ResolutionScope.newScope();
+        Stream<T> stream = scope.call(() -> super.query(query));
+        return scope.stream(stream.map(this::resolveOutbound).filter(i -> i != null));
+    }
+
+    /**
+     * Resolves each entry's layer or layer group within a {@link ResolutionScope} for the lifetime
+     * of the stream, and joins it again with the resolved objects it references
+     */
+    public @Override Stream<PublishedEntry> traversePublished(
+            WorkspaceInfo workspace, boolean enabledOnly) {
+        final ResolutionScope scope = ResolutionScope.newScope();
+        final WorkspaceInfo ws = workspace == null ? null : resolveInbound(workspace);
+        Stream<PublishedEntry> stream = scope.call(() -> super.traversePublished(ws, enabledOnly));
+        return scope.stream(
+                stream.map(PublishedEntry::getPublished)
+                        .map(this::resolveOutbound)
+                        .filter(p -> p != null)
+                        .map(PublishedEntry::valueOf));
     }
 }
@@ -0,0 +1,174 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.catalog.plugin.resolving;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import org.geoserver.catalog.Info;
+import org.geoserver.catalog.NamespaceInfo;
+import org.geoserver.catalog.StoreInfo;
+import org.geoserver.catalog.StyleInfo;
+import org.geoserver.catalog.WorkspaceInfo;
+import org.geoserver.catalog.impl.ResolvingProxy;
+import org.geoserver.catalog.plugin.forwarding.ResolvingCatalogFacadeDecorator;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Call-scoped memo of {@link ResolvingProxy} references resolved by any {@link
+ * ResolvingProxyResolver} while the scope is active on the calling thread, so that resolving a
+ * large result set resolves each distinct referenced workspace, namespace, store, or style only
+ * once.
+ *
+ * <p>Only references to those types are memoized. They're shared by many objects and their number
+ * is small compared to the number of resources and layers, so the memo stays bounded however many
+ * objects are resolved within the scope, for example while streaming all the layers in the catalog.
+ * Other references are resolved every time.
+ *
+ * <p>{@link ResolvingCatalogFacadeDecorator} opens a new scope for each collection returning method
+ * call, resolving list results eagerly so the scope is discarded before returning, and for the
+ * lifetime of each returned {@link Stream} or iterator, activating it while each element is fetched
+ * and resolved, whatever thread consumes it.
+ *
+ * <p>Same as with {@link ResolvingProxyResolver#memoizing()}, those objects referenced from more
+ * than one element of the result set are resolved to the same instance.
+ *
+ * @since 1.0
+ */
+@Slf4j
+public final class ResolutionScope {
+
+    private static final ThreadLocal<ResolutionScope> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Info> resolved = new ConcurrentHashMap<>();
+
+    private ResolutionScope() {}
+
+    public static ResolutionScope newScope() {
+        return new ResolutionScope();
+    }
+
+    /**
+     * @return the scope active on the calling thread, if any
+     */
+    public static Optional<ResolutionScope> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /**
+     * Returns the object memoized for {@code proxy}'s id, or resolves and memoizes it with {@code
+     * resolver} if it's a {@link #isShared shared} reference. {@code null} results are not
+     * memoized.
+     */
+    @SuppressWarnings("unchecked")
+    <I extends Info> I resolve(@NonNull I proxy, @NonNull UnaryOperator<I> resolver) {
+        if (!isShared(proxy)) {
+            return resolver.apply(proxy);
+        }
+        final String id = proxy.getId();
+        I found = (I) resolved.get(id);
+        if (found == null) {
+            log.trace("Resolution scope miss, resolving proxy reference {}", id);
+            // not computeIfAbsent(), resolving may recursively resolve other references
+            found = resolver.apply(proxy);
+            if (found != null) {
+                I existing = (I) resolved.putIfAbsent(id, found);
+                if (existing != null) found = existing;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * @return whether {@code proxy} references an object likely to be referenced by many others
+     */
+    private static boolean isShared(Info proxy) {
+        return proxy instanceof WorkspaceInfo
+                || proxy instanceof NamespaceInfo
+                || proxy instanceof StoreInfo
+                || proxy instanceof StyleInfo;
+    }
+
+    /** Runs {@code call} with this scope active on the calling thread */
+    public <T> T call(@NonNull Supplier<T> call) {
+        final ResolutionScope previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) CURRENT.remove();
+            else CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * @return an iterator that pulls each element from {@code iterator} with this scope active
+     */
+    public <T> Iterator<T> iterator(@NonNull Iterator<T> iterator) {
+        return new Iterator<>() {
+            public @Override boolean hasNext() {
+                return call(iterator::hasNext);
+            }
+
+            public @Override T next() {
+                return call(iterator::next);
+            }
+        };
+    }
+
+    /**
+     * @return a stream that pulls each element from {@code stream}, including all its intermediate
+     *     operations, with this scope active
+     */
+    public <T> Stream<T> stream(@NonNull Stream<T> stream) {
+        final boolean parallel = stream.isParallel();
+        Spliterator<T> spliterator = stream.spliterator();
+        return StreamSupport.stream(new ScopedSpliterator<>(spliterator), parallel)
+                .onClose(stream::close);
+    }
+
+    private class ScopedSpliterator<T> implements Spliterator<T> {
+        private final Spliterator<T> delegate;
+
+        ScopedSpliterator(Spliterator<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        public @Override boolean tryAdvance(Consumer<? super T> action) {
+            return call(() -> delegate.tryAdvance(action));
+        }
+
+        public @Override void forEachRemaining(Consumer<? super T> action) {
+            call(
+                    () -> {
+                        delegate.forEachRemaining(action);
+                        return null;
+                    });
+        }
+
+        public @Override Spliterator<T> trySplit() {
+            Spliterator<T> split = delegate.trySplit();
+            return split == null ? null : new ScopedSpliterator<>(split);
+        }
+
+        public @Override long estimateSize() {
+            return delegate.estimateSize();
+        }
+
+        public @Override int characteristics() {
+            return delegate.characteristics();
+        }
+    }
+}
@@ -29,6 +29,7 @@ import java.lang.reflect.Proxy;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.UnaryOperator;
@@ -45,6 +46,9 @@ import java.util.stream.Collectors;
  * at if the catalog can do very fast id lookups. For example, if it has its own caching mechanism
  * or is a purely in-memory catalog.
  *
+ * <p>Within an active {@link ResolutionScope}, resolved workspace, namespace, store, and style
+ * references are memoized for the lifetime of the scope regardless.
+ *
  * @see ResolvingProxy
  */
 @Slf4j
@@ -136,7 +140,19 @@ public class ResolvingProxyResolver<T extends Info> implements UnaryOperator<T>
         return orig;
     }
 
+    /**
+     * Resolves {@code orig} against the catalog, or reuses the object resolved for the same id
+     * within the current {@link ResolutionScope}, if any
+     */
     protected <I extends Info> I doResolveProxy(final I orig) {
+        Optional<ResolutionScope> scope = ResolutionScope.current();
+        if (scope.isPresent()) {
+            return scope.get().resolve(orig, this::lookup);
+        }
+        return lookup(orig);
+    }
+
+    protected <I extends Info> I lookup(final I orig) {
         return ResolvingProxy.resolve(catalog, orig);
     }
 
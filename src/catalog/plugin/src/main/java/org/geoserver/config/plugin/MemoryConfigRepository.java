@@ -6,6 +6,8 @@ package org.geoserver.config.plugin;
 
 import static java.util.Objects.requireNonNull;
 
+import lombok.Value;
+
 import org.geoserver.catalog.Info;
 import org.geoserver.catalog.WorkspaceInfo;
 import org.geoserver.catalog.plugin.Patch;
@@ -15,22 +17,56 @@ import org.geoserver.config.ServiceInfo;
 import org.geoserver.config.SettingsInfo;
 
 import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
  * Purely in-memory {@link ConfigRepository} implementation holding live-objects (no serialization
  * nor {@link Proxy proxying} involved)
+ *
+ * <p>Services are indexed by workspace and by name and workspace, and settings by workspace, so the
+ * lookups {@code GeoServerImpl} performs on every OWS request only scan the few services of a
+ * single workspace instead of all of them. The indexes are updated under a lock on add, update, and
+ * remove, while lookups are lock-free. Updates index an object under its new keys before removing
+ * it from the old ones, so a concurrent lookup never misses an object that's being updated or
+ * replaced.
  */
 public class MemoryConfigRepository implements ConfigRepository {
 
+    /** Index key for global services, which have no workspace */
+    private static final String NO_WORKSPACE = "";
+
     protected GeoServerInfo global;
     protected LoggingInfo logging;
     protected final ConcurrentMap<String, SettingsInfo> settings = new ConcurrentHashMap<>();
     protected final ConcurrentMap<String, ServiceInfo> services = new ConcurrentHashMap<>();
 
+    /** Settings by workspace id */
+    private final ConcurrentMap<String, SettingsInfo> settingsByWorkspace =
+            new ConcurrentHashMap<>();
+
+    /** Services by workspace id, or {@link #NO_WORKSPACE} */
+    private final ConcurrentMap<String, List<ServiceInfo>> servicesByWorkspace =
+            new ConcurrentHashMap<>();
+
+    /** Services by name and workspace id */
+    private final ConcurrentMap<ServiceName, List<ServiceInfo>> servicesByName =
+            new ConcurrentHashMap<>();
+
+    /** Guards index updates */
+    private final Object indexLock = new Object();
+
+    private static @Value class ServiceName {
+        private String name;
+        private String workspaceId;
+    }
+
     public @Override Optional<GeoServerInfo> getGlobal() {
         return Optional.ofNullable(global);
     }
@@ -55,16 +91,20 @@ public class MemoryConfigRepository implements ConfigRepository {
     public @Override Optional<SettingsInfo> getSettingsByWorkspace(WorkspaceInfo workspace) {
         requireNonNull(workspace);
         requireNonNull(workspace.getId());
-        return settings.values().stream()
-                .filter(s -> s.getWorkspace().getId().equals(workspace.getId()))
-                .findFirst();
+        return Optional.ofNullable(settingsByWorkspace.get(workspace.getId()));
     }
 
     public @Override void add(SettingsInfo settings) {
         requireNonNull(settings);
         requireNonNull(settings.getId());
         checkNotAProxy(settings);
-        this.settings.put(settings.getId(), settings);
+        synchronized (indexLock) {
+            SettingsInfo previous = this.settings.put(settings.getId(), settings);
+            index(settings);
+            if (previous != settings) {
+                unindex(previous);
+            }
+        }
     }
 
     public @Override SettingsInfo update(SettingsInfo settings, Patch patch) {
@@ -75,8 +115,15 @@ public class MemoryConfigRepository implements ConfigRepository {
         checkNotAProxy(settings);
 
         SettingsInfo localCopy = this.settings.get(settings.getId());
-        synchronized (localCopy) {
-            patch.applyTo(localCopy, SettingsInfo.class);
+        synchronized (indexLock) {
+            final String oldWorkspaceId = workspaceId(localCopy.getWorkspace());
+            try {
+                synchronized (localCopy) {
+                    patch.applyTo(localCopy, SettingsInfo.class);
+                }
+            } finally {
+                reindex(localCopy, oldWorkspaceId);
+            }
         }
         return localCopy;
     }
@@ -84,7 +131,9 @@ public class MemoryConfigRepository implements ConfigRepository {
     public @Override void remove(SettingsInfo settings) {
         requireNonNull(settings);
         requireNonNull(settings.getId());
-        this.settings.remove(settings.getId());
+        synchronized (indexLock) {
+            unindex(this.settings.remove(settings.getId()));
+        }
     }
 
     public @Override Optional<LoggingInfo> getLogging() {
@@ -102,13 +151,25 @@ public class MemoryConfigRepository implements ConfigRepository {
         requireNonNull(service.getId());
         checkNotAProxy(service);
 
-        this.services.put(service.getId(), service);
+        synchronized (indexLock) {
+            ServiceInfo previous = this.services.put(service.getId(), service);
+            if (previous == service) {
+                // re-added, may have been modified
+                unindex(previous);
+                index(service);
+            } else {
+                index(service);
+                unindex(previous);
+            }
+        }
     }
 
     public @Override void remove(ServiceInfo service) {
         requireNonNull(service);
         requireNonNull(service.getId());
-        this.services.remove(service.getId());
+        synchronized (indexLock) {
+            unindex(this.services.remove(service.getId()));
+        }
     }
 
     public @Override <S extends ServiceInfo> S update(S service, Patch patch) {
@@ -119,33 +180,32 @@ public class MemoryConfigRepository implements ConfigRepository {
 
         @SuppressWarnings("unchecked")
         S localCopy = (S) this.services.get(service.getId());
-        synchronized (localCopy) {
-            patch.applyTo(localCopy);
+        synchronized (indexLock) {
+            final ServiceName oldKey = key(localCopy);
+            try {
+                synchronized (localCopy) {
+                    patch.applyTo(localCopy);
+                }
+            } finally {
+                reindex(localCopy, oldKey);
+            }
         }
         return localCopy;
     }
 
     public @Override Stream<? extends ServiceInfo> getGlobalServices() {
-        return this.services.values().stream().filter(s -> s.getWorkspace() == null);
+        return byWorkspace(NO_WORKSPACE).stream();
     }
 
     public @Override Stream<? extends ServiceInfo> getServicesByWorkspace(WorkspaceInfo workspace) {
         requireNonNull(workspace);
         requireNonNull(workspace.getId());
-        return this.services.values().stream()
-                .filter(
-                        s ->
-                                s.getWorkspace() != null
-                                        && workspace.getId().equals(s.getWorkspace().getId()));
+        return byWorkspace(workspace.getId()).stream();
     }
 
     public @Override <T extends ServiceInfo> Optional<T> getGlobalService(Class<T> clazz) {
         requireNonNull(clazz);
-        return this.services.values().stream()
-                .filter(clazz::isInstance)
-                .filter(s -> s.getWorkspace() == null)
-                .map(clazz::cast)
-                .findFirst();
+        return findFirst(byWorkspace(NO_WORKSPACE), clazz);
     }
 
     public @Override <T extends ServiceInfo> Optional<T> getServiceByWorkspace(
@@ -153,14 +213,7 @@ public class MemoryConfigRepository implements ConfigRepository {
         requireNonNull(workspace);
         requireNonNull(workspace.getId());
         requireNonNull(clazz);
-        return this.services.values().stream()
-                .filter(clazz::isInstance)
-                .filter(
-                        s ->
-                                s.getWorkspace() != null
-                                        && s.getWorkspace().getId().equals(workspace.getId()))
-                .map(clazz::cast)
-                .findFirst();
+        return findFirst(byWorkspace(workspace.getId()), clazz);
     }
 
     public @Override <T extends ServiceInfo> Optional<T> getServiceById(String id, Class<T> clazz) {
@@ -170,10 +223,18 @@ public class MemoryConfigRepository implements ConfigRepository {
         return clazz.isInstance(service) ? Optional.of(clazz.cast(service)) : Optional.empty();
     }
 
+    /**
+     * Looks up global services first, and falls back to scanning the services of all workspaces
+     * only if there's no global service with that name
+     */
     public @Override <T extends ServiceInfo> Optional<T> getServiceByName(
             String name, Class<T> clazz) {
         requireNonNull(name);
         requireNonNull(clazz);
+        Optional<T> global = findFirst(byName(name, NO_WORKSPACE), clazz);
+        if (global.isPresent()) {
+            return global;
+        }
         return this.services.values().stream()
                 .filter(clazz::isInstance)
                 .filter(s -> name.equals(s.getName()))
@@ -187,21 +248,127 @@ public class MemoryConfigRepository implements ConfigRepository {
         requireNonNull(workspace);
         requireNonNull(workspace.getId());
         requireNonNull(clazz);
-        return this.services.values().stream()
-                .filter(clazz::isInstance)
-                .filter(
-                        s ->
-                                s.getWorkspace() != null
-                                        && s.getWorkspace().getId().equals(workspace.getId())
-                                        && name.equals(s.getName()))
-                .map(clazz::cast)
-                .findFirst();
+        return findFirst(byName(name, workspace.getId()), clazz);
+    }
+
+    private List<ServiceInfo> byWorkspace(String workspaceId) {
+        return servicesByWorkspace.getOrDefault(workspaceId, Collections.emptyList());
+    }
+
+    private List<ServiceInfo> byName(String name, String workspaceId) {
+        return servicesByName.getOrDefault(
+                new ServiceName(name, workspaceId), Collections.emptyList());
+    }
+
+    private static <T extends ServiceInfo> Optional<T> findFirst(
+            List<ServiceInfo> candidates, Class<T> clazz) {
+        for (ServiceInfo service : candidates) {
+            if (clazz.isInstance(service)) {
+                return Optional.of(clazz.cast(service));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static String workspaceId(WorkspaceInfo workspace) {
+        return workspace == null ? NO_WORKSPACE : workspace.getId();
+    }
+
+    private void index(SettingsInfo settings) {
+        if (settings.getWorkspace() != null) {
+            settingsByWorkspace.put(settings.getWorkspace().getId(), settings);
+        }
+    }
+
+    private void unindex(SettingsInfo settings) {
+        if (settings != null && settings.getWorkspace() != null) {
+            unindex(settings, settings.getWorkspace().getId());
+        }
+    }
+
+    /** Removes the index entry only if it's {@code settings} itself, and not a replacement */
+    private void unindex(SettingsInfo settings, String workspaceId) {
+        settingsByWorkspace.computeIfPresent(workspaceId, (k, v) -> v == settings ? null : v);
+    }
+
+    /** Moves {@code settings}, patched in place, from the {@code oldWorkspaceId} index entry */
+    private void reindex(SettingsInfo settings, String oldWorkspaceId) {
+        if (!oldWorkspaceId.equals(workspaceId(settings.getWorkspace()))) {
+            index(settings);
+            unindex(settings, oldWorkspaceId);
+        }
+    }
+
+    /**
+     * @return the index keys of {@code service}, its workspace id and name
+     */
+    private static ServiceName key(ServiceInfo service) {
+        return new ServiceName(service.getName(), workspaceId(service.getWorkspace()));
+    }
+
+    private void index(ServiceInfo service) {
+        final ServiceName key = key(service);
+        add(servicesByWorkspace, key.getWorkspaceId(), service);
+        if (key.getName() != null) {
+            add(servicesByName, key, service);
+        }
+    }
+
+    private void unindex(ServiceInfo service) {
+        if (service == null) return;
+        final ServiceName key = key(service);
+        final Predicate<ServiceInfo> same = s -> s == service;
+        removeIf(servicesByWorkspace, key.getWorkspaceId(), same);
+        if (key.getName() != null) {
+            removeIf(servicesByName, key, same);
+        }
+    }
+
+    /**
+     * Moves {@code service}, patched in place, from the {@code oldKey} index entries to the ones of
+     * its current workspace and name, adding the new entries before removing the old ones
+     */
+    private void reindex(ServiceInfo service, ServiceName oldKey) {
+        final ServiceName newKey = key(service);
+        final Predicate<ServiceInfo> same = s -> s == service;
+        if (!oldKey.getWorkspaceId().equals(newKey.getWorkspaceId())) {
+            add(servicesByWorkspace, newKey.getWorkspaceId(), service);
+            removeIf(servicesByWorkspace, oldKey.getWorkspaceId(), same);
+        }
+        if (!oldKey.equals(newKey)) {
+            if (newKey.getName() != null) {
+                add(servicesByName, newKey, service);
+            }
+            if (oldKey.getName() != null) {
+                removeIf(servicesByName, oldKey, same);
+            }
+        }
+    }
+
+    private static <K> void add(
+            ConcurrentMap<K, List<ServiceInfo>> index, K key, ServiceInfo service) {
+        index.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(service);
+    }
+
+    private static <K> void removeIf(
+            ConcurrentMap<K, List<ServiceInfo>> index, K key, Predicate<ServiceInfo> filter) {
+        index.computeIfPresent(
+                key,
+                (k, list) -> {
+                    list.removeIf(filter);
+                    return list.isEmpty() ? null : list;
+                });
     }
 
     public @Override void dispose() {
         global = null;
         logging = null;
-        settings.clear();
-        services.clear();
+        synchronized (indexLock) {
+            settings.clear();
+            services.clear();
+            settingsByWorkspace.clear();
+            servicesByWorkspace.clear();
+            servicesByName.clear();
+        }
     }
 }
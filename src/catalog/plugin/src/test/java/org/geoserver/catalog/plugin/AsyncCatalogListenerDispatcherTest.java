@@ -0,0 +1,196 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.catalog.plugin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.geoserver.catalog.CatalogException;
+import org.geoserver.catalog.WorkspaceInfo;
+import org.geoserver.catalog.event.CatalogAddEvent;
+import org.geoserver.catalog.event.CatalogListener;
+import org.geoserver.catalog.event.CatalogModifyEvent;
+import org.geoserver.catalog.event.CatalogPostModifyEvent;
+import org.geoserver.catalog.event.CatalogRemoveEvent;
+import org.geoserver.catalog.impl.WorkspaceInfoImpl;
+import org.geoserver.catalog.plugin.AsyncCatalogListenerDispatcher.ListenerQueue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class AsyncCatalogListenerDispatcherTest {
+
+    private CatalogPlugin catalog;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CatalogPlugin();
+        catalog.setAsyncListenerDispatcher(new AsyncCatalogListenerDispatcher(2, 100));
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalog.dispose();
+    }
+
+    private WorkspaceInfo workspace(String name) {
+        WorkspaceInfoImpl ws = new WorkspaceInfoImpl();
+        ws.setId(name);
+        ws.setName(name);
+        return ws;
+    }
+
+    private static class RecordingListener implements AsyncCatalogListener {
+        final List<String> received = new CopyOnWriteArrayList<>();
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+        CountDownLatch gate = new CountDownLatch(0);
+
+        private void record(String event, Object source) {
+            threads.add(Thread.currentThread());
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.add(event + ":" + ((WorkspaceInfo) source).getName());
+        }
+
+        public @Override void handleAddEvent(CatalogAddEvent event) {
+            record("add", event.getSource());
+        }
+
+        public @Override void handleRemoveEvent(CatalogRemoveEvent event) {
+            record("remove", event.getSource());
+        }
+
+        public @Override void handleModifyEvent(CatalogModifyEvent event) {}
+
+        public @Override void handlePostModifyEvent(CatalogPostModifyEvent event) {}
+
+        public @Override void reloaded() {}
+    }
+
+    private void awaitDrained(ListenerQueue queue) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (queue.getDepth() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, queue.getDepth());
+    }
+
+    private ListenerQueue queue(AsyncCatalogListener listener) {
+        return catalog.getAsyncListenerDispatcher()
+                .queues()
+                .filter(q -> q.getListener() == listener)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    void eventsDeliveredInOrderOffTheCallerThread() throws InterruptedException {
+        RecordingListener listener = new RecordingListener();
+        listener.gate = new CountDownLatch(1);
+        catalog.addListener(listener);
+
+        List<String> expected =
+                IntStream.range(0, 50)
+                        .mapToObj(i -> (i % 2 == 0 ? "add:" : "remove:") + "ws" + i)
+                        .collect(Collectors.toList());
+        for (int i = 0; i < 50; i++) {
+            WorkspaceInfo ws = workspace("ws" + i);
+            if (i % 2 == 0) catalog.fireAdded(ws);
+            else catalog.fireRemoved(ws);
+        }
+
+        ListenerQueue queue = queue(listener);
+        // the listener blocks on the first event, the rest are queued
+        assertTrue(queue.getDepth() >= 49);
+        assertTrue(queue.getLag().toNanos() > 0);
+
+        listener.gate.countDown();
+        awaitDrained(queue);
+
+        assertEquals(expected, listener.received);
+        assertEquals(50, queue.getProcessed());
+        assertTrue(listener.threads.stream().allMatch(t -> t != Thread.currentThread()));
+    }
+
+    @Test
+    void asyncListenerCantVeto() throws InterruptedException {
+        RecordingListener listener =
+                new RecordingListener() {
+                    public @Override void handleAddEvent(CatalogAddEvent event) {
+                        super.handleAddEvent(event);
+                        throw new CatalogException("vetoed");
+                    }
+                };
+        catalog.addListener(listener);
+
+        catalog.fireAdded(workspace("ws1"));
+        catalog.fireAdded(workspace("ws2"));
+        awaitDrained(queue(listener));
+
+        assertEquals(List.of("add:ws1", "add:ws2"), listener.received);
+    }
+
+    @Test
+    void syncListenerCanVeto() {
+        catalog.addListener(
+                new CatalogListener() {
+                    public @Override void handleAddEvent(CatalogAddEvent event) {
+                        throw new CatalogException("vetoed");
+                    }
+
+                    public @Override void handleRemoveEvent(CatalogRemoveEvent event) {}
+
+                    public @Override void handleModifyEvent(CatalogModifyEvent event) {}
+
+                    public @Override void handlePostModifyEvent(CatalogPostModifyEvent event) {}
+
+                    public @Override void reloaded() {}
+                });
+
+        WorkspaceInfo ws = workspace("ws1");
+        assertThrows(CatalogException.class, () -> catalog.fireAdded(ws));
+    }
+
+    @Test
+    void removeListener() throws InterruptedException {
+        RecordingListener listener = new RecordingListener();
+        catalog.addListener(listener);
+        catalog.fireAdded(workspace("ws1"));
+        awaitDrained(queue(listener));
+
+        catalog.removeListener(listener);
+        assertEquals(0, catalog.getAsyncListenerDispatcher().queues().count());
+        catalog.fireAdded(workspace("ws2"));
+        assertEquals(List.of("add:ws1"), listener.received);
+    }
+
+    @Test
+    void setAsyncListenerDispatcherMovesListeners() throws InterruptedException {
+        RecordingListener listener = new RecordingListener();
+        catalog.addListener(listener);
+
+        AsyncCatalogListenerDispatcher old = catalog.getAsyncListenerDispatcher();
+        AsyncCatalogListenerDispatcher dispatcher = new AsyncCatalogListenerDispatcher(1, 10);
+        catalog.setAsyncListenerDispatcher(dispatcher);
+        assertEquals(0, old.queues().count());
+
+        catalog.fireAdded(workspace("ws1"));
+        awaitDrained(queue(listener));
+        assertEquals(List.of("add:ws1"), listener.received);
+        assertNotEquals(Thread.currentThread(), listener.threads.get(0));
+    }
+}
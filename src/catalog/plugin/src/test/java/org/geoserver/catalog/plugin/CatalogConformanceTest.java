@@ -85,6 +85,7 @@ import org.geoserver.security.SecuredResourceNameChangeListener;
 import org.geoserver.security.impl.DataAccessRule;
 import org.geoserver.security.impl.DataAccessRuleDAO;
 import org.geotools.factory.CommonFactoryFinder;
+import org.geotools.feature.NameImpl;
 import org.geotools.util.logging.Logging;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeAll;
@@ -1664,6 +1665,29 @@ public abstract class CatalogConformanceTest {
         assertNotNull(catalog.getLayerByName("foo:bar"));
     }
 
+    @Test
+    public void testGetLayerByNameAfterRenames() {
+        addLayer();
+        final String layerId = data.layerFeatureTypeA.getId();
+        final String prefix = data.namespaceA.getPrefix();
+        final String name = data.featureTypeA.getName();
+        assertEquals(layerId, catalog.getLayerByName(prefix + ":" + name).getId());
+
+        NamespaceInfo ns = catalog.getNamespaceByPrefix(prefix);
+        ns.setPrefix("renamedPrefix");
+        catalog.save(ns);
+        assertNull(catalog.getLayerByName(prefix + ":" + name));
+        assertEquals(layerId, catalog.getLayerByName("renamedPrefix:" + name).getId());
+
+        FeatureTypeInfo ft = catalog.getFeatureType(data.featureTypeA.getId());
+        ft.setName("renamedFt");
+        catalog.save(ft);
+        assertNull(catalog.getLayerByName("renamedPrefix:" + name));
+        assertEquals(layerId, catalog.getLayerByName("renamedPrefix:renamedFt").getId());
+        assertEquals(
+                layerId, catalog.getLayerByName(new NameImpl(ns.getURI(), "renamedFt")).getId());
+    }
+
     @Test
     public void testGetLayerByResource() {
         addLayer();
@@ -1676,6 +1700,31 @@ public abstract class CatalogConformanceTest {
         assertEquals(data.layerFeatureTypeA, l2);
     }
 
+    @Test
+    public void testFindById() {
+        Assumptions.assumeTrue(catalog instanceof CatalogPlugin);
+        final CatalogPlugin plugin = (CatalogPlugin) catalog;
+        addLayerGroup();
+        List<CatalogInfo> all =
+                List.of(
+                        data.workspaceA,
+                        data.namespaceA,
+                        data.dataStoreA,
+                        data.featureTypeA,
+                        data.style1,
+                        data.layerFeatureTypeA,
+                        data.layerGroup1);
+        for (CatalogInfo expected : all) {
+            CatalogInfo found = plugin.findById(expected.getId()).orElseThrow();
+            assertEquals(expected, found);
+        }
+        assertFalse(plugin.findById("not-an-id").isPresent());
+
+        catalog.remove(catalog.getLayerGroup(data.layerGroup1.getId()));
+        assertFalse(plugin.findById(data.layerGroup1.getId()).isPresent());
+        assertTrue(plugin.findById(data.layerFeatureTypeA.getId()).isPresent());
+    }
+
     @Test
     public void testRemoveLayer() {
         addLayer();
@@ -0,0 +1,183 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.catalog.plugin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.geoserver.catalog.CatalogInfo;
+import org.geoserver.catalog.WorkspaceInfo;
+import org.geoserver.catalog.impl.WorkspaceInfoImpl;
+import org.geoserver.catalog.plugin.forwarding.ForwardingExtendedCatalogFacade;
+import org.geoserver.catalog.util.CloseableIterator;
+import org.geotools.factory.CommonFactoryFinder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opengis.filter.Filter;
+import org.opengis.filter.FilterFactory2;
+import org.opengis.filter.sort.SortBy;
+import org.opengis.filter.sort.SortOrder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+class CatalogInfoMergeSortTest {
+
+    private static final FilterFactory2 ff = CommonFactoryFinder.getFilterFactory2();
+
+    private static final int SIZE = 100_000;
+
+    private List<WorkspaceInfo> workspaces;
+    private Map<String, CatalogInfo> byId;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(1);
+        workspaces = new ArrayList<>(SIZE);
+        byId = new HashMap<>();
+        for (int i = 0; i < SIZE; i++) {
+            WorkspaceInfoImpl ws = new WorkspaceInfoImpl();
+            ws.setId("ws-" + i);
+            // duplicate names to exercise the tie-breaker, some nulls
+            ws.setName(i % 1000 == 0 ? null : "name-" + random.nextInt(SIZE / 2));
+            ws.setIsolated(i % 2 == 0);
+            workspaces.add(ws);
+            byId.put(ws.getId(), ws);
+        }
+        Collections.shuffle(workspaces, random);
+    }
+
+    private CatalogInfoMergeSort<WorkspaceInfo> sorter(SortBy sortBy, int maxInMemory) {
+        return new CatalogInfoMergeSort<>(
+                WorkspaceInfo.class, sortBy, id -> Optional.ofNullable(byId.get(id)), maxInMemory);
+    }
+
+    private List<String> expected(Comparator<WorkspaceInfo> comparator, int offset, Integer count) {
+        Stream<WorkspaceInfo> sorted =
+                workspaces.stream()
+                        .sorted(comparator.thenComparing(WorkspaceInfo::getId))
+                        .skip(offset);
+        if (count != null) sorted = sorted.limit(count);
+        return sorted.map(WorkspaceInfo::getId).collect(Collectors.toList());
+    }
+
+    private List<String> sort(SortBy sortBy, int maxInMemory, Integer offset, Integer count) {
+        try (Stream<WorkspaceInfo> sorted =
+                sorter(sortBy, maxInMemory).sort(workspaces.stream(), offset, count)) {
+            return sorted.map(WorkspaceInfo::getId).collect(Collectors.toList());
+        }
+    }
+
+    private static Comparator<WorkspaceInfo> byName() {
+        return Comparator.comparing(
+                WorkspaceInfo::getName, Comparator.nullsFirst(Comparator.naturalOrder()));
+    }
+
+    @Test
+    void inMemory() {
+        SortBy asc = ff.sort("name", SortOrder.ASCENDING);
+        assertEquals(expected(byName(), 0, null), sort(asc, SIZE + 1, null, null));
+        assertEquals(expected(byName(), 500, 1000), sort(asc, SIZE, 500, 1000));
+    }
+
+    @Test
+    void topK() {
+        SortBy desc = ff.sort("name", SortOrder.DESCENDING);
+        Comparator<WorkspaceInfo> expectedOrder =
+                Comparator.comparing(
+                        WorkspaceInfo::getName, Comparator.nullsFirst(Comparator.reverseOrder()));
+        // reversed name order, nulls last
+        expectedOrder =
+                Comparator.<WorkspaceInfo, Boolean>comparing(w -> w.getName() == null)
+                        .thenComparing(expectedOrder);
+        assertEquals(expected(expectedOrder, 0, 25), sort(desc, 1000, 0, 25));
+        assertEquals(expected(expectedOrder, 950, 50), sort(desc, 1000, 950, 50));
+        assertEquals(List.of(), sort(desc, 1000, 0, 0));
+    }
+
+    @Test
+    void externalMergeSort() {
+        SortBy asc = ff.sort("name", SortOrder.ASCENDING);
+        assertEquals(expected(byName(), 0, null), sort(asc, 1000, null, null));
+        assertEquals(expected(byName(), 40_000, 5000), sort(asc, 1000, 40_000, 5000));
+        assertEquals(List.of(), sort(asc, 1000, SIZE, null));
+
+        SortBy isolated = ff.sort("isolated", SortOrder.ASCENDING);
+        assertEquals(
+                expected(Comparator.comparing(WorkspaceInfo::isIsolated), 49_990, 20),
+                sort(isolated, 1000, 49_990, 20));
+    }
+
+    @Test
+    void externalMergeSortRemovesTemporaryFiles() throws Exception {
+        final long before = runFiles();
+        SortBy asc = ff.sort("name", SortOrder.ASCENDING);
+        try (Stream<WorkspaceInfo> sorted = sorter(asc, 1000).sort(workspaces.stream(), 10, null)) {
+            assertTrue(runFiles() >= before + SIZE / 1000);
+            assertEquals(SIZE - 10, sorted.count());
+        }
+        assertEquals(before, runFiles());
+    }
+
+    private long runFiles() throws IOException {
+        Path tmpdir = Path.of(System.getProperty("java.io.tmpdir"));
+        try (Stream<Path> files = Files.list(tmpdir)) {
+            return files.filter(f -> f.getFileName().toString().startsWith("gs-catalog-sort"))
+                    .count();
+        }
+    }
+
+    @Test
+    void catalogPluginSortsWhenBackendCant() {
+        ExtendedCatalogFacade cantSort =
+                new ForwardingExtendedCatalogFacade(new DefaultMemoryCatalogFacade()) {
+                    public @Override boolean canSort(
+                            Class<? extends CatalogInfo> type, String propertyName) {
+                        return false;
+                    }
+                };
+        CatalogPlugin catalog = new CatalogPlugin(cantSort);
+        List<WorkspaceInfo> added =
+                IntStream.range(0, 100)
+                        .mapToObj(
+                                i -> {
+                                    WorkspaceInfoImpl ws = new WorkspaceInfoImpl();
+                                    ws.setName("ws-" + (char) ('a' + i % 26) + i);
+                                    return (WorkspaceInfo) ws;
+                                })
+                        .collect(Collectors.toList());
+        added.forEach(catalog::add);
+
+        Filter filter = ff.like(ff.property("name"), "ws-a*");
+        SortBy desc = ff.sort("name", SortOrder.DESCENDING);
+        List<String> expected =
+                added.stream()
+                        .map(WorkspaceInfo::getName)
+                        .filter(n -> n.startsWith("ws-a"))
+                        .sorted(Comparator.reverseOrder())
+                        .skip(1)
+                        .limit(2)
+                        .collect(Collectors.toList());
+
+        List<String> actual = new ArrayList<>();
+        try (CloseableIterator<WorkspaceInfo> it =
+                catalog.list(WorkspaceInfo.class, filter, 1, 2, desc)) {
+            it.forEachRemaining(ws -> actual.add(ws.getName()));
+        }
+        assertEquals(expected, actual);
+    }
+}
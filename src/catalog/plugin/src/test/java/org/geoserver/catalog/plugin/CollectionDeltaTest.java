@@ -0,0 +1,166 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.catalog.plugin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.geoserver.catalog.impl.WorkspaceInfoImpl;
+import org.geoserver.catalog.plugin.CollectionDelta.Kind;
+import org.geoserver.catalog.plugin.CollectionDelta.Op;
+import org.geoserver.catalog.plugin.CollectionDelta.OpType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class CollectionDeltaTest {
+
+    private static List<String> list(int size) {
+        return IntStream.range(0, size).mapToObj(i -> "e" + i).collect(Collectors.toList());
+    }
+
+    private static CollectionDelta delta(Object oldValue, Object newValue) {
+        return CollectionDelta.valueOf(oldValue, newValue).orElseThrow();
+    }
+
+    private static <T> T apply(CollectionDelta delta, T target) {
+        delta.applyTo(target);
+        return target;
+    }
+
+    @Test
+    void listReplace() {
+        List<String> oldList = list(300);
+        List<String> newList = new ArrayList<>(oldList);
+        newList.set(150, "changed");
+
+        CollectionDelta delta = delta(oldList, newList);
+        assertEquals(Kind.LIST, delta.getKind());
+        assertEquals(List.of(new Op(OpType.SET, 150, "changed")), delta.getOps());
+        assertEquals(newList, apply(delta, new ArrayList<>(oldList)));
+    }
+
+    @Test
+    void listInsertAndRemove() {
+        List<String> oldList = list(100);
+
+        List<String> inserted = new ArrayList<>(oldList);
+        inserted.addAll(10, List.of("a", "b"));
+        CollectionDelta delta = delta(oldList, inserted);
+        assertEquals(2, delta.size());
+        assertEquals(inserted, apply(delta, new ArrayList<>(oldList)));
+
+        List<String> removed = new ArrayList<>(oldList);
+        removed.subList(20, 25).clear();
+        delta = delta(oldList, removed);
+        assertEquals(5, delta.size());
+        assertEquals(removed, apply(delta, new ArrayList<>(oldList)));
+
+        List<String> withNulls = new ArrayList<>(oldList);
+        withNulls.set(0, null);
+        withNulls.remove(99);
+        assertEquals(withNulls, apply(delta(oldList, withNulls), new ArrayList<>(oldList)));
+    }
+
+    @Test
+    void set() {
+        Set<String> oldSet = new HashSet<>(list(50));
+        Set<String> newSet = new HashSet<>(oldSet);
+        newSet.remove("e10");
+        newSet.add("new");
+
+        CollectionDelta delta = delta(oldSet, newSet);
+        assertEquals(Kind.SET, delta.getKind());
+        assertEquals(2, delta.size());
+        assertEquals(newSet, apply(delta, new HashSet<>(oldSet)));
+    }
+
+    @Test
+    void map() {
+        Map<String, Object> oldMap = new HashMap<>();
+        list(50).forEach(k -> oldMap.put(k, k.length()));
+        Map<String, Object> newMap = new HashMap<>(oldMap);
+        newMap.remove("e1");
+        newMap.put("e2", new int[] {1, 2});
+        newMap.put("new", "value");
+
+        CollectionDelta delta = delta(oldMap, newMap);
+        assertEquals(Kind.MAP, delta.getKind());
+        assertEquals(3, delta.size());
+        Map<String, Object> applied = apply(delta, new HashMap<>(oldMap));
+        assertEquals(newMap.keySet(), applied.keySet());
+        assertTrue(Arrays.equals((int[]) newMap.get("e2"), (int[]) applied.get("e2")));
+    }
+
+    @Test
+    void fallsBackToFullValueWhenNotSmaller() {
+        assertTrue(CollectionDelta.valueOf(List.of("a", "b"), List.of("c", "d")).isEmpty());
+        assertTrue(CollectionDelta.valueOf(list(10), List.of()).isEmpty());
+        assertTrue(CollectionDelta.valueOf(null, list(10)).isEmpty());
+        assertTrue(CollectionDelta.valueOf(list(10), new HashSet<>(list(10))).isEmpty());
+        assertTrue(CollectionDelta.valueOf("a", "b").isEmpty());
+    }
+
+    @Test
+    void applyChecksTarget() {
+        List<String> oldList = list(10);
+        List<String> newList = new ArrayList<>(oldList);
+        newList.add("new");
+        CollectionDelta delta = delta(oldList, newList);
+
+        assertThrows(IllegalStateException.class, () -> delta.applyTo(list(9)));
+        assertThrows(IllegalArgumentException.class, () -> delta.applyTo(new HashSet<>(oldList)));
+    }
+
+    @Test
+    void applyChecksTargetContent() {
+        List<String> oldList = list(10);
+        List<String> newList = new ArrayList<>(oldList);
+        newList.add("new");
+        CollectionDelta delta = delta(oldList, newList);
+
+        // same size, but a concurrent change made it a different list
+        List<String> changed = list(10);
+        changed.set(3, "changed");
+        assertTrue(delta.matches(new ArrayList<>(oldList)));
+        assertFalse(delta.matches(changed));
+        assertThrows(IllegalStateException.class, () -> delta.applyTo(changed));
+        assertEquals(list(10), oldList);
+    }
+
+    @Test
+    void contentHashIsStableAcrossInstances() {
+        WorkspaceInfoImpl ws1 = new WorkspaceInfoImpl();
+        ws1.setId("ws1");
+        WorkspaceInfoImpl resolved = new WorkspaceInfoImpl();
+        resolved.setId("ws1");
+        resolved.setName("name");
+        assertEquals(
+                CollectionDelta.contentHash(List.of(ws1)),
+                CollectionDelta.contentHash(List.of(resolved)));
+
+        assertEquals("ADD".hashCode(), CollectionDelta.contentHash(OpType.ADD));
+        assertEquals(
+                CollectionDelta.contentHash(Map.of("k", new int[] {1, 2})),
+                CollectionDelta.contentHash(Map.of("k", new int[] {1, 2})));
+        assertNotEquals(
+                CollectionDelta.contentHash(List.of("a", "b")),
+                CollectionDelta.contentHash(List.of("b", "a")));
+        assertEquals(
+                CollectionDelta.contentHash(Set.of("a", "b")),
+                CollectionDelta.contentHash(new HashSet<>(List.of("b", "a"))));
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.catalog.plugin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.geoserver.catalog.FeatureTypeInfo;
+import org.geoserver.catalog.Keyword;
+import org.geoserver.catalog.KeywordInfo;
+import org.geoserver.catalog.LayerInfo;
+import org.geoserver.catalog.MetadataMap;
+import org.geoserver.catalog.impl.FeatureTypeInfoImpl;
+import org.geoserver.catalog.impl.LayerInfoImpl;
+import org.geoserver.catalog.impl.ModificationProxy;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class PatchTest {
+
+    @Test
+    void applyValueProperties() {
+        LayerInfoImpl layer = new LayerInfoImpl();
+        new Patch()
+                .with("enabled", false)
+                .with("advertised", false)
+                .with("path", "/some/path")
+                .applyTo(layer);
+        assertFalse(layer.isEnabled());
+        assertFalse(layer.isAdvertised());
+        assertEquals("/some/path", layer.getPath());
+
+        // property names are case insensitive, as with OwsUtils
+        new Patch().with("Enabled", true).with("path", null).applyTo(layer);
+        assertTrue(layer.isEnabled());
+        assertEquals(null, layer.getPath());
+    }
+
+    @Test
+    void applyMergesCollectionsAndMaps() {
+        FeatureTypeInfoImpl ft = new FeatureTypeInfoImpl(null);
+        List<KeywordInfo> keywords = ft.getKeywords();
+        keywords.add(new Keyword("old"));
+        MetadataMap metadata = ft.getMetadata();
+        metadata.put("old", "value");
+
+        MetadataMap newMetadata = new MetadataMap();
+        newMetadata.put("new", "value");
+        new Patch()
+                .with("keywords", List.of(new Keyword("k1"), new Keyword("k2")))
+                .with("metadata", newMetadata)
+                .applyTo(ft);
+
+        // same instances, new contents
+        assertSame(keywords, ft.getKeywords());
+        assertEquals(List.of(new Keyword("k1"), new Keyword("k2")), ft.getKeywords());
+        assertSame(metadata, ft.getMetadata());
+        assertEquals(newMetadata, ft.getMetadata());
+    }
+
+    @Test
+    void applyToModificationProxy() {
+        FeatureTypeInfoImpl ft = new FeatureTypeInfoImpl(null);
+        FeatureTypeInfo proxy = ModificationProxy.create(ft, FeatureTypeInfo.class);
+
+        new Patch().with("name", "newName").applyTo(proxy, FeatureTypeInfo.class);
+        assertEquals("newName", proxy.getName());
+        assertEquals(null, ft.getName());
+        ModificationProxy.handler(proxy).commit();
+        assertEquals("newName", ft.getName());
+    }
+
+    @Test
+    void noSuchProperty() {
+        Patch patch = new Patch().with("noSuchProperty", "value");
+        LayerInfo layer = new LayerInfoImpl();
+        assertThrows(IllegalArgumentException.class, () -> patch.applyTo(layer));
+    }
+}
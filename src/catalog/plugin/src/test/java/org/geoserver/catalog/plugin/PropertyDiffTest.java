@@ -201,4 +201,25 @@ public class PropertyDiffTest {
         assertNotEquals(ws.getDateModified(), copy.getDateModified());
         assertNotEquals(ws.getMetadata(), copy.getMetadata());
     }
+
+    public @Test void compactPatch() {
+        WorkspaceInfo ws = data.workspaceA;
+        for (int i = 0; i < 10; i++) ws.getMetadata().put("k" + i, "v" + i);
+        WorkspaceInfo copy = new WorkspaceInfoImpl();
+        copy.getMetadata().putAll(ws.getMetadata());
+
+        MetadataMap metadata = new MetadataMap(new HashMap<>(ws.getMetadata()));
+        metadata.put("k5", "changed");
+        PropertyDiff diff =
+                PropertyDiff.builder(ws).with("name", "newname").with("metadata", metadata).build();
+
+        Patch patch = diff.toCompactPatch();
+        assertEquals("newname", patch.getValue("name").orElseThrow());
+        CollectionDelta delta = (CollectionDelta) patch.getValue("metadata").orElseThrow();
+        assertEquals(1, delta.size());
+
+        patch.applyTo(copy);
+        assertEquals("newname", copy.getName());
+        assertEquals(metadata, copy.getMetadata());
+    }
 }
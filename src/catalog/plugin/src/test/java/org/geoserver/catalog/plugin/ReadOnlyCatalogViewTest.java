@@ -0,0 +1,168 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.catalog.plugin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.geoserver.catalog.CatalogTestData;
+import org.geoserver.catalog.FeatureTypeInfo;
+import org.geoserver.catalog.LayerInfo;
+import org.geoserver.catalog.ResourceInfo;
+import org.geoserver.catalog.WorkspaceInfo;
+import org.geoserver.catalog.impl.LayerInfoImpl;
+import org.geoserver.catalog.impl.ModificationProxy;
+import org.geoserver.catalog.impl.ProxyUtils;
+import org.geoserver.catalog.impl.WorkspaceInfoImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+class ReadOnlyCatalogViewTest {
+
+    private CatalogPlugin catalog;
+    private CatalogTestData data;
+    private ReadOnlyCatalogView view;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CatalogPlugin();
+        data =
+                CatalogTestData.empty(() -> catalog, () -> null)
+                        .initCatalog(true)
+                        .initConfig(false)
+                        .initialize();
+        view = catalog.getReadOnlyView();
+    }
+
+    private static boolean isProxy(Object info) {
+        return null != ProxyUtils.handler(info, ModificationProxy.class);
+    }
+
+    private static boolean isReadOnly(Object info) {
+        return null != ProxyUtils.handler(info, ReadOnlyProxy.class);
+    }
+
+    @Test
+    void viewIsCached() {
+        assertSame(view, catalog.getReadOnlyView());
+        assertSame(view, view.getReadOnlyView());
+        assertSame(catalog, view.getSubject());
+    }
+
+    @Test
+    void returnsReadOnlyProxiesOverSharedInstances() {
+        final String id = data.layerFeatureTypeA.getId();
+        assertFalse(isReadOnly(catalog.getLayer(id)));
+
+        LayerInfo layer = view.getLayer(id);
+        assertNotNull(layer);
+        assertTrue(isReadOnly(layer));
+        assertSame(ModificationProxy.unwrap(layer), ModificationProxy.unwrap(view.getLayer(id)));
+        assertSame(
+                ModificationProxy.unwrap(layer),
+                ModificationProxy.unwrap(view.getLayerByName(layer.prefixedName())));
+
+        assertTrue(view.getLayers().stream().allMatch(ReadOnlyCatalogViewTest::isReadOnly));
+        assertTrue(view.getWorkspaces().stream().allMatch(ReadOnlyCatalogViewTest::isReadOnly));
+        try (Stream<LayerInfo> layers = view.getFacade().query(Query.all(LayerInfo.class))) {
+            List<LayerInfo> queried = layers.collect(Collectors.toList());
+            assertEquals(catalog.getLayers().size(), queried.size());
+            assertTrue(queried.stream().allMatch(ReadOnlyCatalogViewTest::isReadOnly));
+        }
+    }
+
+    @Test
+    void sharedInstancesCantBeModified() {
+        final LayerInfo layer = view.getLayer(data.layerFeatureTypeA.getId());
+        final boolean enabled = layer.isEnabled();
+        assertThrows(UnsupportedOperationException.class, () -> layer.setEnabled(!enabled));
+        assertEquals(enabled, catalog.getLayer(layer.getId()).isEnabled());
+
+        assertThrows(UnsupportedOperationException.class, () -> layer.getStyles().clear());
+        assertThrows(UnsupportedOperationException.class, () -> layer.getMetadata().put("k", "v"));
+
+        ResourceInfo resource = layer.getResource();
+        assertTrue(isReadOnly(resource));
+        assertThrows(UnsupportedOperationException.class, () -> resource.setTitle("changed"));
+        assertThrows(UnsupportedOperationException.class, () -> resource.getKeywords().clear());
+        assertTrue(isReadOnly(resource.getStore().getWorkspace()));
+    }
+
+    @Test
+    void nestedWrappersAreMemoized() {
+        final LayerInfo layer = view.getLayer(data.layerFeatureTypeA.getId());
+        ResourceInfo resource = layer.getResource();
+        assertSame(resource, layer.getResource());
+        assertSame(resource.getStore(), layer.getResource().getStore());
+        assertSame(layer.getStyles(), layer.getStyles());
+        assertSame(layer.getMetadata(), layer.getMetadata());
+    }
+
+    @Test
+    void memoizedWrapperReplacedWhenValueChanges() {
+        FeatureTypeInfo featureType = ModificationProxy.unwrap(data.featureTypeA);
+        LayerInfoImpl layer = new LayerInfoImpl();
+        layer.setResource(featureType);
+        LayerInfo readOnly = ReadOnlyProxy.wrap(layer);
+        ResourceInfo resource = readOnly.getResource();
+        assertTrue(isReadOnly(resource));
+        assertSame(featureType, ModificationProxy.unwrap(resource));
+
+        FeatureTypeInfo other = ModificationProxy.unwrap(data.createFeatureType("other"));
+        layer.setResource(other);
+        ResourceInfo changed = readOnly.getResource();
+        assertNotSame(resource, changed);
+        assertTrue(isReadOnly(changed));
+        assertSame(other, ModificationProxy.unwrap(changed));
+    }
+
+    @Test
+    void mutatorsNotSupported() {
+        WorkspaceInfoImpl ws = new WorkspaceInfoImpl();
+        ws.setName("newWorkspace");
+        assertThrows(UnsupportedOperationException.class, () -> view.add(ws));
+        assertNull(catalog.getWorkspaceByName("newWorkspace"));
+
+        WorkspaceInfo existing = view.getWorkspace(data.workspaceB.getId());
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(existing));
+        assertThrows(
+                UnsupportedOperationException.class, () -> view.save(view.modifiable(existing)));
+        assertThrows(UnsupportedOperationException.class, () -> view.setDefaultWorkspace(existing));
+        assertNotNull(catalog.getWorkspace(existing.getId()));
+    }
+
+    @Test
+    void copyOnWrite() {
+        final String id = data.layerFeatureTypeA.getId();
+        final LayerInfo shared = view.getLayer(id);
+        final boolean enabled = shared.isEnabled();
+
+        LayerInfo modifiable = view.modifiable(shared);
+        assertTrue(isProxy(modifiable));
+        assertFalse(isReadOnly(modifiable));
+        modifiable.setEnabled(!enabled);
+        assertEquals(enabled, shared.isEnabled(), "shared instance changed before saving");
+
+        catalog.save(modifiable);
+        assertEquals(!enabled, view.getLayer(id).isEnabled());
+        assertEquals(!enabled, catalog.getLayer(id).isEnabled());
+    }
+
+    @Test
+    void sharesSubjectListenersAndResourcePool() {
+        assertSame(catalog.getResourcePool(), view.getResourcePool());
+        assertEquals(List.copyOf(catalog.getListeners()), List.copyOf(view.getListeners()));
+    }
+}
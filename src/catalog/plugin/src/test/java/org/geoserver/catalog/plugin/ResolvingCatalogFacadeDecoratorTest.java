@@ -0,0 +1,165 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.catalog.plugin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.geoserver.catalog.CatalogInfo;
+import org.geoserver.catalog.CatalogTestData;
+import org.geoserver.catalog.FeatureTypeInfo;
+import org.geoserver.catalog.LayerInfo;
+import org.geoserver.catalog.ResourceInfo;
+import org.geoserver.catalog.StyleInfo;
+import org.geoserver.catalog.impl.LayerInfoImpl;
+import org.geoserver.catalog.impl.ResolvingProxy;
+import org.geoserver.catalog.plugin.forwarding.ForwardingExtendedCatalogFacade;
+import org.geoserver.catalog.plugin.forwarding.ResolvingCatalogFacadeDecorator;
+import org.geoserver.catalog.plugin.resolving.ResolutionScope;
+import org.geoserver.catalog.plugin.resolving.ResolvingProxyResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+class ResolvingCatalogFacadeDecoratorTest {
+
+    private static final int LAYERS = 1000;
+    private static final int RESOURCES = 10;
+    private static final int STYLES = 5;
+
+    private final AtomicInteger resourceLookups = new AtomicInteger();
+    private final AtomicInteger styleLookups = new AtomicInteger();
+
+    private final List<String> resourceIds = new ArrayList<>();
+    private final List<String> styleIds = new ArrayList<>();
+
+    private ResolvingCatalogFacadeDecorator decorator;
+
+    @BeforeEach
+    void setUp() {
+        ExtendedCatalogFacade counting =
+                new ForwardingExtendedCatalogFacade(new DefaultMemoryCatalogFacade()) {
+                    public @Override <T extends ResourceInfo> T getResource(
+                            String id, Class<T> clazz) {
+                        resourceLookups.incrementAndGet();
+                        return super.getResource(id, clazz);
+                    }
+
+                    public @Override StyleInfo getStyle(String id) {
+                        styleLookups.incrementAndGet();
+                        return super.getStyle(id);
+                    }
+                };
+        CatalogPlugin catalog = new CatalogPlugin(counting);
+        CatalogTestData data =
+                CatalogTestData.empty(() -> catalog, () -> null)
+                        .initCatalog(true)
+                        .initConfig(false)
+                        .initialize();
+        for (int i = 0; i < RESOURCES; i++) {
+            FeatureTypeInfo ft = data.createFeatureType("ft" + i);
+            catalog.add(ft);
+            resourceIds.add(ft.getId());
+        }
+        for (int i = 0; i < STYLES; i++) {
+            StyleInfo style = data.createStyle("style" + i);
+            catalog.add(style);
+            styleIds.add(style.getId());
+        }
+
+        decorator = new ResolvingCatalogFacadeDecorator(new RemoteFacade());
+        decorator.setOutboundResolver(ResolvingProxyResolver.of(catalog));
+        resourceLookups.set(0);
+        styleLookups.set(0);
+    }
+
+    @Test
+    void collectionMethodsResolveEachSharedReferenceOnce() {
+        List<LayerInfo> layers = decorator.getLayers();
+        assertResolved(layers);
+        assertEquals(STYLES, styleLookups.get());
+        assertEquals(LAYERS, resourceLookups.get(), "only shared references are memoized");
+        assertFalse(ResolutionScope.current().isPresent());
+
+        styleLookups.set(0);
+        decorator.getLayers();
+        assertEquals(STYLES, styleLookups.get(), "scope shall not outlive the call");
+    }
+
+    @Test
+    void queryResolvesEachSharedReferenceOnce() {
+        List<LayerInfo> layers;
+        try (Stream<LayerInfo> stream = decorator.query(Query.all(LayerInfo.class))) {
+            layers = stream.collect(Collectors.toList());
+        }
+        assertResolved(layers);
+        assertEquals(STYLES, styleLookups.get());
+        assertEquals(LAYERS, resourceLookups.get(), "only shared references are memoized");
+        assertFalse(ResolutionScope.current().isPresent());
+    }
+
+    private void assertResolved(List<LayerInfo> layers) {
+        assertEquals(LAYERS, layers.size());
+        for (int i = 0; i < LAYERS; i++) {
+            ResourceInfo resource = layers.get(i).getResource();
+            assertFalse(isResolvingProxy(resource));
+            assertEquals(resourceIds.get(i % RESOURCES), resource.getId());
+
+            StyleInfo style = layers.get(i).getDefaultStyle();
+            assertFalse(isResolvingProxy(style));
+            assertEquals(styleIds.get(i % STYLES), style.getId());
+            assertSame(layers.get(i % STYLES).getDefaultStyle(), style);
+        }
+    }
+
+    private static boolean isResolvingProxy(Object info) {
+        return Proxy.isProxyClass(info.getClass())
+                && Proxy.getInvocationHandler(info) instanceof ResolvingProxy;
+    }
+
+    /**
+     * Returns new layers on each call, with unresolved resource and style references, as a remote
+     * backend
+     */
+    private class RemoteFacade extends ForwardingExtendedCatalogFacade {
+
+        RemoteFacade() {
+            super(new DefaultMemoryCatalogFacade());
+        }
+
+        private Stream<LayerInfo> layers() {
+            return IntStream.range(0, LAYERS)
+                    .mapToObj(
+                            i -> {
+                                LayerInfoImpl layer = new LayerInfoImpl();
+                                layer.setId("layer-" + i);
+                                String resourceId = resourceIds.get(i % RESOURCES);
+                                layer.setResource(
+                                        ResolvingProxy.create(resourceId, FeatureTypeInfo.class));
+                                String styleId = styleIds.get(i % STYLES);
+                                layer.setDefaultStyle(
+                                        ResolvingProxy.create(styleId, StyleInfo.class));
+                                return layer;
+                            });
+        }
+
+        public @Override List<LayerInfo> getLayers() {
+            return layers().collect(Collectors.toList());
+        }
+
+        @SuppressWarnings("unchecked")
+        public @Override <T extends CatalogInfo> Stream<T> query(Query<T> query) {
+            return (Stream<T>) layers();
+        }
+    }
+}
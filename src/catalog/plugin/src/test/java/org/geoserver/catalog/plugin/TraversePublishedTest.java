@@ -0,0 +1,200 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.catalog.plugin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.geoserver.catalog.CatalogTestData;
+import org.geoserver.catalog.DataStoreInfo;
+import org.geoserver.catalog.FeatureTypeInfo;
+import org.geoserver.catalog.Info;
+import org.geoserver.catalog.LayerGroupInfo;
+import org.geoserver.catalog.LayerInfo;
+import org.geoserver.catalog.WorkspaceInfo;
+import org.geoserver.catalog.impl.ModificationProxy;
+import org.geoserver.catalog.impl.ProxyUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+class TraversePublishedTest {
+
+    private CatalogPlugin catalog;
+    private CatalogTestData data;
+
+    private LayerInfo layerB;
+    private LayerInfo disabledStoreLayer;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new CatalogPlugin();
+        data =
+                CatalogTestData.empty(() -> catalog, () -> null)
+                        .initCatalog(true)
+                        .initConfig(false)
+                        .initialize();
+
+        FeatureTypeInfo ftB =
+                data.createFeatureType(
+                        "ftB-id", data.dataStoreB, data.namespaceB, "ftB", "abstract", "", true);
+        catalog.add(ftB);
+        layerB = data.createLayer(ftB, data.style1);
+        catalog.add(layerB);
+
+        DataStoreInfo disabledStore = catalog.getFactory().createDataStore();
+        disabledStore.setName("disabledStore");
+        disabledStore.setWorkspace(data.workspaceA);
+        disabledStore.setEnabled(false);
+        catalog.add(disabledStore);
+        FeatureTypeInfo ftDisabled =
+                data.createFeatureType(
+                        "ftDisabled-id",
+                        catalog.getDataStore(disabledStore.getId()),
+                        data.namespaceA,
+                        "ftDisabled",
+                        "abstract",
+                        "",
+                        true);
+        catalog.add(ftDisabled);
+        disabledStoreLayer = data.createLayer(ftDisabled, data.style2);
+        catalog.add(disabledStoreLayer);
+    }
+
+    private Set<String> traverse(
+            ExtendedCatalogFacade facade, WorkspaceInfo workspace, boolean enabledOnly) {
+        try (Stream<PublishedEntry> entries = facade.traversePublished(workspace, enabledOnly)) {
+            return entries.map(e -> e.getPublished().getId()).collect(Collectors.toSet());
+        }
+    }
+
+    @Test
+    void traversesLayersThenLayerGroups() {
+        try (Stream<PublishedEntry> entries = catalog.traversePublished(null, false)) {
+            List<PublishedEntry> all = entries.collect(Collectors.toList());
+            assertEquals(catalog.getLayers().size() + catalog.getLayerGroups().size(), all.size());
+            PublishedEntry last = all.get(all.size() - 1);
+            assertFalse(last.isLayer());
+            assertEquals(data.layerGroup1.getId(), last.getPublished().getId());
+            assertNull(last.getWorkspace());
+        }
+    }
+
+    @Test
+    void joinsReferencedObjects() {
+        PublishedEntry entry;
+        try (Stream<PublishedEntry> entries = catalog.traversePublished(data.workspaceB, false)) {
+            entry = entries.filter(PublishedEntry::isLayer).findFirst().orElseThrow();
+        }
+        assertEquals(layerB.getId(), entry.getPublished().getId());
+        assertEquals("ftB-id", entry.getResource().getId());
+        assertEquals(data.dataStoreB.getId(), entry.getStore().getId());
+        assertEquals(data.namespaceB.getId(), entry.getNamespace().getId());
+        assertEquals(data.workspaceB.getId(), entry.getWorkspace().getId());
+        assertEquals(data.style1.getId(), entry.getDefaultStyle().getId());
+    }
+
+    @Test
+    void joinsLayerGroupsWithTheirLayersAndStyles() {
+        LayerGroupInfo group = data.createLayerGroup("lg2", null, "layerGroup2", layerB, null);
+        group.getLayers().add(disabledStoreLayer);
+        group.getStyles().add(null);
+        group.getLayers().add(data.layerGroup1);
+        group.getStyles().add(null);
+        catalog.add(group);
+
+        Map<String, PublishedEntry> groups;
+        try (Stream<PublishedEntry> entries = catalog.traversePublished(null, false)) {
+            groups =
+                    entries.filter(e -> !e.isLayer())
+                            .collect(Collectors.toMap(e -> e.getPublished().getId(), e -> e));
+        }
+        PublishedEntry lg1 = groups.get(data.layerGroup1.getId());
+        assertEquals(List.of(data.layerFeatureTypeA.getId()), ids(lg1.getLayers()));
+        assertEquals(List.of(data.style1.getId()), ids(lg1.getStyles()));
+
+        // falls back to the layers' default style, and to null for nested groups
+        PublishedEntry lg2 = groups.get("lg2");
+        assertEquals(
+                Arrays.asList(layerB.getId(), disabledStoreLayer.getId(), data.layerGroup1.getId()),
+                ids(lg2.getLayers()));
+        assertEquals(
+                Arrays.asList(data.style1.getId(), data.style2.getId(), null),
+                ids(lg2.getStyles()));
+    }
+
+    private List<String> ids(List<? extends Info> infos) {
+        return infos.stream().map(i -> i == null ? null : i.getId()).collect(Collectors.toList());
+    }
+
+    @Test
+    void workspaceAndEnabledFilters() {
+        ExtendedCatalogFacade facade = catalog.getFacade();
+        final String layerA = data.layerFeatureTypeA.getId();
+        final String disabled = disabledStoreLayer.getId();
+        final String group = data.layerGroup1.getId();
+
+        assertEquals(
+                Set.of(layerA, disabled, layerB.getId(), group), traverse(facade, null, false));
+        assertEquals(Set.of(layerA, layerB.getId(), group), traverse(facade, null, true));
+        assertEquals(Set.of(layerA, disabled), traverse(facade, data.workspaceA, false));
+        assertEquals(Set.of(layerA), traverse(facade, data.workspaceA, true));
+        assertEquals(Set.of(layerB.getId()), traverse(facade, data.workspaceB, true));
+    }
+
+    @Test
+    void defaultImplementationMatchesInMemoryOne() {
+        ExtendedCatalogFacade memory = catalog.getFacade();
+        // a proxy that forwards everything but the default traversePublished method
+        InvocationHandler handler =
+                (proxy, method, args) ->
+                        method.getName().equals("traversePublished")
+                                ? InvocationHandler.invokeDefault(proxy, method, args)
+                                : method.invoke(memory, args);
+        ExtendedCatalogFacade defaultImpl =
+                (ExtendedCatalogFacade)
+                        Proxy.newProxyInstance(
+                                getClass().getClassLoader(),
+                                new Class<?>[] {ExtendedCatalogFacade.class},
+                                handler);
+        for (WorkspaceInfo ws : new WorkspaceInfo[] {null, data.workspaceA, data.workspaceB}) {
+            for (boolean enabledOnly : new boolean[] {false, true}) {
+                assertEquals(
+                        traverse(memory, ws, enabledOnly),
+                        traverse(defaultImpl, ws, enabledOnly),
+                        "workspace: " + ws + ", enabledOnly: " + enabledOnly);
+            }
+        }
+    }
+
+    @Test
+    void readOnlyViewReturnsSharedInstances() {
+        ReadOnlyCatalogView view = catalog.getReadOnlyView();
+        try (Stream<PublishedEntry> entries = view.traversePublished(null, false)) {
+            entries.forEach(
+                    entry -> {
+                        assertNotNull(
+                                ProxyUtils.handler(entry.getPublished(), ReadOnlyProxy.class));
+                        if (entry.isLayer()) {
+                            assertSame(
+                                    ModificationProxy.unwrap(
+                                            view.getLayer(entry.getPublished().getId())),
+                                    ModificationProxy.unwrap(entry.getPublished()));
+                        }
+                    });
+        }
+    }
+}
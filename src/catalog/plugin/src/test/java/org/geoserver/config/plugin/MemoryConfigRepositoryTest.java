@@ -0,0 +1,185 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.config.plugin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.geoserver.catalog.WorkspaceInfo;
+import org.geoserver.catalog.impl.WorkspaceInfoImpl;
+import org.geoserver.catalog.plugin.Patch;
+import org.geoserver.config.SettingsInfo;
+import org.geoserver.config.impl.SettingsInfoImpl;
+import org.geoserver.wfs.WFSInfo;
+import org.geoserver.wfs.WFSInfoImpl;
+import org.geoserver.wms.WMSInfo;
+import org.geoserver.wms.WMSInfoImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** Tests {@link MemoryConfigRepository} keeps its service and settings indexes consistent */
+class MemoryConfigRepositoryTest {
+
+    private MemoryConfigRepository repository;
+
+    private WorkspaceInfo ws1, ws2;
+
+    @BeforeEach
+    void setUp() {
+        repository = new MemoryConfigRepository();
+        ws1 = workspace("ws1");
+        ws2 = workspace("ws2");
+    }
+
+    private WorkspaceInfo workspace(String name) {
+        WorkspaceInfoImpl ws = new WorkspaceInfoImpl();
+        ws.setId(name + "-id");
+        ws.setName(name);
+        return ws;
+    }
+
+    private WMSInfo wms(String id, WorkspaceInfo workspace) {
+        WMSInfoImpl wms = new WMSInfoImpl();
+        wms.setId(id);
+        wms.setName("WMS");
+        wms.setWorkspace(workspace);
+        return wms;
+    }
+
+    private WFSInfo wfs(String id, WorkspaceInfo workspace) {
+        WFSInfoImpl wfs = new WFSInfoImpl();
+        wfs.setId(id);
+        wfs.setName("WFS");
+        wfs.setWorkspace(workspace);
+        return wfs;
+    }
+
+    @Test
+    void serviceLookups() {
+        WMSInfo globalWms = wms("wms", null);
+        WMSInfo ws1Wms = wms("wms1", ws1);
+        WFSInfo ws1Wfs = wfs("wfs1", ws1);
+        repository.add(globalWms);
+        repository.add(ws1Wms);
+        repository.add(ws1Wfs);
+
+        assertSame(globalWms, repository.getGlobalService(WMSInfo.class).orElseThrow());
+        assertTrue(repository.getGlobalService(WFSInfo.class).isEmpty());
+        assertSame(ws1Wms, repository.getServiceByWorkspace(ws1, WMSInfo.class).orElseThrow());
+        assertSame(ws1Wfs, repository.getServiceByWorkspace(ws1, WFSInfo.class).orElseThrow());
+        assertTrue(repository.getServiceByWorkspace(ws2, WMSInfo.class).isEmpty());
+
+        assertSame(globalWms, repository.getServiceByName("WMS", WMSInfo.class).orElseThrow());
+        // no global WFS, falls back to any workspace
+        assertSame(ws1Wfs, repository.getServiceByName("WFS", WFSInfo.class).orElseThrow());
+        assertSame(
+                ws1Wms,
+                repository.getServiceByNameAndWorkspace("WMS", ws1, WMSInfo.class).orElseThrow());
+        assertTrue(repository.getServiceByNameAndWorkspace("WMS", ws1, WFSInfo.class).isEmpty());
+
+        assertEquals(1, repository.getGlobalServices().count());
+        assertEquals(2, repository.getServicesByWorkspace(ws1).count());
+    }
+
+    @Test
+    void updateServiceReindexes() {
+        WMSInfo wms = wms("wms1", ws1);
+        repository.add(wms);
+
+        repository.update(wms, new Patch().with("name", "renamed").with("workspace", ws2));
+
+        assertTrue(repository.getServiceByWorkspace(ws1, WMSInfo.class).isEmpty());
+        assertTrue(repository.getServiceByNameAndWorkspace("WMS", ws1, WMSInfo.class).isEmpty());
+        assertEquals("wms1", repository.getServiceByWorkspace(ws2, WMSInfo.class).get().getId());
+        assertEquals(
+                "wms1",
+                repository
+                        .getServiceByNameAndWorkspace("renamed", ws2, WMSInfo.class)
+                        .get()
+                        .getId());
+    }
+
+    @Test
+    void removeServiceUnindexes() {
+        repository.add(wms("wms", null));
+        repository.add(wms("wms1", ws1));
+
+        // removing by a copy, not the same instance
+        repository.remove(wms("wms1", ws1));
+
+        assertTrue(repository.getServiceByWorkspace(ws1, WMSInfo.class).isEmpty());
+        assertTrue(repository.getServiceByNameAndWorkspace("WMS", ws1, WMSInfo.class).isEmpty());
+        assertEquals(0, repository.getServicesByWorkspace(ws1).count());
+        assertTrue(repository.getGlobalService(WMSInfo.class).isPresent());
+    }
+
+    @Test
+    void settingsByWorkspace() {
+        SettingsInfoImpl settings = new SettingsInfoImpl();
+        settings.setId("settings1");
+        settings.setWorkspace(ws1);
+        repository.add(settings);
+        assertSame(settings, repository.getSettingsByWorkspace(ws1).orElseThrow());
+
+        repository.update(settings, new Patch().with("workspace", ws2));
+        assertTrue(repository.getSettingsByWorkspace(ws1).isEmpty());
+        SettingsInfo moved = repository.getSettingsByWorkspace(ws2).orElseThrow();
+        assertEquals("settings1", moved.getId());
+
+        repository.remove(moved);
+        assertTrue(repository.getSettingsByWorkspace(ws2).isEmpty());
+    }
+
+    @Test
+    void lookupsDuringUpdatesAlwaysFindTheService() {
+        repository.add(wms("wms1", ws1));
+        SettingsInfoImpl settings = new SettingsInfoImpl();
+        settings.setId("settings1");
+        settings.setWorkspace(ws1);
+        repository.add(settings);
+
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicInteger lookups = new AtomicInteger();
+        AtomicInteger misses = new AtomicInteger();
+        CompletableFuture<?> reader =
+                CompletableFuture.runAsync(
+                        () -> {
+                            while (!done.get()) {
+                                lookups.incrementAndGet();
+                                if (repository.getServiceByWorkspace(ws1, WMSInfo.class).isEmpty()
+                                        || repository.getSettingsByWorkspace(ws1).isEmpty()) {
+                                    misses.incrementAndGet();
+                                }
+                            }
+                        });
+        try {
+            for (int i = 0; i < 10_000; i++) {
+                // patched in place, renamed within the same workspace
+                WMSInfo wms = repository.getServiceById("wms1", WMSInfo.class).orElseThrow();
+                repository.update(wms, new Patch().with("name", "WMS" + (i % 2)));
+                repository.update(settings, new Patch().with("charset", "UTF-" + (i % 2)));
+                // replaced by a new instance
+                repository.add(wms("wms1", ws1));
+                SettingsInfoImpl replacement = new SettingsInfoImpl();
+                replacement.setId("settings1");
+                replacement.setWorkspace(ws1);
+                repository.add(replacement);
+                settings = replacement;
+            }
+        } finally {
+            done.set(true);
+        }
+        reader.join();
+
+        assertTrue(lookups.get() > 0);
+        assertEquals(0, misses.get(), "lookups missed a service or settings being updated");
+        assertEquals(1, repository.getServicesByWorkspace(ws1).count());
+    }
+}
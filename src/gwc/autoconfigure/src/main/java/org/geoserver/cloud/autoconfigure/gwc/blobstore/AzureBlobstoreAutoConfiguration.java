@@ -24,7 +24,11 @@ import javax.annotation.PostConstruct;
  */
 @Configuration(proxyBeanMethods = false)
 @ConditionalOnAzureBlobstoreEnabled
-@Import({AzureBlobstoreConfiguration.class, GsWebUIAutoConfiguration.class})
+@Import({ //
+    AzureBlobstoreConfiguration.class, //
+    TileCacheAutoConfiguration.class, //
+    GsWebUIAutoConfiguration.class
+})
 @Slf4j(topic = "org.geoserver.cloud.autoconfigure.gwc.blobstore")
 public class AzureBlobstoreAutoConfiguration {
 
@@ -23,7 +23,11 @@ import javax.annotation.PostConstruct;
  */
 @Configuration(proxyBeanMethods = false)
 @ConditionalOnS3BlobstoreEnabled
-@Import({S3BlobstoreConfiguration.class, GsWebUIAutoConfiguration.class})
+@Import({ //
+    S3BlobstoreConfiguration.class, //
+    TileCacheAutoConfiguration.class, //
+    GsWebUIAutoConfiguration.class
+})
 @Slf4j(topic = "org.geoserver.cloud.autoconfigure.gwc.blobstore")
 public class S3BlobstoreAutoConfiguration {
 
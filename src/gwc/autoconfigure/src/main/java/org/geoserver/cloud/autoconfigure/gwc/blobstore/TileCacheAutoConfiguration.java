@@ -0,0 +1,28 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.autoconfigure.gwc.blobstore;
+
+import org.geoserver.cloud.gwc.config.blobstore.TileCacheConfiguration;
+import org.geoserver.cloud.gwc.config.core.GeoWebCacheConfigurationProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Enables the in-memory tile cache in front of the S3 and Azure blob stores if {@link
+ * GeoWebCacheConfigurationProperties#BLOBSTORE_CACHE_ENABLED gwc.blobstores.cache.enabled} is
+ * {@code true}. Imported by {@link S3BlobstoreAutoConfiguration} and {@link
+ * AzureBlobstoreAutoConfiguration}.
+ *
+ * @see TileCacheConfiguration
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(
+        name = GeoWebCacheConfigurationProperties.BLOBSTORE_CACHE_ENABLED,
+        havingValue = "true",
+        matchIfMissing = false)
+@Import(TileCacheConfiguration.class)
+public class TileCacheAutoConfiguration {}
@@ -7,9 +7,14 @@ package org.geoserver.cloud.autoconfigure.gwc.core;
 import lombok.extern.slf4j.Slf4j;
 
 import org.geoserver.cloud.autoconfigure.gwc.ConditionalOnGeoWebCacheEnabled;
+import org.geoserver.cloud.autoconfigure.gwc.core.GeoWebCacheCoreAutoConfiguration.DistributedLockingAutoConfiguration;
+import org.geoserver.cloud.autoconfigure.gwc.core.GeoWebCacheCoreAutoConfiguration.DistributedSeedingAutoConfiguration;
+import org.geoserver.cloud.gwc.config.core.DistributedSeedingConfiguration;
+import org.geoserver.cloud.gwc.config.core.DistributedTileLockingConfiguration;
 import org.geoserver.cloud.gwc.config.core.GeoWebCacheConfigurationProperties;
 import org.geoserver.cloud.gwc.config.core.GeoWebCacheCoreConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
@@ -22,6 +27,8 @@ import javax.annotation.PostConstruct;
  *
  * @see GeoWebCacheCoreConfiguration
  * @see DiskQuotaAutoConfiguration
+ * @see DistributedTileLockingConfiguration
+ * @see DistributedSeedingConfiguration
  * @since 1.0
  */
 @Configuration(proxyBeanMethods = false)
@@ -29,7 +36,9 @@ import javax.annotation.PostConstruct;
 @AutoConfigureAfter(CacheSeedingWebMapServiceAutoConfiguration.class)
 @Import({ //
     GeoWebCacheCoreConfiguration.class, //
-    DiskQuotaAutoConfiguration.class
+    DiskQuotaAutoConfiguration.class, //
+    DistributedLockingAutoConfiguration.class, //
+    DistributedSeedingAutoConfiguration.class
 })
 @Slf4j(topic = "org.geoserver.cloud.autoconfigure.gwc.core")
 public class GeoWebCacheCoreAutoConfiguration {
@@ -38,4 +47,30 @@ public class GeoWebCacheCoreAutoConfiguration {
     public void log() {
         log.info("GeoWebCache core integration enabled");
     }
+
+    /**
+     * Enables the cluster-wide meta-tile lock provider if {@link
+     * GeoWebCacheConfigurationProperties#DISTRIBUTED_LOCKING_ENABLED gwc.distributed-locking} is
+     * {@code true}
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(
+            name = GeoWebCacheConfigurationProperties.DISTRIBUTED_LOCKING_ENABLED,
+            havingValue = "true",
+            matchIfMissing = false)
+    @Import(DistributedTileLockingConfiguration.class)
+    static class DistributedLockingAutoConfiguration {}
+
+    /**
+     * Enables distributing seed, reseed, and truncate jobs over the cluster if {@link
+     * GeoWebCacheConfigurationProperties#DISTRIBUTED_SEEDING_ENABLED
+     * gwc.distributed-seeding.enabled} is {@code true}
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(
+            name = GeoWebCacheConfigurationProperties.DISTRIBUTED_SEEDING_ENABLED,
+            havingValue = "true",
+            matchIfMissing = false)
+    @Import(DistributedSeedingConfiguration.class)
+    static class DistributedSeedingAutoConfiguration {}
 }
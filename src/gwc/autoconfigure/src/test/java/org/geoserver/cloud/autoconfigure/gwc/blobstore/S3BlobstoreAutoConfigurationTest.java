@@ -7,6 +7,9 @@ package org.geoserver.cloud.autoconfigure.gwc.blobstore;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import org.geoserver.cloud.autoconfigure.gwc.GeoWebCacheContextRunner;
+import org.geoserver.cloud.gwc.blobstore.CachingS3BlobStoreConfigProvider;
+import org.geoserver.cloud.gwc.blobstore.CachingS3BlobStoreType;
+import org.geoserver.cloud.gwc.blobstore.TileCache;
 import org.geoserver.gwc.web.GWCSettingsPage;
 import org.geoserver.gwc.web.blob.S3BlobStoreType;
 import org.geowebcache.s3.S3BlobStoreConfigProvider;
@@ -67,6 +70,34 @@ class S3BlobstoreAutoConfigurationTest {
                         });
     }
 
+    public @Test void tileCacheDisabledByDefault() {
+        runner.withPropertyValues("gwc.blobstores.s3=true")
+                .run(
+                        context -> {
+                            assertThat(context).doesNotHaveBean(TileCache.class);
+                            assertThat(context)
+                                    .getBean(S3BlobStoreConfigProvider.class)
+                                    .isNotInstanceOf(CachingS3BlobStoreConfigProvider.class);
+                        });
+    }
+
+    public @Test void tileCacheEnabled() {
+        runner.withPropertyValues(
+                        "gwc.blobstores.s3=true",
+                        "gwc.blobstores.cache.enabled=true",
+                        "geoserver.web-ui.gwc.enabled=true")
+                .run(
+                        context -> {
+                            assertThat(context).hasSingleBean(TileCache.class);
+                            assertThat(context)
+                                    .getBean(S3BlobStoreConfigProvider.class)
+                                    .isInstanceOf(CachingS3BlobStoreConfigProvider.class);
+                            assertThat(context)
+                                    .getBean(S3BlobStoreType.class)
+                                    .isInstanceOf(CachingS3BlobStoreType.class);
+                        });
+    }
+
     public @Test void blobstoreEnabledGeoServerWebUiEnabledGsWebGwcNotInClassPath() {
         runner.withClassLoader(new FilteredClassLoader(GWCSettingsPage.class))
                 .withPropertyValues("gwc.blobstores.s3=true", "geoserver.web-ui.gwc.enabled=true")
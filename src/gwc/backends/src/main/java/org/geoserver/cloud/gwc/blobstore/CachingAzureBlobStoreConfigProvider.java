@@ -0,0 +1,28 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.blobstore;
+
+import com.thoughtworks.xstream.XStream;
+
+import org.geowebcache.azure.AzureBlobStoreConfigProvider;
+import org.geowebcache.azure.AzureBlobStoreInfo;
+
+/**
+ * {@link AzureBlobStoreConfigProvider} that decodes the {@literal AzureBlobStore} XML elements as
+ * {@link CachingAzureBlobStoreInfo}, keeping the same XML representation as {@link
+ * AzureBlobStoreInfo}.
+ *
+ * @since 1.0
+ */
+public class CachingAzureBlobStoreConfigProvider extends AzureBlobStoreConfigProvider {
+
+    @Override
+    public XStream getConfiguredXStream(XStream xs) {
+        xs = super.getConfiguredXStream(xs);
+        xs.alias("AzureBlobStore", CachingAzureBlobStoreInfo.class);
+        xs.allowTypes(new Class[] {CachingAzureBlobStoreInfo.class});
+        return xs;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.blobstore;
+
+import org.geowebcache.azure.AzureBlobStoreInfo;
+import org.geowebcache.layer.TileLayerDispatcher;
+import org.geowebcache.locks.LockProvider;
+import org.geowebcache.storage.BlobStore;
+import org.geowebcache.storage.StorageException;
+
+/**
+ * {@link AzureBlobStoreInfo} that decorates the Azure blob store it creates with a {@link
+ * CachingBlobStore} if a {@link TileCache} is available in the application context.
+ *
+ * <p>Encoded with the same XML alias and properties as {@link AzureBlobStoreInfo} by {@link
+ * CachingAzureBlobStoreConfigProvider}.
+ *
+ * @since 1.0
+ */
+public class CachingAzureBlobStoreInfo extends AzureBlobStoreInfo {
+
+    private static final long serialVersionUID = 1L;
+
+    public CachingAzureBlobStoreInfo() {
+        super();
+    }
+
+    @Override
+    public BlobStore createInstance(TileLayerDispatcher layers, LockProvider lockProvider)
+            throws StorageException {
+        BlobStore blobStore = super.createInstance(layers, lockProvider);
+        return CachingBlobStore.decorate(blobStore);
+    }
+}
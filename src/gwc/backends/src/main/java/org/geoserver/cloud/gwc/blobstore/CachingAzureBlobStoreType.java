@@ -0,0 +1,34 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.blobstore;
+
+import org.geoserver.gwc.web.blob.AzureBlobStoreType;
+import org.geowebcache.azure.AzureBlobStoreInfo;
+import org.springframework.beans.BeanUtils;
+
+/**
+ * {@link AzureBlobStoreType} for {@link CachingAzureBlobStoreInfo}, used by the Web UI instead of
+ * {@link AzureBlobStoreType} when the {@link TileCache} is enabled, since the blob store type is
+ * resolved by the exact class of the blob store configuration.
+ *
+ * @since 1.0
+ */
+public class CachingAzureBlobStoreType extends AzureBlobStoreType {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Class<AzureBlobStoreInfo> getConfigClass() {
+        return (Class<AzureBlobStoreInfo>) (Class<?>) CachingAzureBlobStoreInfo.class;
+    }
+
+    @Override
+    public AzureBlobStoreInfo newConfigObject() {
+        AzureBlobStoreInfo config = new CachingAzureBlobStoreInfo();
+        BeanUtils.copyProperties(super.newConfigObject(), config);
+        return config;
+    }
+}
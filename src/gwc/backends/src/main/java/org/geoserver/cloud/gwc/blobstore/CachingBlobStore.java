@@ -0,0 +1,244 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.blobstore;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.geoserver.cloud.gwc.blobstore.TileCache.CachedTile;
+import org.geowebcache.GeoWebCacheExtensions;
+import org.geowebcache.io.ByteArrayResource;
+import org.geowebcache.io.Resource;
+import org.geowebcache.layer.TileLayer;
+import org.geowebcache.storage.BlobStore;
+import org.geowebcache.storage.BlobStoreListener;
+import org.geowebcache.storage.StorageException;
+import org.geowebcache.storage.TileObject;
+import org.geowebcache.storage.TileRange;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * {@link BlobStore} decorator that serves tiles from a {@link TileCache} when possible, and
+ * populates it with the tiles fetched from or stored to the decorated blob store.
+ *
+ * <p>All delete operations evict the affected tiles and are notified to the rest of the cluster
+ * through {@link TileCache#truncated}. Single tiles stored or deleted are notified through {@link
+ * TileCache#invalidated}, for other instances not to keep serving their cached copy.
+ *
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+@Slf4j(topic = "org.geoserver.cloud.gwc.blobstore")
+public class CachingBlobStore implements BlobStore {
+
+    private final @NonNull BlobStore delegate;
+    private final @NonNull TileCache cache;
+
+    /**
+     * Decorates {@code blobStore} with a {@link CachingBlobStore} if there's a {@link TileCache} in
+     * the application context, or returns it as is otherwise.
+     */
+    public static BlobStore decorate(@NonNull BlobStore blobStore) {
+        TileCache cache = GeoWebCacheExtensions.bean(TileCache.class);
+        if (null == cache) {
+            return blobStore;
+        }
+        log.info("Enabling in-memory tile cache for {}", blobStore);
+        return new CachingBlobStore(blobStore, cache);
+    }
+
+    public BlobStore getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public boolean get(TileObject obj) throws StorageException {
+        Optional<CachedTile> cached = cache.get(obj);
+        if (cached.isPresent()) {
+            CachedTile tile = cached.get();
+            byte[] contents = tile.contents();
+            obj.setBlob(new ByteArrayResource(contents));
+            obj.setBlobSize(contents.length);
+            obj.setCreated(tile.getCreated());
+            return true;
+        }
+        boolean found = delegate.get(obj);
+        if (found && cache.isCacheable(obj)) {
+            byte[] contents = contents(obj);
+            if (contents != null) {
+                cache.put(obj, contents);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void put(TileObject obj) throws StorageException {
+        delegate.put(obj);
+        if (cache.isCacheable(obj) && obj.getBlob() instanceof ByteArrayResource) {
+            cache.put(obj, ((ByteArrayResource) obj.getBlob()).getContents());
+        } else {
+            cache.evict(obj);
+        }
+        cache.invalidated(obj);
+    }
+
+    @Override
+    public boolean delete(TileObject obj) throws StorageException {
+        cache.evict(obj);
+        try {
+            return delegate.delete(obj);
+        } finally {
+            cache.invalidated(obj);
+        }
+    }
+
+    @Override
+    public boolean delete(TileRange obj) throws StorageException {
+        try {
+            return delegate.delete(obj);
+        } finally {
+            cache.truncated(obj);
+        }
+    }
+
+    @Override
+    public boolean delete(String layerName) throws StorageException {
+        try {
+            return delegate.delete(layerName);
+        } finally {
+            cache.truncated(layerName, null, null);
+        }
+    }
+
+    @Override
+    public boolean deleteByGridsetId(String layerName, String gridSetId) throws StorageException {
+        try {
+            return delegate.deleteByGridsetId(layerName, gridSetId);
+        } finally {
+            cache.truncated(layerName, gridSetId, null);
+        }
+    }
+
+    @Override
+    public boolean deleteByParametersId(String layerName, String parametersId)
+            throws StorageException {
+        try {
+            return delegate.deleteByParametersId(layerName, parametersId);
+        } finally {
+            cache.truncated(layerName, null, parametersId);
+        }
+    }
+
+    @Override
+    public boolean deleteByParameters(String layerName, Map<String, String> parameters)
+            throws StorageException {
+        // delegates to deleteByParametersId by default, but the decorated store may override it
+        try {
+            return delegate.deleteByParameters(layerName, parameters);
+        } finally {
+            cache.truncated(layerName, null, null);
+        }
+    }
+
+    @Override
+    public boolean rename(String oldLayerName, String newLayerName) throws StorageException {
+        try {
+            return delegate.rename(oldLayerName, newLayerName);
+        } finally {
+            cache.truncated(oldLayerName, null, null);
+        }
+    }
+
+    @Override
+    public boolean purgeOrphans(TileLayer layer) throws StorageException {
+        try {
+            return delegate.purgeOrphans(layer);
+        } finally {
+            cache.truncated(layer.getName(), null, null);
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    @Override
+    public void clear() throws StorageException {
+        delegate.clear();
+        cache.clear();
+    }
+
+    @Override
+    public void destroy() {
+        delegate.destroy();
+    }
+
+    @Override
+    public void addListener(BlobStoreListener listener) {
+        delegate.addListener(listener);
+    }
+
+    @Override
+    public boolean removeListener(BlobStoreListener listener) {
+        return delegate.removeListener(listener);
+    }
+
+    @Override
+    public String getLayerMetadata(String layerName, String key) {
+        return delegate.getLayerMetadata(layerName, key);
+    }
+
+    @Override
+    public void putLayerMetadata(String layerName, String key, String value) {
+        delegate.putLayerMetadata(layerName, key, value);
+    }
+
+    @Override
+    public boolean layerExists(String layerName) {
+        return delegate.layerExists(layerName);
+    }
+
+    @Override
+    public Map<String, Optional<Map<String, String>>> getParametersMapping(String layerName) {
+        return delegate.getParametersMapping(layerName);
+    }
+
+    @Override
+    public Set<Map<String, String>> getParameters(String layerName) {
+        return delegate.getParameters(layerName);
+    }
+
+    @Override
+    public Set<String> getParameterIds(String layerName) {
+        return delegate.getParameterIds(layerName);
+    }
+
+    /**
+     * Returns the fetched tile contents, replacing a non in-memory blob by a {@link
+     * ByteArrayResource} so that it can be read both by the cache and the caller.
+     */
+    private byte[] contents(TileObject obj) throws StorageException {
+        Resource blob = obj.getBlob();
+        if (blob == null) return null;
+        if (blob instanceof ByteArrayResource) {
+            return ((ByteArrayResource) blob).getContents();
+        }
+        try (InputStream in = blob.getInputStream()) {
+            byte[] contents = in.readAllBytes();
+            obj.setBlob(new ByteArrayResource(contents));
+            return contents;
+        } catch (IOException e) {
+            throw new StorageException(e.getMessage(), e);
+        }
+    }
+
+    public @Override String toString() {
+        return String.format("%s[%s]", getClass().getSimpleName(), delegate);
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.blobstore;
+
+import com.thoughtworks.xstream.XStream;
+
+import org.geowebcache.s3.S3BlobStoreConfigProvider;
+import org.geowebcache.s3.S3BlobStoreInfo;
+
+/**
+ * {@link S3BlobStoreConfigProvider} that decodes the {@literal S3BlobStore} XML elements as {@link
+ * CachingS3BlobStoreInfo}, keeping the same XML representation as {@link S3BlobStoreInfo}.
+ *
+ * @since 1.0
+ */
+public class CachingS3BlobStoreConfigProvider extends S3BlobStoreConfigProvider {
+
+    @Override
+    public XStream getConfiguredXStream(XStream xs) {
+        xs = super.getConfiguredXStream(xs);
+        xs.alias("S3BlobStore", CachingS3BlobStoreInfo.class);
+        xs.allowTypes(new Class[] {CachingS3BlobStoreInfo.class});
+        return xs;
+    }
+}
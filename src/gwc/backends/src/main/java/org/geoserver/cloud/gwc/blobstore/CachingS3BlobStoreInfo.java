@@ -0,0 +1,36 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.blobstore;
+
+import org.geowebcache.layer.TileLayerDispatcher;
+import org.geowebcache.locks.LockProvider;
+import org.geowebcache.s3.S3BlobStoreInfo;
+import org.geowebcache.storage.BlobStore;
+import org.geowebcache.storage.StorageException;
+
+/**
+ * {@link S3BlobStoreInfo} that decorates the Amazon S3 blob store it creates with a {@link
+ * CachingBlobStore} if a {@link TileCache} is available in the application context.
+ *
+ * <p>Encoded with the same XML alias and properties as {@link S3BlobStoreInfo} by {@link
+ * CachingS3BlobStoreConfigProvider}.
+ *
+ * @since 1.0
+ */
+public class CachingS3BlobStoreInfo extends S3BlobStoreInfo {
+
+    private static final long serialVersionUID = 1L;
+
+    public CachingS3BlobStoreInfo() {
+        super();
+    }
+
+    @Override
+    public BlobStore createInstance(TileLayerDispatcher layers, LockProvider lockProvider)
+            throws StorageException {
+        BlobStore blobStore = super.createInstance(layers, lockProvider);
+        return CachingBlobStore.decorate(blobStore);
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.blobstore;
+
+import org.geoserver.gwc.web.blob.S3BlobStoreType;
+import org.geowebcache.s3.S3BlobStoreInfo;
+import org.springframework.beans.BeanUtils;
+
+/**
+ * {@link S3BlobStoreType} for {@link CachingS3BlobStoreInfo}, used by the Web UI instead of {@link
+ * S3BlobStoreType} when the {@link TileCache} is enabled, since the blob store type is resolved by
+ * the exact class of the blob store configuration.
+ *
+ * @since 1.0
+ */
+public class CachingS3BlobStoreType extends S3BlobStoreType {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Class<S3BlobStoreInfo> getConfigClass() {
+        return (Class<S3BlobStoreInfo>) (Class<?>) CachingS3BlobStoreInfo.class;
+    }
+
+    @Override
+    public S3BlobStoreInfo newConfigObject() {
+        S3BlobStoreInfo config = new CachingS3BlobStoreInfo();
+        BeanUtils.copyProperties(super.newConfigObject(), config);
+        return config;
+    }
+}
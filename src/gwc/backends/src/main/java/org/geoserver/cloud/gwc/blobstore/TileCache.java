@@ -0,0 +1,473 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.blobstore;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import lombok.NonNull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import org.geoserver.cloud.gwc.event.GeoWebCacheEvent;
+import org.geoserver.cloud.gwc.event.TileLayerBatchEvent;
+import org.geoserver.cloud.gwc.event.TileLayerEvent;
+import org.geoserver.cloud.gwc.event.TileLayerTruncateEvent;
+import org.geoserver.gwc.layer.GeoServerTileLayerInfo;
+import org.geoserver.gwc.layer.TileLayerCatalog;
+import org.geowebcache.storage.TileObject;
+import org.geowebcache.storage.TileRange;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Bounded in-memory cache of encoded tiles, used by {@link CachingBlobStore} to avoid fetching
+ * frequently requested tiles from object storage on each request.
+ *
+ * <p>Entries are weighted by their size in bytes, and evicted once {@link #getMaxSize() maxSize} is
+ * exceeded, or once they're older than the configured time to live. Tile contents are kept in heap
+ * byte arrays, or in direct (off-heap) byte buffers if so configured.
+ *
+ * <p>Tiles deleted through a {@link CachingBlobStore} are evicted locally and a {@link
+ * TileLayerTruncateEvent} is published, so that the event bus propagates it to the other instances
+ * in the cluster, whose caches evict them in turn. Tiles stored or deleted one at a time are
+ * accumulated per layer during the invalidation delay, and notified as truncate events listing
+ * those very tiles, for other instances to evict just their keys instead of scanning the cache for
+ * a whole zoom level range.
+ *
+ * <p>{@link TileLayerEvent Tile layer modification} events evict all the cached tiles of the
+ * modified layer. Modification and deletion events also evict the tiles of layers that no longer
+ * exist in the {@link TileLayerCatalog}, as when a layer is renamed or deleted. These listeners run
+ * after the {@link TileLayerCatalog} ones, which refresh its cached layers first.
+ *
+ * @since 1.0
+ */
+@Slf4j(topic = "org.geoserver.cloud.gwc.blobstore")
+public class TileCache {
+
+    /** Maximum number of tiles listed in a single invalidation event */
+    static final int MAX_TILES_PER_EVENT = 1_000;
+
+    private final Cache<TileKey, CachedTile> cache;
+    private final long maxSize;
+    private final long maxTileSize;
+    private final int maxZoomLevel;
+    private final boolean offHeap;
+    private final Duration invalidationDelay;
+
+    /** Tiles stored or deleted locally, pending to be notified to other instances */
+    private final Set<TileKey> pendingInvalidations = ConcurrentHashMap.newKeySet();
+
+    private final ScheduledExecutorService invalidationScheduler;
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final Supplier<TileLayerCatalog> tileLayerCatalog;
+
+    /**
+     * @param maxSize maximum cache size in bytes
+     * @param maxTileSize maximum size in bytes of a tile to be cached
+     * @param maxZoomLevel maximum zoom level of the tiles to be cached, or {@code -1} for no limit
+     * @param offHeap whether to keep tile contents in direct byte buffers
+     * @param timeToLive maximum time a tile is cached for, zero or negative for no expiration
+     * @param invalidationDelay time single tile invalidations are accumulated for before notifying
+     *     them, zero to notify them immediately
+     * @param eventPublisher used to notify tile deletions
+     * @param tileLayerCatalog used to resolve tile layer names from tile layer events, may supply
+     *     {@code null} if GeoServer tile layers are not available
+     */
+    public TileCache(
+            long maxSize,
+            long maxTileSize,
+            int maxZoomLevel,
+            boolean offHeap,
+            @NonNull Duration timeToLive,
+            @NonNull Duration invalidationDelay,
+            @NonNull ApplicationEventPublisher eventPublisher,
+            @NonNull Supplier<TileLayerCatalog> tileLayerCatalog) {
+        this.maxSize = maxSize;
+        this.maxTileSize = maxTileSize;
+        this.maxZoomLevel = maxZoomLevel;
+        this.offHeap = offHeap;
+        this.invalidationDelay = invalidationDelay;
+        this.eventPublisher = eventPublisher;
+        this.tileLayerCatalog = tileLayerCatalog;
+        Caffeine<TileKey, CachedTile> builder =
+                Caffeine.newBuilder()
+                        .maximumWeight(maxSize)
+                        .weigher((TileKey key, CachedTile tile) -> tile.size())
+                        .recordStats();
+        if (!timeToLive.isZero() && !timeToLive.isNegative()) {
+            builder = builder.expireAfterWrite(timeToLive);
+        }
+        this.cache = builder.build();
+        if (invalidationDelay.isZero() || invalidationDelay.isNegative()) {
+            this.invalidationScheduler = null;
+        } else {
+            this.invalidationScheduler =
+                    Executors.newSingleThreadScheduledExecutor(
+                            r -> {
+                                Thread t = new Thread(r, "gwc-tilecache-invalidation");
+                                t.setDaemon(true);
+                                return t;
+                            });
+            long millis = invalidationDelay.toMillis();
+            invalidationScheduler.scheduleWithFixedDelay(
+                    this::flushInvalidations, millis, millis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** Notifies the pending invalidations and stops the invalidation scheduler, if any */
+    public void close() {
+        if (invalidationScheduler != null) {
+            invalidationScheduler.shutdown();
+        }
+        flushInvalidations();
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return the accumulated size in bytes of the cached tiles
+     */
+    public long getSize() {
+        return cache.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L);
+    }
+
+    public long getCount() {
+        return cache.estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /** Exposed for metrics, see {@link TileCacheMetrics} */
+    Cache<TileKey, CachedTile> cache() {
+        return cache;
+    }
+
+    public boolean isCacheable(@NonNull TileObject tile) {
+        return maxZoomLevel < 0 || tile.getXYZ()[2] <= maxZoomLevel;
+    }
+
+    public Optional<CachedTile> get(@NonNull TileObject tile) {
+        if (!isCacheable(tile)) return Optional.empty();
+        return Optional.ofNullable(cache.getIfPresent(TileKey.valueOf(tile)));
+    }
+
+    public void put(@NonNull TileObject tile, @NonNull byte[] contents) {
+        if (!isCacheable(tile) || contents.length > maxTileSize) return;
+        cache.put(TileKey.valueOf(tile), CachedTile.of(contents, tile.getCreated(), offHeap));
+    }
+
+    public void evict(@NonNull TileObject tile) {
+        cache.invalidate(TileKey.valueOf(tile));
+    }
+
+    /**
+     * Notifies other instances that {@code tile} has been stored or deleted, for them to evict
+     * their cached copy. Notifications are accumulated per layer, gridset, format, and parameters
+     * id, and published once the invalidation delay elapses as {@link TileLayerTruncateEvent}s
+     * listing up to {@link #MAX_TILES_PER_EVENT} tiles each.
+     */
+    public void invalidated(@NonNull TileObject tile) {
+        if (!isCacheable(tile)) return;
+        pendingInvalidations.add(TileKey.valueOf(tile));
+        if (invalidationScheduler == null) {
+            flushInvalidations();
+        }
+    }
+
+    /** Publishes the accumulated single tile invalidations */
+    void flushInvalidations() {
+        Map<TileKey, List<TileKey>> byLayer = new LinkedHashMap<>();
+        for (TileKey key : List.copyOf(pendingInvalidations)) {
+            if (pendingInvalidations.remove(key)) {
+                byLayer.computeIfAbsent(key.withoutTile(), k -> new ArrayList<>()).add(key);
+            }
+        }
+        List<TileLayerTruncateEvent> events = new ArrayList<>();
+        byLayer.forEach(
+                (layer, tiles) -> {
+                    for (int i = 0; i < tiles.size(); i += MAX_TILES_PER_EVENT) {
+                        int end = Math.min(tiles.size(), i + MAX_TILES_PER_EVENT);
+                        events.add(invalidationEvent(layer, tiles.subList(i, end)));
+                    }
+                });
+        for (TileLayerTruncateEvent event : events) {
+            log.debug("Publishing tile invalidations {}", event);
+            try {
+                eventPublisher.publishEvent(event);
+            } catch (RuntimeException e) {
+                log.warn("Error publishing tile invalidations {}", event, e);
+            }
+        }
+    }
+
+    private TileLayerTruncateEvent invalidationEvent(TileKey layer, List<TileKey> tiles) {
+        TileLayerTruncateEvent event = new TileLayerTruncateEvent(this, layer.getLayerName());
+        event.setGridSetId(layer.getGridSetId());
+        event.setFormat(layer.getFormat());
+        event.setParametersId(layer.getParametersId());
+        event.setZoomStart((int) tiles.stream().mapToLong(TileKey::getZ).min().orElse(0));
+        event.setZoomStop((int) tiles.stream().mapToLong(TileKey::getZ).max().orElse(0));
+        List<long[]> xyz = new ArrayList<>(tiles.size());
+        for (TileKey tile : tiles) {
+            xyz.add(new long[] {tile.getX(), tile.getY(), tile.getZ()});
+        }
+        event.setTiles(xyz);
+        return event;
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Evicts the tiles in the range locally, and publishes a {@link TileLayerTruncateEvent} for
+     * other instances to do the same.
+     */
+    public void truncated(@NonNull TileRange range) {
+        TileLayerTruncateEvent event = new TileLayerTruncateEvent(this, range.getLayerName());
+        event.setGridSetId(range.getGridSetId());
+        event.setFormat(range.getMimeType() == null ? null : range.getMimeType().getFormat());
+        event.setParametersId(range.getParametersId());
+        event.setZoomStart(range.getZoomStart());
+        event.setZoomStop(range.getZoomStop());
+        truncated(event);
+    }
+
+    /**
+     * Evicts the tiles matching the non {@code null} arguments locally, and publishes a {@link
+     * TileLayerTruncateEvent} for other instances to do the same.
+     */
+    public void truncated(@NonNull String layerName, String gridSetId, String parametersId) {
+        TileLayerTruncateEvent event = new TileLayerTruncateEvent(this, layerName);
+        event.setGridSetId(gridSetId);
+        event.setParametersId(parametersId);
+        truncated(event);
+    }
+
+    private void truncated(TileLayerTruncateEvent event) {
+        evict(event);
+        eventPublisher.publishEvent(event);
+    }
+
+    @EventListener(TileLayerTruncateEvent.class)
+    public void onTileLayerTruncateEvent(TileLayerTruncateEvent event) {
+        if (event.getSource() != this) {
+            evict(event);
+        }
+    }
+
+    /**
+     * Evicts the tiles of a modified layer, and those of the layers that no longer exist, which
+     * covers deleted layers and the old name of renamed ones
+     */
+    @EventListener(TileLayerEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onTileLayerEvent(TileLayerEvent event) {
+        final TileLayerCatalog catalog = tileLayerCatalog.get();
+        if (catalog == null || event.getEventType() == GeoWebCacheEvent.Type.CREATED) {
+            return;
+        }
+        Set<String> modified = new HashSet<>();
+        if (event.getEventType() == GeoWebCacheEvent.Type.MODIFIED) {
+            GeoServerTileLayerInfo layer = catalog.getLayerById(event.getLayerId());
+            if (layer != null && layer.getName() != null) {
+                modified.add(layer.getName());
+            }
+        }
+        evictLayers(catalog, modified);
+    }
+
+    @EventListener(TileLayerBatchEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onTileLayerBatchEvent(TileLayerBatchEvent event) {
+        final TileLayerCatalog catalog = tileLayerCatalog.get();
+        if (catalog != null && event.getModifiedLayerIds() != null) {
+            Set<String> modified = new HashSet<>();
+            for (String layerId : event.getModifiedLayerIds()) {
+                String layerName = catalog.getLayerName(layerId);
+                if (layerName != null) {
+                    modified.add(layerName);
+                }
+            }
+            evictLayers(catalog, modified);
+        }
+    }
+
+    /**
+     * Evicts the tiles of the {@code modified} layers and of the layers {@code catalog} no longer
+     * knows about, in a single pass over the cache
+     */
+    private void evictLayers(TileLayerCatalog catalog, Set<String> modified) {
+        Map<String, Boolean> exists = new HashMap<>();
+        cache.asMap()
+                .keySet()
+                .removeIf(
+                        key -> {
+                            String name = key.getLayerName();
+                            return modified.contains(name)
+                                    || !exists.computeIfAbsent(
+                                            name, n -> catalog.getLayerId(n) != null);
+                        });
+    }
+
+    private void evict(TileLayerTruncateEvent event) {
+        log.debug("Evicting cached tiles for {}", event);
+        if (event.getTiles() != null) {
+            for (long[] xyz : event.getTiles()) {
+                cache.invalidate(
+                        new TileKey(
+                                event.getLayerName(),
+                                event.getGridSetId(),
+                                event.getFormat(),
+                                event.getParametersId(),
+                                xyz[0],
+                                xyz[1],
+                                xyz[2]));
+            }
+            return;
+        }
+        Predicate<TileKey> filter = matching(event);
+        cache.asMap().keySet().removeIf(filter);
+    }
+
+    private Predicate<TileKey> matching(TileLayerTruncateEvent event) {
+        final String layer = event.getLayerName();
+        final String gridset = event.getGridSetId();
+        final String format = event.getFormat();
+        final String params = event.getParametersId();
+        final int zoomStart = event.getZoomStart() == null ? 0 : event.getZoomStart();
+        final int zoomStop = event.getZoomStop() == null ? Integer.MAX_VALUE : event.getZoomStop();
+        return key ->
+                layer.equals(key.getLayerName())
+                        && (gridset == null || gridset.equals(key.getGridSetId()))
+                        && (format == null || format.equals(key.getFormat()))
+                        && (params == null || params.equals(key.getParametersId()))
+                        && key.getZ() >= zoomStart
+                        && key.getZ() <= zoomStop;
+    }
+
+    @Value
+    static class TileKey {
+        private String layerName;
+        private String gridSetId;
+        private String format;
+        private String parametersId;
+        private long x;
+        private long y;
+        private long z;
+
+        /**
+         * @return a key for the layer, gridset, format and parameters id of this tile, used to
+         *     group invalidations
+         */
+        TileKey withoutTile() {
+            return new TileKey(layerName, gridSetId, format, parametersId, 0, 0, 0);
+        }
+
+        static TileKey valueOf(TileObject tile) {
+            long[] xyz = tile.getXYZ();
+            return new TileKey(
+                    tile.getLayerName(),
+                    tile.getGridSetId(),
+                    tile.getBlobFormat(),
+                    tile.getParametersId(),
+                    xyz[0],
+                    xyz[1],
+                    xyz[2]);
+        }
+    }
+
+    /** Cached tile contents and creation timestamp */
+    public abstract static class CachedTile {
+        private final long created;
+
+        CachedTile(long created) {
+            this.created = created;
+        }
+
+        public long getCreated() {
+            return created;
+        }
+
+        public abstract int size();
+
+        /**
+         * @return the tile contents, possibly shared with the cache, hence not to be modified
+         */
+        public abstract byte[] contents();
+
+        static CachedTile of(byte[] contents, long created, boolean offHeap) {
+            if (offHeap) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(contents.length);
+                buffer.put(contents).flip();
+                return new DirectCachedTile(buffer, created);
+            }
+            return new HeapCachedTile(contents.clone(), created);
+        }
+    }
+
+    private static class HeapCachedTile extends CachedTile {
+        private final byte[] contents;
+
+        HeapCachedTile(byte[] contents, long created) {
+            super(created);
+            this.contents = Objects.requireNonNull(contents);
+        }
+
+        public @Override int size() {
+            return contents.length;
+        }
+
+        public @Override byte[] contents() {
+            return contents;
+        }
+    }
+
+    private static class DirectCachedTile extends CachedTile {
+        private final ByteBuffer contents;
+
+        DirectCachedTile(ByteBuffer contents, long created) {
+            super(created);
+            this.contents = Objects.requireNonNull(contents);
+        }
+
+        public @Override int size() {
+            return contents.capacity();
+        }
+
+        public @Override byte[] contents() {
+            byte[] bytes = new byte[contents.capacity()];
+            contents.duplicate().get(bytes);
+            return bytes;
+        }
+    }
+}
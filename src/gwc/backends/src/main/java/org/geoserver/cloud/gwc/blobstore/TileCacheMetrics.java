@@ -0,0 +1,55 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.blobstore;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Exports {@link TileCache} metrics to micrometer's {@link MeterRegistry}.
+ *
+ * <p>Besides the standard {@link CaffeineCacheMetrics cache metrics} (e.g. {@literal cache.gets},
+ * {@literal cache.evictions}) tagged with {@literal cache=gwc.tilecache}, the following metrics are
+ * exported:
+ *
+ * <ul>
+ *   <li>{@literal gwc.tilecache.hit_ratio}: ratio of tile requests served from the cache
+ *   <li>{@literal gwc.tilecache.size}: accumulated size of the cached tiles
+ *   <li>{@literal gwc.tilecache.max_size}: configured maximum size of the cache
+ * </ul>
+ *
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+public class TileCacheMetrics implements MeterBinder {
+
+    static final String CACHE_NAME = "gwc.tilecache";
+
+    private final @NonNull TileCache tileCache;
+
+    public @Override void bindTo(@NonNull MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, tileCache.cache(), CACHE_NAME);
+
+        Gauge.builder("gwc.tilecache.hit_ratio", tileCache, c -> c.stats().hitRate())
+                .description("Ratio of tile requests served from the in-memory tile cache")
+                .register(registry);
+
+        Gauge.builder("gwc.tilecache.size", tileCache, TileCache::getSize)
+                .description("Accumulated size of the tiles in the in-memory tile cache")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+
+        Gauge.builder("gwc.tilecache.max_size", tileCache, TileCache::getMaxSize)
+                .description("Maximum size of the in-memory tile cache")
+                .baseUnit(BaseUnits.BYTES)
+                .register(registry);
+    }
+}
@@ -4,7 +4,13 @@
  */
 package org.geoserver.cloud.gwc.config.blobstore;
 
+import static org.geoserver.cloud.gwc.config.core.GeoWebCacheConfigurationProperties.BLOBSTORE_CACHE_ENABLED;
+
+import org.geoserver.cloud.gwc.blobstore.CachingAzureBlobStoreConfigProvider;
+import org.geoserver.cloud.gwc.blobstore.CachingAzureBlobStoreInfo;
+import org.geoserver.cloud.gwc.blobstore.TileCache;
 import org.geowebcache.azure.AzureBlobStoreConfigProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -28,8 +34,17 @@ import org.springframework.context.annotation.Configuration;
 @Configuration(proxyBeanMethods = false)
 public class AzureBlobstoreConfiguration {
 
+    /**
+     * @param tileCacheEnabled whether the {@link TileCache} is enabled, in which case the {@link
+     *     CachingAzureBlobStoreConfigProvider} decodes the blob store configurations as {@link
+     *     CachingAzureBlobStoreInfo}
+     */
     @Bean(name = "AzureBlobStoreConfigProvider")
-    public AzureBlobStoreConfigProvider azureBlobStoreConfigProvider() {
+    public AzureBlobStoreConfigProvider azureBlobStoreConfigProvider(
+            @Value("${" + BLOBSTORE_CACHE_ENABLED + ":false}") boolean tileCacheEnabled) {
+        if (tileCacheEnabled) {
+            return new CachingAzureBlobStoreConfigProvider();
+        }
         return new AzureBlobStoreConfigProvider();
     }
 }
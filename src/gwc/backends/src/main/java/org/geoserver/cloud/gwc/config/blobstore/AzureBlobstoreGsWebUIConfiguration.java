@@ -4,8 +4,12 @@
  */
 package org.geoserver.cloud.gwc.config.blobstore;
 
+import static org.geoserver.cloud.gwc.config.core.GeoWebCacheConfigurationProperties.BLOBSTORE_CACHE_ENABLED;
+
+import org.geoserver.cloud.gwc.blobstore.CachingAzureBlobStoreType;
 import org.geoserver.gwc.web.blob.AzureBlobStoreType;
 import org.geoserver.platform.ModuleStatusImpl;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -13,7 +17,11 @@ import org.springframework.context.annotation.Configuration;
 public class AzureBlobstoreGsWebUIConfiguration {
 
     @Bean(name = "AzureBlobStoreType")
-    public AzureBlobStoreType azureBlobStoreType() {
+    public AzureBlobStoreType azureBlobStoreType(
+            @Value("${" + BLOBSTORE_CACHE_ENABLED + ":false}") boolean tileCacheEnabled) {
+        if (tileCacheEnabled) {
+            return new CachingAzureBlobStoreType();
+        }
         return new AzureBlobStoreType();
     }
 
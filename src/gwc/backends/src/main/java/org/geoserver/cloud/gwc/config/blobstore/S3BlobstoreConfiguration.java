@@ -4,7 +4,13 @@
  */
 package org.geoserver.cloud.gwc.config.blobstore;
 
+import static org.geoserver.cloud.gwc.config.core.GeoWebCacheConfigurationProperties.BLOBSTORE_CACHE_ENABLED;
+
+import org.geoserver.cloud.gwc.blobstore.CachingS3BlobStoreConfigProvider;
+import org.geoserver.cloud.gwc.blobstore.CachingS3BlobStoreInfo;
+import org.geoserver.cloud.gwc.blobstore.TileCache;
 import org.geowebcache.s3.S3BlobStoreConfigProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -34,8 +40,17 @@ import org.springframework.context.annotation.Configuration;
 @Configuration(proxyBeanMethods = false)
 public class S3BlobstoreConfiguration {
 
+    /**
+     * @param tileCacheEnabled whether the {@link TileCache} is enabled, in which case the {@link
+     *     CachingS3BlobStoreConfigProvider} decodes the blob store configurations as {@link
+     *     CachingS3BlobStoreInfo}
+     */
     @Bean(name = "S3BlobStoreConfigProvider")
-    public S3BlobStoreConfigProvider s3BlobStoreConfigProvider() {
+    public S3BlobStoreConfigProvider s3BlobStoreConfigProvider(
+            @Value("${" + BLOBSTORE_CACHE_ENABLED + ":false}") boolean tileCacheEnabled) {
+        if (tileCacheEnabled) {
+            return new CachingS3BlobStoreConfigProvider();
+        }
         return new S3BlobStoreConfigProvider();
     }
 }
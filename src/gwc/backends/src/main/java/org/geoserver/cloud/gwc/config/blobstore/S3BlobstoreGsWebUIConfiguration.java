@@ -4,8 +4,12 @@
  */
 package org.geoserver.cloud.gwc.config.blobstore;
 
+import static org.geoserver.cloud.gwc.config.core.GeoWebCacheConfigurationProperties.BLOBSTORE_CACHE_ENABLED;
+
+import org.geoserver.cloud.gwc.blobstore.CachingS3BlobStoreType;
 import org.geoserver.gwc.web.blob.S3BlobStoreType;
 import org.geoserver.platform.ModuleStatusImpl;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -24,7 +28,11 @@ public class S3BlobstoreGsWebUIConfiguration {
     }
 
     @Bean(name = "S3BlobStoreType")
-    public S3BlobStoreType s3BlobStoreType() {
+    public S3BlobStoreType s3BlobStoreType(
+            @Value("${" + BLOBSTORE_CACHE_ENABLED + ":false}") boolean tileCacheEnabled) {
+        if (tileCacheEnabled) {
+            return new CachingS3BlobStoreType();
+        }
         return new S3BlobStoreType();
     }
 }
@@ -0,0 +1,68 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.config.blobstore;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.geoserver.cloud.gwc.blobstore.CachingBlobStore;
+import org.geoserver.cloud.gwc.blobstore.TileCache;
+import org.geoserver.cloud.gwc.blobstore.TileCacheMetrics;
+import org.geoserver.cloud.gwc.config.core.GeoWebCacheConfigurationProperties;
+import org.geoserver.cloud.gwc.config.core.GeoWebCacheConfigurationProperties.TileCacheConfig;
+import org.geoserver.gwc.layer.TileLayerCatalog;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Contributes the in-memory {@link TileCache} the S3 and Azure blob stores are decorated with by
+ * {@link CachingBlobStore}.
+ *
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@Slf4j(topic = "org.geoserver.cloud.gwc.config.blobstore")
+public class TileCacheConfiguration {
+
+    @Bean(destroyMethod = "close")
+    TileCache gwcTileCache(
+            GeoWebCacheConfigurationProperties config,
+            ApplicationEventPublisher eventPublisher,
+            ObjectProvider<TileLayerCatalog> tileLayerCatalog) {
+
+        TileCacheConfig cacheConfig = config.getBlobstores().getCache();
+        log.info(
+                "GeoWebCache in-memory tile cache enabled. Max size: {}, max tile size: {}, max"
+                    + " zoom level: {}, off-heap: {}, time to live: {}, invalidation delay: {}",
+                cacheConfig.getMaxSize(),
+                cacheConfig.getMaxTileSize(),
+                cacheConfig.getMaxZoomLevel(),
+                cacheConfig.isOffHeap(),
+                cacheConfig.getTimeToLive(),
+                cacheConfig.getInvalidationDelay());
+
+        return new TileCache(
+                cacheConfig.getMaxSize().toBytes(),
+                cacheConfig.getMaxTileSize().toBytes(),
+                cacheConfig.getMaxZoomLevel(),
+                cacheConfig.isOffHeap(),
+                cacheConfig.getTimeToLive(),
+                cacheConfig.getInvalidationDelay(),
+                eventPublisher,
+                tileLayerCatalog::getIfAvailable);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class TileCacheMetricsConfiguration {
+
+        @Bean
+        TileCacheMetrics gwcTileCacheMetrics(TileCache tileCache) {
+            return new TileCacheMetrics(tileCache);
+        }
+    }
+}
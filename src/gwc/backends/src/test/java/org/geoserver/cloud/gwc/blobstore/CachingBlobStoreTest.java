@@ -0,0 +1,320 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.blobstore;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.geoserver.cloud.gwc.event.GeoWebCacheEvent.Type;
+import org.geoserver.cloud.gwc.event.TileLayerEvent;
+import org.geoserver.cloud.gwc.event.TileLayerTruncateEvent;
+import org.geoserver.gwc.layer.GeoServerTileLayerInfo;
+import org.geoserver.gwc.layer.GeoServerTileLayerInfoImpl;
+import org.geoserver.gwc.layer.TileLayerCatalog;
+import org.geowebcache.io.ByteArrayResource;
+import org.geowebcache.storage.BlobStore;
+import org.geowebcache.storage.TileObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * @since 1.0
+ */
+class CachingBlobStoreTest {
+
+    private BlobStore delegate;
+    private List<Object> publishedEvents;
+    private TileCache tileCache;
+    private CachingBlobStore blobStore;
+
+    /** Supplied to the tile cache, {@code null} unless a test sets it */
+    private TileLayerCatalog tileLayerCatalog;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(BlobStore.class);
+        publishedEvents = new ArrayList<>();
+        tileCache = newTileCache(false);
+        blobStore = new CachingBlobStore(delegate, tileCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tileCache.close();
+    }
+
+    private TileCache newTileCache(boolean offHeap) {
+        return newTileCache(offHeap, Duration.ZERO);
+    }
+
+    private TileCache newTileCache(boolean offHeap, Duration timeToLive) {
+        // long invalidation delay, tests flush pending invalidations explicitly
+        return new TileCache(
+                1024 * 1024,
+                1024,
+                8,
+                offHeap,
+                timeToLive,
+                Duration.ofHours(1),
+                publishedEvents::add,
+                () -> tileLayerCatalog);
+    }
+
+    @Test
+    void testGetServesFromCache() throws Exception {
+        final byte[] contents = "tile".getBytes(StandardCharsets.UTF_8);
+        when(delegate.get(any()))
+                .thenAnswer(
+                        invocation -> {
+                            TileObject tile = invocation.getArgument(0);
+                            tile.setBlob(new ByteArrayResource(contents));
+                            return true;
+                        });
+
+        TileObject first = query("layer1", 0, 0, 1);
+        assertTrue(blobStore.get(first));
+        assertArrayEquals(contents, ((ByteArrayResource) first.getBlob()).getContents());
+
+        TileObject second = query("layer1", 0, 0, 1);
+        assertTrue(blobStore.get(second));
+        assertArrayEquals(contents, ((ByteArrayResource) second.getBlob()).getContents());
+
+        verify(delegate, times(1)).get(any());
+        assertEquals(1, tileCache.stats().hitCount());
+        assertEquals(1, tileCache.stats().missCount());
+    }
+
+    @Test
+    void testOffHeap() throws Exception {
+        tileCache.close();
+        tileCache = newTileCache(true);
+        blobStore = new CachingBlobStore(delegate, tileCache);
+
+        final byte[] contents = "tile".getBytes(StandardCharsets.UTF_8);
+        blobStore.put(complete("layer1", 0, 0, 1, contents));
+
+        TileObject tile = query("layer1", 0, 0, 1);
+        assertTrue(blobStore.get(tile));
+        assertArrayEquals(contents, ((ByteArrayResource) tile.getBlob()).getContents());
+        assertEquals(contents.length, tileCache.getSize());
+    }
+
+    @Test
+    void testMaxZoomLevelAndMaxTileSizeNotCached() throws Exception {
+        blobStore.put(complete("layer1", 0, 0, 9, new byte[10]));
+        blobStore.put(complete("layer1", 0, 0, 1, new byte[2048]));
+        assertEquals(0, tileCache.getCount());
+    }
+
+    @Test
+    void testDeleteLayerEvictsAndPublishesTruncateEvent() throws Exception {
+        blobStore.put(complete("layer1", 0, 0, 1, new byte[10]));
+        blobStore.put(complete("layer2", 0, 0, 1, new byte[10]));
+        assertEquals(2, tileCache.getCount());
+
+        blobStore.delete("layer1");
+        verify(delegate).delete("layer1");
+
+        assertFalse(tileCache.get(query("layer1", 0, 0, 1)).isPresent());
+        assertTrue(tileCache.get(query("layer2", 0, 0, 1)).isPresent());
+
+        assertEquals(1, publishedEvents.size());
+        TileLayerTruncateEvent event =
+                assertInstanceOf(TileLayerTruncateEvent.class, publishedEvents.get(0));
+        assertEquals("layer1", event.getLayerName());
+        assertNull(event.getGridSetId());
+    }
+
+    @Test
+    void testRemoteTruncateEventEvictsZoomLevelRange() throws Exception {
+        blobStore.put(complete("layer1", 0, 0, 1, new byte[10]));
+        blobStore.put(complete("layer1", 0, 0, 2, new byte[10]));
+        blobStore.put(complete("layer1", 0, 0, 3, new byte[10]));
+
+        TileLayerTruncateEvent remote = new TileLayerTruncateEvent(new Object(), "layer1");
+        remote.setGridSetId("EPSG:4326");
+        remote.setZoomStart(2);
+        remote.setZoomStop(2);
+        tileCache.onTileLayerTruncateEvent(remote);
+
+        assertTrue(tileCache.get(query("layer1", 0, 0, 1)).isPresent());
+        assertFalse(tileCache.get(query("layer1", 0, 0, 2)).isPresent());
+        assertTrue(tileCache.get(query("layer1", 0, 0, 3)).isPresent());
+        assertTrue(publishedEvents.isEmpty());
+    }
+
+    @Test
+    void testPutAndDeleteTileInvalidationsAccumulatedPerLayer() throws Exception {
+        blobStore.put(complete("layer1", 0, 0, 1, new byte[10]));
+        blobStore.put(complete("layer1", 1, 0, 3, new byte[10]));
+        blobStore.delete(query("layer1", 0, 0, 2));
+        blobStore.put(complete("layer2", 0, 0, 4, new byte[10]));
+        assertTrue(publishedEvents.isEmpty());
+
+        tileCache.flushInvalidations();
+        assertEquals(2, publishedEvents.size());
+        TileLayerTruncateEvent layer1 = truncateEvent("layer1");
+        assertEquals("EPSG:4326", layer1.getGridSetId());
+        assertEquals("image/png", layer1.getFormat());
+        assertEquals(1, layer1.getZoomStart());
+        assertEquals(3, layer1.getZoomStop());
+        assertEquals(Set.of("0,0,1", "1,0,3", "0,0,2"), tiles(layer1));
+        TileLayerTruncateEvent layer2 = truncateEvent("layer2");
+        assertEquals(4, layer2.getZoomStart());
+        assertEquals(4, layer2.getZoomStop());
+        assertEquals(Set.of("0,0,4"), tiles(layer2));
+
+        // the publishing instance keeps its own freshly stored tiles
+        tileCache.onTileLayerTruncateEvent(layer1);
+        assertTrue(tileCache.get(query("layer1", 0, 0, 1)).isPresent());
+
+        publishedEvents.clear();
+        tileCache.flushInvalidations();
+        assertTrue(publishedEvents.isEmpty());
+    }
+
+    @Test
+    void testRemoteTileInvalidationEvictsOnlyListedTiles() throws Exception {
+        blobStore.put(complete("layer1", 0, 0, 2, new byte[10]));
+        blobStore.put(complete("layer1", 1, 0, 2, new byte[10]));
+        blobStore.put(complete("layer1", 2, 0, 2, new byte[10]));
+
+        TileLayerTruncateEvent remote = new TileLayerTruncateEvent(new Object(), "layer1");
+        remote.setGridSetId("EPSG:4326");
+        remote.setFormat("image/png");
+        remote.setZoomStart(2);
+        remote.setZoomStop(2);
+        remote.setTiles(List.of(new long[] {1, 0, 2}));
+        tileCache.onTileLayerTruncateEvent(remote);
+
+        assertTrue(tileCache.get(query("layer1", 0, 0, 2)).isPresent());
+        assertFalse(tileCache.get(query("layer1", 1, 0, 2)).isPresent());
+        assertTrue(tileCache.get(query("layer1", 2, 0, 2)).isPresent());
+    }
+
+    @Test
+    void testTileInvalidationsSplitInBoundedEvents() throws Exception {
+        final int count = TileCache.MAX_TILES_PER_EVENT + 1;
+        for (int x = 0; x < count; x++) {
+            blobStore.put(complete("layer1", x, 0, 1, new byte[10]));
+        }
+        tileCache.flushInvalidations();
+
+        assertEquals(2, publishedEvents.size());
+        int total = 0;
+        for (Object event : publishedEvents) {
+            List<long[]> tiles = ((TileLayerTruncateEvent) event).getTiles();
+            assertTrue(tiles.size() <= TileCache.MAX_TILES_PER_EVENT);
+            total += tiles.size();
+        }
+        assertEquals(count, total);
+    }
+
+    @Test
+    void testDeletedAndRenamedLayersEvicted() throws Exception {
+        tileLayerCatalog = mock(TileLayerCatalog.class);
+        when(tileLayerCatalog.getLayerId("layer1")).thenReturn("id1");
+        when(tileLayerCatalog.getLayerId("layer2")).thenReturn("id2");
+        when(tileLayerCatalog.getLayerId("layer3")).thenReturn("id3");
+        blobStore.put(complete("layer1", 0, 0, 1, new byte[10]));
+        blobStore.put(complete("layer2", 0, 0, 1, new byte[10]));
+        blobStore.put(complete("layer3", 0, 0, 1, new byte[10]));
+
+        // layer1 deleted
+        when(tileLayerCatalog.getLayerId("layer1")).thenReturn(null);
+        tileCache.onTileLayerEvent(new TileLayerEvent(this, Type.DELETED, "id1"));
+        assertFalse(tileCache.get(query("layer1", 0, 0, 1)).isPresent());
+        assertTrue(tileCache.get(query("layer2", 0, 0, 1)).isPresent());
+        assertTrue(tileCache.get(query("layer3", 0, 0, 1)).isPresent());
+
+        // layer2 renamed to renamed2
+        GeoServerTileLayerInfo renamed = new GeoServerTileLayerInfoImpl();
+        renamed.setId("id2");
+        renamed.setName("renamed2");
+        when(tileLayerCatalog.getLayerId("layer2")).thenReturn(null);
+        when(tileLayerCatalog.getLayerById("id2")).thenReturn(renamed);
+        tileCache.onTileLayerEvent(new TileLayerEvent(this, Type.MODIFIED, "id2"));
+        assertFalse(tileCache.get(query("layer2", 0, 0, 1)).isPresent());
+        assertTrue(tileCache.get(query("layer3", 0, 0, 1)).isPresent());
+    }
+
+    @Test
+    void testTileInvalidationsPublishedImmediatelyWithoutDelay() throws Exception {
+        tileCache.close();
+        tileCache =
+                new TileCache(
+                        1024 * 1024,
+                        1024,
+                        8,
+                        false,
+                        Duration.ZERO,
+                        Duration.ZERO,
+                        publishedEvents::add,
+                        () -> null);
+        blobStore = new CachingBlobStore(delegate, tileCache);
+
+        blobStore.put(complete("layer1", 0, 0, 1, new byte[10]));
+        assertEquals(1, publishedEvents.size());
+        assertEquals(1, truncateEvent("layer1").getZoomStart());
+    }
+
+    @Test
+    void testTimeToLive() throws Exception {
+        tileCache.close();
+        tileCache = newTileCache(false, Duration.ofMillis(50));
+        blobStore = new CachingBlobStore(delegate, tileCache);
+
+        blobStore.put(complete("layer1", 0, 0, 1, new byte[10]));
+        assertTrue(tileCache.get(query("layer1", 0, 0, 1)).isPresent());
+        Thread.sleep(100);
+        assertFalse(tileCache.get(query("layer1", 0, 0, 1)).isPresent());
+    }
+
+    private Set<String> tiles(TileLayerTruncateEvent event) {
+        return event.getTiles().stream()
+                .map(xyz -> xyz[0] + "," + xyz[1] + "," + xyz[2])
+                .collect(Collectors.toSet());
+    }
+
+    private TileLayerTruncateEvent truncateEvent(String layerName) {
+        return publishedEvents.stream()
+                .map(TileLayerTruncateEvent.class::cast)
+                .filter(e -> layerName.equals(e.getLayerName()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private TileObject query(String layer, long x, long y, long z) {
+        return TileObject.createQueryTileObject(
+                layer, new long[] {x, y, z}, "EPSG:4326", "image/png", null);
+    }
+
+    private TileObject complete(String layer, long x, long y, long z, byte[] contents) {
+        return TileObject.createCompleteTileObject(
+                layer,
+                new long[] {x, y, z},
+                "EPSG:4326",
+                "image/png",
+                null,
+                new ByteArrayResource(contents));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.repository;
+
+import org.geoserver.gwc.layer.GeoServerTileLayerInfo;
+import org.geoserver.gwc.layer.GeoServerTileLayerInfoImpl;
+import org.geoserver.gwc.layer.StyleParameterFilter;
+import org.geoserver.platform.GeoServerResourceLoader;
+import org.geoserver.platform.resource.Files;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ResourceStoreTileLayerCatalog#getLayerById} (i.e. tile layer depersist) throughput. Run it
+ * with an increasing number of threads (e.g. {@code -t 1}, {@code -t 8}, {@code -t 32}) to measure
+ * how it scales.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ResourceStoreTileLayerCatalogBenchmark {
+
+    private static final int LAYERS = 500;
+
+    private File baseDirectory;
+    private ResourceStoreTileLayerCatalog catalog;
+
+    @State(Scope.Thread)
+    public static class Reader {
+        private int next;
+
+        String nextId() {
+            next = (next + 1) % LAYERS;
+            return "layer-" + next;
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        baseDirectory = java.nio.file.Files.createTempDirectory("gwc-benchmark").toFile();
+        new File(baseDirectory, "gwc-layers").mkdir();
+        catalog = new ResourceStoreTileLayerCatalog(new GeoServerResourceLoader(baseDirectory));
+        catalog.initialize();
+        List<GeoServerTileLayerInfo> layers = new ArrayList<>();
+        for (int i = 0; i < LAYERS; i++) {
+            GeoServerTileLayerInfoImpl info = new GeoServerTileLayerInfoImpl();
+            info.setId("layer-" + i);
+            info.setName("workspace:layer-" + i);
+            info.getMimeFormats().addAll(Set.of("image/png", "image/jpeg"));
+            StyleParameterFilter styles = new StyleParameterFilter();
+            styles.setStyles(Set.of("style1", "style2"));
+            info.addParameterFilter(styles);
+            layers.add(info);
+        }
+        catalog.saveAll(layers);
+    }
+
+    @TearDown
+    public void tearDown() {
+        catalog.reset();
+        Files.delete(baseDirectory);
+    }
+
+    @Benchmark
+    public GeoServerTileLayerInfo getLayerById(Reader reader) {
+        return catalog.getLayerById(reader.nextId());
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.config.core;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.geoserver.cloud.gwc.config.core.GeoWebCacheConfigurationProperties.DistributedSeedingConfig;
+import org.geoserver.cloud.gwc.seeding.DistributedSeedCoordinator;
+import org.geoserver.cloud.gwc.seeding.DistributedSeedWorker;
+import org.geoserver.cloud.gwc.seeding.DistributedSeedingAspect;
+import org.geoserver.cloud.gwc.seeding.DistributedSeedingMetrics;
+import org.geoserver.cloud.gwc.seeding.TileRangePartitioner;
+import org.geowebcache.seed.TileBreeder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contributes the components to split seed, reseed, and truncate jobs in partitions executed by all
+ * the GeoWebCache instances in the cluster, coordinated through {@link
+ * org.geoserver.cloud.gwc.event.GeoWebCacheEvent}s that the event bus, if enabled, propagates to
+ * the other instances.
+ *
+ * @see DistributedSeedCoordinator
+ * @see DistributedSeedWorker
+ * @see DistributedSeedingAspect
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@Slf4j(topic = "org.geoserver.cloud.gwc.config.core")
+public class DistributedSeedingConfiguration {
+
+    /**
+     * @param appName used as prefix of the randomly generated identifier of this instance among the
+     *     ones taking part in distributed seeding
+     */
+    @Bean
+    DistributedSeedWorker distributedSeedWorker(
+            @Value("${spring.application.name:gwc}") String appName,
+            TileBreeder breeder,
+            ApplicationEventPublisher eventPublisher) {
+        String nodeId = String.format("%s:%s", appName, UUID.randomUUID());
+        return new DistributedSeedWorker(nodeId, breeder, eventPublisher);
+    }
+
+    @Bean
+    DistributedSeedCoordinator distributedSeedCoordinator(
+            GeoWebCacheConfigurationProperties config,
+            ApplicationEventPublisher eventPublisher,
+            DistributedSeedWorker worker) {
+
+        DistributedSeedingConfig seeding = config.getDistributedSeeding();
+        TileRangePartitioner partitioner = new TileRangePartitioner(seeding.getPartitionSize());
+        return new DistributedSeedCoordinator(
+                worker.getNodeId(), eventPublisher, partitioner, seeding.getNodeTimeout());
+    }
+
+    @Bean
+    DistributedSeedingAspect distributedSeedingAspect(DistributedSeedCoordinator coordinator) {
+        return new DistributedSeedingAspect(coordinator);
+    }
+
+    /**
+     * Periodically reports this instance's heartbeat and partitions progress, and re-assigns the
+     * partitions of lost instances
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    ScheduledExecutorService distributedSeedingScheduler(
+            GeoWebCacheConfigurationProperties config,
+            DistributedSeedWorker worker,
+            DistributedSeedCoordinator coordinator) {
+
+        final Duration interval = config.getDistributedSeeding().getHeartbeatInterval();
+        log.info(
+                "GeoWebCache distributed seeding enabled for instance {}, heartbeat interval: {}",
+                worker.getNodeId(),
+                interval);
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("gwc-seeding-");
+        threadFactory.setDaemon(true);
+        ScheduledExecutorService scheduler =
+                Executors.newSingleThreadScheduledExecutor(threadFactory);
+        final long period = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(
+                () -> run(worker::report), 0, period, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(
+                () -> run(coordinator::rebalance), period, period, TimeUnit.MILLISECONDS);
+        return scheduler;
+    }
+
+    /** Runs the task preventing an exception from cancelling its periodic execution */
+    private static void run(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.warn("Error running distributed seeding task", e);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class DistributedSeedingMetricsConfiguration {
+
+        @Bean
+        DistributedSeedingMetrics distributedSeedingMetrics(
+                DistributedSeedWorker worker, DistributedSeedCoordinator coordinator) {
+            return new DistributedSeedingMetrics(worker, coordinator);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.config.core;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.geoserver.cloud.gwc.locking.DistributedTileLockMetrics;
+import org.geoserver.cloud.gwc.locking.DistributedTileLockProvider;
+import org.geoserver.platform.resource.ResourceStore;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Contributes a cluster-wide GeoWebCache {@link org.geowebcache.locks.LockProvider} named {@literal
+ * distributedLockProvider}, backed by the {@link ResourceStore}'s lock provider.
+ *
+ * <p>GeoServer's GWC integration looks up the lock provider by the bean name configured as {@code
+ * lockProviderName} in {@literal gwc-gs.xml} (editable through the "Caching Defaults" page of the
+ * Web UI), so it must be set to {@literal distributedLockProvider} for it to take effect.
+ *
+ * @see DistributedTileLockProvider
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@Slf4j(topic = "org.geoserver.cloud.gwc.config.core")
+public class DistributedTileLockingConfiguration {
+
+    @Bean(name = "distributedLockProvider")
+    DistributedTileLockProvider distributedLockProvider(
+            @Qualifier("resourceStoreImpl") ResourceStore resourceStore) {
+        log.info("GeoWebCache distributed meta-tile locking enabled");
+        return DistributedTileLockProvider.of(resourceStore);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class DistributedTileLockMetricsConfiguration {
+
+        @Bean
+        DistributedTileLockMetrics distributedTileLockMetrics(
+                @Qualifier("distributedLockProvider") DistributedTileLockProvider lockProvider) {
+            return new DistributedTileLockMetrics(lockProvider);
+        }
+    }
+}
@@ -11,6 +11,7 @@ import org.geoserver.cloud.config.factory.FilteringXmlBeanDefinitionReader;
 import org.geoserver.cloud.gwc.repository.CachingTileLayerCatalog;
 import org.geoserver.cloud.gwc.repository.CloudCatalogConfiguration;
 import org.geoserver.cloud.gwc.repository.ResourceStoreTileLayerCatalog;
+import org.geoserver.cloud.gwc.repository.TileLayerRenameBatcher;
 import org.geoserver.gwc.layer.CatalogConfiguration;
 import org.geoserver.gwc.layer.TileLayerCatalog;
 import org.geoserver.platform.resource.ResourceStore;
@@ -61,11 +62,21 @@ public class GeoServerIntegrationConfiguration {
 
     @Primary
     @Bean(name = "GeoSeverTileLayerCatalog")
-    public TileLayerCatalog cachingTileLayerCatalog(ResourceStoreTileLayerCatalog delegate) {
+    public CachingTileLayerCatalog cachingTileLayerCatalog(ResourceStoreTileLayerCatalog delegate) {
         CacheManager cacheManager = new CaffeineCacheManager();
         return new CachingTileLayerCatalog(cacheManager, delegate);
     }
 
+    /** Saves the tile layers renamed after a workspace or namespace rename as a single batch */
+    @Bean
+    TileLayerRenameBatcher gwcTileLayerRenameBatcher(
+            @Qualifier("rawCatalog") Catalog catalog,
+            @Qualifier("GeoSeverTileLayerCatalog") CachingTileLayerCatalog tileLayerCatalog) {
+        TileLayerRenameBatcher batcher = new TileLayerRenameBatcher(catalog, tileLayerCatalog);
+        batcher.register();
+        return batcher;
+    }
+
     public @Bean ResourceStoreTileLayerCatalog resourceStoreTileLayerCatalog(
             @Qualifier("resourceStoreImpl") ResourceStore resourceStore) {
         return new ResourceStoreTileLayerCatalog(resourceStore);
@@ -8,8 +8,10 @@ import lombok.Data;
 
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 import java.nio.file.Path;
+import java.time.Duration;
 
 /**
  * Configuration properties for GeoWebcache
@@ -22,6 +24,12 @@ import java.nio.file.Path;
  *   cache-directory:
  *   web-ui: false
  *   rest-config: false
+ *   distributed-locking: false
+ *   distributed-seeding:
+ *     enabled: false
+ *     partition-size: 100000
+ *     heartbeat-interval: 5s
+ *     node-timeout: 30s
  *   services:
  *     wms: false
  *     tms: false
@@ -29,6 +37,15 @@ import java.nio.file.Path;
  *     kml: false
  *     gmaps: false
  *     mgmaps: false
+ *   blobstores:
+ *     s3: false
+ *     azure: false
+ *     cache:
+ *       enabled: false
+ *       max-size: 128MB
+ *       max-tile-size: 1MB
+ *       max-zoom-level: -1
+ *       off-heap: false
  *   disk-quota:
  *     enabled: false
  *     data-source:
@@ -65,6 +82,9 @@ public @Data class GeoWebCacheConfigurationProperties {
     public static final String DISKQUOTA_DATASOURCE = "gwc.disk-quota.data-source";
     public static final String BLOBSTORE_S3_ENABLED = "gwc.blobstores.s3";
     public static final String BLOBSTORE_AZURE_ENABLED = "gwc.blobstores.azure";
+    public static final String BLOBSTORE_CACHE_ENABLED = "gwc.blobstores.cache.enabled";
+    public static final String DISTRIBUTED_LOCKING_ENABLED = "gwc.distributed-locking";
+    public static final String DISTRIBUTED_SEEDING_ENABLED = "gwc.distributed-seeding.enabled";
 
     /**
      * Enables the core GeoWebCache functionality and integration with GeoServer tile layers. All
@@ -100,6 +120,15 @@ public @Data class GeoWebCacheConfigurationProperties {
     /** Enables or disables the GWC REST API to configure layers, blob stores, etc. */
     private boolean restConfig = false;
 
+    /**
+     * Enables or disables the cluster-wide meta-tile lock provider, registered as the {@literal
+     * distributedLockProvider} bean. When enabled and selected as GWC's lock provider, only one
+     * instance renders a given meta-tile at a time, while the others wait for it.
+     */
+    private boolean distributedLocking = false;
+
+    private DistributedSeedingConfig distributedSeeding = new DistributedSeedingConfig();
+
     private ServicesConfig services = new ServicesConfig();
 
     private DiskQuotaConfig diskQuota = new DiskQuotaConfig();
@@ -169,6 +198,75 @@ public @Data class GeoWebCacheConfigurationProperties {
          * loaded to the runtime context.
          */
         private boolean azure = false;
+
+        /** In-memory cache of frequently requested tiles in front of the S3 and Azure stores */
+        private TileCacheConfig cache = new TileCacheConfig();
+    }
+
+    public static @Data class TileCacheConfig {
+        /**
+         * Enables or disables the in-memory tile cache in front of the S3 and Azure BLOB stores.
+         * This is not a dynamic runtime setting, but an application container level one.
+         */
+        private boolean enabled = false;
+
+        /** Maximum accumulated size of the cached tiles, evicting least used ones once exceeded */
+        private DataSize maxSize = DataSize.ofMegabytes(128);
+
+        /** Maximum size of a single tile to be cached, larger tiles are never cached */
+        private DataSize maxTileSize = DataSize.ofMegabytes(1);
+
+        /**
+         * Maximum zoom level of the tiles to be cached, given that the lowest zoom levels are the
+         * most requested ones. Defaults to {@code -1}, meaning all zoom levels are cached.
+         */
+        private int maxZoomLevel = -1;
+
+        /**
+         * Whether to hold tile contents in direct (off-heap) byte buffers instead of heap byte
+         * arrays. If enabled, make sure the JVM's {@literal -XX:MaxDirectMemorySize} accounts for
+         * {@code max-size}.
+         */
+        private boolean offHeap = false;
+
+        /**
+         * Maximum time a tile is served from the cache after it was cached, bounding for how long
+         * an instance may serve a stale tile if an invalidation from another instance is missed.
+         * Zero or negative for no expiration.
+         */
+        private Duration timeToLive = Duration.ofMinutes(10);
+
+        /**
+         * Time during which tiles stored or deleted one at a time, as while seeding, are
+         * accumulated per layer before notifying the other instances to evict them, so that a
+         * reseed results in a few events per layer and interval instead of one per tile. Zero to
+         * notify each tile as it's stored or deleted.
+         */
+        private Duration invalidationDelay = Duration.ofSeconds(1);
+    }
+
+    public static @Data class DistributedSeedingConfig {
+        /**
+         * Enables or disables splitting seed, reseed, and truncate jobs in partitions executed by
+         * all the GeoWebCache instances in the cluster, instead of only the one receiving the
+         * request. This is not a dynamic runtime setting, but an application container level one.
+         *
+         * <p>Job state is kept in memory by the instance receiving the request, so jobs whose
+         * coordinating instance is lost are not resumed by the others and have to be re-submitted.
+         */
+        private boolean enabled = false;
+
+        /** Maximum number of tiles in each of the partitions a job is split into */
+        private long partitionSize = 100_000;
+
+        /** How often each instance reports its availability and the progress of its partitions */
+        private Duration heartbeatInterval = Duration.ofSeconds(5);
+
+        /**
+         * Time without heartbeats after which an instance is considered lost, and its unfinished
+         * partitions re-assigned to the remaining instances
+         */
+        private Duration nodeTimeout = Duration.ofSeconds(30);
     }
 
     private static @Data class DiskQuotaConfig {
@@ -0,0 +1,31 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.event;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Heartbeat issued periodically by each GeoWebCache instance taking part in distributed seeding,
+ * letting the seed job coordinators know which instances are available and how busy they are.
+ *
+ * @since 1.0
+ */
+public class SeedNodeEvent extends GeoWebCacheEvent {
+
+    private static final long serialVersionUID = 1L;
+
+    private @Getter @Setter String nodeId;
+    private @Getter @Setter int activePartitions;
+    private @Getter @Setter double tilesPerSecond;
+
+    public SeedNodeEvent(Object source) {
+        super(source, Type.MODIFIED);
+    }
+
+    protected @Override String getObjectId() {
+        return nodeId;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.event;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Reports the progress of a distributed seed job partition, issued periodically by the instance
+ * executing it, and once it finishes.
+ *
+ * @see SeedTaskEvent
+ * @since 1.0
+ */
+public class SeedProgressEvent extends GeoWebCacheEvent {
+
+    private static final long serialVersionUID = 1L;
+
+    public static enum Status {
+        RUNNING,
+        DONE,
+        FAILED
+    }
+
+    private @Getter @Setter String jobId;
+    private @Getter @Setter int partition;
+    private @Getter @Setter String nodeId;
+    private @Getter @Setter Status status;
+    private @Getter @Setter long tilesDone;
+    private @Getter @Setter long tilesTotal;
+
+    public SeedProgressEvent(Object source) {
+        super(source, Type.MODIFIED);
+    }
+
+    protected @Override String getObjectId() {
+        return String.format("%s#%d@%s", jobId, partition, nodeId);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.event;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+
+import java.util.Map;
+
+/**
+ * Dispatches a partition of a distributed seed or truncate job to the GeoWebCache instance
+ * identified by {@link #getNodeId() nodeId}. {@link Type#CREATED} requests the partition to be
+ * executed, and {@link Type#DELETED} to be cancelled.
+ *
+ * <p>The tile range is given by the layer name, gridset, format, parameters, and the per zoom level
+ * {@link #getRangeBounds() range bounds} as {@code [minx, miny, maxx, maxy, z]}, indexed by zoom
+ * level.
+ *
+ * @since 1.0
+ */
+public class SeedTaskEvent extends GeoWebCacheEvent {
+
+    private static final long serialVersionUID = 1L;
+
+    private @Getter @Setter String jobId;
+    private @Getter @Setter int partition;
+    private @Getter @Setter String nodeId;
+    /** One of {@link org.geowebcache.seed.GWCTask.TYPE}'s names */
+    private @Getter @Setter String taskType;
+
+    private @Getter @Setter String layerName;
+    private @Getter @Setter String gridSetId;
+    private @Getter @Setter String format;
+    private @Getter @Setter Map<String, String> parameters;
+    private @Getter @Setter int zoomStart;
+    private @Getter @Setter int zoomStop;
+    private @Getter @Setter long[][] rangeBounds;
+    private @Getter @Setter int threadCount;
+
+    public SeedTaskEvent(Object source) {
+        super(source);
+    }
+
+    public SeedTaskEvent(Object source, @NonNull Type eventType) {
+        super(source, eventType);
+    }
+
+    protected @Override String getObjectId() {
+        return String.format("%s#%d@%s", jobId, partition, nodeId);
+    }
+}
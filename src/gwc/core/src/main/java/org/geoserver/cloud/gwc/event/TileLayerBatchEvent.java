@@ -0,0 +1,53 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.event;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+
+import java.util.Set;
+
+/**
+ * Aggregate of the {@link TileLayerEvent}s resulting from saving several tile layers at once,
+ * issued instead of one event per layer.
+ *
+ * @see TileLayerBatchListener
+ * @since 1.0
+ */
+public class TileLayerBatchEvent extends GeoWebCacheEvent {
+
+    private static final long serialVersionUID = 1L;
+
+    private @Getter @Setter Set<String> createdLayerIds;
+    private @Getter @Setter Set<String> modifiedLayerIds;
+
+    public TileLayerBatchEvent(Object source) {
+        super(source);
+    }
+
+    public TileLayerBatchEvent(
+            Object source,
+            @NonNull Set<String> createdLayerIds,
+            @NonNull Set<String> modifiedLayerIds) {
+        super(source, Type.MODIFIED);
+        this.createdLayerIds = createdLayerIds;
+        this.modifiedLayerIds = modifiedLayerIds;
+    }
+
+    public @Override String toString() {
+        return String.format(
+                "%s[created: %d, modified: %d]",
+                getClass().getSimpleName(), size(createdLayerIds), size(modifiedLayerIds));
+    }
+
+    protected @Override String getObjectId() {
+        return String.valueOf(size(createdLayerIds) + size(modifiedLayerIds));
+    }
+
+    private static int size(Set<String> ids) {
+        return ids == null ? 0 : ids.size();
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.event;
+
+import org.geoserver.gwc.layer.TileLayerCatalog;
+import org.geoserver.gwc.layer.TileLayerCatalogListener;
+
+import java.util.Set;
+
+/**
+ * {@link TileLayerCatalogListener} that can be notified once of a batch of tile layer changes,
+ * instead of once per layer, by a {@link TileLayerCatalog} supporting batch saves.
+ *
+ * @see TileLayerBatchEvent
+ * @since 1.0
+ */
+public interface TileLayerBatchListener extends TileLayerCatalogListener {
+
+    void onBatchEvent(Set<String> createdLayerIds, Set<String> modifiedLayerIds);
+}
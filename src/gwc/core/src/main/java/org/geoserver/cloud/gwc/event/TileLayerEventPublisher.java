@@ -19,6 +19,8 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.Set;
+
 import javax.annotation.PostConstruct;
 
 /**
@@ -29,6 +31,7 @@ import javax.annotation.PostConstruct;
  * {@link TileLayerCatalogListener}s.
  *
  * @see TileLayerEvent
+ * @see TileLayerBatchEvent
  */
 public class TileLayerEventPublisher {
 
@@ -45,7 +48,7 @@ public class TileLayerEventPublisher {
         tileLayerCatalog.addListener(tileLayerListener);
     }
 
-    public void publish(TileLayerEvent event) {
+    public void publish(GeoWebCacheEvent event) {
         localContextPublisher.publishEvent(event);
     }
 
@@ -64,12 +67,18 @@ public class TileLayerEventPublisher {
 
     @RequiredArgsConstructor
     @VisibleForTesting
-    static class LocalTileEventPublisher implements TileLayerCatalogListener {
+    static class LocalTileEventPublisher implements TileLayerBatchListener {
         private final TileLayerEventPublisher publisher;
 
         public @Override void onEvent(String layerId, TileLayerCatalogListener.Type type) {
             TileLayerEvent event = publisher.toEvent(layerId, type);
             publisher.publish(event);
         }
+
+        public @Override void onBatchEvent(
+                Set<String> createdLayerIds, Set<String> modifiedLayerIds) {
+            publisher.publish(
+                    new TileLayerBatchEvent(publisher, createdLayerIds, modifiedLayerIds));
+        }
     }
 }
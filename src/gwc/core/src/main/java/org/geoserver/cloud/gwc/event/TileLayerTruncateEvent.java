@@ -0,0 +1,50 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.event;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Notifies that the cached tiles of a tile layer have been deleted, either for the whole layer or
+ * for a subset of it given by gridset, format, parameters id, and zoom level range. {@code null}
+ * properties match all values.
+ *
+ * <p>If {@link #getTiles() tiles} is set, only those tiles of the gridset, format, and parameters
+ * id are affected, as when single tiles are stored or deleted, and the zoom level range is just the
+ * one they span.
+ *
+ * @since 1.0
+ */
+public class TileLayerTruncateEvent extends GeoWebCacheEvent {
+
+    private static final long serialVersionUID = 1L;
+
+    private @Getter @Setter String layerName;
+    private @Getter @Setter String gridSetId;
+    private @Getter @Setter String format;
+    private @Getter @Setter String parametersId;
+    private @Getter @Setter Integer zoomStart;
+    private @Getter @Setter Integer zoomStop;
+
+    /** The {@code x, y, z} indices of the affected tiles, or {@code null} for the whole range */
+    private @Getter @Setter List<long[]> tiles;
+
+    public TileLayerTruncateEvent(Object source) {
+        super(source);
+    }
+
+    public TileLayerTruncateEvent(Object source, @NonNull String layerName) {
+        super(source, Type.DELETED);
+        this.layerName = layerName;
+    }
+
+    protected @Override String getObjectId() {
+        return layerName;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.locking;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exports {@link DistributedTileLockProvider} metrics to micrometer's {@link MeterRegistry}:
+ *
+ * <ul>
+ *   <li>{@literal gwc.locks.acquired}: number of meta-tile locks acquired
+ *   <li>{@literal gwc.locks.coalesced}: number of lock requests that waited on an in-flight request
+ *       for the same meta-tile instead of rendering it again
+ *   <li>{@literal gwc.locks.failed}: number of lock requests that failed to acquire the distributed
+ *       lock
+ *   <li>{@literal gwc.locks.wait}: accumulated time waiting to acquire locks
+ *   <li>{@literal gwc.locks.active}: number of meta-tile keys currently locked or waited for
+ * </ul>
+ *
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+public class DistributedTileLockMetrics implements MeterBinder {
+
+    private final @NonNull DistributedTileLockProvider lockProvider;
+
+    public @Override void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder(
+                        "gwc.locks.acquired",
+                        lockProvider,
+                        DistributedTileLockProvider::getAcquiredCount)
+                .description("Number of GeoWebCache distributed meta-tile locks acquired")
+                .baseUnit(BaseUnits.OPERATIONS)
+                .register(registry);
+
+        FunctionCounter.builder(
+                        "gwc.locks.coalesced",
+                        lockProvider,
+                        DistributedTileLockProvider::getCoalescedCount)
+                .description(
+                        "Number of meta-tile lock requests that waited on an in-flight request for"
+                            + " the same meta-tile")
+                .baseUnit(BaseUnits.OPERATIONS)
+                .register(registry);
+
+        FunctionCounter.builder(
+                        "gwc.locks.failed",
+                        lockProvider,
+                        DistributedTileLockProvider::getFailedCount)
+                .description("Number of meta-tile lock requests that failed")
+                .baseUnit(BaseUnits.OPERATIONS)
+                .register(registry);
+
+        FunctionCounter.builder(
+                        "gwc.locks.wait",
+                        lockProvider,
+                        p -> TimeUnit.NANOSECONDS.toMillis(p.getWaitTimeNanos()))
+                .description("Accumulated time waiting to acquire meta-tile locks")
+                .baseUnit(BaseUnits.MILLISECONDS)
+                .register(registry);
+
+        Gauge.builder("gwc.locks.active", lockProvider, DistributedTileLockProvider::getActiveCount)
+                .description("Number of meta-tile keys currently locked or waited for")
+                .register(registry);
+    }
+}
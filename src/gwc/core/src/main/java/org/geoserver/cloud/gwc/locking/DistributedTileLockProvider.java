@@ -0,0 +1,177 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.locking;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import org.geoserver.platform.resource.LockProvider;
+import org.geoserver.platform.resource.Resource;
+import org.geoserver.platform.resource.ResourceStore;
+import org.geowebcache.GeoWebCacheException;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * GeoWebCache {@link org.geowebcache.locks.LockProvider} that acquires cluster-wide locks through
+ * GeoServer's {@link LockProvider}, the same abstraction the catalog backends use to lock the
+ * configuration (e.g. a file lock on the shared data directory, or a database lock for {@literal
+ * jdbcconfig}).
+ *
+ * <p>GWC acquires a lock per meta-tile before rendering it, and checks the cache again once the
+ * lock is obtained. With a JVM-local lock provider, several replicas asked for the same area at the
+ * same time each render and store the same meta-tiles. With this lock provider, only one replica
+ * renders a given meta-tile while the others wait, and then serve the tiles it stored.
+ *
+ * <p>Concurrent requests for the same key within this JVM are coalesced: only one thread contends
+ * for the distributed lock, the others queue on a local lock, avoiding a round-trip to the
+ * distributed lock provider per waiting thread.
+ *
+ * @since 1.0
+ */
+@Slf4j(topic = "org.geoserver.cloud.gwc.locking")
+public class DistributedTileLockProvider implements org.geowebcache.locks.LockProvider {
+
+    static final String LOCK_KEY_PREFIX = "gwc_locks/";
+
+    private final LockProvider distributedLocks;
+
+    private final ConcurrentMap<String, LocalLock> localLocks = new ConcurrentHashMap<>();
+
+    private final AtomicLong acquired = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong waitNanos = new AtomicLong();
+
+    public DistributedTileLockProvider(@NonNull LockProvider distributedLocks) {
+        this.distributedLocks = distributedLocks;
+    }
+
+    /**
+     * Creates a lock provider that acquires distributed locks through {@link Resource#lock()}, and
+     * hence through whatever {@link LockProvider} the {@link ResourceStore} is configured with.
+     */
+    public static DistributedTileLockProvider of(@NonNull ResourceStore resourceStore) {
+        return new DistributedTileLockProvider(path -> resourceStore.get(path).lock());
+    }
+
+    @Override
+    public org.geowebcache.locks.LockProvider.Lock getLock(@NonNull String lockKey)
+            throws GeoWebCacheException {
+
+        final long start = System.nanoTime();
+        final LocalLock local = localLocks.compute(lockKey, LocalLock::retain);
+        if (local.lock.isLocked()) {
+            // another thread in this JVM is already holding or waiting for this key
+            coalesced.incrementAndGet();
+            log.trace("Coalescing lock request for {} with in-flight one", lockKey);
+        }
+        local.lock.lock();
+        final Resource.Lock distributed;
+        try {
+            log.trace("Acquiring distributed lock {}", lockKey);
+            distributed = distributedLocks.acquire(LOCK_KEY_PREFIX + lockKey);
+        } catch (RuntimeException e) {
+            failed.incrementAndGet();
+            release(lockKey, local);
+            throw new GeoWebCacheException(
+                    "Unable to acquire distributed lock " + lockKey + ": " + e.getMessage());
+        }
+        acquired.incrementAndGet();
+        waitNanos.addAndGet(System.nanoTime() - start);
+        log.trace("Acquired distributed lock {}", lockKey);
+        return new DistributedLock(lockKey, local, distributed);
+    }
+
+    /**
+     * @return number of locks acquired since startup
+     */
+    public long getAcquiredCount() {
+        return acquired.get();
+    }
+
+    /**
+     * @return number of lock requests that found another request for the same key in progress on
+     *     this instance, and hence waited for it instead of rendering the same meta-tile again
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    /**
+     * @return number of lock requests that failed to acquire the distributed lock
+     */
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    /**
+     * @return accumulated time spent waiting to acquire locks, in nanoseconds
+     */
+    public long getWaitTimeNanos() {
+        return waitNanos.get();
+    }
+
+    /**
+     * @return number of keys currently locked or waited for on this instance
+     */
+    public int getActiveCount() {
+        return localLocks.size();
+    }
+
+    private void release(String lockKey, LocalLock local) {
+        local.lock.unlock();
+        localLocks.computeIfPresent(lockKey, LocalLock::release);
+    }
+
+    /** Per-key JVM local lock, reference counted to be removed once not in use */
+    private static class LocalLock {
+        final ReentrantLock lock = new ReentrantLock();
+        int references;
+
+        static LocalLock retain(String key, LocalLock current) {
+            LocalLock local = current == null ? new LocalLock() : current;
+            local.references++;
+            return local;
+        }
+
+        static LocalLock release(String key, LocalLock current) {
+            return --current.references == 0 ? null : current;
+        }
+    }
+
+    private class DistributedLock implements org.geowebcache.locks.LockProvider.Lock {
+
+        private final String lockKey;
+        private final LocalLock local;
+        private Resource.Lock distributed;
+
+        DistributedLock(String lockKey, LocalLock local, Resource.Lock distributed) {
+            this.lockKey = lockKey;
+            this.local = local;
+            this.distributed = distributed;
+        }
+
+        @Override
+        public void release() throws GeoWebCacheException {
+            if (distributed == null) {
+                return;
+            }
+            try {
+                log.trace("Releasing distributed lock {}", lockKey);
+                distributed.release();
+            } catch (RuntimeException e) {
+                throw new GeoWebCacheException(
+                        "Error releasing distributed lock " + lockKey + ": " + e.getMessage());
+            } finally {
+                distributed = null;
+                DistributedTileLockProvider.this.release(lockKey, local);
+            }
+        }
+    }
+}
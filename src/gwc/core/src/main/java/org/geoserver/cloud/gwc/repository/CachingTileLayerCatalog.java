@@ -7,6 +7,7 @@ package org.geoserver.cloud.gwc.repository;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
+import org.geoserver.cloud.gwc.event.TileLayerBatchEvent;
 import org.geoserver.cloud.gwc.event.TileLayerEvent;
 import org.geoserver.gwc.layer.GeoServerTileLayerInfo;
 import org.geoserver.gwc.layer.TileLayerCatalog;
@@ -15,14 +16,27 @@ import org.springframework.cache.Cache;
 import org.springframework.cache.Cache.ValueRetrievalException;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 /**
+ * {@link TileLayerCatalog} caching the tile layers of the decorated {@link
+ * ResourceStoreTileLayerCatalog}.
+ *
+ * <p>{@link #beginBatch()} and {@link #endBatch()} defer the {@link #save} calls made in between on
+ * the calling thread, and write them all at once through {@link
+ * ResourceStoreTileLayerCatalog#saveAll}, resulting in a single batch event instead of one per
+ * layer. See {@link TileLayerRenameBatcher}.
+ *
  * @since 1.0
  */
 @RequiredArgsConstructor
@@ -38,7 +52,17 @@ public class CachingTileLayerCatalog implements TileLayerCatalog {
     private Cache nameCache;
     private ConcurrentMap<String, String> namesById;
 
+    /** Batch nesting level and deferred saves of the calling thread, if in a batch */
+    private final ThreadLocal<Batch> batch = new ThreadLocal<>();
+
+    private static class Batch {
+        int depth;
+        final Map<String, GeoServerTileLayerInfo> saves = new LinkedHashMap<>();
+    }
+
+    /** Runs before other listeners, for them to find the cached layers up to date */
     @EventListener(TileLayerEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
     public void onTileLayerEvent(TileLayerEvent event) {
         switch (event.getEventType()) {
             case CREATED:
@@ -57,6 +81,20 @@ public class CachingTileLayerCatalog implements TileLayerCatalog {
         }
     }
 
+    /**
+     * Evicts all the layers in the batch and reloads them in a single pass, instead of one by one
+     * as for individual {@link TileLayerEvent}s
+     */
+    @EventListener(TileLayerBatchEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onTileLayerBatchEvent(TileLayerBatchEvent event) {
+        Set<String> ids = new HashSet<>();
+        if (event.getCreatedLayerIds() != null) ids.addAll(event.getCreatedLayerIds());
+        if (event.getModifiedLayerIds() != null) ids.addAll(event.getModifiedLayerIds());
+        ids.forEach(this::evictById);
+        delegate.getLayersById(ids).forEach(this::onLoaded);
+    }
+
     public void evictById(@NonNull String id) {
         final String name = namesById.remove(id);
         idCache.evict(id);
@@ -161,11 +199,72 @@ public class CachingTileLayerCatalog implements TileLayerCatalog {
     }
 
     public @Override GeoServerTileLayerInfo delete(@NonNull String tileLayerId) {
+        final Batch current = batch.get();
+        if (current != null) {
+            current.saves.remove(tileLayerId);
+        }
         return delegate.delete(tileLayerId);
     }
 
     public @Override GeoServerTileLayerInfo save(@NonNull GeoServerTileLayerInfo newValue) {
-        return delegate.save(newValue);
+        final Batch current = batch.get();
+        if (current == null) {
+            return delegate.save(newValue);
+        }
+        final String id = newValue.getId();
+        GeoServerTileLayerInfo prev = current.saves.get(id);
+        if (prev == null) {
+            prev = getLayerById(id);
+        }
+        current.saves.put(id, newValue);
+        // for the deferred value to be visible to the calling thread until the batch is written
+        evictById(id);
+        onLoaded(newValue);
+        return prev;
+    }
+
+    /**
+     * Starts deferring {@link #save} calls on the calling thread until the matching {@link
+     * #endBatch()}. Batches can be nested, the deferred saves are written when the outermost one
+     * ends.
+     */
+    public void beginBatch() {
+        Batch current = batch.get();
+        if (current == null) {
+            current = new Batch();
+            batch.set(current);
+        }
+        current.depth++;
+    }
+
+    /**
+     * Ends a batch started with {@link #beginBatch()}, writing the deferred saves through {@link
+     * ResourceStoreTileLayerCatalog#saveAll} if it's the outermost one.
+     */
+    public void endBatch() {
+        final Batch current = batch.get();
+        if (current == null || --current.depth > 0) {
+            return;
+        }
+        batch.remove();
+        if (current.saves.isEmpty()) {
+            return;
+        }
+        try {
+            delegate.saveAll(current.saves.values());
+        } catch (RuntimeException e) {
+            // don't keep serving values that may not have been written
+            current.saves.keySet().forEach(this::evictById);
+            throw e;
+        }
+    }
+
+    /**
+     * @see ResourceStoreTileLayerCatalog#saveAll(Collection)
+     */
+    public Map<String, GeoServerTileLayerInfo> saveAll(
+            @NonNull Collection<? extends GeoServerTileLayerInfo> layers) {
+        return delegate.saveAll(layers);
     }
 
     public @Override boolean exists(@NonNull String layerId) {
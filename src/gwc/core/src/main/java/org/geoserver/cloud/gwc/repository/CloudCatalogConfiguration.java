@@ -14,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.geoserver.catalog.Catalog;
 import org.geoserver.catalog.PublishedInfo;
+import org.geoserver.cloud.gwc.event.TileLayerBatchEvent;
 import org.geoserver.cloud.gwc.event.TileLayerEvent;
 import org.geoserver.gwc.GWC;
 import org.geoserver.gwc.config.GWCConfig;
@@ -62,6 +63,15 @@ public class CloudCatalogConfiguration extends CatalogConfiguration {
         spiedLayerCache.invalidate(event.getLayerId());
     }
 
+    @EventListener(TileLayerBatchEvent.class)
+    public void onTileLayerBatchEvent(TileLayerBatchEvent event) {
+        log.debug("evicting GeoServerTileLayer cache entries upon {}", event);
+        if (event.getCreatedLayerIds() != null)
+            spiedLayerCache.invalidateAll(event.getCreatedLayerIds());
+        if (event.getModifiedLayerIds() != null)
+            spiedLayerCache.invalidateAll(event.getModifiedLayerIds());
+    }
+
     @Override
     public void addLayer(final TileLayer tl) {
         checkNotNull(tl);
@@ -13,8 +13,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.apache.commons.configuration.DefaultConfigurationBuilder.XMLConfigurationProvider;
+import org.geoserver.cloud.gwc.event.TileLayerBatchListener;
 import org.geoserver.config.util.SecureXStream;
 import org.geoserver.gwc.layer.GeoServerTileLayerInfo;
+import org.geoserver.gwc.layer.GeoServerTileLayerInfoImpl;
+import org.geoserver.gwc.layer.StyleParameterFilter;
 import org.geoserver.gwc.layer.TileLayerCatalog;
 import org.geoserver.gwc.layer.TileLayerCatalogListener;
 import org.geoserver.gwc.layer.TileLayerCatalogListener.Type;
@@ -23,12 +26,14 @@ import org.geoserver.platform.resource.Resource;
 import org.geoserver.platform.resource.ResourceStore;
 import org.geoserver.platform.resource.Resources;
 import org.geoserver.util.DimensionWarning;
+import org.geoserver.util.DimensionWarning.WarningType;
 import org.geowebcache.config.ContextualConfigurationProvider.Context;
 import org.geowebcache.config.XMLConfiguration;
 import org.geowebcache.storage.blobstore.file.FilePathUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -42,13 +47,25 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -74,13 +91,21 @@ public class ResourceStoreTileLayerCatalog implements TileLayerCatalog {
     private final List<TileLayerCatalogListener> listeners = new CopyOnWriteArrayList<>();
 
     private Supplier<XStream> xstreamProvider;
-    private XStream serializer;
+    private XStreamPool serializers;
     private String baseDirectory;
 
+    /**
+     * Runs the resource store I/O of {@link #saveAll} and {@link #getLayersById} in parallel, off
+     * the common fork-join pool
+     */
+    private ExecutorService ioExecutor;
+
     public @Override void reset() {
         if (initialized.compareAndSet(true, false)) {
             xstreamProvider = null;
-            serializer = null;
+            serializers = null;
+            ioExecutor.shutdown();
+            ioExecutor = null;
         }
     }
 
@@ -91,10 +116,21 @@ public class ResourceStoreTileLayerCatalog implements TileLayerCatalog {
                     () ->
                             XMLConfiguration.getConfiguredXStreamWithContext(
                                     new SecureXStream(), applicationContext, Context.PERSIST);
-            this.serializer = newXStream();
+            final int poolSize = Math.max(2, Runtime.getRuntime().availableProcessors());
+            this.serializers = new XStreamPool(this::newXStream, this::warmUp, 1, poolSize);
+            this.ioExecutor = Executors.newFixedThreadPool(poolSize, ioThreadFactory());
         }
     }
 
+    private static ThreadFactory ioThreadFactory() {
+        final AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "gwc-tilelayer-io-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
     public @Override void addListener(TileLayerCatalogListener listener) {
         if (null != listener) listeners.add(listener);
     }
@@ -176,6 +212,87 @@ public class ResourceStoreTileLayerCatalog implements TileLayerCatalog {
         return prev;
     }
 
+    /**
+     * Saves several tile layers at once, writing their files in parallel, and notifies {@link
+     * TileLayerBatchListener}s once for the whole batch instead of once per layer. Listeners not
+     * supporting batch notifications are still notified once per layer.
+     *
+     * @return the previous values of the layers that already existed, keyed by id
+     */
+    public Map<String, GeoServerTileLayerInfo> saveAll(
+            @NonNull Collection<? extends GeoServerTileLayerInfo> layers) {
+        checkInitialized();
+        layers.forEach(l -> Objects.requireNonNull(l.getId()));
+
+        final Map<String, GeoServerTileLayerInfo> previous = new ConcurrentHashMap<>();
+        inParallel(
+                layers,
+                layer -> {
+                    GeoServerTileLayerInfo prev = getLayerById(layer.getId());
+                    if (prev != null) previous.put(layer.getId(), prev);
+                    persist(layer);
+                    return layer;
+                });
+
+        Set<String> created = new LinkedHashSet<>();
+        Set<String> modified = new LinkedHashSet<>();
+        for (GeoServerTileLayerInfo layer : layers) {
+            String id = layer.getId();
+            (previous.containsKey(id) ? modified : created).add(id);
+        }
+        notifyBatch(created, modified);
+        return previous;
+    }
+
+    /**
+     * Loads several tile layers at once, reading their files in parallel
+     *
+     * @return the existing layers among the requested ones
+     */
+    public List<GeoServerTileLayerInfo> getLayersById(@NonNull Collection<String> layerIds) {
+        checkInitialized();
+        return inParallel(layerIds, id -> findFile(id).map(this::depersist).orElse(null)).stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Applies {@code function} to each item on the {@link #ioExecutor}, waiting for all of them to
+     * finish
+     *
+     * @return the results in the iteration order of {@code items}
+     */
+    private <T, R> List<R> inParallel(Collection<? extends T> items, Function<T, R> function) {
+        List<Future<R>> futures =
+                items.stream()
+                        .map(item -> ioExecutor.submit(() -> function.apply(item)))
+                        .collect(Collectors.toList());
+        List<R> results = new ArrayList<>(futures.size());
+        RuntimeException error = null;
+        for (Future<R> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                throw new IllegalStateException("Interrupted waiting for tile layer I/O", e);
+            } catch (ExecutionException e) {
+                // keep waiting for the others, not to return while writes are still going on
+                Throwable cause = e.getCause();
+                if (error == null) {
+                    error =
+                            cause instanceof RuntimeException
+                                    ? (RuntimeException) cause
+                                    : new IllegalStateException(cause);
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+        return results;
+    }
+
     public @Override boolean exists(String layerId) {
         checkInitialized();
         return findFile(layerId).isPresent();
@@ -207,30 +324,34 @@ public class ResourceStoreTileLayerCatalog implements TileLayerCatalog {
     }
 
     private void persist(GeoServerTileLayerInfo real, OutputStream out) {
-        try {
-            try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
-                serializer.toXML(real, writer);
-            }
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        }
+        serializers.apply(
+                serializer -> {
+                    try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+                        serializer.toXML(real, writer);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return null;
+                });
     }
 
     private GeoServerTileLayerInfo depersist(final Resource res) {
         try {
-            return depersist(res, this.serializer);
+            if (log.isDebugEnabled())
+                log.debug("Depersisting GeoServerTileLayerInfo from {}", res.path());
+            // read the contents before borrowing an unmarshaller, to hold it only while parsing
+            final byte[] contents = res.getContents();
+            return serializers.apply(
+                    unmarshaller -> depersist(new ByteArrayInputStream(contents), unmarshaller));
+        } catch (IOException e) {
+            log.warn("Error reading tile layer {}, returning null", res.path(), e);
+            return null;
         } catch (RuntimeException e) {
             log.warn("Error depersisting tile layer {}, returning null", res.path(), e);
             return null;
         }
     }
 
-    private GeoServerTileLayerInfo depersist(final Resource res, final XStream unmarshaller) {
-        if (log.isDebugEnabled())
-            log.debug("Depersisting GeoServerTileLayerInfo from {}", res.path());
-        return depersist(res.in(), unmarshaller);
-    }
-
     private GeoServerTileLayerInfo depersist(InputStream in, XStream unmarshaller) {
         try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
             return (GeoServerTileLayerInfo) unmarshaller.fromXML(reader);
@@ -307,6 +428,28 @@ public class ResourceStoreTileLayerCatalog implements TileLayerCatalog {
         listeners.forEach(l -> notify(l, layerId, eventType));
     }
 
+    private void notifyBatch(Set<String> created, Set<String> modified) {
+        if (created.isEmpty() && modified.isEmpty()) {
+            return;
+        }
+        for (TileLayerCatalogListener l : listeners) {
+            if (l instanceof TileLayerBatchListener) {
+                try {
+                    ((TileLayerBatchListener) l).onBatchEvent(created, modified);
+                } catch (RuntimeException e) {
+                    log.warn(
+                            "Error notifying listener {} of batch change event for {} TileLayers",
+                            l.getClass().getCanonicalName(),
+                            created.size() + modified.size(),
+                            e);
+                }
+            } else {
+                created.forEach(id -> notify(l, id, Type.CREATE));
+                modified.forEach(id -> notify(l, id, Type.MODIFY));
+            }
+        }
+    }
+
     private void notify(TileLayerCatalogListener l, String layerId, Type eventType) {
         try {
             l.onEvent(layerId, eventType);
@@ -321,6 +464,22 @@ public class ResourceStoreTileLayerCatalog implements TileLayerCatalog {
         }
     }
 
+    /**
+     * Round-trips a sample tile layer through a newly created {@link XStream} to pre-populate its
+     * converter and reflection caches
+     */
+    private void warmUp(XStream xstream) {
+        GeoServerTileLayerInfoImpl sample = new GeoServerTileLayerInfoImpl();
+        sample.setId("warm-up");
+        sample.setName("warm-up");
+        sample.getMimeFormats().add("image/png");
+        sample.setCacheWarningSkips(new LinkedHashSet<>(List.of(WarningType.values())));
+        StyleParameterFilter styleFilter = new StyleParameterFilter();
+        styleFilter.setStyles(Collections.emptySet());
+        sample.addParameterFilter(styleFilter);
+        xstream.fromXML(xstream.toXML(sample));
+    }
+
     private XStream newXStream() {
         XStream serializer = this.xstreamProvider.get();
         serializer.allowTypeHierarchy(GeoServerTileLayerInfo.class);
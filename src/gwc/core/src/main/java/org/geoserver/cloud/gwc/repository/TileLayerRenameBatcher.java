@@ -0,0 +1,129 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.repository;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.geoserver.catalog.Catalog;
+import org.geoserver.catalog.CatalogInfo;
+import org.geoserver.catalog.NamespaceInfo;
+import org.geoserver.catalog.WorkspaceInfo;
+import org.geoserver.catalog.event.CatalogAddEvent;
+import org.geoserver.catalog.event.CatalogListener;
+import org.geoserver.catalog.event.CatalogModifyEvent;
+import org.geoserver.catalog.event.CatalogPostModifyEvent;
+import org.geoserver.catalog.event.CatalogRemoveEvent;
+import org.geoserver.gwc.layer.CatalogLayerEventListener;
+import org.geoserver.platform.ExtensionPriority;
+
+import java.util.List;
+
+/**
+ * Makes the tile layer renames caused by a workspace or namespace rename be saved as a single
+ * batch.
+ *
+ * <p>GeoServer's {@link CatalogLayerEventListener} renames the tile layers of a renamed workspace
+ * one at a time while handling the post-modify event, each save resulting in a tile layer event
+ * propagated to the whole cluster. {@link #register()} adds two catalog listeners, ordered through
+ * {@link ExtensionPriority} to be notified of the post-modify event before and after all the other
+ * listeners. The first one starts a {@link CachingTileLayerCatalog#beginBatch() batch}, and the
+ * second one ends it, so that all the renamed tile layers are written at once with a single batch
+ * event.
+ *
+ * <p>The batch only spans the notification of the post-modify event, which the catalog only fires
+ * once the change is saved, and to every listener even if some of them fail. A rename vetoed by a
+ * pre-modify listener or failing to be saved hence never leaves a batch open on the calling thread.
+ *
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+@Slf4j(topic = "org.geoserver.cloud.gwc.repository")
+public class TileLayerRenameBatcher {
+
+    private final @NonNull Catalog catalog;
+    private final @NonNull CachingTileLayerCatalog tileLayerCatalog;
+
+    private final BeginBatch beginBatch = new BeginBatch();
+    private final EndBatch endBatch = new EndBatch();
+
+    /** Adds the listeners starting and ending the batches to the catalog */
+    public void register() {
+        catalog.addListener(beginBatch);
+        catalog.addListener(endBatch);
+    }
+
+    /** Removes the listeners added by {@link #register()} */
+    public void unregister() {
+        catalog.removeListener(beginBatch);
+        catalog.removeListener(endBatch);
+    }
+
+    private static boolean isRename(CatalogPostModifyEvent event) {
+        return isRename(event.getSource(), event.getPropertyNames());
+    }
+
+    private static boolean isRename(CatalogInfo source, List<String> propertyNames) {
+        if (source instanceof WorkspaceInfo) {
+            return propertyNames.stream().anyMatch("name"::equalsIgnoreCase);
+        }
+        if (source instanceof NamespaceInfo) {
+            return propertyNames.stream().anyMatch("prefix"::equalsIgnoreCase);
+        }
+        return false;
+    }
+
+    /** Starts the batch, notified of the post-modify event before any other listener */
+    private class BeginBatch extends PostModifyListener {
+
+        public @Override int getPriority() {
+            return ExtensionPriority.HIGHEST;
+        }
+
+        public @Override void handlePostModifyEvent(CatalogPostModifyEvent event) {
+            if (isRename(event)) {
+                log.debug("Batching tile layer saves while renaming {}", event.getSource().getId());
+                tileLayerCatalog.beginBatch();
+            }
+        }
+    }
+
+    /**
+     * Ends the batch, notified of the post-modify event after any other listener, including those
+     * not implementing {@link ExtensionPriority}, which are given the lowest priority
+     */
+    private class EndBatch extends PostModifyListener {
+
+        public @Override int getPriority() {
+            return ExtensionPriority.LOWEST + 1;
+        }
+
+        public @Override void handlePostModifyEvent(CatalogPostModifyEvent event) {
+            if (isRename(event)) {
+                tileLayerCatalog.endBatch();
+            }
+        }
+    }
+
+    private abstract static class PostModifyListener implements CatalogListener, ExtensionPriority {
+
+        public @Override void handleAddEvent(CatalogAddEvent event) {
+            // no-op
+        }
+
+        public @Override void handleRemoveEvent(CatalogRemoveEvent event) {
+            // no-op
+        }
+
+        public @Override void handleModifyEvent(CatalogModifyEvent event) {
+            // no-op
+        }
+
+        public @Override void reloaded() {
+            // no-op
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.repository;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.thoughtworks.xstream.XStream;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of equally configured {@link XStream} instances, so that concurrent (de)serializers
+ * don't contend on a single instance's internal reflection and converter caches.
+ *
+ * <p>Instances are created lazily up to {@code maxSize}, after which callers wait for one to be
+ * returned to the pool. {@code minSize} instances are created upfront and warmed up by the supplied
+ * function (e.g. serializing a sample object), so that converter lookups are already cached by the
+ * time the first requests come in.
+ *
+ * @since 1.0
+ */
+@Slf4j(topic = "org.geoserver.cloud.gwc.repository")
+public class XStreamPool {
+
+    private final Supplier<XStream> factory;
+    private final Consumer<XStream> warmer;
+    private final int maxSize;
+
+    private final BlockingQueue<XStream> idle;
+    private final AtomicInteger created = new AtomicInteger();
+
+    /**
+     * @param factory creates and configures new XStream instances
+     * @param warmer exercises a newly created instance to pre-populate its caches, may be a no-op
+     * @param minSize number of instances to create and warm up upfront
+     * @param maxSize maximum number of instances
+     */
+    public XStreamPool(
+            @NonNull Supplier<XStream> factory,
+            @NonNull Consumer<XStream> warmer,
+            int minSize,
+            int maxSize) {
+        checkArgument(maxSize > 0, "maxSize shall be > 0");
+        checkArgument(minSize >= 0 && minSize <= maxSize, "minSize shall be >= 0 and <= maxSize");
+        this.factory = factory;
+        this.warmer = warmer;
+        this.maxSize = maxSize;
+        this.idle = new LinkedBlockingQueue<>(maxSize);
+        for (int i = 0; i < minSize; i++) {
+            idle.add(create());
+        }
+    }
+
+    /**
+     * Borrows an instance from the pool for the duration of {@code function}
+     *
+     * @throws IllegalStateException if interrupted while waiting for an instance
+     */
+    public <T> T apply(@NonNull Function<XStream, T> function) {
+        final XStream xstream = borrow();
+        try {
+            return function.apply(xstream);
+        } finally {
+            idle.offer(xstream);
+        }
+    }
+
+    /**
+     * @return number of instances created so far
+     */
+    public int getSize() {
+        return created.get();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    private XStream borrow() {
+        XStream xstream = idle.poll();
+        if (xstream != null) {
+            return xstream;
+        }
+        if (created.getAndUpdate(c -> c < maxSize ? c + 1 : c) < maxSize) {
+            return newInstance();
+        }
+        try {
+            return idle.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for an XStream instance", e);
+        }
+    }
+
+    private XStream create() {
+        created.incrementAndGet();
+        return newInstance();
+    }
+
+    private XStream newInstance() {
+        XStream xstream = factory.get();
+        try {
+            warmer.accept(xstream);
+        } catch (RuntimeException e) {
+            log.debug("Error warming up XStream instance, ignoring", e);
+        }
+        return xstream;
+    }
+}
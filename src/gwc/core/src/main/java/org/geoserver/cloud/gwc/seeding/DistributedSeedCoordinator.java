@@ -0,0 +1,312 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.seeding;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import org.geoserver.cloud.gwc.event.GeoWebCacheEvent;
+import org.geoserver.cloud.gwc.event.SeedNodeEvent;
+import org.geoserver.cloud.gwc.event.SeedProgressEvent;
+import org.geoserver.cloud.gwc.event.SeedTaskEvent;
+import org.geoserver.cloud.gwc.seeding.SeedJob.Partition;
+import org.geoserver.cloud.gwc.seeding.SeedJob.State;
+import org.geowebcache.seed.GWCTask;
+import org.geowebcache.storage.TileRange;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Splits seed, reseed, and truncate jobs submitted to this GeoWebCache instance into {@link
+ * TileRangePartitioner partitions}, and dispatches them as {@link SeedTaskEvent}s to the available
+ * instances, which the event bus propagates to the cluster.
+ *
+ * <p>Available instances are discovered from the {@link SeedNodeEvent} heartbeats issued by each
+ * instance's {@link DistributedSeedWorker}, and each partition is assigned to the least loaded one.
+ * Progress is tracked from the {@link SeedProgressEvent}s reported by the workers.
+ *
+ * <p>{@link #rebalance()} is meant to be called periodically, and re-assigns the unfinished
+ * partitions of instances that stopped sending heartbeats for longer than the configured timeout to
+ * the remaining ones. Re-seeding an already seeded tile is a no-op for a seed job, so a partition
+ * is re-assigned as a whole.
+ *
+ * <p><b>Limitation</b>: job state is held in memory by the instance that received the request,
+ * which is the only one tracking its partitions and re-assigning them. If that instance is lost,
+ * its jobs are lost too: partitions already dispatched keep running on their instances, but the
+ * partitions of instances lost afterwards are not taken over by any other, and the job status is no
+ * longer available. Such jobs have to be re-submitted, which for seed jobs only renders the missing
+ * tiles.
+ *
+ * @since 1.0
+ */
+@Slf4j(topic = "org.geoserver.cloud.gwc.seeding")
+public class DistributedSeedCoordinator {
+
+    /** How long to keep finished jobs for querying their status */
+    static final Duration FINISHED_JOB_RETENTION = Duration.ofHours(1);
+
+    private final String nodeId;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TileRangePartitioner partitioner;
+    private final Duration nodeTimeout;
+    private final Clock clock;
+
+    private final Map<String, SeedNode> nodes = new ConcurrentHashMap<>();
+    private final Map<String, SeedJob> jobs = new ConcurrentHashMap<>();
+
+    private final AtomicLong reassigned = new AtomicLong();
+
+    public DistributedSeedCoordinator(
+            @NonNull String nodeId,
+            @NonNull ApplicationEventPublisher eventPublisher,
+            @NonNull TileRangePartitioner partitioner,
+            @NonNull Duration nodeTimeout) {
+        this(nodeId, eventPublisher, partitioner, nodeTimeout, Clock.systemUTC());
+    }
+
+    DistributedSeedCoordinator(
+            @NonNull String nodeId,
+            @NonNull ApplicationEventPublisher eventPublisher,
+            @NonNull TileRangePartitioner partitioner,
+            @NonNull Duration nodeTimeout,
+            @NonNull Clock clock) {
+        this.nodeId = nodeId;
+        this.eventPublisher = eventPublisher;
+        this.partitioner = partitioner;
+        this.nodeTimeout = nodeTimeout;
+        this.clock = clock;
+        // the local instance is always available, even before its first heartbeat
+        this.nodes.put(nodeId, new SeedNode(nodeId, clock.instant()));
+    }
+
+    /**
+     * Splits the tile range in partitions and dispatches them to the available GeoWebCache
+     * instances
+     */
+    public SeedJob submit(@NonNull TileRange range, @NonNull GWCTask.TYPE type, int threadCount) {
+        return submit(range, 1, type, threadCount);
+    }
+
+    /**
+     * Splits the tile range in partitions aligned to the layer's meta-tiles and dispatches them to
+     * the available GeoWebCache instances
+     *
+     * @param metaTilingY the layer's meta-tiling factor in the y axis
+     */
+    public synchronized SeedJob submit(
+            @NonNull TileRange range,
+            int metaTilingY,
+            @NonNull GWCTask.TYPE type,
+            int threadCount) {
+        List<TileRange> ranges = partitioner.partition(range, metaTilingY);
+        String id = UUID.randomUUID().toString();
+        SeedJob job =
+                new SeedJob(
+                        id,
+                        range.getLayerName(),
+                        type,
+                        Math.max(1, threadCount),
+                        ranges,
+                        clock.instant());
+        jobs.put(id, job);
+        log.info("Distributing {} over {} instances", job, liveNodes().size());
+        job.getPartitions().forEach(this::assign);
+        job.checkFinished(clock.instant());
+        return job;
+    }
+
+    /** Requests the instances executing the job's unfinished partitions to terminate them */
+    public synchronized boolean cancel(@NonNull String jobId) {
+        SeedJob job = jobs.get(jobId);
+        if (job == null || job.isFinished()) {
+            return false;
+        }
+        log.info("Cancelling {}", job);
+        job.getPartitions().stream()
+                .filter(p -> !p.isFinished())
+                .forEach(p -> publish(p, GeoWebCacheEvent.Type.DELETED));
+        job.cancelled(clock.instant());
+        return true;
+    }
+
+    public Optional<SeedJob> getJob(@NonNull String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    public List<SeedJob> getJobs() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing(SeedJob::getCreated))
+                .collect(Collectors.toList());
+    }
+
+    public long getActiveJobCount() {
+        return jobs.values().stream().filter(j -> !j.isFinished()).count();
+    }
+
+    /**
+     * @return the GeoWebCache instances currently considered available for seeding
+     */
+    public List<SeedNode> getNodes() {
+        return liveNodes();
+    }
+
+    /**
+     * @return number of partitions re-assigned to another instance after their instance was lost
+     */
+    public long getReassignedCount() {
+        return reassigned.get();
+    }
+
+    @EventListener(SeedNodeEvent.class)
+    public void onSeedNodeEvent(SeedNodeEvent event) {
+        final Instant now = clock.instant();
+        nodes.computeIfAbsent(event.getNodeId(), id -> newNode(id, now))
+                .update(now, event.getActivePartitions(), event.getTilesPerSecond());
+    }
+
+    @EventListener(SeedProgressEvent.class)
+    public synchronized void onSeedProgressEvent(SeedProgressEvent event) {
+        final SeedJob job = jobs.get(event.getJobId());
+        if (job == null || job.isFinished()) {
+            return;
+        }
+        final Instant now = clock.instant();
+        nodes.computeIfAbsent(event.getNodeId(), id -> newNode(id, now)).seen(now);
+
+        final Partition partition = job.getPartition(event.getPartition());
+        if (!event.getNodeId().equals(partition.getNodeId()) || partition.isFinished()) {
+            // stale progress from an instance the partition was taken away from
+            return;
+        }
+        partition.update(toState(event.getStatus()), event.getTilesDone());
+        if (partition.getState() == State.FAILED) {
+            log.warn("Partition {} failed", partition);
+        }
+        if (job.checkFinished(now)) {
+            log.info("Finished {}", job);
+        }
+    }
+
+    /**
+     * Re-assigns the unfinished partitions of the instances that timed out to the available ones,
+     * and discards finished jobs older than {@link #FINISHED_JOB_RETENTION}.
+     */
+    public synchronized void rebalance() {
+        final Instant now = clock.instant();
+        List<String> lost =
+                nodes.values().stream()
+                        .filter(n -> !isAlive(n, now))
+                        .map(SeedNode::getId)
+                        .collect(Collectors.toList());
+        if (!lost.isEmpty()) {
+            log.info("Lost seeding instances {}", lost);
+            lost.forEach(nodes::remove);
+            jobs.values().stream()
+                    .filter(j -> !j.isFinished())
+                    .flatMap(j -> j.getPartitions().stream())
+                    .filter(p -> !p.isFinished() && lost.contains(p.getNodeId()))
+                    .forEach(
+                            p -> {
+                                reassigned.incrementAndGet();
+                                assign(p);
+                            });
+        }
+        Instant expired = now.minus(FINISHED_JOB_RETENTION);
+        jobs.values().removeIf(j -> j.isFinished() && j.getFinished().isBefore(expired));
+    }
+
+    private void assign(Partition partition) {
+        SeedNode node = leastLoaded();
+        partition.assign(node.getId());
+        log.debug("Assigning {}", partition);
+        publish(partition, GeoWebCacheEvent.Type.CREATED);
+    }
+
+    /**
+     * @return the live instance with the fewest unfinished partitions assigned by this coordinator,
+     *     breaking ties by the number of partitions the instance reports to be running (including
+     *     other coordinators' ones) and then by throughput
+     */
+    private SeedNode leastLoaded() {
+        Map<String, Long> assigned =
+                jobs.values().stream()
+                        .filter(j -> !j.isFinished())
+                        .flatMap(j -> j.getPartitions().stream())
+                        .filter(p -> !p.isFinished() && p.getNodeId() != null)
+                        .collect(
+                                Collectors.groupingBy(Partition::getNodeId, Collectors.counting()));
+
+        Comparator<SeedNode> byAssigned =
+                Comparator.comparingLong(n -> assigned.getOrDefault(n.getId(), 0L));
+        return liveNodes().stream()
+                .min(
+                        byAssigned
+                                .thenComparingInt(SeedNode::getActivePartitions)
+                                .thenComparing(
+                                        Comparator.comparingDouble(SeedNode::getTilesPerSecond)
+                                                .reversed()))
+                .orElseGet(() -> nodes.get(nodeId));
+    }
+
+    private List<SeedNode> liveNodes() {
+        final Instant now = clock.instant();
+        return nodes.values().stream().filter(n -> isAlive(n, now)).collect(Collectors.toList());
+    }
+
+    private boolean isAlive(SeedNode node, Instant now) {
+        return nodeId.equals(node.getId()) || !node.getLastSeen().plus(nodeTimeout).isBefore(now);
+    }
+
+    private SeedNode newNode(String id, Instant now) {
+        log.info("Discovered seeding instance {}", id);
+        return new SeedNode(id, now);
+    }
+
+    private void publish(Partition partition, GeoWebCacheEvent.Type eventType) {
+        final SeedJob job = partition.getJob();
+        final TileRange range = partition.getRange();
+        SeedTaskEvent event = new SeedTaskEvent(this, eventType);
+        event.setJobId(job.getId());
+        event.setPartition(partition.getIndex());
+        event.setNodeId(partition.getNodeId());
+        event.setTaskType(job.getType().name());
+        event.setLayerName(range.getLayerName());
+        event.setGridSetId(range.getGridSetId());
+        event.setFormat(range.getMimeType() == null ? null : range.getMimeType().getFormat());
+        event.setParameters(range.getParameters());
+        event.setZoomStart(range.getZoomStart());
+        event.setZoomStop(range.getZoomStop());
+        long[][] bounds = new long[range.getZoomStop() + 1][];
+        for (int z = range.getZoomStart(); z <= range.getZoomStop(); z++) {
+            bounds[z] = range.rangeBounds(z);
+        }
+        event.setRangeBounds(bounds);
+        event.setThreadCount(job.getThreadCount());
+        eventPublisher.publishEvent(event);
+    }
+
+    private static State toState(SeedProgressEvent.Status status) {
+        switch (status) {
+            case DONE:
+                return State.DONE;
+            case FAILED:
+                return State.FAILED;
+            default:
+                return State.RUNNING;
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.seeding;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.geoserver.cloud.gwc.event.GeoWebCacheEvent;
+import org.geoserver.cloud.gwc.event.SeedNodeEvent;
+import org.geoserver.cloud.gwc.event.SeedProgressEvent;
+import org.geoserver.cloud.gwc.event.SeedProgressEvent.Status;
+import org.geoserver.cloud.gwc.event.SeedTaskEvent;
+import org.geowebcache.GeoWebCacheException;
+import org.geowebcache.layer.TileLayer;
+import org.geowebcache.mime.MimeType;
+import org.geowebcache.seed.GWCTask;
+import org.geowebcache.seed.TileBreeder;
+import org.geowebcache.storage.TileRange;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executes the distributed seed job partitions dispatched to this GeoWebCache instance through
+ * {@link SeedTaskEvent}s, using the local {@link TileBreeder}.
+ *
+ * <p>{@link #report()} is meant to be called periodically, and publishes a {@link SeedNodeEvent}
+ * heartbeat with this instance's load and throughput, and a {@link SeedProgressEvent} for each
+ * running partition.
+ *
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+@Slf4j(topic = "org.geoserver.cloud.gwc.seeding")
+public class DistributedSeedWorker {
+
+    private final @NonNull @Getter String nodeId;
+    private final @NonNull TileBreeder breeder;
+    private final @NonNull ApplicationEventPublisher eventPublisher;
+
+    private final Map<String, RunningPartition> running = new ConcurrentHashMap<>();
+
+    /** Tiles processed by finished partitions */
+    private final AtomicLong tilesFinished = new AtomicLong();
+
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private long lastReportTiles;
+    private long lastReportNanos = System.nanoTime();
+    private volatile double tilesPerSecond;
+
+    @EventListener(SeedTaskEvent.class)
+    public void onSeedTaskEvent(SeedTaskEvent event) {
+        if (!nodeId.equals(event.getNodeId())) {
+            return;
+        }
+        final String key = key(event.getJobId(), event.getPartition());
+        if (event.getEventType() == GeoWebCacheEvent.Type.DELETED) {
+            cancel(key);
+            return;
+        }
+        if (running.containsKey(key)) {
+            log.debug("Ignoring duplicate seed task {}", event);
+            return;
+        }
+        try {
+            GWCTask[] tasks = start(event);
+            running.put(key, new RunningPartition(event.getJobId(), event.getPartition(), tasks));
+            log.debug("Started {} tasks for {}", tasks.length, event);
+        } catch (GeoWebCacheException | RuntimeException e) {
+            log.warn("Error starting seed task {}", event, e);
+            failed.incrementAndGet();
+            publishProgress(event.getJobId(), event.getPartition(), Status.FAILED, 0, 0);
+        }
+    }
+
+    /** Publishes this instance's heartbeat and the progress of the running partitions */
+    public synchronized void report() {
+        for (RunningPartition partition : running.values()) {
+            final Status status = partition.status();
+            final long done = partition.tilesDone();
+            publishProgress(
+                    partition.jobId, partition.partition, status, done, partition.tilesTotal());
+            if (status != Status.RUNNING) {
+                running.remove(key(partition.jobId, partition.partition));
+                tilesFinished.addAndGet(done);
+                (status == Status.DONE ? completed : failed).incrementAndGet();
+            }
+        }
+
+        final long now = System.nanoTime();
+        final long tiles = getTilesProcessed();
+        final double seconds = (now - lastReportNanos) / 1e9;
+        if (seconds > 0) {
+            tilesPerSecond = Math.max(0, tiles - lastReportTiles) / seconds;
+        }
+        lastReportTiles = tiles;
+        lastReportNanos = now;
+
+        SeedNodeEvent heartbeat = new SeedNodeEvent(this);
+        heartbeat.setNodeId(nodeId);
+        heartbeat.setActivePartitions(running.size());
+        heartbeat.setTilesPerSecond(tilesPerSecond);
+        eventPublisher.publishEvent(heartbeat);
+    }
+
+    /**
+     * @return number of tiles processed by this instance since startup
+     */
+    public long getTilesProcessed() {
+        return tilesFinished.get()
+                + running.values().stream().mapToLong(RunningPartition::tilesDone).sum();
+    }
+
+    /**
+     * @return throughput in tiles per second as of the last {@link #report()}
+     */
+    public double getTilesPerSecond() {
+        return tilesPerSecond;
+    }
+
+    public int getActivePartitions() {
+        return running.size();
+    }
+
+    public long getCompletedPartitions() {
+        return completed.get();
+    }
+
+    public long getFailedPartitions() {
+        return failed.get();
+    }
+
+    private GWCTask[] start(SeedTaskEvent event) throws GeoWebCacheException {
+        final TileLayer layer = breeder.findTileLayer(event.getLayerName());
+        final MimeType mimeType =
+                event.getFormat() == null ? null : MimeType.createFromFormat(event.getFormat());
+        final TileRange range =
+                new TileRange(
+                        event.getLayerName(),
+                        event.getGridSetId(),
+                        event.getZoomStart(),
+                        event.getZoomStop(),
+                        event.getRangeBounds(),
+                        mimeType,
+                        event.getParameters());
+        final GWCTask.TYPE type = GWCTask.TYPE.valueOf(event.getTaskType());
+        GWCTask[] tasks = breeder.createTasks(range, layer, type, event.getThreadCount(), false);
+        breeder.dispatchTasks(tasks);
+        return tasks;
+    }
+
+    private void cancel(String key) {
+        RunningPartition partition = running.remove(key);
+        if (partition != null) {
+            log.info("Terminating seed tasks for {}", key);
+            for (GWCTask task : partition.tasks) {
+                breeder.terminateGWCTask(task.getTaskId());
+            }
+        }
+    }
+
+    private void publishProgress(
+            String jobId, int partition, Status status, long tilesDone, long tilesTotal) {
+        SeedProgressEvent event = new SeedProgressEvent(this);
+        event.setJobId(jobId);
+        event.setPartition(partition);
+        event.setNodeId(nodeId);
+        event.setStatus(status);
+        event.setTilesDone(tilesDone);
+        event.setTilesTotal(tilesTotal);
+        eventPublisher.publishEvent(event);
+    }
+
+    private static String key(String jobId, int partition) {
+        return jobId + "#" + partition;
+    }
+
+    @RequiredArgsConstructor
+    private static class RunningPartition {
+        final String jobId;
+        final int partition;
+        final GWCTask[] tasks;
+
+        Status status() {
+            if (Arrays.stream(tasks).anyMatch(t -> t.getState() == GWCTask.STATE.DEAD)) {
+                return Status.FAILED;
+            }
+            if (Arrays.stream(tasks).allMatch(t -> t.getState() == GWCTask.STATE.DONE)) {
+                return Status.DONE;
+            }
+            return Status.RUNNING;
+        }
+
+        long tilesDone() {
+            return Arrays.stream(tasks).mapToLong(GWCTask::getTilesDone).sum();
+        }
+
+        /** All the tasks of a partition share the same tile range and hence total */
+        long tilesTotal() {
+            return Arrays.stream(tasks).mapToLong(GWCTask::getTilesTotal).max().orElse(0);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.seeding;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.geowebcache.layer.TileLayer;
+import org.geowebcache.seed.SeedRequest;
+import org.geowebcache.seed.TileBreeder;
+import org.geowebcache.storage.TileRange;
+
+/**
+ * AspectJ around advise on {@link TileBreeder#seed(String, SeedRequest)}, the entry point for seed,
+ * reseed, and truncate requests from the REST API and the Web UI, submitting them to the {@link
+ * DistributedSeedCoordinator} instead of running them all on the instance that received the
+ * request.
+ *
+ * @since 1.0
+ */
+@Aspect
+@RequiredArgsConstructor
+@Slf4j(topic = "org.geoserver.cloud.gwc.seeding")
+public class DistributedSeedingAspect {
+
+    private final @NonNull DistributedSeedCoordinator coordinator;
+
+    @Around("execution (* org.geowebcache.seed.TileBreeder.seed(..))")
+    public Object seed(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object[] arguments = joinPoint.getArgs();
+        checkArgument(arguments.length == 2);
+        checkArgument(arguments[1] instanceof SeedRequest);
+
+        final String layerName = (String) arguments[0];
+        final SeedRequest request = (SeedRequest) arguments[1];
+        if (Boolean.TRUE.equals(request.getFilterUpdate())) {
+            // tile update filtering is bound to the local instance's request queue
+            log.debug("Running seed request with filterUpdate locally for {}", layerName);
+            return joinPoint.proceed();
+        }
+        final TileBreeder breeder = (TileBreeder) joinPoint.getTarget();
+        final TileLayer layer = breeder.findTileLayer(layerName);
+        final TileRange range = TileBreeder.createTileRange(request, layer);
+        final int threadCount = request.getThreadCount() == null ? 1 : request.getThreadCount();
+        final int metaTilingY = layer.getMetaTilingFactors()[1];
+        coordinator.submit(range, metaTilingY, request.getType(), threadCount);
+        return null;
+    }
+}
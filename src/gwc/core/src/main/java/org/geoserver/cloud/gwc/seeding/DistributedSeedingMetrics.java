@@ -0,0 +1,93 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.seeding;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Exports distributed seeding metrics to micrometer's {@link MeterRegistry}. Being exported by each
+ * instance, the worker metrics provide the per-instance throughput:
+ *
+ * <ul>
+ *   <li>{@literal gwc.seeding.tiles}: number of tiles processed by this instance
+ *   <li>{@literal gwc.seeding.throughput}: tiles per second processed by this instance
+ *   <li>{@literal gwc.seeding.partitions.active}: partitions running on this instance
+ *   <li>{@literal gwc.seeding.partitions.completed}: partitions completed by this instance
+ *   <li>{@literal gwc.seeding.partitions.failed}: partitions failed on this instance
+ *   <li>{@literal gwc.seeding.partitions.reassigned}: partitions of jobs submitted to this instance
+ *       that were re-assigned after losing the instance running them
+ *   <li>{@literal gwc.seeding.jobs.active}: unfinished jobs submitted to this instance
+ *   <li>{@literal gwc.seeding.nodes}: instances available for seeding, as seen by this one
+ * </ul>
+ *
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+public class DistributedSeedingMetrics implements MeterBinder {
+
+    private final @NonNull DistributedSeedWorker worker;
+    private final @NonNull DistributedSeedCoordinator coordinator;
+
+    public @Override void bindTo(@NonNull MeterRegistry registry) {
+        FunctionCounter.builder(
+                        "gwc.seeding.tiles", worker, DistributedSeedWorker::getTilesProcessed)
+                .description("Number of tiles seeded or truncated by this instance")
+                .baseUnit("tiles")
+                .register(registry);
+
+        Gauge.builder("gwc.seeding.throughput", worker, DistributedSeedWorker::getTilesPerSecond)
+                .description("Tiles per second seeded or truncated by this instance")
+                .register(registry);
+
+        Gauge.builder(
+                        "gwc.seeding.partitions.active",
+                        worker,
+                        DistributedSeedWorker::getActivePartitions)
+                .description("Number of seed job partitions running on this instance")
+                .register(registry);
+
+        FunctionCounter.builder(
+                        "gwc.seeding.partitions.completed",
+                        worker,
+                        DistributedSeedWorker::getCompletedPartitions)
+                .description("Number of seed job partitions completed by this instance")
+                .baseUnit(BaseUnits.OPERATIONS)
+                .register(registry);
+
+        FunctionCounter.builder(
+                        "gwc.seeding.partitions.failed",
+                        worker,
+                        DistributedSeedWorker::getFailedPartitions)
+                .description("Number of seed job partitions failed on this instance")
+                .baseUnit(BaseUnits.OPERATIONS)
+                .register(registry);
+
+        FunctionCounter.builder(
+                        "gwc.seeding.partitions.reassigned",
+                        coordinator,
+                        DistributedSeedCoordinator::getReassignedCount)
+                .description("Number of seed job partitions re-assigned after an instance loss")
+                .baseUnit(BaseUnits.OPERATIONS)
+                .register(registry);
+
+        Gauge.builder(
+                        "gwc.seeding.jobs.active",
+                        coordinator,
+                        DistributedSeedCoordinator::getActiveJobCount)
+                .description("Number of unfinished seed jobs submitted to this instance")
+                .register(registry);
+
+        Gauge.builder("gwc.seeding.nodes", coordinator, c -> c.getNodes().size())
+                .description("Number of instances available for seeding")
+                .register(registry);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.seeding;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import org.geowebcache.seed.GWCTask;
+import org.geowebcache.storage.TileRange;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * A seed, reseed, or truncate job split in {@link Partition partitions} to be executed by different
+ * GeoWebCache instances, as tracked by the {@link DistributedSeedCoordinator} it was submitted to.
+ *
+ * @since 1.0
+ */
+public class SeedJob {
+
+    public static enum State {
+        PENDING,
+        RUNNING,
+        DONE,
+        FAILED
+    }
+
+    private final @Getter String id;
+    private final @Getter String layerName;
+    private final @Getter GWCTask.TYPE type;
+    private final @Getter int threadCount;
+    private final @Getter Instant created;
+    private final @Getter List<Partition> partitions;
+    private volatile @Getter boolean cancelled;
+    private volatile @Getter Instant finished;
+
+    SeedJob(
+            @NonNull String id,
+            @NonNull String layerName,
+            @NonNull GWCTask.TYPE type,
+            int threadCount,
+            @NonNull List<TileRange> ranges,
+            @NonNull Instant created) {
+        this.id = id;
+        this.layerName = layerName;
+        this.type = type;
+        this.threadCount = threadCount;
+        this.created = created;
+        this.partitions =
+                IntStream.range(0, ranges.size())
+                        .mapToObj(i -> new Partition(this, i, ranges.get(i)))
+                        .collect(Collectors.toUnmodifiableList());
+    }
+
+    public Partition getPartition(int index) {
+        return partitions.get(index);
+    }
+
+    public long getTilesTotal() {
+        return partitions.stream().mapToLong(Partition::getTilesTotal).sum();
+    }
+
+    public long getTilesDone() {
+        return partitions.stream().mapToLong(Partition::getTilesDone).sum();
+    }
+
+    public boolean isFinished() {
+        return finished != null;
+    }
+
+    public long getFailedCount() {
+        return partitions.stream().filter(p -> p.getState() == State.FAILED).count();
+    }
+
+    void cancelled(Instant when) {
+        this.cancelled = true;
+        this.finished = when;
+    }
+
+    /** Marks the job as finished if all its partitions are, and returns whether it did so */
+    boolean checkFinished(Instant when) {
+        if (finished == null && partitions.stream().allMatch(Partition::isFinished)) {
+            finished = when;
+            return true;
+        }
+        return false;
+    }
+
+    public @Override String toString() {
+        return String.format(
+                "%s[%s %s '%s' partitions: %d, tiles: %d/%d, failed: %d%s]",
+                getClass().getSimpleName(),
+                id,
+                type,
+                layerName,
+                partitions.size(),
+                getTilesDone(),
+                getTilesTotal(),
+                getFailedCount(),
+                cancelled ? ", cancelled" : "");
+    }
+
+    /** A subset of the job's tile range, assigned to a single GeoWebCache instance at a time */
+    public static class Partition {
+        private final SeedJob job;
+        private final @Getter int index;
+        private final @Getter TileRange range;
+        private final @Getter long tilesTotal;
+        private volatile @Getter State state = State.PENDING;
+        private volatile @Getter String nodeId;
+        private volatile @Getter long tilesDone;
+        private volatile @Getter int attempts;
+
+        Partition(SeedJob job, int index, TileRange range) {
+            this.job = job;
+            this.index = index;
+            this.range = range;
+            this.tilesTotal = TileRangePartitioner.countTiles(range);
+        }
+
+        public SeedJob getJob() {
+            return job;
+        }
+
+        public boolean isFinished() {
+            return state == State.DONE || state == State.FAILED;
+        }
+
+        void assign(@NonNull String nodeId) {
+            this.nodeId = nodeId;
+            this.state = State.PENDING;
+            this.tilesDone = 0;
+            this.attempts++;
+        }
+
+        void update(@NonNull State state, long tilesDone) {
+            this.state = state;
+            this.tilesDone = tilesDone;
+        }
+
+        public @Override String toString() {
+            return String.format(
+                    "%s#%d[%s node: %s, tiles: %d/%d]",
+                    job.getId(), index, state, nodeId, tilesDone, tilesTotal);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.seeding;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.time.Instant;
+
+/**
+ * A GeoWebCache instance taking part in distributed seeding, as known by a {@link
+ * DistributedSeedCoordinator} from its heartbeats.
+ *
+ * @since 1.0
+ */
+public class SeedNode {
+
+    private final @Getter String id;
+    private volatile @Getter Instant lastSeen;
+    private volatile @Getter int activePartitions;
+    private volatile @Getter double tilesPerSecond;
+
+    SeedNode(@NonNull String id, @NonNull Instant lastSeen) {
+        this.id = id;
+        this.lastSeen = lastSeen;
+    }
+
+    void seen(Instant when) {
+        this.lastSeen = when;
+    }
+
+    void update(Instant when, int activePartitions, double tilesPerSecond) {
+        this.lastSeen = when;
+        this.activePartitions = activePartitions;
+        this.tilesPerSecond = tilesPerSecond;
+    }
+
+    public @Override String toString() {
+        return String.format(
+                "%s[%s active: %d, tiles/s: %.1f, last seen: %s]",
+                getClass().getSimpleName(), id, activePartitions, tilesPerSecond, lastSeen);
+    }
+}
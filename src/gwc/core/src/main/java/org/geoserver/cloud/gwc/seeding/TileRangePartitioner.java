@@ -0,0 +1,134 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.seeding;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import lombok.NonNull;
+
+import org.geowebcache.storage.TileRange;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a {@link TileRange} into smaller ones of up to a maximum number of tiles each, to be
+ * seeded in parallel by different GeoWebCache instances.
+ *
+ * <p>Zoom levels with more tiles than the maximum are split in bands of whole tile rows, and
+ * consecutive zoom levels with fewer tiles are grouped together into a single partition.
+ *
+ * <p>Bands are aligned to the layer's meta-tile grid: their height is a multiple of the meta-tiling
+ * factor in the y axis, and all but the first one start at a meta-tile row boundary. Otherwise a
+ * meta-tile spanning two bands would be rendered by both partitions, likely at the same time on
+ * different instances.
+ *
+ * @since 1.0
+ */
+public class TileRangePartitioner {
+
+    private final long maxTilesPerPartition;
+
+    public TileRangePartitioner(long maxTilesPerPartition) {
+        checkArgument(maxTilesPerPartition > 0, "maxTilesPerPartition shall be > 0");
+        this.maxTilesPerPartition = maxTilesPerPartition;
+    }
+
+    public List<TileRange> partition(@NonNull TileRange range) {
+        return partition(range, 1);
+    }
+
+    /**
+     * @param metaTilingY the layer's meta-tiling factor in the y axis, for row bands to be aligned
+     *     to meta-tile boundaries
+     */
+    public List<TileRange> partition(@NonNull TileRange range, int metaTilingY) {
+        checkArgument(metaTilingY > 0, "metaTilingY shall be > 0");
+        final int zoomStart = range.getZoomStart();
+        final int zoomStop = range.getZoomStop();
+        List<TileRange> partitions = new ArrayList<>();
+
+        // pending group of consecutive small zoom levels
+        int groupStart = -1;
+        long groupTiles = 0;
+        for (int z = zoomStart; z <= zoomStop; z++) {
+            final long[] bounds = range.rangeBounds(z);
+            final long tiles = countTiles(bounds);
+            if (groupStart > -1 && groupTiles + tiles > maxTilesPerPartition) {
+                partitions.add(subRange(range, groupStart, z - 1, null));
+                groupStart = -1;
+                groupTiles = 0;
+            }
+            if (tiles > maxTilesPerPartition) {
+                splitRows(range, z, bounds, metaTilingY, partitions);
+            } else {
+                if (groupStart == -1) groupStart = z;
+                groupTiles += tiles;
+            }
+        }
+        if (groupStart > -1) {
+            partitions.add(subRange(range, groupStart, zoomStop, null));
+        }
+        return partitions;
+    }
+
+    private void splitRows(
+            TileRange range, int z, long[] bounds, int metaTilingY, List<TileRange> target) {
+        final long minx = bounds[0];
+        final long miny = bounds[1];
+        final long maxx = bounds[2];
+        final long maxy = bounds[3];
+        final long width = maxx - minx + 1;
+        // whole meta-tile rows per band, at least one
+        final long metaRows = Math.max(1, maxTilesPerPartition / width / metaTilingY);
+        final long rowsPerPartition = metaRows * metaTilingY;
+        long y = miny;
+        while (y <= maxy) {
+            // meta-tiles are aligned to multiples of metaTilingY in the gridset's tile space
+            long metaTileStart = Math.floorDiv(y, metaTilingY) * (long) metaTilingY;
+            long bandMaxY = Math.min(maxy, metaTileStart + rowsPerPartition - 1);
+            long[] band = {minx, y, maxx, bandMaxY, z};
+            target.add(subRange(range, z, z, band));
+            y = bandMaxY + 1;
+        }
+    }
+
+    /**
+     * @param band if not {@code null}, the bounds for the single zoom level {@code zoomStart ==
+     *     zoomStop}, otherwise the original range bounds are used for each zoom level
+     */
+    private TileRange subRange(TileRange range, int zoomStart, int zoomStop, long[] band) {
+        long[][] rangeBounds = new long[zoomStop + 1][];
+        for (int z = zoomStart; z <= zoomStop; z++) {
+            rangeBounds[z] = band == null ? range.rangeBounds(z).clone() : band;
+        }
+        return new TileRange(
+                range.getLayerName(),
+                range.getGridSetId(),
+                zoomStart,
+                zoomStop,
+                rangeBounds,
+                range.getMimeType(),
+                range.getParameters());
+    }
+
+    /**
+     * @return the number of tiles in the {@code [minx, miny, maxx, maxy, z]} bounds
+     */
+    public static long countTiles(long[] bounds) {
+        if (bounds == null) return 0;
+        long width = bounds[2] - bounds[0] + 1;
+        long height = bounds[3] - bounds[1] + 1;
+        return Math.max(0, width) * Math.max(0, height);
+    }
+
+    public static long countTiles(@NonNull TileRange range) {
+        long count = 0;
+        for (int z = range.getZoomStart(); z <= range.getZoomStop(); z++) {
+            count += countTiles(range.rangeBounds(z));
+        }
+        return count;
+    }
+}
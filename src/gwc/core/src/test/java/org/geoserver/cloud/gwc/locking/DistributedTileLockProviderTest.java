@@ -0,0 +1,111 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.locking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.geoserver.platform.resource.LockProvider;
+import org.geoserver.platform.resource.MemoryLockProvider;
+import org.geowebcache.GeoWebCacheException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @since 1.0
+ */
+class DistributedTileLockProviderTest {
+
+    private AtomicInteger distributedAcquisitions;
+    private DistributedTileLockProvider lockProvider;
+
+    @BeforeEach
+    void setUp() {
+        distributedAcquisitions = new AtomicInteger();
+        LockProvider memoryLocks = new MemoryLockProvider();
+        LockProvider counting =
+                path -> {
+                    distributedAcquisitions.incrementAndGet();
+                    return memoryLocks.acquire(path);
+                };
+        lockProvider = new DistributedTileLockProvider(counting);
+    }
+
+    @Test
+    void testLockAndRelease() throws GeoWebCacheException {
+        org.geowebcache.locks.LockProvider.Lock lock = lockProvider.getLock("metatile-1");
+        assertEquals(1, lockProvider.getActiveCount());
+        assertEquals(1, distributedAcquisitions.get());
+        lock.release();
+        assertEquals(0, lockProvider.getActiveCount());
+        assertEquals(1, lockProvider.getAcquiredCount());
+
+        // releasing twice is a no-op
+        lock.release();
+        assertEquals(0, lockProvider.getActiveCount());
+    }
+
+    @Test
+    void testFailedAcquisitionReleasesLocalLock() {
+        lockProvider =
+                new DistributedTileLockProvider(
+                        path -> {
+                            throw new IllegalStateException("lock service unavailable");
+                        });
+        assertThrows(GeoWebCacheException.class, () -> lockProvider.getLock("metatile-1"));
+        assertEquals(1, lockProvider.getFailedCount());
+        assertEquals(0, lockProvider.getActiveCount());
+    }
+
+    @Test
+    void testConcurrentRequestsAreMutuallyExclusive() throws Exception {
+        final int threads = 8;
+        final int iterations = 50;
+        final AtomicInteger concurrent = new AtomicInteger();
+        final AtomicInteger maxConcurrent = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    for (int i = 0; i < iterations; i++) {
+                                        org.geowebcache.locks.LockProvider.Lock lock =
+                                                lockProvider.getLock("metatile-1");
+                                        try {
+                                            int current = concurrent.incrementAndGet();
+                                            maxConcurrent.accumulateAndGet(current, Math::max);
+                                            Thread.yield();
+                                        } finally {
+                                            concurrent.decrementAndGet();
+                                            lock.release();
+                                        }
+                                    }
+                                    return null;
+                                }));
+            }
+            for (Future<Void> f : futures) {
+                f.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, maxConcurrent.get());
+        assertEquals(threads * iterations, lockProvider.getAcquiredCount());
+        assertTrue(lockProvider.getCoalescedCount() > 0);
+        assertEquals(0, lockProvider.getActiveCount());
+    }
+}
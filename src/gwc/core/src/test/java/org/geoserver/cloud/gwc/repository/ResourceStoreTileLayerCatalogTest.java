@@ -15,6 +15,7 @@ import com.google.common.collect.ImmutableSet;
 
 import org.apache.commons.io.FileUtils;
 import org.geoserver.catalog.impl.ModificationProxy;
+import org.geoserver.cloud.gwc.event.TileLayerBatchListener;
 import org.geoserver.gwc.layer.GeoServerTileLayerInfo;
 import org.geoserver.gwc.layer.GeoServerTileLayerInfoImpl;
 import org.geoserver.gwc.layer.StyleParameterFilter;
@@ -28,11 +29,15 @@ import org.junit.jupiter.api.io.TempDir;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 /**
  * @since 1.0
@@ -215,6 +220,50 @@ class ResourceStoreTileLayerCatalogTest {
         assertFalse(hasBeenDeleted.get());
     }
 
+    @Test
+    public void testSaveAll() {
+        List<GeoServerTileLayerInfo> layers = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            GeoServerTileLayerInfo info = new GeoServerTileLayerInfoImpl();
+            info.setId("id" + i);
+            info.setName("name" + i);
+            layers.add(info);
+        }
+        catalog.save(layers.get(0));
+
+        List<Set<String>> batchEvents = new ArrayList<>();
+        List<String> singleEvents = new ArrayList<>();
+        catalog.addListener(
+                new TileLayerBatchListener() {
+                    public @Override void onEvent(String layerId, Type type) {
+                        singleEvents.add(layerId);
+                    }
+
+                    public @Override void onBatchEvent(Set<String> created, Set<String> modified) {
+                        batchEvents.add(created);
+                        batchEvents.add(modified);
+                    }
+                });
+
+        layers.get(0).setName("name0-modified");
+        Map<String, GeoServerTileLayerInfo> previous = catalog.saveAll(layers);
+
+        assertEquals(Set.of("id0"), previous.keySet());
+        assertEquals("name0", previous.get("id0").getName());
+        assertTrue(singleEvents.isEmpty());
+        assertEquals(2, batchEvents.size());
+        assertEquals(9, batchEvents.get(0).size());
+        assertEquals(Set.of("id0"), batchEvents.get(1));
+
+        assertEquals(10, catalog.getLayerIds().size());
+        assertEquals("name0-modified", catalog.getLayerById("id0").getName());
+        assertEquals(
+                Set.of("id3", "id5"),
+                catalog.getLayersById(List.of("id3", "id5", "missing")).stream()
+                        .map(GeoServerTileLayerInfo::getId)
+                        .collect(Collectors.toSet()));
+    }
+
     @Test
     public void testSavedXML() throws Exception {
         // checking that the persistence looks as expected
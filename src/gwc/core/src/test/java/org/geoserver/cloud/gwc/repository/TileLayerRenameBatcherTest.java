@@ -0,0 +1,239 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.geoserver.catalog.Catalog;
+import org.geoserver.catalog.CatalogException;
+import org.geoserver.catalog.WorkspaceInfo;
+import org.geoserver.catalog.event.CatalogAddEvent;
+import org.geoserver.catalog.event.CatalogListener;
+import org.geoserver.catalog.event.CatalogModifyEvent;
+import org.geoserver.catalog.event.CatalogPostModifyEvent;
+import org.geoserver.catalog.event.CatalogRemoveEvent;
+import org.geoserver.catalog.impl.CatalogImpl;
+import org.geoserver.catalog.impl.WorkspaceInfoImpl;
+import org.geoserver.cloud.gwc.event.TileLayerBatchListener;
+import org.geoserver.gwc.layer.GeoServerTileLayerInfo;
+import org.geoserver.gwc.layer.GeoServerTileLayerInfoImpl;
+import org.geoserver.platform.GeoServerResourceLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * @since 1.0
+ */
+class TileLayerRenameBatcherTest {
+
+    private @TempDir File baseDirectory;
+
+    private Catalog catalog;
+    private ResourceStoreTileLayerCatalog store;
+    private CachingTileLayerCatalog tileLayers;
+
+    private final List<String> singleEvents = new ArrayList<>();
+    private final List<Set<String>> batchEvents = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        new File(baseDirectory, "gwc-layers").mkdir();
+        store = new ResourceStoreTileLayerCatalog(new GeoServerResourceLoader(baseDirectory));
+        store.initialize();
+        for (int i = 0; i < 5; i++) {
+            GeoServerTileLayerInfo info = new GeoServerTileLayerInfoImpl();
+            info.setId("id" + i);
+            info.setName("ws:layer" + i);
+            store.save(info);
+        }
+        tileLayers = new CachingTileLayerCatalog(new CaffeineCacheManager(), store);
+        tileLayers.initialize();
+
+        catalog = new CatalogImpl();
+        WorkspaceInfoImpl ws = new WorkspaceInfoImpl();
+        ws.setName("ws");
+        catalog.add(ws);
+
+        tileLayers.addListener(
+                new TileLayerBatchListener() {
+                    public @Override void onEvent(String layerId, Type type) {
+                        singleEvents.add(layerId);
+                    }
+
+                    public @Override void onBatchEvent(Set<String> created, Set<String> modified) {
+                        batchEvents.add(modified);
+                    }
+                });
+        // registered before the batcher, as GeoServer's CatalogLayerEventListener
+        catalog.addListener(new RenamingListener());
+        new TileLayerRenameBatcher(catalog, tileLayers).register();
+    }
+
+    @Test
+    void testWorkspaceRenameSavesTileLayersInOneBatch() {
+        final int listeners = catalog.getListeners().size();
+
+        WorkspaceInfo ws = catalog.getWorkspaceByName("ws");
+        ws.setName("renamed");
+        catalog.save(ws);
+
+        assertTrue(singleEvents.isEmpty(), "expected no single layer events: " + singleEvents);
+        assertEquals(List.of(Set.of("id0", "id1", "id2", "id3", "id4")), batchEvents);
+        for (int i = 0; i < 5; i++) {
+            assertEquals("renamed:layer" + i, store.getLayerById("id" + i).getName());
+            assertNotNull(tileLayers.getLayerByName("renamed:layer" + i));
+        }
+        assertEquals(listeners, catalog.getListeners().size());
+    }
+
+    @Test
+    void testVetoedRenameLeavesNoBatchOpen() {
+        catalog.addListener(new VetoingListener());
+
+        WorkspaceInfo ws = catalog.getWorkspaceByName("ws");
+        ws.setName("renamed");
+        assertThrows(CatalogException.class, () -> catalog.save(ws));
+        assertNotNull(catalog.getWorkspaceByName("ws"));
+
+        assertSavedImmediately();
+    }
+
+    @Test
+    void testFailingRenameListenerStillEndsBatch() {
+        catalog.addListener(new FailingPostModifyListener());
+
+        WorkspaceInfo ws = catalog.getWorkspaceByName("ws");
+        ws.setName("renamed");
+        catalog.save(ws);
+
+        assertEquals(List.of(Set.of("id0", "id1", "id2", "id3", "id4")), batchEvents);
+        assertEquals("renamed:layer0", store.getLayerById("id0").getName());
+
+        batchEvents.clear();
+        assertSavedImmediately();
+    }
+
+    /** Asserts saves on the calling thread are not deferred by a batch left open */
+    private void assertSavedImmediately() {
+        GeoServerTileLayerInfo info = tileLayers.getLayerById("id1");
+        info.setName("other:layer1");
+        tileLayers.save(info);
+        assertEquals("other:layer1", store.getLayerById("id1").getName());
+        assertEquals(List.of("id1"), singleEvents);
+        assertTrue(batchEvents.isEmpty());
+    }
+
+    @Test
+    void testSavesOutsideRenameNotBatched() {
+        GeoServerTileLayerInfo info = tileLayers.getLayerById("id0");
+        info.setName("ws:modified");
+        tileLayers.save(info);
+        assertEquals(List.of("id0"), singleEvents);
+        assertTrue(batchEvents.isEmpty());
+    }
+
+    @Test
+    void testBatchVisibleToCallingThreadBeforeWritten() {
+        tileLayers.beginBatch();
+        GeoServerTileLayerInfo info = tileLayers.getLayerById("id0");
+        info.setName("ws:modified");
+        tileLayers.save(info);
+
+        assertEquals("ws:modified", tileLayers.getLayerById("id0").getName());
+        assertEquals("ws:layer0", store.getLayerById("id0").getName());
+        assertTrue(singleEvents.isEmpty());
+
+        tileLayers.endBatch();
+        assertEquals("ws:modified", store.getLayerById("id0").getName());
+        assertEquals(List.of(Set.of("id0")), batchEvents);
+    }
+
+    /** Vetoes workspace renames */
+    private static class VetoingListener extends NoOpListener {
+        public @Override void handleModifyEvent(CatalogModifyEvent event) {
+            if (event.getSource() instanceof WorkspaceInfo) {
+                throw new CatalogException("rename vetoed");
+            }
+        }
+    }
+
+    /** Fails handling the post-modify event of a workspace */
+    private static class FailingPostModifyListener extends NoOpListener {
+        public @Override void handlePostModifyEvent(CatalogPostModifyEvent event) {
+            if (event.getSource() instanceof WorkspaceInfo) {
+                throw new IllegalStateException("failed handling " + event.getSource());
+            }
+        }
+    }
+
+    private static class NoOpListener implements CatalogListener {
+        public @Override void handleAddEvent(CatalogAddEvent event) {
+            // no-op
+        }
+
+        public @Override void handleRemoveEvent(CatalogRemoveEvent event) {
+            // no-op
+        }
+
+        public @Override void handleModifyEvent(CatalogModifyEvent event) {
+            // no-op
+        }
+
+        public @Override void handlePostModifyEvent(CatalogPostModifyEvent event) {
+            // no-op
+        }
+
+        public @Override void reloaded() {
+            // no-op
+        }
+    }
+
+    /** Renames the tile layers of a renamed workspace one at a time, as GeoServer's GWC does */
+    private class RenamingListener implements CatalogListener {
+        private String oldName;
+
+        public @Override void handleModifyEvent(CatalogModifyEvent event) {
+            if (event.getSource() instanceof WorkspaceInfo) {
+                oldName = ((WorkspaceInfo) event.getSource()).getName();
+            }
+        }
+
+        public @Override void handlePostModifyEvent(CatalogPostModifyEvent event) {
+            if (event.getSource() instanceof WorkspaceInfo) {
+                String newName = ((WorkspaceInfo) event.getSource()).getName();
+                for (String id : tileLayers.getLayerIds()) {
+                    GeoServerTileLayerInfo layer = tileLayers.getLayerById(id);
+                    String name = layer.getName();
+                    if (name.startsWith(oldName + ":")) {
+                        layer.setName(newName + name.substring(oldName.length()));
+                        tileLayers.save(layer);
+                    }
+                }
+            }
+        }
+
+        public @Override void handleAddEvent(CatalogAddEvent event) {
+            // no-op
+        }
+
+        public @Override void handleRemoveEvent(CatalogRemoveEvent event) {
+            // no-op
+        }
+
+        public @Override void reloaded() {
+            // no-op
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.thoughtworks.xstream.XStream;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @since 1.0
+ */
+class XStreamPoolTest {
+
+    @Test
+    void testWarmsUpMinSizeUpfront() {
+        AtomicInteger warmed = new AtomicInteger();
+        XStreamPool pool = new XStreamPool(XStream::new, x -> warmed.incrementAndGet(), 2, 4);
+        assertEquals(2, pool.getSize());
+        assertEquals(2, warmed.get());
+    }
+
+    @Test
+    void testReusesInstances() {
+        XStreamPool pool = new XStreamPool(XStream::new, x -> {}, 1, 4);
+        XStream first = pool.apply(x -> x);
+        XStream second = pool.apply(x -> x);
+        assertEquals(first, second);
+        assertEquals(1, pool.getSize());
+    }
+
+    @Test
+    void testBoundedUnderContention() throws Exception {
+        XStreamPool pool = new XStreamPool(XStream::new, x -> {}, 0, 3);
+        Set<XStream> used = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        for (int i = 0; i < 1000; i++) {
+            executor.submit(() -> pool.apply(used::add));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertTrue(pool.getSize() <= 3);
+        assertTrue(used.size() <= 3);
+    }
+}
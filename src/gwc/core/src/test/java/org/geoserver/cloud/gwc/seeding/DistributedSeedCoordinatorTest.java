@@ -0,0 +1,235 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.seeding;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.geoserver.cloud.gwc.event.GeoWebCacheEvent;
+import org.geoserver.cloud.gwc.event.SeedNodeEvent;
+import org.geoserver.cloud.gwc.event.SeedProgressEvent;
+import org.geoserver.cloud.gwc.event.SeedTaskEvent;
+import org.geoserver.cloud.gwc.seeding.SeedJob.Partition;
+import org.geowebcache.mime.ImageMime;
+import org.geowebcache.seed.GWCTask;
+import org.geowebcache.storage.TileRange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * @since 1.0
+ */
+class DistributedSeedCoordinatorTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private MutableClock clock;
+    private List<SeedTaskEvent> dispatched;
+    private DistributedSeedCoordinator coordinator;
+
+    /**
+     * 2, 8, 32, and 128 tiles at zoom levels 0 to 3, split in partitions of up to 40 tiles: z0-z1,
+     * z2, and four bands of two rows at z3
+     */
+    private final TileRange range =
+            new TileRange(
+                    "layer",
+                    "EPSG:4326",
+                    0,
+                    3,
+                    new long[][] {
+                        {0, 0, 1, 0, 0}, {0, 0, 3, 1, 1}, {0, 0, 7, 3, 2}, {0, 0, 15, 7, 3}
+                    },
+                    ImageMime.png,
+                    null);
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        dispatched = new ArrayList<>();
+        coordinator =
+                new DistributedSeedCoordinator(
+                        "local",
+                        event -> dispatched.add((SeedTaskEvent) event),
+                        new TileRangePartitioner(40),
+                        TIMEOUT,
+                        clock);
+    }
+
+    @Test
+    void testPartitioner() {
+        List<TileRange> partitions = new TileRangePartitioner(40).partition(range);
+        assertEquals(6, partitions.size());
+        assertEquals(0, partitions.get(0).getZoomStart());
+        assertEquals(1, partitions.get(0).getZoomStop());
+        assertEquals(10, TileRangePartitioner.countTiles(partitions.get(0)));
+        assertEquals(32, TileRangePartitioner.countTiles(partitions.get(1)));
+        for (int i = 2; i < 6; i++) {
+            TileRange band = partitions.get(i);
+            assertEquals(3, band.getZoomStart());
+            assertEquals(3, band.getZoomStop());
+            assertEquals(32, TileRangePartitioner.countTiles(band));
+        }
+        assertArrayEquals(new long[] {0, 6, 15, 7, 3}, partitions.get(5).rangeBounds(3));
+        assertEquals(
+                TileRangePartitioner.countTiles(range),
+                partitions.stream().mapToLong(TileRangePartitioner::countTiles).sum());
+    }
+
+    @Test
+    void testPartitionerAlignsBandsToMetaTiles() {
+        TileRange z3 =
+                new TileRange(
+                        "layer",
+                        "EPSG:4326",
+                        3,
+                        3,
+                        new long[][] {null, null, null, {0, 1, 15, 7, 3}},
+                        ImageMime.png,
+                        null);
+        List<TileRange> partitions = new TileRangePartitioner(40).partition(z3, 3);
+        assertEquals(3, partitions.size());
+        assertArrayEquals(new long[] {0, 1, 15, 2, 3}, partitions.get(0).rangeBounds(3));
+        assertArrayEquals(new long[] {0, 3, 15, 5, 3}, partitions.get(1).rangeBounds(3));
+        assertArrayEquals(new long[] {0, 6, 15, 7, 3}, partitions.get(2).rangeBounds(3));
+        assertEquals(
+                TileRangePartitioner.countTiles(z3),
+                partitions.stream().mapToLong(TileRangePartitioner::countTiles).sum());
+
+        // larger partitions hold whole meta-tile rows
+        partitions = new TileRangePartitioner(100).partition(z3, 2);
+        assertEquals(2, partitions.size());
+        assertArrayEquals(new long[] {0, 1, 15, 5, 3}, partitions.get(0).rangeBounds(3));
+        assertArrayEquals(new long[] {0, 6, 15, 7, 3}, partitions.get(1).rangeBounds(3));
+    }
+
+    @Test
+    void testSubmitSpreadsPartitionsOverNodes() {
+        heartbeat("remote-1");
+        heartbeat("remote-2");
+
+        SeedJob job = coordinator.submit(range, GWCTask.TYPE.SEED, 2);
+        assertEquals(6, job.getPartitions().size());
+        assertEquals(6, dispatched.size());
+        assertEquals(
+                Set.of("local", "remote-1", "remote-2"),
+                dispatched.stream().map(SeedTaskEvent::getNodeId).collect(Collectors.toSet()));
+
+        SeedTaskEvent task = dispatched.get(0);
+        assertEquals(GeoWebCacheEvent.Type.CREATED, task.getEventType());
+        assertEquals("SEED", task.getTaskType());
+        assertEquals("image/png", task.getFormat());
+        assertEquals(2, task.getThreadCount());
+    }
+
+    @Test
+    void testProgress() {
+        SeedJob job = coordinator.submit(range, GWCTask.TYPE.SEED, 1);
+        assertFalse(job.isFinished());
+        assertEquals(1, coordinator.getActiveJobCount());
+
+        for (Partition p : job.getPartitions()) {
+            progress(job, p, SeedProgressEvent.Status.DONE, p.getTilesTotal());
+        }
+        assertTrue(job.isFinished());
+        assertEquals(TileRangePartitioner.countTiles(range), job.getTilesDone());
+        assertEquals(0, coordinator.getActiveJobCount());
+    }
+
+    @Test
+    void testRebalanceReassignsPartitionsOfLostNode() {
+        heartbeat("remote");
+        SeedJob job = coordinator.submit(range, GWCTask.TYPE.SEED, 1);
+        List<Partition> remote =
+                job.getPartitions().stream()
+                        .filter(p -> "remote".equals(p.getNodeId()))
+                        .collect(Collectors.toList());
+        assertEquals(3, remote.size());
+        progress(job, remote.get(0), SeedProgressEvent.Status.DONE, remote.get(0).getTilesTotal());
+
+        clock.advance(TIMEOUT.plusSeconds(1));
+        dispatched.clear();
+        coordinator.rebalance();
+
+        assertEquals(1, coordinator.getNodes().size());
+        assertEquals(2, coordinator.getReassignedCount());
+        assertEquals(2, dispatched.size());
+        assertTrue(dispatched.stream().allMatch(e -> "local".equals(e.getNodeId())));
+        assertEquals("remote", remote.get(0).getNodeId());
+        assertEquals("local", remote.get(1).getNodeId());
+        assertEquals(2, remote.get(1).getAttempts());
+
+        // late progress from the lost node is ignored
+        progress(job, remote.get(1), "remote", SeedProgressEvent.Status.DONE, 1);
+        assertEquals(SeedJob.State.PENDING, remote.get(1).getState());
+    }
+
+    @Test
+    void testCancel() {
+        SeedJob job = coordinator.submit(range, GWCTask.TYPE.TRUNCATE, 1);
+        dispatched.clear();
+        assertTrue(coordinator.cancel(job.getId()));
+        assertTrue(job.isCancelled());
+        assertEquals(6, dispatched.size());
+        assertTrue(
+                dispatched.stream()
+                        .allMatch(e -> e.getEventType() == GeoWebCacheEvent.Type.DELETED));
+        assertFalse(coordinator.cancel(job.getId()));
+    }
+
+    private void heartbeat(String nodeId) {
+        SeedNodeEvent event = new SeedNodeEvent(this);
+        event.setNodeId(nodeId);
+        coordinator.onSeedNodeEvent(event);
+    }
+
+    private void progress(SeedJob job, Partition p, SeedProgressEvent.Status status, long done) {
+        progress(job, p, p.getNodeId(), status, done);
+    }
+
+    private void progress(
+            SeedJob job, Partition p, String nodeId, SeedProgressEvent.Status status, long done) {
+        SeedProgressEvent event = new SeedProgressEvent(this);
+        event.setJobId(job.getId());
+        event.setPartition(p.getIndex());
+        event.setNodeId(nodeId);
+        event.setStatus(status);
+        event.setTilesDone(done);
+        event.setTilesTotal(p.getTilesTotal());
+        coordinator.onSeedProgressEvent(event);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant = Instant.now();
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        public @Override ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        public @Override Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        public @Override Instant instant() {
+            return instant;
+        }
+    }
+}
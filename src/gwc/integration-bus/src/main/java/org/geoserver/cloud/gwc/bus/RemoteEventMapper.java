@@ -9,7 +9,12 @@ import lombok.NonNull;
 import org.geoserver.cloud.gwc.event.BlobStoreEvent;
 import org.geoserver.cloud.gwc.event.GeoWebCacheEvent;
 import org.geoserver.cloud.gwc.event.GridsetEvent;
+import org.geoserver.cloud.gwc.event.SeedNodeEvent;
+import org.geoserver.cloud.gwc.event.SeedProgressEvent;
+import org.geoserver.cloud.gwc.event.SeedTaskEvent;
+import org.geoserver.cloud.gwc.event.TileLayerBatchEvent;
 import org.geoserver.cloud.gwc.event.TileLayerEvent;
+import org.geoserver.cloud.gwc.event.TileLayerTruncateEvent;
 import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.ObjectFactory;
@@ -31,6 +36,16 @@ interface RemoteEventMapper {
             return toRemote((GridsetEvent) local, source, originService);
         if (local instanceof BlobStoreEvent)
             return toRemote((BlobStoreEvent) local, source, originService);
+        if (local instanceof TileLayerTruncateEvent)
+            return toRemote((TileLayerTruncateEvent) local, source, originService);
+        if (local instanceof TileLayerBatchEvent)
+            return toRemote((TileLayerBatchEvent) local, source, originService);
+        if (local instanceof SeedTaskEvent)
+            return toRemote((SeedTaskEvent) local, source, originService);
+        if (local instanceof SeedProgressEvent)
+            return toRemote((SeedProgressEvent) local, source, originService);
+        if (local instanceof SeedNodeEvent)
+            return toRemote((SeedNodeEvent) local, source, originService);
         throw new IllegalArgumentException("unknown GeoWebCacheEvent type: " + local);
     }
 
@@ -42,6 +57,16 @@ interface RemoteEventMapper {
             return toLocal((RemoteGridsetEvent) remote, source);
         if (remote instanceof RemoteBlobStoreEvent)
             return toLocal((RemoteBlobStoreEvent) remote, source);
+        if (remote instanceof RemoteTileLayerTruncateEvent)
+            return toLocal((RemoteTileLayerTruncateEvent) remote, source);
+        if (remote instanceof RemoteTileLayerBatchEvent)
+            return toLocal((RemoteTileLayerBatchEvent) remote, source);
+        if (remote instanceof RemoteSeedTaskEvent)
+            return toLocal((RemoteSeedTaskEvent) remote, source);
+        if (remote instanceof RemoteSeedProgressEvent)
+            return toLocal((RemoteSeedProgressEvent) remote, source);
+        if (remote instanceof RemoteSeedNodeEvent)
+            return toLocal((RemoteSeedNodeEvent) remote, source);
         throw new IllegalArgumentException("unknown RemoteGeoWebCacheEvent type: " + remote);
     }
 
@@ -60,6 +85,31 @@ interface RemoteEventMapper {
     RemoteBlobStoreEvent toRemote(
             BlobStoreEvent local, @Context Object source, @Context String originService);
 
+    TileLayerTruncateEvent toLocal(RemoteTileLayerTruncateEvent remote, @Context Object source);
+
+    RemoteTileLayerTruncateEvent toRemote(
+            TileLayerTruncateEvent local, @Context Object source, @Context String originService);
+
+    TileLayerBatchEvent toLocal(RemoteTileLayerBatchEvent remote, @Context Object source);
+
+    RemoteTileLayerBatchEvent toRemote(
+            TileLayerBatchEvent local, @Context Object source, @Context String originService);
+
+    SeedTaskEvent toLocal(RemoteSeedTaskEvent remote, @Context Object source);
+
+    RemoteSeedTaskEvent toRemote(
+            SeedTaskEvent local, @Context Object source, @Context String originService);
+
+    SeedProgressEvent toLocal(RemoteSeedProgressEvent remote, @Context Object source);
+
+    RemoteSeedProgressEvent toRemote(
+            SeedProgressEvent local, @Context Object source, @Context String originService);
+
+    SeedNodeEvent toLocal(RemoteSeedNodeEvent remote, @Context Object source);
+
+    RemoteSeedNodeEvent toRemote(
+            SeedNodeEvent local, @Context Object source, @Context String originService);
+
     @ObjectFactory
     default RemoteTileLayerEvent newRemoteTileEvent(
             @Context Object source, @Context String originService) {
@@ -78,6 +128,36 @@ interface RemoteEventMapper {
         return new RemoteBlobStoreEvent(source, originService);
     }
 
+    @ObjectFactory
+    default RemoteTileLayerTruncateEvent newRemoteTileLayerTruncateEvent(
+            @Context Object source, @Context String originService) {
+        return new RemoteTileLayerTruncateEvent(source, originService);
+    }
+
+    @ObjectFactory
+    default RemoteTileLayerBatchEvent newRemoteTileLayerBatchEvent(
+            @Context Object source, @Context String originService) {
+        return new RemoteTileLayerBatchEvent(source, originService);
+    }
+
+    @ObjectFactory
+    default RemoteSeedTaskEvent newRemoteSeedTaskEvent(
+            @Context Object source, @Context String originService) {
+        return new RemoteSeedTaskEvent(source, originService);
+    }
+
+    @ObjectFactory
+    default RemoteSeedProgressEvent newRemoteSeedProgressEvent(
+            @Context Object source, @Context String originService) {
+        return new RemoteSeedProgressEvent(source, originService);
+    }
+
+    @ObjectFactory
+    default RemoteSeedNodeEvent newRemoteSeedNodeEvent(
+            @Context Object source, @Context String originService) {
+        return new RemoteSeedNodeEvent(source, originService);
+    }
+
     @ObjectFactory
     default TileLayerEvent newTileEvent(@Context Object source) {
         return new TileLayerEvent(source);
@@ -92,4 +172,29 @@ interface RemoteEventMapper {
     default BlobStoreEvent newBlobStoreEvent(@Context Object source) {
         return new BlobStoreEvent(source);
     }
+
+    @ObjectFactory
+    default TileLayerTruncateEvent newTileLayerTruncateEvent(@Context Object source) {
+        return new TileLayerTruncateEvent(source);
+    }
+
+    @ObjectFactory
+    default TileLayerBatchEvent newTileLayerBatchEvent(@Context Object source) {
+        return new TileLayerBatchEvent(source);
+    }
+
+    @ObjectFactory
+    default SeedTaskEvent newSeedTaskEvent(@Context Object source) {
+        return new SeedTaskEvent(source);
+    }
+
+    @ObjectFactory
+    default SeedProgressEvent newSeedProgressEvent(@Context Object source) {
+        return new SeedProgressEvent(source);
+    }
+
+    @ObjectFactory
+    default SeedNodeEvent newSeedNodeEvent(@Context Object source) {
+        return new SeedNodeEvent(source);
+    }
 }
@@ -0,0 +1,31 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.bus;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.Setter;
+
+/**
+ * @since 1.0
+ */
+@NoArgsConstructor
+public class RemoteSeedNodeEvent extends RemoteGeoWebCacheEvent {
+
+    private static final long serialVersionUID = 1L;
+
+    private @Getter @Setter String nodeId;
+    private @Getter @Setter int activePartitions;
+    private @Getter @Setter double tilesPerSecond;
+
+    public RemoteSeedNodeEvent(Object source, @NonNull String originService) {
+        super(source, originService);
+    }
+
+    protected @Override String getObjectId() {
+        return nodeId;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.bus;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.Setter;
+
+import org.geoserver.cloud.gwc.event.SeedProgressEvent;
+
+/**
+ * @since 1.0
+ */
+@NoArgsConstructor
+public class RemoteSeedProgressEvent extends RemoteGeoWebCacheEvent {
+
+    private static final long serialVersionUID = 1L;
+
+    private @Getter @Setter String jobId;
+    private @Getter @Setter int partition;
+    private @Getter @Setter String nodeId;
+    private @Getter @Setter SeedProgressEvent.Status status;
+    private @Getter @Setter long tilesDone;
+    private @Getter @Setter long tilesTotal;
+
+    public RemoteSeedProgressEvent(Object source, @NonNull String originService) {
+        super(source, originService);
+    }
+
+    protected @Override String getObjectId() {
+        return String.format("%s#%d@%s", jobId, partition, nodeId);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.bus;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.Setter;
+
+import java.util.Map;
+
+/**
+ * @since 1.0
+ */
+@NoArgsConstructor
+public class RemoteSeedTaskEvent extends RemoteGeoWebCacheEvent {
+
+    private static final long serialVersionUID = 1L;
+
+    private @Getter @Setter String jobId;
+    private @Getter @Setter int partition;
+    private @Getter @Setter String nodeId;
+    private @Getter @Setter String taskType;
+
+    private @Getter @Setter String layerName;
+    private @Getter @Setter String gridSetId;
+    private @Getter @Setter String format;
+    private @Getter @Setter Map<String, String> parameters;
+    private @Getter @Setter int zoomStart;
+    private @Getter @Setter int zoomStop;
+    private @Getter @Setter long[][] rangeBounds;
+    private @Getter @Setter int threadCount;
+
+    public RemoteSeedTaskEvent(Object source, @NonNull String originService) {
+        super(source, originService);
+    }
+
+    protected @Override String getObjectId() {
+        return String.format("%s#%d@%s", jobId, partition, nodeId);
+    }
+}
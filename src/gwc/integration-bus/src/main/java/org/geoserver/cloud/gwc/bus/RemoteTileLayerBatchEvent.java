@@ -0,0 +1,34 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.bus;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.Setter;
+
+import java.util.Set;
+
+/**
+ * @since 1.0
+ */
+@NoArgsConstructor
+public class RemoteTileLayerBatchEvent extends RemoteGeoWebCacheEvent {
+
+    private static final long serialVersionUID = 1L;
+
+    private @Getter @Setter Set<String> createdLayerIds;
+    private @Getter @Setter Set<String> modifiedLayerIds;
+
+    public RemoteTileLayerBatchEvent(Object source, @NonNull String originService) {
+        super(source, originService);
+    }
+
+    protected @Override String getObjectId() {
+        int created = createdLayerIds == null ? 0 : createdLayerIds.size();
+        int modified = modifiedLayerIds == null ? 0 : modifiedLayerIds.size();
+        return String.valueOf(created + modified);
+    }
+}
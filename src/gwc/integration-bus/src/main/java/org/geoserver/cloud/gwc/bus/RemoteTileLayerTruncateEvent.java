@@ -0,0 +1,37 @@
+/*
+ * (c) 2022 Open Source Geospatial Foundation - all rights reserved This code is licensed under the
+ * GPL 2.0 license, available at the root application directory.
+ */
+package org.geoserver.cloud.gwc.bus;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * @since 1.0
+ */
+@NoArgsConstructor
+public class RemoteTileLayerTruncateEvent extends RemoteGeoWebCacheEvent {
+
+    private static final long serialVersionUID = 1L;
+
+    private @Getter @Setter String layerName;
+    private @Getter @Setter String gridSetId;
+    private @Getter @Setter String format;
+    private @Getter @Setter String parametersId;
+    private @Getter @Setter Integer zoomStart;
+    private @Getter @Setter Integer zoomStop;
+    private @Getter @Setter List<long[]> tiles;
+
+    public RemoteTileLayerTruncateEvent(Object source, @NonNull String originService) {
+        super(source, originService);
+    }
+
+    protected @Override String getObjectId() {
+        return layerName;
+    }
+}